@@ -0,0 +1,50 @@
+package com.mercadolibre.planning.model.api.domain.usecase.projection.v2.backlog;
+
+import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
+import com.mercadolibre.planning.model.api.projection.InflectionPointsMode;
+import com.mercadolibre.planning.model.api.projection.ProjectionInputs;
+import com.mercadolibre.planning.model.api.projection.dto.request.total.BacklogProjectionTotalRequest;
+import java.time.Instant;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Hourly backlog by date out and process path of the unified projection.
+ */
+@State(Scope.Benchmark)
+public class BacklogUnifiedProjectionBenchmark {
+
+  private static final int INTERVAL_SIZE_IN_MINUTES = 5;
+
+  @Param({"1", "3", "7"})
+  private int days;
+
+  @Param({"50", "200"})
+  private int slas;
+
+  @Param({"2", "8"})
+  private int processPaths;
+
+  @Param({"FIXED_WINDOW", "EVENT_DRIVEN"})
+  private InflectionPointsMode mode;
+
+  private final BacklogUnifiedProjection projection = new BacklogUnifiedProjection();
+
+  private BacklogProjectionTotalRequest request;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    request = ProjectionInputs.generate(days, slas, processPaths, 42L).getBacklogProjectionTotalRequest();
+  }
+
+  @Benchmark
+  public Map<Instant, Map<Instant, Map<ProcessPath, Long>>> getProjection() {
+    return projection.getProjection(request, INTERVAL_SIZE_IN_MINUTES, mode);
+  }
+
+}
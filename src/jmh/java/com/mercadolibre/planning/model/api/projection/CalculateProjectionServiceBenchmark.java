@@ -0,0 +1,46 @@
+package com.mercadolibre.planning.model.api.projection;
+
+import com.mercadolibre.planning.model.api.domain.entity.Workflow;
+import com.mercadolibre.planning.model.api.projection.dto.ProjectionRequest;
+import com.mercadolibre.planning.model.api.projection.dto.ProjectionResult;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Outbound projection from waving, whose backlog and forecast are not opened by process path.
+ */
+@State(Scope.Benchmark)
+public class CalculateProjectionServiceBenchmark {
+
+  @Param({"1", "3", "7"})
+  private int days;
+
+  @Param({"50", "200"})
+  private int slas;
+
+  @Param({"2", "8"})
+  private int processPaths;
+
+  @Param({"FIXED_WINDOW", "EVENT_DRIVEN"})
+  private InflectionPointsMode mode;
+
+  private final CalculateProjectionService service = new CalculateProjectionService();
+
+  private ProjectionRequest request;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    request = ProjectionInputs.generate(days, slas, processPaths, 42L).getProjectionRequest();
+  }
+
+  @Benchmark
+  public List<ProjectionResult> execute() {
+    return service.execute(Workflow.FBM_WMS_OUTBOUND, request, mode);
+  }
+
+}
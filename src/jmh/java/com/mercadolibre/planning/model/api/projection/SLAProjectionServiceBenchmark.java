@@ -0,0 +1,56 @@
+package com.mercadolibre.planning.model.api.projection;
+
+import com.mercadolibre.planning.model.api.projection.builder.PackingProjectionBuilder;
+import com.mercadolibre.planning.model.api.projection.builder.SlaProjectionResult;
+import java.time.Instant;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * End date and remaining quantity at cut-off of each SLA with the packing projection, as used by the available capacity.
+ */
+@State(Scope.Benchmark)
+public class SLAProjectionServiceBenchmark {
+
+  @Param({"1", "3", "7"})
+  private int days;
+
+  @Param({"50", "200"})
+  private int slas;
+
+  @Param({"2", "8"})
+  private int processPaths;
+
+  @Param({"FIXED_WINDOW", "EVENT_DRIVEN"})
+  private InflectionPointsMode mode;
+
+  private ProjectionInputs inputs;
+
+  private Map<Instant, Instant> cutOffs;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    inputs = ProjectionInputs.generate(days, slas, processPaths, 42L);
+    cutOffs = inputs.getCutOffs();
+  }
+
+  @Benchmark
+  public SlaProjectionResult execute() {
+    return SLAProjectionService.execute(
+        inputs.getDateFrom(),
+        inputs.getDateTo(),
+        inputs.getCurrentBacklog(),
+        inputs.getForecastBacklog(),
+        inputs.getThroughput(),
+        cutOffs,
+        new PackingProjectionBuilder(),
+        mode
+    );
+  }
+
+}
@@ -0,0 +1,61 @@
+package com.mercadolibre.planning.model.api.projection.builder;
+
+import com.mercadolibre.flow.projection.tools.services.entities.context.ContextsHolder;
+import com.mercadolibre.planning.model.api.projection.Projection;
+import com.mercadolibre.planning.model.api.projection.ProjectionInputs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Projection of each builder's graph, from the raw backlogs, forecast and throughput up to the updated contexts.
+ */
+@State(Scope.Benchmark)
+public class ProjectionBuildersBenchmark {
+
+  @Param({"1", "3", "7"})
+  private int days;
+
+  @Param({"50", "200"})
+  private int slas;
+
+  @Param({"2", "8"})
+  private int processPaths;
+
+  private ProjectionInputs inputs;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    inputs = ProjectionInputs.generate(days, slas, processPaths, 42L);
+  }
+
+  private ContextsHolder project(final Projector projector) {
+    return Projection.execute(
+        inputs.getDateFrom(),
+        inputs.getDateTo(),
+        inputs.getCurrentBacklog(),
+        inputs.getForecastBacklog(),
+        inputs.getThroughput(),
+        projector
+    );
+  }
+
+  @Benchmark
+  public ContextsHolder packing() {
+    return project(new PackingProjectionBuilder());
+  }
+
+  @Benchmark
+  public ContextsHolder fromWavingToPacking() {
+    return project(new FromWavingToPackingProjectionBuilder());
+  }
+
+  @Benchmark
+  public ContextsHolder outbound() {
+    return project(new OutboundProjectionBuilder());
+  }
+
+}
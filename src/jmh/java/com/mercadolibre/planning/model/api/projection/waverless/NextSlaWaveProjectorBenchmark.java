@@ -0,0 +1,89 @@
+package com.mercadolibre.planning.model.api.projection.waverless;
+
+import static com.mercadolibre.planning.model.api.projection.waverless.WaverlessInputs.LOGISTIC_CENTER_ID;
+import static java.util.Collections.emptyMap;
+
+import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
+import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
+import com.mercadolibre.planning.model.api.projection.waverless.SlaWaveCalculator.SearchMode;
+import com.mercadolibre.planning.model.api.projection.waverless.idleness.DateWaveSupplier;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Search of the next wave by SLA, given a set of previous waves.
+ */
+@State(Scope.Benchmark)
+public class NextSlaWaveProjectorBenchmark {
+
+  @Param("8")
+  private int processPaths;
+
+  @Param("3")
+  private int days;
+
+  @Param({"100", "300"})
+  private int slas;
+
+  @Param({"0", "20"})
+  private int previousWaves;
+
+  @Param({"LINEAR", "BISECTION", "SPECULATIVE"})
+  private SearchMode searchMode;
+
+  @Param("4")
+  private int threads;
+
+  private WaverlessInputs inputs;
+
+  private PendingBacklog pendingBacklog;
+
+  private Map<ProcessPath, Map<Instant, Long>> pickingBacklog;
+
+  private Map<ProcessPath, Integer> minCycleTimes;
+
+  private ExecutorService executor;
+
+  private WavesOptions options;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    inputs = WaverlessInputs.generate(processPaths, days, slas, 0, previousWaves, 42L);
+    pendingBacklog = inputs.getPendingBacklog();
+    pickingBacklog = inputs.getCurrentBacklogs().getOrDefault(ProcessName.PICKING, emptyMap());
+    minCycleTimes = inputs.getMinCycleTimes();
+    executor = Executors.newFixedThreadPool(threads);
+    options = WavesOptions.builder().slaSearchMode(searchMode).executor(executor).build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executor.shutdown();
+  }
+
+  @Benchmark
+  public Optional<Wave> nextWave() {
+    return NextSlaWaveProjector.calculateNextWave(
+        inputs.getInflectionPoints(),
+        inputs.getPreviousWaves(),
+        pendingBacklog,
+        pickingBacklog,
+        inputs.getThroughput(),
+        minCycleTimes,
+        LOGISTIC_CENTER_ID,
+        options
+    ).map(DateWaveSupplier::getWave).map(Supplier::get);
+  }
+
+}
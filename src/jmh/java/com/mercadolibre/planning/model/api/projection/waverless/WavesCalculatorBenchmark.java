@@ -0,0 +1,72 @@
+package com.mercadolibre.planning.model.api.projection.waverless;
+
+import static com.mercadolibre.planning.model.api.projection.waverless.WaverlessInputs.EXECUTION_DATE;
+import static com.mercadolibre.planning.model.api.projection.waverless.WaverlessInputs.LOGISTIC_CENTER_ID;
+
+import com.mercadolibre.planning.model.api.projection.waverless.SlaWaveCalculator.SearchMode;
+import com.mercadolibre.planning.model.api.projection.waverless.WavesCalculator.TriggerProjection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Full wave suggestion, from the raw backlogs and forecast up to the list of suggested waves.
+ */
+@State(Scope.Benchmark)
+public class WavesCalculatorBenchmark {
+
+  @Param("8")
+  private int processPaths;
+
+  @Param("3")
+  private int days;
+
+  @Param({"100", "300"})
+  private int slas;
+
+  @Param("10")
+  private int precalculatedWaves;
+
+  @Param({"LINEAR", "BISECTION", "SPECULATIVE"})
+  private SearchMode searchMode;
+
+  @Param("4")
+  private int threads;
+
+  private WaverlessInputs inputs;
+
+  private ExecutorService executor;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    inputs = WaverlessInputs.generate(processPaths, days, slas, precalculatedWaves, 0, 42L);
+    executor = Executors.newFixedThreadPool(threads);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executor.shutdown();
+  }
+
+  @Benchmark
+  public TriggerProjection waves() {
+    return WavesCalculator.waves(
+        EXECUTION_DATE,
+        inputs.getConfigurations(),
+        inputs.getBacklogs(),
+        inputs.getForecast(),
+        inputs.getThroughput(),
+        inputs.getPrecalculatedWaves(),
+        LOGISTIC_CENTER_ID,
+        inputs.getWaveSizeConfig(),
+        WavesOptions.builder().slaSearchMode(searchMode).executor(executor).build()
+    );
+  }
+
+}
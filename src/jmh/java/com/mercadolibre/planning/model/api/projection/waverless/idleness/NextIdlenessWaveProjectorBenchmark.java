@@ -0,0 +1,66 @@
+package com.mercadolibre.planning.model.api.projection.waverless.idleness;
+
+import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
+import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
+import com.mercadolibre.planning.model.api.projection.waverless.PendingBacklog;
+import com.mercadolibre.planning.model.api.projection.waverless.Wave;
+import com.mercadolibre.planning.model.api.projection.waverless.WaverlessInputs;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Search of the next wave by idleness, given a set of previous waves.
+ */
+@State(Scope.Benchmark)
+public class NextIdlenessWaveProjectorBenchmark {
+
+  @Param("8")
+  private int processPaths;
+
+  @Param("3")
+  private int days;
+
+  @Param({"100", "300"})
+  private int slas;
+
+  @Param("10")
+  private int precalculatedWaves;
+
+  @Param({"0", "20"})
+  private int previousWaves;
+
+  private WaverlessInputs inputs;
+
+  private PendingBacklog pendingBacklog;
+
+  private Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> currentBacklogs;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    inputs = WaverlessInputs.generate(processPaths, days, slas, precalculatedWaves, previousWaves, 42L);
+    pendingBacklog = inputs.getPendingBacklog();
+    currentBacklogs = inputs.getCurrentBacklogs();
+  }
+
+  @Benchmark
+  public Optional<Wave> nextWave() {
+    return NextIdlenessWaveProjector.calculateNextWave(
+        inputs.getInflectionPoints(),
+        pendingBacklog,
+        currentBacklogs,
+        inputs.getThroughput(),
+        inputs.getPrecalculatedWaves(),
+        inputs.getPreviousWaves(),
+        inputs.getWaveSizeConfig()
+    ).map(DateWaveSupplier::getWave).map(Supplier::get);
+  }
+
+}
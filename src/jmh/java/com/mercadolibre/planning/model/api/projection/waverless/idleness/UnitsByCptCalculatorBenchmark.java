@@ -0,0 +1,76 @@
+package com.mercadolibre.planning.model.api.projection.waverless.idleness;
+
+import static com.mercadolibre.planning.model.api.projection.waverless.WaverlessInputs.EXECUTION_DATE;
+import static java.time.temporal.ChronoUnit.HOURS;
+import static java.util.stream.Collectors.toMap;
+
+import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
+import com.mercadolibre.planning.model.api.projection.waverless.PendingBacklog;
+import com.mercadolibre.planning.model.api.projection.waverless.WaverlessInputs;
+import java.time.Instant;
+import java.util.Map;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Distribution of the units of an idleness wave by SLA, including the available backlog query over the pending backlog.
+ */
+@State(Scope.Benchmark)
+public class UnitsByCptCalculatorBenchmark {
+
+  private static final int UPPER_BOUND = 3000;
+
+  private static final int LOWER_BOUND = 1000;
+
+  @Param("8")
+  private int processPaths;
+
+  @Param("3")
+  private int days;
+
+  @Param({"100", "300"})
+  private int slas;
+
+  @Param({"0", "10"})
+  private int precalculatedWaves;
+
+  @Param({"0", "20"})
+  private int previousWaves;
+
+  private WaverlessInputs inputs;
+
+  private PendingBacklog pendingBacklog;
+
+  private Map<ProcessPath, Integer> upperBounds;
+
+  private Map<ProcessPath, Integer> lowerBounds;
+
+  private Instant waveDate;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    inputs = WaverlessInputs.generate(processPaths, days, slas, precalculatedWaves, previousWaves, 42L);
+    pendingBacklog = inputs.getPendingBacklog();
+    upperBounds = inputs.getProcessPaths().stream().collect(toMap(Function.identity(), pp -> UPPER_BOUND));
+    lowerBounds = inputs.getProcessPaths().stream().collect(toMap(Function.identity(), pp -> LOWER_BOUND));
+    waveDate = EXECUTION_DATE.plus(days * 12L, HOURS).plusSeconds(30 * 60);
+  }
+
+  @Benchmark
+  public Map<ProcessPath, Map<Instant, Long>> backlogToWave() {
+    return UnitsByCptCalculator.calculateBacklogToWave(
+        waveDate,
+        inputs.getPreviousWaves(),
+        pendingBacklog,
+        upperBounds,
+        lowerBounds,
+        inputs.getPrecalculatedWaves()
+    );
+  }
+
+}
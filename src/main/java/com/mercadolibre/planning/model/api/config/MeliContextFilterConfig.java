@@ -7,10 +7,13 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 
 @Configuration
 public class MeliContextFilterConfig {
 
+    private static final int IO_POOL_SIZE = 32;
+
     @Bean
     @Order(1)
     public RoutingFilter getRoutingFilter() {
@@ -22,4 +25,46 @@ public class MeliContextFilterConfig {
         return MeliExecutors.newFixedThreadPool(1);
     }
 
+    /**
+     * Bounded pool for CPU bound projections, sized to the available processors so that concurrent requests can not oversubscribe
+     * the pod.
+     */
+    @Bean
+    public ExecutorService meliContextAwareComputeExecutorService() {
+        return MeliExecutors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Bounded pool for the logistic centers of a batch of waves suggestions. It is kept apart from the compute pool because each
+     * batch task waits for its own projections, which would starve the compute pool if they shared it.
+     */
+    @Bean
+    public ExecutorService meliContextAwareBatchExecutorService() {
+        return MeliExecutors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Pool for the lookups a projection fans out to, such as the SLAs, cycle times, planned backlog and throughput. Its threads spend
+     * most of their time waiting for HTTP calls and database queries, so it is kept apart from the compute pool and is not sized to the
+     * available processors.
+     *
+     * <p>A projection fans out to at most five lookups, so the pool runs the lookups of six projections at once without queueing them,
+     * and it stays below the 50 connections of the database pool, which the queries of the lookups share with the rest of the requests.
+     * Once they start running, the lookups that time out are interrupted, so they do not hold its threads past the timeout of their
+     * dependency, while the lookups queued behind them wait for a thread without their timeout running.
+     */
+    @Bean
+    public ExecutorService meliContextAwareIoExecutorService() {
+        return MeliExecutors.newFixedThreadPool(IO_POOL_SIZE);
+    }
+
+    /**
+     * Pool for projections split in independent CPU bound tasks that do not depend on the request context, such as the scenarios of a
+     * what-if batch or the capacity sensitivity search of each SLA.
+     */
+    @Bean
+    public ForkJoinPool projectionsForkJoinPool() {
+        return new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
 }
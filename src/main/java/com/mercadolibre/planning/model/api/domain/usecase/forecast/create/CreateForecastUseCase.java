@@ -13,6 +13,7 @@ import com.mercadolibre.planning.model.api.domain.entity.forecast.HeadcountDistr
 import com.mercadolibre.planning.model.api.domain.entity.forecast.HeadcountProductivity;
 import com.mercadolibre.planning.model.api.domain.entity.forecast.PlanningDistribution;
 import com.mercadolibre.planning.model.api.domain.usecase.entities.productivity.get.GetProductivityEntityUseCase;
+import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CptProjectionCache;
 import com.mercadolibre.planning.model.api.web.controller.forecast.dto.CreateForecastInputDto;
 import com.mercadolibre.planning.model.api.web.controller.forecast.dto.StaffingPlanDto;
 import com.mercadolibre.planning.model.api.domain.usecase.simulation.deactivate.DeactivateSimulationOfWeek;
@@ -54,6 +55,8 @@ public class CreateForecastUseCase {
 
   private final DeactivateSimulationService deactivateSimulationService;
 
+  private final CptProjectionCache cptProjectionCache;
+
   @Trace
   @Transactional
   public CreateForecastOutput execute(final CreateForecastInputDto input) {
@@ -68,6 +71,8 @@ public class CreateForecastUseCase {
     //ToDo delete the line below when {@link GetProductivityEntityUseCase} was refactored.
     saveHeadcountProductivity(input.staffingPlan(), forecast);
 
+    cptProjectionCache.invalidate(input.logisticCenterId());
+
     return new CreateForecastOutput(forecast.getId());
   }
 
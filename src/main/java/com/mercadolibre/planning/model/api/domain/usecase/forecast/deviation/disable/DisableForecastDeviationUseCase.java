@@ -7,6 +7,7 @@ import com.mercadolibre.planning.model.api.domain.entity.DeviationType;
 import com.mercadolibre.planning.model.api.domain.entity.Path;
 import com.mercadolibre.planning.model.api.domain.entity.Workflow;
 import com.mercadolibre.planning.model.api.domain.entity.forecast.CurrentForecastDeviation;
+import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CptProjectionCache;
 import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.List;
@@ -22,6 +23,8 @@ public class DisableForecastDeviationUseCase {
 
   private final CurrentForecastDeviationRepository deviationRepository;
 
+  private final CptProjectionCache cptProjectionCache;
+
   @Transactional
   public Integer execute(final List<DisableForecastDeviationInput> input, final ZonedDateTime currentDate) {
 
@@ -49,6 +52,11 @@ public class DisableForecastDeviationUseCase {
     );
     deviationRepository.saveAll(activeAdjustment);
 
+    input.stream()
+        .map(DisableForecastDeviationInput::getWarehouseId)
+        .distinct()
+        .forEach(cptProjectionCache::invalidate);
+
     return activeAdjustment.size();
   }
 
@@ -3,6 +3,7 @@ package com.mercadolibre.planning.model.api.domain.usecase.forecast.deviation.sa
 import com.mercadolibre.planning.model.api.client.db.repository.forecast.CurrentForecastDeviationRepository;
 import com.mercadolibre.planning.model.api.domain.entity.Workflow;
 import com.mercadolibre.planning.model.api.domain.entity.forecast.CurrentForecastDeviation;
+import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CptProjectionCache;
 import com.mercadolibre.planning.model.api.exception.UnexpiredDeviationPresentException;
 import com.mercadolibre.planning.model.api.web.controller.deviation.response.DeviationResponse;
 import java.time.ZonedDateTime;
@@ -20,6 +21,8 @@ public class SaveDeviationUseCase {
 
   private final CurrentForecastDeviationRepository deviationRepository;
 
+  private final CptProjectionCache cptProjectionCache;
+
   @Transactional
   public DeviationResponse execute(final List<SaveDeviationInput> inputs) {
     // TODO: Remover este método cuando el flujo de IB se migre a la control-tool.
@@ -59,11 +62,13 @@ public class SaveDeviationUseCase {
     final List<CurrentForecastDeviation> forecastDeviations = buildForecastDeviationsToSave(input);
     deviationRepository.disableDeviation(input.getWarehouseId(), input.getWorkflow(), input.getDeviationType(), input.getPaths());
     deviationRepository.saveAll(forecastDeviations);
+    cptProjectionCache.invalidate(input.getWarehouseId());
   }
 
   private void saveOutboundDeviations(final SaveDeviationInput input) {
     final List<CurrentForecastDeviation> forecastDeviations = buildForecastDeviationsToSave(input);
     deviationRepository.saveAll(forecastDeviations);
+    cptProjectionCache.invalidate(input.getWarehouseId());
   }
 
   private List<CurrentForecastDeviation> buildForecastDeviationsToSave(final SaveDeviationInput input) {
@@ -3,6 +3,7 @@ package com.mercadolibre.planning.model.api.domain.usecase.forecast.update;
 import com.mercadolibre.planning.model.api.domain.entity.MetricUnit;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessingType;
 import com.mercadolibre.planning.model.api.domain.entity.Workflow;
+import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CptProjectionCache;
 import com.mercadolibre.planning.model.api.web.controller.entity.EntityType;
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -16,9 +17,12 @@ public class UpdateStaffingPlanUseCase {
 
   private final CurrentProcessingDistributionGateway currentProcessingDistributionGateway;
 
+  private final CptProjectionCache cptProjectionCache;
+
   public void execute(final UpdateStaffingPlanInput updateStaffingPlanInput) {
     deactivateOldUpdates(updateStaffingPlanInput);
     createUpdate(updateStaffingPlanInput);
+    cptProjectionCache.invalidate(updateStaffingPlanInput.logisticCenterId());
   }
 
   private void createUpdate(final UpdateStaffingPlanInput input) {
@@ -0,0 +1,53 @@
+package com.mercadolibre.planning.model.api.domain.usecase.projection;
+
+import com.mercadolibre.metrics.Metrics;
+
+/**
+ * Metrics of the projection use cases, each one named after the projection or component it measures.
+ */
+public enum ExecutionMetrics {
+  CPT_PROJECTION_CACHE_HITS("cpt.projection_cache.hits"),
+  CPT_PROJECTION_CACHE_MISSES("cpt.projection_cache.misses"),
+  PROJECTION_DEPENDENCY_LATENCY("projection.dependency.latency"),
+  PROJECTION_DEPENDENCY_TIMEOUTS("projection.dependency.timeouts");
+
+  private static final String FLOW_PREFIX = "application.planning.model.api.%s";
+
+  private static final String TAG_FORMAT = "%s:%s";
+
+  private final String metric;
+
+  ExecutionMetrics(final String sufix) {
+    metric = String.format(FLOW_PREFIX, sufix);
+  }
+
+  public void count(final long val, final String... tags) {
+    DataDogMetricsWrapper.histogram(metric, val, tags);
+  }
+
+  public void increment(final String... tags) {
+    DataDogMetricsWrapper.increment(metric, tags);
+  }
+
+  public static String tag(final String key, final Object value) {
+    return String.format(TAG_FORMAT, key, value);
+  }
+
+  /**
+   * Records the metrics, its methods are public so that the tests of every projection package can mock and verify them.
+   */
+  public static final class DataDogMetricsWrapper {
+    private static final Metrics PROXY = Metrics.INSTANCE;
+
+    private DataDogMetricsWrapper() {
+    }
+
+    public static void histogram(String var1, long var2, String... var4) {
+      PROXY.histogram(var1, var2, var4);
+    }
+
+    public static void increment(String var1, String... var2) {
+      PROXY.increment(var1, var2);
+    }
+  }
+}
@@ -1,18 +1,16 @@
 package com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt;
 
-import static java.util.stream.Collectors.toMap;
-
 import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.QueueProjectionCalculator.Assistant;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.NavigableMap;
-import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.ObjLongConsumer;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
-public class AssistantImpl implements Assistant<Instant> {
+public class AssistantImpl implements Assistant {
 
     private static final long SECONDS_IN_AN_HOUR = TimeUnit.HOURS.toSeconds(1);
 
@@ -26,21 +24,14 @@ public class AssistantImpl implements Assistant<Instant> {
     final Function<Instant, Instant> dateOutToDeadlineMapper;
 
     @Override
-    public QueueProjectionCalculator.Queue<Instant> calcUpstreamIntegral(Instant from, Instant to) {
+    public void calcUpstreamIntegral(Instant from, Instant to, ObjLongConsumer<Instant> output) {
         final var upstreamQuantityByDateOut = upstreamQuantityByDateOutByDateIn.floorEntry(from);
-        final var wholeHourQuantityByDateOut =
-                (upstreamQuantityByDateOut == null)
-                        ? new TreeMap<Instant, Long>()
-                        : upstreamQuantityByDateOutByDateIn.floorEntry(from).getValue();
-
-        final var quantityByCutoff = wholeHourQuantityByDateOut.entrySet().stream()
-                .collect(toMap(
-                        entry -> dateOutToDeadlineMapper.apply(entry.getKey()),
-                        entry -> (entry.getValue() * ChronoUnit.SECONDS.between(from, to)) / SECONDS_IN_AN_HOUR,
-                        Long::sum,
-                        TreeMap::new
-                ));
-        return new QueueProjectionCalculator.Queue<>(quantityByCutoff);
+        if (upstreamQuantityByDateOut != null) {
+            final long seconds = ChronoUnit.SECONDS.between(from, to);
+            for (final var entry : upstreamQuantityByDateOut.getValue().entrySet()) {
+                output.accept(dateOutToDeadlineMapper.apply(entry.getKey()), (entry.getValue() * seconds) / SECONDS_IN_AN_HOUR);
+            }
+        }
     }
 
     @Override
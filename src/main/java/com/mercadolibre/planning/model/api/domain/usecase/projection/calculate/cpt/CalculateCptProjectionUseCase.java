@@ -181,10 +181,10 @@ public final class CalculateCptProjectionUseCase {
     // Se agrega una hora para compensar que las ventas se graban con 0 minutos.
   }
 
-  private static ZonedDateTime calculateProjectedDate(final ZonedDateTime date,
-                                                      final int capacity,
-                                                      final int processedUnits,
-                                                      final Integer shiftMinutes) {
+  static ZonedDateTime calculateProjectedDate(final ZonedDateTime date,
+                                              final int capacity,
+                                              final int processedUnits,
+                                              final Integer shiftMinutes) {
     if (capacity == 0) {
       return null;
     }
@@ -0,0 +1,237 @@
+package com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt;
+
+import static com.mercadolibre.planning.model.api.domain.usecase.projection.ExecutionMetrics.CPT_PROJECTION_CACHE_HITS;
+import static com.mercadolibre.planning.model.api.domain.usecase.projection.ExecutionMetrics.CPT_PROJECTION_CACHE_MISSES;
+import static com.mercadolibre.planning.model.api.domain.usecase.projection.ExecutionMetrics.tag;
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static java.util.Comparator.comparing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mercadolibre.planning.model.api.domain.usecase.backlog.PlannedUnits;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of CPT projections keyed by a fingerprint of their inputs.
+ *
+ * <p>The projections are recalculated for every caller, even when their capacity, backlog, planned units and SLAs are the same. The
+ * fingerprint is a hash of the projection input with its current date truncated to the minute and its backlog and planned units
+ * sorted, so the projections of the same inputs within the same minute are calculated once. The projections are calculated from the
+ * normalized input, so a cached projection is always the one of its fingerprint.
+ *
+ * <p>The cache is bounded by the estimated memory of the cached projections, and the entries of a logistic center are evicted as soon
+ * as a forecast, simulation or deviation is written for it, as the projections of its previous inputs are not going to be hit again.
+ *
+ * <p>Concurrent requests of the same projection wait for a single calculation. The cache only holds the future of each projection, which
+ * is calculated by the first caller on its own thread, so the cache is never locked while a projection is calculated. A failed
+ * calculation fails the callers that were waiting for it and is not cached. The keys hold the generation of their logistic center,
+ * which is increased on each invalidation, so a projection whose calculation started before an invalidation is cached under the
+ * previous generation, where it is never hit and expires with its TTL.
+ *
+ * <p>Hits and misses are counted by logistic center and kind of projection, so the hit ratio of any window is derived from them.
+ */
+@Component
+public class CptProjectionCache {
+
+  static final String SLA_PROJECTION = "sla";
+
+  static final String QUEUE_PROJECTION = "queue";
+
+  private static final long MAXIMUM_WEIGHT_IN_BYTES = 64L * 1024 * 1024;
+
+  private static final int PROJECTION_WEIGHT_IN_BYTES = 128;
+
+  private static final int CALCULATION_DETAIL_WEIGHT_IN_BYTES = 40;
+
+  private static final Duration TTL = Duration.ofMinutes(1);
+
+  private static final String LOGISTIC_CENTER_ID_TAG = "logistic_center_id";
+
+  private static final String PROJECTION_TAG = "projection";
+
+  private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+
+  private static final Comparator<Backlog> BACKLOG_ORDER = comparing(Backlog::getDate)
+      .thenComparing(Backlog::getQuantity);
+
+  private static final Comparator<PlannedUnits> PLANNED_UNITS_ORDER = comparing(PlannedUnits::getDateOut)
+      .thenComparing(PlannedUnits::getDateIn)
+      .thenComparing(PlannedUnits::getTotal);
+
+  private final AsyncCache<Key, List<?>> cache;
+
+  private final ObjectMapper canonicalMapper;
+
+  private final Map<String, AtomicLong> generationByLogisticCenter = new ConcurrentHashMap<>();
+
+  public CptProjectionCache(final ObjectMapper objectMapper) {
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(MAXIMUM_WEIGHT_IN_BYTES)
+        .weigher((Key key, List<?> projections) -> weight(projections))
+        .expireAfterWrite(TTL)
+        .buildAsync();
+
+    // dates are written with their zones, as the projections keep the zones of their inputs
+    this.canonicalMapper = objectMapper.copy()
+        .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+        .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+        .configure(SerializationFeature.WRITE_DATES_WITH_ZONE_ID, true);
+  }
+
+  private static int weight(final List<?> projections) {
+    int weight = 0;
+    for (final Object projection : projections) {
+      weight += PROJECTION_WEIGHT_IN_BYTES;
+      if (projection instanceof CptCalculationOutput) {
+        weight += ((CptCalculationOutput) projection).getCalculationDetails().size() * CALCULATION_DETAIL_WEIGHT_IN_BYTES;
+      }
+    }
+    return weight;
+  }
+
+  private static RuntimeException unwrap(final CompletionException exception) {
+    final var cause = exception.getCause();
+    if (cause instanceof RuntimeException) {
+      return (RuntimeException) cause;
+    } else if (cause instanceof Error) {
+      throw (Error) cause;
+    } else {
+      return exception;
+    }
+  }
+
+  private static <T> List<T> sorted(final List<T> values, final Comparator<T> order) {
+    if (values == null) {
+      return null;
+    }
+
+    final List<T> sorted = new ArrayList<>(values);
+    sorted.sort(order);
+    return sorted;
+  }
+
+  /**
+   * Returns the cached projection of the input, or calculates it with {@link CalculateCptProjectionUseCase} and caches it if there is
+   * none. Unlike {@link CalculateCptProjectionUseCase}, the capacity of the input is not modified.
+   *
+   * @param input projection input.
+   * @return projection of each SLA, that can be modified by the caller.
+   */
+  public List<CptCalculationOutput> calculate(final SlaProjectionInput input) {
+    final var normalized = SlaProjectionInput.builder()
+        .workflow(input.getWorkflow())
+        .logisticCenterId(input.getLogisticCenterId())
+        .capacity(new HashMap<>(input.getCapacity()))
+        .plannedUnits(sorted(input.getPlannedUnits(), PLANNED_UNITS_ORDER))
+        .dateFrom(input.getDateFrom())
+        .dateTo(input.getDateTo())
+        .backlog(sorted(input.getBacklog(), BACKLOG_ORDER))
+        .slaByWarehouse(input.getSlaByWarehouse())
+        .currentDate(input.getCurrentDate().truncatedTo(MINUTES))
+        .build();
+
+    // the fingerprint is taken before the calculation modifies the copy of the capacity
+    return get(SLA_PROJECTION, input.getLogisticCenterId(), normalized, () -> CalculateCptProjectionUseCase.execute(normalized));
+  }
+
+  /**
+   * Returns the cached projection of a normalized input, or calculates and caches it if there is none.
+   *
+   * @param projection       kind of projection, projections of different kinds are not shared.
+   * @param logisticCenterId logistic center.
+   * @param normalizedInput  all of the inputs the projection depends on, in a canonical order.
+   * @param calculation      calculates the projection on a cache miss.
+   * @param <T>              type of the projection of each SLA.
+   * @return projection of each SLA, that can be modified by the caller.
+   */
+  @SuppressWarnings("unchecked")
+  <T> List<T> get(
+      final String projection,
+      final String logisticCenterId,
+      final Object normalizedInput,
+      final Supplier<List<T>> calculation
+  ) {
+    final var key = new Key(logisticCenterId, generation(logisticCenterId).get(), projection, fingerprint(normalizedInput));
+    final String[] tags = {tag(LOGISTIC_CENTER_ID_TAG, logisticCenterId), tag(PROJECTION_TAG, projection)};
+
+    // only the future is created under the lock of the cache, the projection is calculated once it is released
+    final var calculationInProgress = new CompletableFuture<List<?>>();
+    final var projections = cache.get(key, (missing, executor) -> calculationInProgress);
+
+    if (projections != calculationInProgress) {
+      CPT_PROJECTION_CACHE_HITS.increment(tags);
+      try {
+        return new ArrayList<>((List<T>) projections.join());
+      } catch (CompletionException e) {
+        throw unwrap(e);
+      }
+    }
+
+    CPT_PROJECTION_CACHE_MISSES.increment(tags);
+    try {
+      final List<T> calculated = List.copyOf(calculation.get());
+      calculationInProgress.complete(calculated);
+      return new ArrayList<>(calculated);
+    } catch (RuntimeException | Error e) {
+      calculationInProgress.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Evicts the projections of a logistic center, including the ones whose calculation is in progress, which are cached under the
+   * previous generation of the logistic center.
+   *
+   * @param logisticCenterId logistic center.
+   */
+  public void invalidate(final String logisticCenterId) {
+    generation(logisticCenterId).incrementAndGet();
+    cache.asMap().keySet().removeIf(key -> logisticCenterId.equals(key.getLogisticCenterId()));
+  }
+
+  private AtomicLong generation(final String logisticCenterId) {
+    return generationByLogisticCenter.computeIfAbsent(logisticCenterId, id -> new AtomicLong());
+  }
+
+  String fingerprint(final Object normalizedInput) {
+    try {
+      final var digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+      return HexFormat.of().formatHex(digest.digest(canonicalMapper.writeValueAsBytes(normalizedInput)));
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Value
+  private static class Key {
+    String logisticCenterId;
+
+    long generation;
+
+    String projection;
+
+    String fingerprint;
+  }
+
+}
@@ -0,0 +1,215 @@
+package com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt;
+
+import static com.mercadolibre.planning.model.api.util.DateUtils.ignoreMinutes;
+import static java.lang.Math.min;
+import static java.time.temporal.ChronoUnit.HOURS;
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.stream.Collectors.toMap;
+
+import com.mercadolibre.planning.model.api.domain.entity.sla.GetSlaByWarehouseOutput;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Projects the current backlog of the SLAs, without planned units, for several current dates within the first hour of the same
+ * horizon, as the deferral projection does with each of its samples.
+ *
+ * <p>Without planned units all the backlog of an SLA is in the first operation hour and it consumes the capacity left by the previous
+ * SLAs greedily, so these have consumed all of the capacity up to a frontier and none after it. Each SLA resumes the projection from
+ * the frontier left by the previous ones instead of walking the whole horizon again, which makes a projection linear in the number of
+ * SLAs plus the number of hours. The capacity of the horizon is resolved once and shared by all the current dates, only the capacity
+ * of the first operation hour depends on each of them.
+ *
+ * <p>The results are the same as the ones of {@link CalculateCptProjectionUseCase} for the same inputs, but for the calculation
+ * details, which are not kept. Inputs with negative capacities or quantities, that are not consumed greedily, are projected with
+ * {@link CalculateCptProjectionUseCase}.
+ */
+public final class IncrementalCptProjection {
+
+  private static final int HOUR_IN_MINUTES = 60;
+
+  private final ZonedDateTime dateFrom;
+
+  private final ZonedDateTime dateTo;
+
+  private final ZonedDateTime firstHour;
+
+  private final Map<ZonedDateTime, Integer> capacity;
+
+  private final List<GetSlaByWarehouseOutput> slaByWarehouse;
+
+  private final ZonedDateTime[] nextHours;
+
+  private final int[] nextHoursCapacity;
+
+  private final boolean hasNegativeCapacity;
+
+  private IncrementalCptProjection(final ZonedDateTime dateFrom,
+                                   final ZonedDateTime dateTo,
+                                   final Map<ZonedDateTime, Integer> capacity,
+                                   final List<GetSlaByWarehouseOutput> slaByWarehouse) {
+    this.dateFrom = dateFrom;
+    this.dateTo = dateTo;
+    this.firstHour = ignoreMinutes(dateFrom);
+    this.capacity = capacity;
+    this.slaByWarehouse = slaByWarehouse;
+
+    final int hours = (int) HOURS.between(firstHour, dateTo);
+    this.nextHours = new ZonedDateTime[hours];
+    this.nextHoursCapacity = new int[hours];
+    for (int hour = 0; hour < hours; hour++) {
+      nextHours[hour] = firstHour.plusHours(hour + 1L);
+      nextHoursCapacity[hour] = capacity.getOrDefault(nextHours[hour], 0);
+    }
+    this.hasNegativeCapacity = Arrays.stream(nextHoursCapacity).anyMatch(value -> value < 0);
+  }
+
+  /**
+   * Prepares the projections of a horizon.
+   *
+   * @param dateFrom       projection start, the current dates must be within its hour.
+   * @param dateTo         projection end.
+   * @param capacity       capacity by hour, it is not modified.
+   * @param slaByWarehouse SLAs to project, in projection order.
+   * @return the projection of the horizon.
+   */
+  public static IncrementalCptProjection of(final ZonedDateTime dateFrom,
+                                            final ZonedDateTime dateTo,
+                                            final Map<ZonedDateTime, Integer> capacity,
+                                            final List<GetSlaByWarehouseOutput> slaByWarehouse) {
+
+    return new IncrementalCptProjection(dateFrom, dateTo, capacity, slaByWarehouse);
+  }
+
+  /**
+   * Projects the backlog at a current date.
+   *
+   * @param currentDate current date, within the first hour of the horizon.
+   * @param backlog     current backlog by SLA.
+   * @return the projection of each SLA, in projection order.
+   */
+  public List<CptCalculationOutput> project(final ZonedDateTime currentDate, final List<Backlog> backlog) {
+    if (!ignoreMinutes(currentDate).isEqual(firstHour)) {
+      throw new IllegalArgumentException("current date must be within the first hour of the projection");
+    }
+
+    final Map<ZonedDateTime, Integer> backlogBySla = backlog == null
+        ? emptyMap()
+        : backlog.stream().collect(toMap(item -> item.getDate().withFixedOffsetZone(), Backlog::getQuantity, Integer::sum));
+
+    final int remainingMinutes = HOUR_IN_MINUTES - currentDate.getMinute();
+    final int currentHourCapacity = capacity.getOrDefault(ignoreMinutes(currentDate), 0) * remainingMinutes / HOUR_IN_MINUTES;
+
+    final boolean isGreedy = !hasNegativeCapacity
+        && currentHourCapacity >= 0
+        && backlogBySla.values().stream().allMatch(quantity -> quantity >= 0);
+
+    return isGreedy
+        ? projectFromFrontier(currentDate, currentHourCapacity, backlogBySla)
+        : CalculateCptProjectionUseCase.execute(SlaProjectionInput.builder()
+            .capacity(new HashMap<>(capacity))
+            .backlog(backlog)
+            .dateFrom(dateFrom)
+            .dateTo(dateTo)
+            .plannedUnits(emptyList())
+            .slaByWarehouse(slaByWarehouse)
+            .currentDate(currentDate)
+            .build());
+  }
+
+  private List<CptCalculationOutput> projectFromFrontier(final ZonedDateTime currentDate,
+                                                         final int currentHourCapacity,
+                                                         final Map<ZonedDateTime, Integer> backlogBySla) {
+
+    // operation hours are the current date followed by the next hours
+    final int operationHours = nextHours.length + 1;
+    final int[] originalCapacity = new int[operationHours];
+    originalCapacity[0] = currentHourCapacity;
+    System.arraycopy(nextHoursCapacity, 0, originalCapacity, 1, nextHours.length);
+
+    final int[] remainingCapacity = originalCapacity.clone();
+    final int[] projectionEndMinutes = new int[operationHours];
+
+    // all the operation hours before the frontier have no capacity left
+    int frontier = 0;
+
+    final List<CptCalculationOutput> outputs = new ArrayList<>(slaByWarehouse.size());
+    for (final GetSlaByWarehouseOutput sla : slaByWarehouse) {
+      final ZonedDateTime date = sla.getDate().withFixedOffsetZone();
+      final Integer quantity = backlogBySla.get(date);
+
+      if (quantity == null) {
+        outputs.add(new CptCalculationOutput(date, dateFrom, 0, 0, 0, emptyList()));
+      } else {
+        final int slaHour = operationHourIndex(currentDate, sla.getDate().truncatedTo(HOURS));
+
+        ZonedDateTime projectedDate = quantity == 0 ? dateFrom : null;
+        int backlogAtSlaHour = slaHour > 0 && slaHour < frontier ? quantity : 0;
+        int processedAtSlaHour = 0;
+
+        int pending = quantity;
+        int hour = frontier;
+        while (pending > 0 && hour < operationHours) {
+          final int processed = min(pending, remainingCapacity[hour]);
+          if (hour == slaHour) {
+            backlogAtSlaHour = hour == 0 ? 0 : pending;
+            processedAtSlaHour = processed;
+          }
+
+          remainingCapacity[hour] -= processed;
+          pending -= processed;
+
+          if (pending == 0) {
+            final ZonedDateTime operationHour = operationHour(currentDate, hour);
+            projectedDate = CalculateCptProjectionUseCase.calculateProjectedDate(
+                operationHour,
+                originalCapacity[hour],
+                processed,
+                projectionEndMinutes[hour]
+            );
+
+            if (projectedDate != null && projectedDate.getMinute() != 0) {
+              projectionEndMinutes[hour] = projectedDate.getMinute() - operationHour.getMinute();
+            }
+          } else {
+            hour++;
+          }
+        }
+        frontier = hour;
+
+        final int remainingQuantity = slaHour < 0
+            ? 0
+            : backlogAtSlaHour - getMinutesUntilSla(operationHour(currentDate, slaHour), sla) * processedAtSlaHour / HOUR_IN_MINUTES;
+
+        outputs.add(new CptCalculationOutput(date, projectedDate, remainingQuantity, quantity, 0, emptyList()));
+      }
+    }
+    return outputs;
+  }
+
+  private int getMinutesUntilSla(final ZonedDateTime operationHour, final GetSlaByWarehouseOutput sla) {
+    return (int) MINUTES.between(operationHour, sla.getDate());
+  }
+
+  private ZonedDateTime operationHour(final ZonedDateTime currentDate, final int index) {
+    return index == 0 ? currentDate : nextHours[index - 1];
+  }
+
+  private int operationHourIndex(final ZonedDateTime currentDate, final ZonedDateTime truncatedSla) {
+    if (truncatedSla.isEqual(currentDate)) {
+      return 0;
+    }
+
+    final long seconds = truncatedSla.toEpochSecond() - firstHour.toEpochSecond();
+    final long hours = seconds / HOURS.getDuration().getSeconds();
+    final boolean isNextHour = seconds % HOURS.getDuration().getSeconds() == 0 && hours >= 1 && hours <= nextHours.length;
+
+    return isNextHour ? (int) hours : -1;
+  }
+}
@@ -1,71 +1,81 @@
 package com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt;
 
 import java.time.Instant;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.NavigableSet;
 import java.util.TreeMap;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import lombok.RequiredArgsConstructor;
+import java.util.function.LongFunction;
+import java.util.function.ObjLongConsumer;
 
 public final class QueueProjectionCalculator {
 
+    private static final int INITIAL_CAPACITY = 16;
+
     private QueueProjectionCalculator() {
     }
 
     /**
      * Calculates the length of the processing queue of a stage will be at different times in the future.
      *
+     * <p>The queue is updated in place along the steps and the returned {@link Log} only keeps what changed on each step, from which the
+     * queue at the end of any step can be reconstructed.
+     *
      * @param startingDate       the projection starting date
-     * @param startingQueue      the {@link Queue} at the projection starting date.
+     * @param startingQueue      the {@link Queue} at the projection starting date, it is not modified.
      * @param inflectionInstants the instants for which que projected {@link Queue} should be calculated.
      * @param assistant          an instance of the {@link Assistant} interface that tells what this stage needs to know about the
      *                           upstream stage and this stage processing power.
-     * @param <D>                the quantity discriminator type whose ordering criteria determines this stage's queue processing order.
-     * @return a record at each of the inflection instant that contains the queue at that instant and the exhaustion date of each pile
-     * that was exhausted during the step associated to the record.
+     * @return a log with the changes of the queue on each of the inflection instants and the exhaustion date of each pile that was
+     * exhausted during the step that ends on it.
      */
-    public static <D extends Comparable<D>> Log<D> calculate(
+    public static Log calculate(
             final Instant startingDate,
-            final Queue<D> startingQueue,
+            final Queue startingQueue,
             final NavigableSet<Instant> inflectionInstants,
-            final Assistant<D> assistant
+            final Assistant assistant
     ) {
-        final var recordByStepEndingDate = new TreeMap<Instant, Record<D>>();
-        var record = new Record<>(startingQueue, new TreeMap<>(), 0);
-        recordByStepEndingDate.put(startingDate, record);
+        final var log = new Log(startingDate, startingQueue);
+        final var queue = log.lastQueue;
+        final ObjLongConsumer<Instant> upstream = (discriminator, quantity) -> queue.add(discriminator, quantity, log);
+
         var stepStartingDate = startingDate;
         for (final var stepEndingDate : inflectionInstants.tailSet(startingDate, false)) {
             final var stepStartingDateFinal = stepStartingDate;
-            record = record.queueAtEndOfStep
-                    .merged(assistant.calcUpstreamIntegral(stepStartingDate, stepEndingDate))
-                    .consumed(
-                            assistant.calcProcessingCapacityIntegral(stepStartingDate, stepEndingDate),
-                            quantity -> assistant.calcExhaustionDate(stepStartingDateFinal, quantity)
-                    );
-            recordByStepEndingDate.put(stepEndingDate, record);
+            log.startStep(stepEndingDate);
+            assistant.calcUpstreamIntegral(stepStartingDate, stepEndingDate, upstream);
+            final long overconsumption = queue.consume(
+                    assistant.calcProcessingCapacityIntegral(stepStartingDate, stepEndingDate),
+                    quantity -> assistant.calcExhaustionDate(stepStartingDateFinal, quantity),
+                    log
+            );
+            log.endStep(overconsumption);
             stepStartingDate = stepEndingDate;
         }
-        return new Log<>(recordByStepEndingDate);
+        return log;
+    }
+
+    private static int compare(final long seconds, final int nanos, final long otherSeconds, final int otherNanos) {
+        final int bySeconds = Long.compare(seconds, otherSeconds);
+        return bySeconds == 0 ? Integer.compare(nanos, otherNanos) : bySeconds;
     }
 
     /**
      * Specifies the assistance that the {@link #calculate(Instant, Queue, NavigableSet, Assistant)}
      * method requires knowing about the upstream stage and this stage processing power.
      */
-    public interface Assistant<D extends Comparable<D>> {
+    public interface Assistant {
         /**
-         * The implementation should give the output of the upstream stage between the specified instants.
+         * The implementation should give the output of the upstream stage between the specified instants, by discriminator.
          * The implementation may assume that no inflection instant is between the received boundaries.
          *
-         * @param from the integral's starting instant
-         * @param to   the integral's ending instant
-         * @return the output of the upstream stage between the specified instant.
-         * */
-        Queue<D> calcUpstreamIntegral(Instant from, Instant to);
+         * @param from   the integral's starting instant
+         * @param to     the integral's ending instant
+         * @param output receives the quantity of each discriminator that the upstream stage outputs between the specified instants,
+         *               quantities of the same discriminator are added.
+         */
+        void calcUpstreamIntegral(Instant from, Instant to, ObjLongConsumer<Instant> output);
 
         /**
          * The implementation should give the consumption power of this stage between the specified instants.
@@ -92,75 +102,349 @@ public final class QueueProjectionCalculator {
     }
 
     /**
-     * A queue that prioritizes the consumption of elements according to the discriminator they are associated with.
+     * A queue that prioritizes the consumption of elements according to the instant they are associated with, earliest first.
      * Elements with same discriminator are fungible.
-     * @param <D> the discriminator type.
+     *
+     * <p>The discriminators and their quantities are kept in parallel arrays sorted by discriminator, which are updated in place.
      */
-    @RequiredArgsConstructor
-    public static class Queue<D extends Comparable<D>> {
+    public static class Queue {
+
+        private long[] seconds;
+
+        private int[] nanos;
+
+        private long[] quantities;
+
+        private int size;
+
+        public Queue() {
+            this(INITIAL_CAPACITY);
+        }
+
+        private Queue(final int capacity) {
+            this.seconds = new long[capacity];
+            this.nanos = new int[capacity];
+            this.quantities = new long[capacity];
+        }
+
+        public static Queue of(final Map<Instant, Long> quantityByDiscriminator) {
+            final var queue = new Queue(Math.max(INITIAL_CAPACITY, quantityByDiscriminator.size()));
+            quantityByDiscriminator.forEach(queue::add);
+            return queue;
+        }
+
+        public NavigableMap<Instant, Long> getQuantityByDiscriminator() {
+            final var quantityByDiscriminator = new TreeMap<Instant, Long>();
+            for (int i = 0; i < size; i++) {
+                quantityByDiscriminator.put(Instant.ofEpochSecond(seconds[i], nanos[i]), quantities[i]);
+            }
+            return quantityByDiscriminator;
+        }
+
+        /**
+         * @param discriminator discriminator whose quantity is requested.
+         * @return the quantity of elements associated with the discriminator, zero if there are none.
+         */
+        public long getQuantity(final Instant discriminator) {
+            final int index = indexOf(discriminator.getEpochSecond(), discriminator.getNano());
+            return index < 0 ? 0 : quantities[index];
+        }
+
+        /**
+         * Adds elements to the queue.
+         *
+         * @param discriminator discriminator the elements are associated with.
+         * @param quantity      quantity of elements to add.
+         */
+        public void add(final Instant discriminator, final long quantity) {
+            add(discriminator, quantity, null);
+        }
 
-        private final NavigableMap<D, Long> quantityByDiscriminator;
+        void add(final Instant discriminator, final long quantity, final Log log) {
+            final long discriminatorSeconds = discriminator.getEpochSecond();
+            final int discriminatorNanos = discriminator.getNano();
 
-        public NavigableMap<D, Long> getQuantityByDiscriminator() {
-            return Collections.unmodifiableNavigableMap(this.quantityByDiscriminator);
+            int index = indexOf(discriminatorSeconds, discriminatorNanos);
+            if (index >= 0) {
+                quantities[index] += quantity;
+            } else {
+                index = -index - 1;
+                insert(index, discriminatorSeconds, discriminatorNanos, quantity);
+            }
+
+            if (log != null) {
+                log.recordChange(discriminatorSeconds, discriminatorNanos, quantities[index], false);
+            }
         }
 
         /**
-         * Gives a {@link Record} that contains:
-         * - a new {@link Queue} that results of consuming the specified quantity of elements from this instance;
-         * - for all the groups of this queue that were consumed completely, the instant when that happened and;
-         * - the difference between the received quantity and the total number of elements in this queue.
-         * @param quantity quantity of units to consume
+         * Consumes the specified quantity of elements from this queue, starting by the earliest discriminator.
+         * For all the discriminators whose elements were consumed completely, the instant when that happened is recorded in the log.
+         *
+         * @param quantity                  quantity of units to consume
          * @param consumptionDateCalculator calculates when is the instant in which the elements will be consumed
-         * @return a record with the result of elements
+         * @param log                       receives the changes of the queue and the exhaustion instants.
+         * @return the difference between the received quantity and the total number of elements in this queue.
          */
-        public Record<D> consumed(final long quantity, final Function<Long, Instant> consumptionDateCalculator) {
-            final TreeMap<D, Instant> exhaustionInstantByDiscriminator = new TreeMap<>();
+        long consume(final long quantity, final LongFunction<Instant> consumptionDateCalculator, final Log log) {
             long remaining = quantity;
-            final var accumulator = new TreeMap<D, Long>();
-            for (var entry : this.quantityByDiscriminator.entrySet()) {
-                if (entry.getValue() <= remaining) {
-                    remaining -= entry.getValue();
-                    if (entry.getValue() > 0) {
-                        exhaustionInstantByDiscriminator.put(entry.getKey(), consumptionDateCalculator.apply(quantity - remaining));
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                final long available = quantities[i];
+                if (available <= remaining) {
+                    remaining -= available;
+                    if (available > 0) {
+                        log.recordExhaustion(seconds[i], nanos[i], consumptionDateCalculator.apply(quantity - remaining));
                     }
+                    log.recordChange(seconds[i], nanos[i], 0, true);
                 } else {
-                    accumulator.put(entry.getKey(), entry.getValue() - remaining);
+                    seconds[kept] = seconds[i];
+                    nanos[kept] = nanos[i];
+                    quantities[kept] = available - remaining;
+                    if (remaining != 0) {
+                        log.recordChange(seconds[kept], nanos[kept], quantities[kept], false);
+                    }
+                    kept++;
                     remaining = 0;
                 }
             }
-            return new Record<>(new Queue<>(accumulator), exhaustionInstantByDiscriminator, remaining);
+            size = kept;
+            return remaining;
+        }
+
+        Queue copy() {
+            final var copy = new Queue(Math.max(INITIAL_CAPACITY, size));
+            System.arraycopy(seconds, 0, copy.seconds, 0, size);
+            System.arraycopy(nanos, 0, copy.nanos, 0, size);
+            System.arraycopy(quantities, 0, copy.quantities, 0, size);
+            copy.size = size;
+            return copy;
+        }
+
+        private void set(final long discriminatorSeconds, final int discriminatorNanos, final long quantity) {
+            final int index = indexOf(discriminatorSeconds, discriminatorNanos);
+            if (index >= 0) {
+                quantities[index] = quantity;
+            } else {
+                insert(-index - 1, discriminatorSeconds, discriminatorNanos, quantity);
+            }
+        }
+
+        private void remove(final long discriminatorSeconds, final int discriminatorNanos) {
+            final int index = indexOf(discriminatorSeconds, discriminatorNanos);
+            if (index >= 0) {
+                final int moved = size - index - 1;
+                System.arraycopy(seconds, index + 1, seconds, index, moved);
+                System.arraycopy(nanos, index + 1, nanos, index, moved);
+                System.arraycopy(quantities, index + 1, quantities, index, moved);
+                size--;
+            }
+        }
+
+        private void insert(final int index, final long discriminatorSeconds, final int discriminatorNanos, final long quantity) {
+            if (size == quantities.length) {
+                final int capacity = Math.max(INITIAL_CAPACITY, size * 2);
+                seconds = Arrays.copyOf(seconds, capacity);
+                nanos = Arrays.copyOf(nanos, capacity);
+                quantities = Arrays.copyOf(quantities, capacity);
+            }
+            final int moved = size - index;
+            System.arraycopy(seconds, index, seconds, index + 1, moved);
+            System.arraycopy(nanos, index, nanos, index + 1, moved);
+            System.arraycopy(quantities, index, quantities, index + 1, moved);
+            seconds[index] = discriminatorSeconds;
+            nanos[index] = discriminatorNanos;
+            quantities[index] = quantity;
+            size++;
         }
 
         /**
-         * @param other queue to merge with the actual queue.
-         * @return a new {@link Queue} that results of merging this and the received {@link Queue}s.
+         * Binary search of a discriminator.
+         *
+         * @return the index of the discriminator if present, otherwise (-(insertion point) - 1).
          */
-        public Queue<D> merged(final Queue<D> other) {
-            var newQuantityByDiscriminator = Stream.concat(
-                    this.quantityByDiscriminator.entrySet().stream(),
-                    other.quantityByDiscriminator.entrySet().stream()
-            ).collect(Collectors.toMap(
-                    Map.Entry::getKey,
-                    Map.Entry::getValue,
-                    Long::sum,
-                    TreeMap::new
-            ));
-            return new Queue<>(newQuantityByDiscriminator);
+        private int indexOf(final long discriminatorSeconds, final int discriminatorNanos) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                final int middle = (low + high) >>> 1;
+                final int comparison = compare(seconds[middle], nanos[middle], discriminatorSeconds, discriminatorNanos);
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else if (comparison > 0) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
         }
     }
 
-    @RequiredArgsConstructor
-    public static class Record<D extends Comparable<D>> {
-        final Queue<D> queueAtEndOfStep;
+    /**
+     * The changes of the queue on each step of the projection, kept in parallel arrays, along with the instants in which each
+     * discriminator was exhausted. The queue at the end of a step is reconstructed on demand from the starting queue and the changes up
+     * to that step.
+     */
+    public static class Log {
 
-        final NavigableMap<D, Instant> exhaustionInstantByDiscriminator;
+        private final Queue startingQueue;
 
-        final long overconsumption;
-    }
+        private final Queue lastQueue;
+
+        private Instant[] stepEndingDates = new Instant[INITIAL_CAPACITY];
+
+        private int[] changesEnd = new int[INITIAL_CAPACITY];
 
-    @RequiredArgsConstructor
-    public static class Log<D extends Comparable<D>> {
-        final NavigableMap<Instant, Record<D>> recordByStepEndingDate;
+        private long[] overconsumptions = new long[INITIAL_CAPACITY];
+
+        private int steps;
+
+        private long[] changedSeconds = new long[INITIAL_CAPACITY];
+
+        private int[] changedNanos = new int[INITIAL_CAPACITY];
+
+        private long[] changedQuantities = new long[INITIAL_CAPACITY];
+
+        private boolean[] removed = new boolean[INITIAL_CAPACITY];
+
+        private int changes;
+
+        private long[] exhaustedSeconds = new long[INITIAL_CAPACITY];
+
+        private int[] exhaustedNanos = new int[INITIAL_CAPACITY];
+
+        private Instant[] exhaustionInstants = new Instant[INITIAL_CAPACITY];
+
+        private int exhaustions;
+
+        Log(final Instant startingDate, final Queue startingQueue) {
+            this.startingQueue = startingQueue.copy();
+            this.lastQueue = startingQueue.copy();
+            startStep(startingDate);
+            endStep(0);
+        }
+
+        /**
+         * @return the queue at the end of the last step.
+         */
+        public Queue lastQueue() {
+            return lastQueue;
+        }
+
+        /**
+         * Reconstructs the queue at the end of a step.
+         *
+         * @param stepEndingDate the starting date or one of the inflection instants of the projection.
+         * @return the queue at the end of the step.
+         */
+        public Queue queueAt(final Instant stepEndingDate) {
+            final int end = changesEnd[stepIndex(stepEndingDate)];
+            final var queue = startingQueue.copy();
+            for (int change = 0; change < end; change++) {
+                if (removed[change]) {
+                    queue.remove(changedSeconds[change], changedNanos[change]);
+                } else {
+                    queue.set(changedSeconds[change], changedNanos[change], changedQuantities[change]);
+                }
+            }
+            return queue;
+        }
+
+        /**
+         * Gives the quantity of a discriminator at the end of a step from its last change, without reconstructing the whole queue.
+         *
+         * @param stepEndingDate the starting date or one of the inflection instants of the projection.
+         * @param discriminator  discriminator whose quantity is requested.
+         * @return the quantity of elements associated with the discriminator at the end of the step, zero if there are none.
+         */
+        public long quantityAt(final Instant stepEndingDate, final Instant discriminator) {
+            final long discriminatorSeconds = discriminator.getEpochSecond();
+            final int discriminatorNanos = discriminator.getNano();
+            for (int change = changesEnd[stepIndex(stepEndingDate)] - 1; change >= 0; change--) {
+                if (compare(changedSeconds[change], changedNanos[change], discriminatorSeconds, discriminatorNanos) == 0) {
+                    return removed[change] ? 0 : changedQuantities[change];
+                }
+            }
+            return startingQueue.getQuantity(discriminator);
+        }
+
+        /**
+         * @param discriminator discriminator whose exhaustion is requested.
+         * @return the last instant in which the elements associated with the discriminator were exhausted, or null if they never were.
+         */
+        public Instant lastExhaustionInstant(final Instant discriminator) {
+            final long discriminatorSeconds = discriminator.getEpochSecond();
+            final int discriminatorNanos = discriminator.getNano();
+            for (int exhaustion = exhaustions - 1; exhaustion >= 0; exhaustion--) {
+                if (compare(exhaustedSeconds[exhaustion], exhaustedNanos[exhaustion], discriminatorSeconds, discriminatorNanos) == 0) {
+                    return exhaustionInstants[exhaustion];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @param stepEndingDate the starting date or one of the inflection instants of the projection.
+         * @return the difference between the processing capacity of the step and the elements that were consumed on it.
+         */
+        public long overconsumptionAt(final Instant stepEndingDate) {
+            return overconsumptions[stepIndex(stepEndingDate)];
+        }
+
+        private int stepIndex(final Instant stepEndingDate) {
+            final int index = Arrays.binarySearch(stepEndingDates, 0, steps, stepEndingDate);
+            if (index < 0) {
+                throw new IllegalArgumentException("No projection step ends at " + stepEndingDate);
+            }
+            return index;
+        }
+
+        private void startStep(final Instant stepEndingDate) {
+            if (steps == stepEndingDates.length) {
+                final int capacity = steps * 2;
+                stepEndingDates = Arrays.copyOf(stepEndingDates, capacity);
+                changesEnd = Arrays.copyOf(changesEnd, capacity);
+                overconsumptions = Arrays.copyOf(overconsumptions, capacity);
+            }
+            stepEndingDates[steps] = stepEndingDate;
+        }
+
+        private void endStep(final long overconsumption) {
+            changesEnd[steps] = changes;
+            overconsumptions[steps] = overconsumption;
+            steps++;
+        }
+
+        private void recordChange(final long discriminatorSeconds,
+                                  final int discriminatorNanos,
+                                  final long quantity,
+                                  final boolean isRemoved) {
+            if (changes == changedQuantities.length) {
+                final int capacity = changes * 2;
+                changedSeconds = Arrays.copyOf(changedSeconds, capacity);
+                changedNanos = Arrays.copyOf(changedNanos, capacity);
+                changedQuantities = Arrays.copyOf(changedQuantities, capacity);
+                removed = Arrays.copyOf(removed, capacity);
+            }
+            changedSeconds[changes] = discriminatorSeconds;
+            changedNanos[changes] = discriminatorNanos;
+            changedQuantities[changes] = quantity;
+            removed[changes] = isRemoved;
+            changes++;
+        }
+
+        private void recordExhaustion(final long discriminatorSeconds, final int discriminatorNanos, final Instant exhaustionInstant) {
+            if (exhaustions == exhaustionInstants.length) {
+                final int capacity = exhaustions * 2;
+                exhaustedSeconds = Arrays.copyOf(exhaustedSeconds, capacity);
+                exhaustedNanos = Arrays.copyOf(exhaustedNanos, capacity);
+                exhaustionInstants = Arrays.copyOf(exhaustionInstants, capacity);
+            }
+            exhaustedSeconds[exhaustions] = discriminatorSeconds;
+            exhaustedNanos[exhaustions] = discriminatorNanos;
+            exhaustionInstants[exhaustions] = exhaustionInstant;
+            exhaustions++;
+        }
     }
 }
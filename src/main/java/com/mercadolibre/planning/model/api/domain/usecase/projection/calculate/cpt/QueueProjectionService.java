@@ -27,7 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.NavigableSet;
-import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
@@ -35,6 +35,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -53,6 +54,8 @@ public class QueueProjectionService {
 
   private final GetCycleTimeService getCycleTimeService;
 
+  private final CptProjectionCache cptProjectionCache;
+
   private static Set<Instant> getAllDateOuts(
       final List<QuantityByDate> backlog,
       final NavigableMap<Instant, NavigableMap<Instant, Long>> upstreamQuantityByDateOutByDateIn
@@ -65,7 +68,6 @@ public class QueueProjectionService {
   }
 
   public List<CptProjectionOutput> calculateCptProjection(final GetSlaProjectionInput input) {
-    final var startingDate = input.getDateFrom().toInstant();
     final var endingDate = input.getDateTo().toInstant();
 
     final var initialBacklog = (input.getBacklog() == null)
@@ -78,6 +80,34 @@ public class QueueProjectionService {
     final Set<Instant> allDateOuts = getAllDateOuts(initialBacklog, upstreamQuantityByDateOutByDateIn);
     final Map<Instant, Long> cycleTimes = getCycleTimes(input.getWarehouseId(), allDateOuts);
 
+    final var normalizedInput = new NormalizedInput(
+        input.getDateFrom(),
+        endingDate,
+        getBacklogByDateOut(initialBacklog),
+        capacity,
+        upstreamQuantityByDateOutByDateIn,
+        cycleTimes
+    );
+
+    return cptProjectionCache.get(
+        CptProjectionCache.QUEUE_PROJECTION,
+        input.getWarehouseId(),
+        normalizedInput,
+        () -> project(input, initialBacklog, capacity, upstreamQuantityByDateOutByDateIn, allDateOuts, cycleTimes)
+    );
+  }
+
+  private List<CptProjectionOutput> project(
+      final GetSlaProjectionInput input,
+      final List<QuantityByDate> initialBacklog,
+      final NavigableMap<Instant, Integer> capacity,
+      final NavigableMap<Instant, NavigableMap<Instant, Long>> upstreamQuantityByDateOutByDateIn,
+      final Set<Instant> allDateOuts,
+      final Map<Instant, Long> cycleTimes
+  ) {
+    final var startingDate = input.getDateFrom().toInstant();
+    final var endingDate = input.getDateTo().toInstant();
+
     // Gets each sla with its cut off
     final Function<Instant, Instant> dateOutToCutoffMapper =
         dateOut -> dateOut.minus(cycleTimes.getOrDefault(dateOut, DEFAULT_CYCLE_TIME_IN_MINUTES), ChronoUnit.MINUTES);
@@ -108,35 +138,29 @@ public class QueueProjectionService {
         assistant
     );
 
-    final var queueAtLastInflectionPoint = projectionLog.recordByStepEndingDate.lastEntry().getValue().queueAtEndOfStep;
-    final var allProjectionRecordsReversed = projectionLog.recordByStepEndingDate.descendingMap().values();
+    final var queueAtLastInflectionPoint = projectionLog.lastQueue();
 
     return allDateOuts.stream()
         .map(dateOut -> new Sla(dateOut, dateOutToCutoffMapper.apply(dateOut)))
         .map(sla -> {
-          final var recordAtCutoff = projectionLog.recordByStepEndingDate.get(sla.cutoff);
-          final var recordAtStartingDate = projectionLog.recordByStepEndingDate.get(startingDate);
-
-          final var expiredQuantity = !sla.cutoff.isAfter(startingDate)
-              ? recordAtStartingDate.queueAtEndOfStep.getQuantityByDiscriminator().getOrDefault(sla.cutoff, 0L)
-              : recordAtCutoff.queueAtEndOfStep.getQuantityByDiscriminator().getOrDefault(sla.cutoff, 0L);
-          final var isExhausted = queueAtLastInflectionPoint.getQuantityByDiscriminator().getOrDefault(sla.cutoff, 0L) == 0;
+          final long expiredQuantity = !sla.cutoff.isAfter(startingDate)
+              ? projectionLog.quantityAt(startingDate, sla.cutoff)
+              : projectionLog.quantityAt(sla.cutoff, sla.cutoff);
+          final var isExhausted = queueAtLastInflectionPoint.getQuantity(sla.cutoff) == 0;
 
           // Note that when the initial backlog and the forecasted backlog are both zero the projected end date is set to the
           // starting time.
           // Note that when the backlog is not exhausted before the end of the projection scope the projected end date is set
           // to null.
           final var projectedEndDate = isExhausted
-              ? allProjectionRecordsReversed.stream()
-              .map(projectionRecord -> projectionRecord.exhaustionInstantByDiscriminator.get(sla.cutoff))
-              .filter(Objects::nonNull)
+              ? Optional.ofNullable(projectionLog.lastExhaustionInstant(sla.cutoff))
               .map(i -> ZonedDateTime.ofInstant(i, ZoneOffset.UTC))
-              .findFirst().orElse(input.getDateFrom())
+              .orElse(input.getDateFrom())
               : null;
           return new CptProjectionOutput(
               ZonedDateTime.ofInstant(sla.dateOut, ZoneOffset.UTC),
               projectedEndDate,
-              expiredQuantity.intValue(),
+              (int) expiredQuantity,
               new ProcessingTime(cycleTimes.getOrDefault(sla.dateOut, 0L), MetricUnit.MINUTES)
           );
         })
@@ -192,6 +216,15 @@ public class QueueProjectionService {
         ));
   }
 
+  private Map<Instant, Long> getBacklogByDateOut(final List<QuantityByDate> backlog) {
+    return backlog.stream().collect(toMap(
+        quantityAtDateOut -> quantityAtDateOut.getDate().toInstant(),
+        quantityAtDateOut -> (long) quantityAtDateOut.getQuantity().intValue(),
+        Long::sum,
+        TreeMap::new
+    ));
+  }
+
   private Map<Instant, Long> getCycleTimes(String warehouseId, final Set<Instant> allDateOuts) {
     final var allDateOutsZdt = allDateOuts.stream().map(i -> ZonedDateTime.ofInstant(i, ZoneOffset.UTC)).collect(Collectors.toList());
     final var cycleTimes = getCycleTimeService.execute(new GetCycleTimeInput(warehouseId, allDateOutsZdt));
@@ -201,14 +234,14 @@ public class QueueProjectionService {
     ));
   }
 
-  private Queue<Instant> getInitialQueue(final List<QuantityByDate> quantityByDateOut, final Function<Instant, Instant> cutoffMapper) {
+  private Queue getInitialQueue(final List<QuantityByDate> quantityByDateOut, final Function<Instant, Instant> cutoffMapper) {
     final var quantityByCutoff = quantityByDateOut.stream().collect(toMap(
         quantityAtDateOut -> cutoffMapper.apply(quantityAtDateOut.getDate().toInstant()),
         quantityAtDateOut -> (long) quantityAtDateOut.getQuantity().intValue(),
         Long::sum,
         TreeMap::new
     ));
-    return new Queue<>(quantityByCutoff);
+    return Queue.of(quantityByCutoff);
   }
 
   /**
@@ -241,4 +274,22 @@ public class QueueProjectionService {
 
     final Instant cutoff;
   }
+
+  /**
+   * Inputs of the queue projection, the backlog is summed by date out as the projection only depends on its quantities.
+   */
+  @Value
+  private static class NormalizedInput {
+    ZonedDateTime dateFrom;
+
+    Instant dateTo;
+
+    Map<Instant, Long> backlogByDateOut;
+
+    Map<Instant, Integer> capacity;
+
+    Map<Instant, NavigableMap<Instant, Long>> upstreamQuantityByDateOutByDateIn;
+
+    Map<Instant, Long> cycleTimes;
+  }
 }
@@ -1,6 +1,5 @@
 package com.mercadolibre.planning.model.api.domain.usecase.projection.capacity;
 
-import static java.util.Collections.emptyList;
 import static java.util.Comparator.comparing;
 import static java.util.Comparator.reverseOrder;
 import static java.util.stream.Collectors.toList;
@@ -10,10 +9,9 @@ import com.mercadolibre.planning.model.api.domain.entity.MetricUnit;
 import com.mercadolibre.planning.model.api.domain.entity.sla.GetSlaByWarehouseOutput;
 import com.mercadolibre.planning.model.api.domain.entity.sla.ProcessingTime;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.Backlog;
-import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CalculateCptProjectionUseCase;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CptCalculationOutput;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.DeliveryPromiseProjectionOutput;
-import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.SlaProjectionInput;
+import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.IncrementalCptProjection;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -24,23 +22,28 @@ public final class DeliveryPromiseCalculator {
   private DeliveryPromiseCalculator() {
   }
 
-  public static List<DeliveryPromiseProjectionOutput> calculate(final ZonedDateTime dateFrom,
-                                                                final ZonedDateTime dateTo,
+  /**
+   * Calculates the delivery promises from the projection of the SLAs at the current date.
+   */
+  public static List<DeliveryPromiseProjectionOutput> calculate(final List<CptCalculationOutput> allCptProjectionCalculated,
+                                                                final ZonedDateTime currentDate,
+                                                                final List<GetSlaByWarehouseOutput> allCptByWarehouse,
+                                                                final Map<ZonedDateTime, Long> cycleTimeByCpt) {
+
+    return calculatedDeferralCpt(allCptProjectionCalculated, allCptByWarehouse, cycleTimeByCpt, currentDate);
+  }
+
+  /**
+   * Calculates the delivery promises at one of the current dates of an incremental projection, whose horizon already defines the
+   * capacity and the projected SLAs.
+   */
+  public static List<DeliveryPromiseProjectionOutput> calculate(final IncrementalCptProjection cptProjection,
                                                                 final ZonedDateTime currentDate,
                                                                 final List<Backlog> currentBacklog,
-                                                                final Map<ZonedDateTime, Integer> maxCapacity,
                                                                 final List<GetSlaByWarehouseOutput> allCptByWarehouse,
                                                                 final Map<ZonedDateTime, Long> cycleTimeByCpt) {
 
-    final List<CptCalculationOutput> allCptProjectionCalculated = CalculateCptProjectionUseCase.execute(SlaProjectionInput.builder()
-        .capacity(maxCapacity)
-        .backlog(currentBacklog)
-        .dateFrom(dateFrom)
-        .dateTo(dateTo)
-        .plannedUnits(emptyList())
-        .slaByWarehouse(allCptByWarehouse)
-        .currentDate(currentDate)
-        .build());
+    final List<CptCalculationOutput> allCptProjectionCalculated = cptProjection.project(currentDate, currentBacklog);
 
     return calculatedDeferralCpt(allCptProjectionCalculated, allCptByWarehouse, cycleTimeByCpt, currentDate);
   }
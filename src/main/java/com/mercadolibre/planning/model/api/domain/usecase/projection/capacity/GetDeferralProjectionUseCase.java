@@ -4,6 +4,12 @@ import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PACK
 import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PACKING_WALL;
 import static com.mercadolibre.planning.model.api.domain.usecase.capacity.CapacityInput.fromEntityOutputs;
 import static com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.DeliveryPromiseProjectionUtils.getSlasToBeProjectedFromBacklogAndKnowSlas;
+import static com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.ProjectionDependencies.join;
+import static com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.ProjectionDependency.CYCLE_TIMES;
+import static com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.ProjectionDependency.MAX_CAPACITY;
+import static com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.ProjectionDependency.PLANNED_BACKLOG;
+import static com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.ProjectionDependency.SLAS;
+import static com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.ProjectionDependency.THROUGHPUT;
 import static com.mercadolibre.planning.model.api.util.DateUtils.MINUTES_IN_HOUR;
 import static java.time.temporal.ChronoUnit.MINUTES;
 import static java.util.stream.Collectors.toList;
@@ -29,6 +35,7 @@ import com.mercadolibre.planning.model.api.domain.usecase.projection.backlog.cal
 import com.mercadolibre.planning.model.api.domain.usecase.projection.backlog.calculate.output.QuantityAtDate;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.Backlog;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.DeliveryPromiseProjectionOutput;
+import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.IncrementalCptProjection;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.input.GetDeferralProjectionInput;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.output.DeferralProjectionOutput;
 import com.mercadolibre.planning.model.api.domain.usecase.sla.GetSlaByWarehouseOutboundService;
@@ -46,18 +53,20 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-@AllArgsConstructor
 public class GetDeferralProjectionUseCase {
 
   private static final int INTERVAL_WIDTH_MINUTES = 5;
@@ -76,27 +85,64 @@ public class GetDeferralProjectionUseCase {
 
   private final GetCapacityPerHourService getCapacityPerHourService;
 
+  private final ProjectionDependencies projectionDependencies;
+
+  private final ForkJoinPool deferralPool;
+
+  public GetDeferralProjectionUseCase(
+      final MaxCapacityService maxCapacityService,
+      final GetCycleTimeService getCycleTimeService,
+      final GetSlaByWarehouseOutboundService getSlaByWarehouseOutboundService,
+      final PlannedBacklogService plannedBacklogService,
+      final GetThroughputUseCase getThroughputUseCase,
+      final GetCapacityPerHourService getCapacityPerHourService,
+      final ProjectionDependencies projectionDependencies,
+      @Qualifier("projectionsForkJoinPool") final ForkJoinPool projectionsForkJoinPool
+  ) {
+    this.maxCapacityService = maxCapacityService;
+    this.getCycleTimeService = getCycleTimeService;
+    this.getSlaByWarehouseOutboundService = getSlaByWarehouseOutboundService;
+    this.plannedBacklogService = plannedBacklogService;
+    this.getThroughputUseCase = getThroughputUseCase;
+    this.getCapacityPerHourService = getCapacityPerHourService;
+    this.projectionDependencies = projectionDependencies;
+    this.deferralPool = projectionsForkJoinPool;
+  }
+
   @Trace
   public List<DeferralProjectionOutput> execute(final GetDeferralProjectionInput input) {
-    final List<GetSlaByWarehouseOutput> allCptByWarehouse = getSlaByWarehouseOutboundService.execute(
-        new GetSlaByWarehouseInput(
+    final CompletableFuture<List<GetSlaByWarehouseOutput>> allCptByWarehouseLookup = projectionDependencies.fetch(SLAS, () ->
+        getSlaByWarehouseOutboundService.execute(new GetSlaByWarehouseInput(
             input.getLogisticCenterId(),
             input.getSlaFrom(),
             input.getSlaTo(),
             DeliveryPromiseProjectionUtils.getCptDefaultFromBacklog(input.getBacklog()),
             input.getTimeZone()
-        ));
+        )));
 
-    final List<ZonedDateTime> slas = getSlasToBeProjectedFromBacklogAndKnowSlas(input.getBacklog(), allCptByWarehouse);
+    // the cycle times are looked up for the SLAs to be projected, so it is the only lookup that waits for another one
+    final CompletableFuture<Map<ZonedDateTime, Long>> cycleTimeByCptLookup = allCptByWarehouseLookup.thenCompose(
+        allCpts -> projectionDependencies.fetch(CYCLE_TIMES, () -> getCycleTimeService.execute(new GetCycleTimeInput(
+            input.getLogisticCenterId(),
+            getSlasToBeProjectedFromBacklogAndKnowSlas(input.getBacklog(), allCpts)
+        )))
+    );
 
-    final Map<ZonedDateTime, Long> cycleTimeByCpt = getCycleTimeService.execute(new GetCycleTimeInput(input.getLogisticCenterId(), slas));
+    final var plannedBacklogBySlaLookup = projectionDependencies.fetch(PLANNED_BACKLOG, () -> getIncomingBacklog(input));
+    final var throughputLookup = projectionDependencies.fetch(THROUGHPUT, () -> getThroughput(input));
+    final var maxCapacityLookup = projectionDependencies.fetch(MAX_CAPACITY, () -> getMaxCapacity(input));
 
-    final PlannedBacklogBySla plannedBacklogBySla = getIncomingBacklog(input);
-    final ThroughputByHour throughput = getThroughput(input);
+    final List<GetSlaByWarehouseOutput> allCptByWarehouse = join(allCptByWarehouseLookup);
+    final Map<ZonedDateTime, Long> cycleTimeByCpt = join(cycleTimeByCptLookup);
+    final PlannedBacklogBySla plannedBacklogBySla = join(plannedBacklogBySlaLookup);
+    final ThroughputByHour throughput = join(throughputLookup);
+    final Map<ZonedDateTime, Integer> maxCapacity = join(maxCapacityLookup);
 
     final var start = System.nanoTime();
     final var result =
-        getDeferralProjectionsByLoopingOverPossibleBacklogStates(input, allCptByWarehouse, cycleTimeByCpt, plannedBacklogBySla, throughput);
+        getDeferralProjectionsByLoopingOverPossibleBacklogStates(
+            input, allCptByWarehouse, cycleTimeByCpt, plannedBacklogBySla, throughput, maxCapacity
+        );
     final var end = System.nanoTime();
 
     log.info("total time spent on deferral projection: {}", TimeUnit.NANOSECONDS.toMillis(end - start));
@@ -107,20 +153,14 @@ public class GetDeferralProjectionUseCase {
 
   private List<DeliveryPromiseProjectionOutput> getDeferredSlas(final ZonedDateTime currentUtcDate,
                                                                 final List<Backlog> backlogs,
+                                                                final IncrementalCptProjection cptProjection,
                                                                 final List<GetSlaByWarehouseOutput> allCptByWarehouse,
-                                                                final Map<ZonedDateTime, Long> cycleTimeByCpt,
-                                                                final Map<ZonedDateTime, Integer> maxCapacity) {
-
-    final var modifiableMaxCaps = new HashMap<>(maxCapacity);
-    final var dateFrom = currentUtcDate.truncatedTo(ChronoUnit.HOURS);
-    final var dateTo = dateFrom.plusDays(DEFERRAL_DAYS_TO_PROJECT);
+                                                                final Map<ZonedDateTime, Long> cycleTimeByCpt) {
 
     final List<DeliveryPromiseProjectionOutput> projections = DeliveryPromiseCalculator.calculate(
-        dateFrom,
-        dateTo,
+        cptProjection,
         currentUtcDate,
         backlogs,
-        modifiableMaxCaps,
         allCptByWarehouse,
         cycleTimeByCpt
     );
@@ -181,44 +221,78 @@ public class GetDeferralProjectionUseCase {
     return new PlannedBacklogBySla(filteredPlannedUnits);
   }
 
+  /**
+   * Backlog states at each projection date but the last one, starting with the current backlog.
+   *
+   * <p>Each state is projected from the previous one with the whole planned backlog, whether its SLAs end up deferred or not, so the
+   * states do not depend on the deferrals and can be calculated before them.
+   */
+  private List<List<Backlog>> getBacklogStates(final List<Backlog> currentBacklog,
+                                               final PlannedBacklogBySla plannedBacklogBySla,
+                                               final ThroughputByHour tph,
+                                               final List<Instant> projectionDates) {
+
+    final var helper = new BacklogBySlaHelper();
+    final List<List<Backlog>> states = new ArrayList<>(projectionDates.size());
+
+    List<Backlog> backlogs = currentBacklog;
+    for (int sampleIndex = 0; sampleIndex < projectionDates.size() - 1; sampleIndex++) {
+      states.add(backlogs);
+      backlogs = createNextState(
+          backlogs,
+          plannedBacklogBySla,
+          tph,
+          List.of(projectionDates.get(sampleIndex), projectionDates.get(sampleIndex + 1)),
+          helper
+      );
+    }
+    return states;
+  }
+
+  /**
+   * Calculates the deferrals in two phases. First the backlog state of each projection date is projected, sequentially, as each state
+   * depends on the previous one. Then the deferred SLAs of every projection date, which only depend on its backlog state, are
+   * calculated in parallel, and finally they are folded in order to keep the first date in which each SLA is deferred.
+   */
   @Trace
   private List<DeferralProjectionOutput> getDeferralProjectionsByLoopingOverPossibleBacklogStates(
       final GetDeferralProjectionInput input,
       final List<GetSlaByWarehouseOutput> allCptByWarehouse,
       final Map<ZonedDateTime, Long> cycleTimeByCpt,
       final PlannedBacklogBySla plannedBacklogBySla,
-      final ThroughputByHour tph) {
+      final ThroughputByHour tph,
+      final Map<ZonedDateTime, Integer> maxCapacity) {
 
-    final Map<ZonedDateTime, DeferralProjectionOutput> results = new HashMap<>();
-    final var helper = new BacklogBySlaHelper();
-
-    final var maxCapacity = getMaxCapacity(input);
     final var projectionDates = getInflectionPoints(input);
 
-    List<Backlog> backlogs = input.getBacklog();
-    PlannedBacklogBySla plannedBacklog = plannedBacklogBySla;
-    for (int sampleIndex = 0; sampleIndex < projectionDates.size() - 1; sampleIndex++) {
-      final var projectionDate = projectionDates.get(sampleIndex);
+    final List<List<Backlog>> backlogStates = getBacklogStates(input.getBacklog(), plannedBacklogBySla, tph, projectionDates);
 
-      final List<DeliveryPromiseProjectionOutput> deferredSlas = getDeferredSlas(
-          ZonedDateTime.ofInstant(projectionDate, ZoneOffset.UTC),
-          backlogs,
-          allCptByWarehouse,
-          cycleTimeByCpt,
-          maxCapacity
+    // the samples within the same hour share the horizon of their projections
+    final Map<ZonedDateTime, IncrementalCptProjection> cptProjectionByHour = new HashMap<>();
+    final List<ForkJoinTask<List<DeliveryPromiseProjectionOutput>>> deferredSlasBySample = new ArrayList<>(backlogStates.size());
+    for (int sampleIndex = 0; sampleIndex < backlogStates.size(); sampleIndex++) {
+      final var currentUtcDate = ZonedDateTime.ofInstant(projectionDates.get(sampleIndex), ZoneOffset.UTC);
+      final var cptProjection = cptProjectionByHour.computeIfAbsent(
+          currentUtcDate.truncatedTo(ChronoUnit.HOURS),
+          dateFrom -> IncrementalCptProjection.of(dateFrom, dateFrom.plusDays(DEFERRAL_DAYS_TO_PROJECT), maxCapacity, allCptByWarehouse)
       );
+      final var backlogs = backlogStates.get(sampleIndex);
+
+      deferredSlasBySample.add(deferralPool.submit(
+          () -> getDeferredSlas(currentUtcDate, backlogs, cptProjection, allCptByWarehouse, cycleTimeByCpt)
+      ));
+    }
+
+    final Map<ZonedDateTime, DeferralProjectionOutput> results = new HashMap<>();
+    PlannedBacklogBySla plannedBacklog = plannedBacklogBySla;
+    for (int sampleIndex = 0; sampleIndex < deferredSlasBySample.size(); sampleIndex++) {
+      final var projectionDate = projectionDates.get(sampleIndex);
+      final List<DeliveryPromiseProjectionOutput> deferredSlas = deferredSlasBySample.get(sampleIndex).join();
 
       calculateNewlyDeferredSlasProjectionResults(projectionDate, deferredSlas, plannedBacklog, results)
           .forEach(output -> results.put(ZonedDateTime.ofInstant(output.getSla(), ZoneOffset.UTC), output));
 
       plannedBacklog = removeDeferredSlas(plannedBacklog, deferredSlas);
-      backlogs = createNextState(
-          backlogs,
-          plannedBacklogBySla,
-          tph,
-          List.of(projectionDate, projectionDates.get(sampleIndex + 1)),
-          helper
-      );
     }
 
     return new ArrayList<>(results.values());
@@ -2,6 +2,8 @@ package com.mercadolibre.planning.model.api.domain.usecase.projection.capacity;
 
 import static com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.DeliveryPromiseProjectionUtils.getSlasToBeProjectedFromBacklogAndKnowSlas;
 import static com.mercadolibre.planning.model.api.util.DateUtils.getCurrentUtcDate;
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static java.util.Collections.emptyList;
 
 import com.mercadolibre.planning.model.api.domain.entity.sla.GetSlaByWarehouseInput;
 import com.mercadolibre.planning.model.api.domain.entity.sla.GetSlaByWarehouseOutput;
@@ -9,7 +11,10 @@ import com.mercadolibre.planning.model.api.domain.usecase.cycletime.get.GetCycle
 import com.mercadolibre.planning.model.api.domain.usecase.cycletime.get.GetCycleTimeService;
 import com.mercadolibre.planning.model.api.domain.usecase.entities.maxcapacity.get.MaxCapacityInput;
 import com.mercadolibre.planning.model.api.domain.usecase.entities.maxcapacity.get.MaxCapacityService;
+import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CptCalculationOutput;
+import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CptProjectionCache;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.DeliveryPromiseProjectionOutput;
+import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.SlaProjectionInput;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.input.GetDeliveryPromiseProjectionInput;
 import com.mercadolibre.planning.model.api.domain.usecase.sla.GetSlaByWarehouseOutboundService;
 import java.time.ZonedDateTime;
@@ -31,6 +36,8 @@ public class GetDeliveryPromiseProjectionUseCase {
 
   private final GetSlaByWarehouseOutboundService getSlaByWarehouseOutboundService;
 
+  private final CptProjectionCache cptProjectionCache;
+
   public List<DeliveryPromiseProjectionOutput> execute(final GetDeliveryPromiseProjectionInput input) {
 
     final List<GetSlaByWarehouseOutput> allCptByWarehouse = getSlaByWarehouseOutboundService.execute(
@@ -46,15 +53,22 @@ public class GetDeliveryPromiseProjectionUseCase {
 
     final Map<ZonedDateTime, Long> cycleTimeByCpt = getCycleTimeService.execute(new GetCycleTimeInput(input.getWarehouseId(), slas));
 
-    return DeliveryPromiseCalculator.calculate(
-        input.getDateFrom(),
-        input.getDateTo(),
-        getCurrentUtcDate(),
-        input.getBacklog(),
-        getMaxCapacity(input),
-        allCptByWarehouse,
-        cycleTimeByCpt
-    );
+    // the cached projection is calculated at the minute, so the promise is calculated at the same date as its projection
+    final ZonedDateTime currentDate = getCurrentUtcDate().truncatedTo(MINUTES);
+
+    final List<CptCalculationOutput> cptProjection = cptProjectionCache.calculate(SlaProjectionInput.builder()
+        .workflow(input.getWorkflow())
+        .logisticCenterId(input.getWarehouseId())
+        .capacity(getMaxCapacity(input))
+        .backlog(input.getBacklog())
+        .dateFrom(input.getDateFrom())
+        .dateTo(input.getDateTo())
+        .plannedUnits(emptyList())
+        .slaByWarehouse(allCptByWarehouse)
+        .currentDate(currentDate)
+        .build());
+
+    return DeliveryPromiseCalculator.calculate(cptProjection, currentDate, allCptByWarehouse, cycleTimeByCpt);
   }
 
   private Map<ZonedDateTime, Integer> getMaxCapacity(final GetDeliveryPromiseProjectionInput input) {
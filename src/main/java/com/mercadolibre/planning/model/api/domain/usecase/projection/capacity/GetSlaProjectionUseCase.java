@@ -1,6 +1,11 @@
 package com.mercadolibre.planning.model.api.domain.usecase.projection.capacity;
 
 import static com.mercadolibre.planning.model.api.domain.usecase.capacity.CapacityInput.fromEntityOutputs;
+import static com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.ProjectionDependencies.join;
+import static com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.ProjectionDependency.CYCLE_TIMES;
+import static com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.ProjectionDependency.PLANNED_BACKLOG;
+import static com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.ProjectionDependency.SLAS;
+import static com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.ProjectionDependency.THROUGHPUT;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.stream.Collectors.toList;
@@ -21,8 +26,8 @@ import com.mercadolibre.planning.model.api.domain.usecase.entities.EntityOutput;
 import com.mercadolibre.planning.model.api.domain.usecase.entities.GetEntityInput;
 import com.mercadolibre.planning.model.api.domain.usecase.entities.throughput.get.GetThroughputUseCase;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.Backlog;
-import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CalculateCptProjectionUseCase;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CptCalculationOutput;
+import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CptProjectionCache;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CptProjectionOutput;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.SlaProjectionInput;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.input.GetSlaProjectionInput;
@@ -34,6 +39,7 @@ import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -56,12 +62,17 @@ public class GetSlaProjectionUseCase {
 
   private final GetCycleTimeService getCycleTimeService;
 
+  private final CptProjectionCache cptProjectionCache;
+
+  private final ProjectionDependencies projectionDependencies;
+
   /**
    * Calculates the SLAs projections for a Logistic Center and Workflow.
    *
    * <p>
    * This method does not calculate the projections but
    * retrieves and maps the necessary inputs to invoke the projection calculation service.
+   * The independent inputs are retrieved concurrently, see {@link ProjectionDependencies}.
    * Also, enriches the response with SLAs' processing times.
    * </p>
    *
@@ -84,45 +95,43 @@ public class GetSlaProjectionUseCase {
     final String timeZone = request.getTimeZone();
 
 
-    final List<EntityOutput> throughput = getThroughputUseCase.execute(GetEntityInput
-        .builder()
-        .warehouseId(warehouseId)
-        .workflow(workflow)
-        .dateFrom(dateFrom)
-        .dateTo(dateTo)
-        .processName(request.getProcessName())
-        .simulations(request.getSimulations())
-        .source(request.getSource())
-        .build());
-
-    final Map<ZonedDateTime, Integer> capacity = getCapacityPerHourService
-        .execute(workflow, fromEntityOutputs(throughput))
-        .stream()
-        .collect(toMap(
-            CapacityOutput::getDate,
-            capacityOutput -> (int) capacityOutput.getValue()
+    final CompletableFuture<Map<ZonedDateTime, Integer>> capacityLookup = projectionDependencies.fetch(THROUGHPUT, () ->
+        getCapacity(getThroughputUseCase.execute(GetEntityInput
+            .builder()
+            .warehouseId(warehouseId)
+            .workflow(workflow)
+            .dateFrom(dateFrom)
+            .dateTo(dateTo)
+            .processName(request.getProcessName())
+            .simulations(request.getSimulations())
+            .source(request.getSource())
+            .build()), workflow));
+
+    final CompletableFuture<List<PlannedUnits>> expectedBacklogLookup = projectionDependencies.fetch(PLANNED_BACKLOG, () ->
+        plannedBacklogService.getExpectedBacklog(
+            request.getWarehouseId(),
+            workflow,
+            request.getDateFrom(),
+            request.getDateTo(),
+            request.getViewDate(),
+            request.isApplyDeviation()
         ));
 
-    final List<PlannedUnits> expectedBacklog = plannedBacklogService.getExpectedBacklog(
-        request.getWarehouseId(),
-        workflow,
-        request.getDateFrom(),
-        request.getDateTo(),
-        request.getViewDate(),
-        request.isApplyDeviation()
-    );
-
-    final List<GetSlaByWarehouseOutput> slaByWarehouse = slaByWarehouseAndWorkflow(
+    final CompletableFuture<List<GetSlaByWarehouseOutput>> slaByWarehouseLookup = slaByWarehouseAndWorkflow(
         workflow,
         warehouseId,
         dateFrom,
         dateTo,
         request.getBacklog(),
-        expectedBacklog,
+        expectedBacklogLookup,
         timeZone);
 
+    final Map<ZonedDateTime, Integer> capacity = join(capacityLookup);
+    final List<PlannedUnits> expectedBacklog = join(expectedBacklogLookup);
+    final List<GetSlaByWarehouseOutput> slaByWarehouse = join(slaByWarehouseLookup);
+
     final List<CptCalculationOutput> cptProjectionOutputs =
-        CalculateCptProjectionUseCase.execute(SlaProjectionInput.builder()
+        cptProjectionCache.calculate(SlaProjectionInput.builder()
             .workflow(workflow)
             .logisticCenterId(warehouseId)
             .dateFrom(dateFrom)
@@ -152,6 +161,16 @@ public class GetSlaProjectionUseCase {
         ).collect(toList());
   }
 
+  private Map<ZonedDateTime, Integer> getCapacity(final List<EntityOutput> throughput, final Workflow workflow) {
+    return getCapacityPerHourService
+        .execute(workflow, fromEntityOutputs(throughput))
+        .stream()
+        .collect(toMap(
+            CapacityOutput::getDate,
+            capacityOutput -> (int) capacityOutput.getValue()
+        ));
+  }
+
   private List<Backlog> getBacklog(final List<QuantityByDate> backlogs) {
     return backlogs == null
         ? emptyList()
@@ -174,13 +193,17 @@ public class GetSlaProjectionUseCase {
         .collect(toList());
   }
 
-  private List<GetSlaByWarehouseOutput> slaByWarehouseAndWorkflow(
+  /**
+   * Looks up the SLAs of the workflow. The outbound SLAs are looked up at once, while the inbound ones wait for the expected backlog, as
+   * its SLAs are defaults of the lookup.
+   */
+  private CompletableFuture<List<GetSlaByWarehouseOutput>> slaByWarehouseAndWorkflow(
       final Workflow workflow,
       final String warehouseId,
       final ZonedDateTime dateFrom,
       final ZonedDateTime dateTo,
       final List<QuantityByDate> backlog,
-      final List<PlannedUnits> plannedUnits,
+      final CompletableFuture<List<PlannedUnits>> plannedUnitsLookup,
       final String timeZone) {
 
     if (workflow == Workflow.FBM_WMS_OUTBOUND) {
@@ -188,29 +211,31 @@ public class GetSlaProjectionUseCase {
           warehouseId, dateFrom, dateTo, getCptDefaultFromBacklog(backlog), timeZone
       );
 
-      return getSlaByWarehouseOutboundService.execute(getSlaByWarehouseInput);
+      return projectionDependencies.fetch(SLAS, () -> getSlaByWarehouseOutboundService.execute(getSlaByWarehouseInput));
     } else if (workflow == Workflow.FBM_WMS_INBOUND) {
-      final List<ZonedDateTime> defaults = Stream.concat(
-              getCptDefaultFromBacklog(backlog).stream(),
-              getDefaultSlasFromExpectedUnits(plannedUnits).stream()
-          )
-          .distinct()
-          .collect(toList());
+      return plannedUnitsLookup.thenCompose(plannedUnits -> {
+        final List<ZonedDateTime> defaults = Stream.concat(
+                getCptDefaultFromBacklog(backlog).stream(),
+                getDefaultSlasFromExpectedUnits(plannedUnits).stream()
+            )
+            .distinct()
+            .collect(toList());
 
-      final GetSlaByWarehouseInput getSlaByWarehouseInput = new GetSlaByWarehouseInput(
-          warehouseId, dateFrom, dateTo, defaults, timeZone
-      );
+        final GetSlaByWarehouseInput getSlaByWarehouseInput = new GetSlaByWarehouseInput(
+            warehouseId, dateFrom, dateTo, defaults, timeZone
+        );
 
-      return getSlaByWarehouseInboundService.execute(getSlaByWarehouseInput);
+        return projectionDependencies.fetch(SLAS, () -> getSlaByWarehouseInboundService.execute(getSlaByWarehouseInput));
+      });
     }
-    return emptyList();
+    return CompletableFuture.completedFuture(emptyList());
   }
 
   private Map<ZonedDateTime, Long> getCycleTimes(final String warehouseId,
                                                           final Workflow workflow,
                                                           final List<ZonedDateTime> dates) {
     if (workflow == Workflow.FBM_WMS_OUTBOUND) {
-      return getCycleTimeService.execute(new GetCycleTimeInput(warehouseId, dates));
+      return join(projectionDependencies.fetch(CYCLE_TIMES, () -> getCycleTimeService.execute(new GetCycleTimeInput(warehouseId, dates))));
     }
 
     return emptyMap();
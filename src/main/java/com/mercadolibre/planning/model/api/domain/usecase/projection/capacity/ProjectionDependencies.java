@@ -0,0 +1,141 @@
+package com.mercadolibre.planning.model.api.domain.usecase.projection.capacity;
+
+import static com.mercadolibre.planning.model.api.domain.usecase.projection.ExecutionMetrics.PROJECTION_DEPENDENCY_LATENCY;
+import static com.mercadolibre.planning.model.api.domain.usecase.projection.ExecutionMetrics.PROJECTION_DEPENDENCY_TIMEOUTS;
+import static com.mercadolibre.planning.model.api.domain.usecase.projection.ExecutionMetrics.tag;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.mercadolibre.planning.model.api.exception.ProjectionDependencyTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fan-out stage of the lookups of a projection.
+ *
+ * <p>Most of the lookups a projection depends on are independent of each other, so they are started at once on the I/O executor, which
+ * propagates the request context, and the projection waits for all of them, which takes as long as the slowest one instead of the sum
+ * of them. Each lookup fails with a {@link ProjectionDependencyTimeoutException} if it is not done within the timeout of its
+ * dependency, counted from the moment a thread of the I/O executor starts running it, and then it is interrupted, so the lookups of the
+ * projections that timed out do not keep the threads of the I/O executor busy. The time a lookup spends queued while every thread is
+ * busy does not count against its timeout, so a saturated executor delays the projections instead of failing them.
+ */
+@Component
+public class ProjectionDependencies {
+
+  private static final String DEPENDENCY_TAG = "dependency";
+
+  private final Executor executor;
+
+  public ProjectionDependencies(@Qualifier("meliContextAwareIoExecutorService") final Executor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Waits for a lookup started with {@link #fetch(ProjectionDependency, Supplier)}.
+   *
+   * @param future lookup.
+   * @param <T>    type of the looked up value.
+   * @return looked up value.
+   * @throws ProjectionDependencyTimeoutException if the lookup timed out.
+   */
+  public static <T> T join(final CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private static <T> T timed(final ProjectionDependency dependency, final Supplier<T> lookup) {
+    final long start = System.nanoTime();
+    try {
+      return lookup.get();
+    } finally {
+      PROJECTION_DEPENDENCY_LATENCY.count(NANOSECONDS.toMillis(System.nanoTime() - start), tag(DEPENDENCY_TAG, dependency.getTag()));
+    }
+  }
+
+  private static RuntimeException translate(final ProjectionDependency dependency, final Duration timeout, final Throwable error) {
+    final Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    if (cause instanceof TimeoutException) {
+      PROJECTION_DEPENDENCY_TIMEOUTS.increment(tag(DEPENDENCY_TAG, dependency.getTag()));
+      return new ProjectionDependencyTimeoutException(dependency.getTag(), timeout);
+    }
+    return cause instanceof RuntimeException ? (RuntimeException) cause : new CompletionException(cause);
+  }
+
+  /**
+   * Starts a lookup on the I/O executor, recording its latency.
+   *
+   * @param dependency looked up dependency.
+   * @param lookup     lookup of the dependency.
+   * @param <T>        type of the looked up value.
+   * @return lookup, that fails if it is not done within the timeout of the dependency once it is running.
+   */
+  public <T> CompletableFuture<T> fetch(final ProjectionDependency dependency, final Supplier<T> lookup) {
+    return fetch(dependency, dependency.getTimeout(), lookup);
+  }
+
+  <T> CompletableFuture<T> fetch(final ProjectionDependency dependency, final Duration timeout, final Supplier<T> lookup) {
+    final CompletableFuture<T> result = new CompletableFuture<>();
+    final FutureTask<T> task = new LookupTask<>(() -> timed(dependency, lookup), result, timeout);
+    executor.execute(task);
+
+    return result.whenComplete((value, error) -> task.cancel(true))
+        .exceptionally(error -> {
+          throw translate(dependency, timeout, error);
+        });
+  }
+
+  /**
+   * Lookup that completes its result when it is done, and whose result times out once the lookup has been running for its timeout, so
+   * that it can be cancelled then.
+   */
+  private static final class LookupTask<T> extends FutureTask<T> {
+
+    private final CompletableFuture<T> result;
+
+    private final Duration timeout;
+
+    LookupTask(final Supplier<T> lookup, final CompletableFuture<T> result, final Duration timeout) {
+      super(lookup::get);
+      this.result = result;
+      this.timeout = timeout;
+    }
+
+    @Override
+    public void run() {
+      result.orTimeout(timeout.toMillis(), MILLISECONDS);
+      super.run();
+    }
+
+    @Override
+    protected void done() {
+      if (isCancelled()) {
+        return;
+      }
+
+      try {
+        result.complete(get());
+      } catch (ExecutionException e) {
+        result.completeExceptionally(e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        result.completeExceptionally(e);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,25 @@
+package com.mercadolibre.planning.model.api.domain.usecase.projection.capacity;
+
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Lookups the SLA and deferral projections depend on, with the maximum time the projections wait for each of them.
+ *
+ * <p>The timeouts of the HTTP lookups cover the retries of their rest clients, so they only cut lookups the clients would not give up
+ * on by themselves.
+ */
+@Getter
+@AllArgsConstructor
+public enum ProjectionDependency {
+  SLAS("slas", Duration.ofSeconds(15)),
+  CYCLE_TIMES("cycle_times", Duration.ofSeconds(5)),
+  PLANNED_BACKLOG("planned_backlog", Duration.ofSeconds(10)),
+  THROUGHPUT("throughput", Duration.ofSeconds(10)),
+  MAX_CAPACITY("max_capacity", Duration.ofSeconds(5));
+
+  private final String tag;
+
+  private final Duration timeout;
+}
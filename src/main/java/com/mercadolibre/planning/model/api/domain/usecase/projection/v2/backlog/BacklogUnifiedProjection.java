@@ -9,15 +9,21 @@ import com.mercadolibre.flow.projection.tools.services.entities.orderedbacklogby
 import com.mercadolibre.flow.projection.tools.services.entities.process.Processor;
 import com.mercadolibre.flow.projection.tools.services.entities.process.SimpleProcess;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
+import com.mercadolibre.planning.model.api.projection.InflectionPointsMode;
+import com.mercadolibre.planning.model.api.projection.InflectionPointsPlanner;
 import com.mercadolibre.planning.model.api.projection.backlogmanager.OrderedBacklogByProcessPath;
 import com.mercadolibre.planning.model.api.projection.dto.request.total.BacklogProjectionTotalRequest;
+import com.mercadolibre.planning.model.api.projection.dto.request.total.Quantity;
+import com.mercadolibre.planning.model.api.projection.dto.request.total.Throughput;
 import com.mercadolibre.planning.model.api.util.DateUtils;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import lombok.Value;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -28,8 +34,26 @@ public class BacklogUnifiedProjection {
   public Map<Instant, Map<Instant, Map<ProcessPath, Long>>> getProjection(
       final BacklogProjectionTotalRequest backlog,
       final int intervalSizeInMinutes) {
+    return getProjection(backlog, intervalSizeInMinutes, InflectionPointsMode.FIXED_WINDOW);
+  }
+
+  /**
+   * Projects the backlog by process path and date out at every hour.
+   *
+   * @param backlog               current backlog, planned units and throughput.
+   * @param intervalSizeInMinutes size of the inflection windows with {@link InflectionPointsMode#FIXED_WINDOW}, and maximum step
+   *                              with {@link InflectionPointsMode#EVENT_DRIVEN}.
+   * @param mode                  how the inflection points are generated.
+   * @return backlog by date, date out and process path.
+   */
+  public Map<Instant, Map<Instant, Map<ProcessPath, Long>>> getProjection(
+      final BacklogProjectionTotalRequest backlog,
+      final int intervalSizeInMinutes,
+      final InflectionPointsMode mode) {
 
-    final var inflectionPoints = DateUtils.generateInflectionPoints(backlog.getDateFrom(), backlog.getDateTo(), intervalSizeInMinutes);
+    final var inflectionPoints = mode == InflectionPointsMode.FIXED_WINDOW
+        ? DateUtils.generateInflectionPoints(backlog.getDateFrom(), backlog.getDateTo(), intervalSizeInMinutes)
+        : planInflectionPoints(backlog, intervalSizeInMinutes);
 
     final var upstream = toPiecewiseUpstream(backlog.getPlannedUnit());
 
@@ -42,58 +66,53 @@ public class BacklogUnifiedProjection {
     return extractProjectionBacklog(processedContext);
   }
 
-  private Map<Instant, Map<Instant, Map<ProcessPath, Long>>> extractProjectionBacklog(final ContextsHolder processedContext) {
-    final var backlogState = processedContext.getProcessContextByProcessName().values().stream()
-        .map(SimpleProcess.Context.class::cast)
-        .flatMap(process -> process.getUnprocessedBacklog().stream());
+  private static List<Instant> planInflectionPoints(final BacklogProjectionTotalRequest backlog, final int maxStepInMinutes) {
+    final var datesIn = backlog.getPlannedUnit().getProcessPath().stream()
+        .flatMap(processPath -> processPath.getQuantity().stream())
+        .map(Quantity::getDateIn)
+        .collect(Collectors.toSet());
+
+    final var throughput = backlog.getThroughput().stream()
+        .collect(Collectors.toMap(Throughput::getDate, Throughput::getQuantity));
+
+    return InflectionPointsPlanner.between(backlog.getDateFrom(), backlog.getDateTo())
+        .throughput(throughput)
+        .upstream(datesIn)
+        .at(DateUtils.instantRange(backlog.getDateFrom(), backlog.getDateTo(), ChronoUnit.HOURS).toList())
+        .maxStep(Duration.ofMinutes(maxStepInMinutes))
+        .plan();
+  }
 
-    final var backlogNoProcessed = toBacklogByDateProcessPathAndDateOut(backlogState);
+  /**
+   * Extracts the backlog by date out and process path of the states that end on the hour.
+   *
+   * <p>The states of the other inflection points are skipped before reading their backlogs, and the quantities of the remaining ones
+   * are accumulated in a single pass into the result.
+   */
+  private static Map<Instant, Map<Instant, Map<ProcessPath, Long>>> extractProjectionBacklog(final ContextsHolder processedContext) {
+    final Map<Instant, Map<Instant, Map<ProcessPath, Long>>> backlogByDate = new HashMap<>();
 
-    final var backlogProcessed = toBacklogByDateAndDateOutAndProcessPath(backlogNoProcessed);
+    processedContext.getProcessContextByProcessName().values().stream()
+        .map(SimpleProcess.Context.class::cast)
+        .flatMap(process -> process.getUnprocessedBacklog().stream())
+        .filter(state -> DateUtils.isOnTheHour(state.getEndDate()))
+        .forEach(state -> accumulate(backlogByDate, state));
 
-    return backlogProcessed.entrySet().stream()
-        .filter(value -> DateUtils.isOnTheHour(value.getKey()))
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    return backlogByDate;
   }
 
-  private Map<Instant, Map<ProcessPath, Map<Instant, Long>>> toBacklogByDateProcessPathAndDateOut(
-      final Stream<UnprocessedBacklogState> unprocessedBacklogStateStream) {
-
-    return unprocessedBacklogStateStream.collect(Collectors.toMap(UnprocessedBacklogState::getEndDate,
-            backlogState -> ((OrderedBacklogByProcessPath) backlogState.getBacklog()).getBacklogs()
-                .entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getKey,
-                    backlogByProcessPath -> ((OrderedBacklogByDate) backlogByProcessPath.getValue())
-                        .getBacklogs().entrySet().stream()
-                        .collect(Collectors.toMap(Map.Entry::getKey, backlogByDateOut -> backlogByDateOut.getValue().total())))
-                )
+  private static void accumulate(
+      final Map<Instant, Map<Instant, Map<ProcessPath, Long>>> backlogByDate,
+      final UnprocessedBacklogState state
+  ) {
+    final var date = state.getEndDate();
+
+    ((OrderedBacklogByProcessPath) state.getBacklog()).forEach((processPath, backlog) ->
+        ((OrderedBacklogByDate) backlog).getBacklogs().forEach((dateOut, quantity) ->
+            backlogByDate.computeIfAbsent(date, key -> new HashMap<>())
+                .computeIfAbsent(dateOut, key -> new EnumMap<>(ProcessPath.class))
+                .merge(processPath, quantity.total(), Long::sum)
         )
     );
   }
-
-  private Map<Instant, Map<Instant, Map<ProcessPath, Long>>> toBacklogByDateAndDateOutAndProcessPath(
-      Map<Instant, Map<ProcessPath, Map<Instant, Long>>> backlogNoProcessed) {
-
-    return backlogNoProcessed.entrySet().stream()
-        .flatMap(backlogByDate -> backlogByDate.getValue().entrySet().stream()
-            .flatMap(backlogByProcessPath -> backlogByProcessPath.getValue().entrySet().stream()
-                .map(backlogByDateOut -> new Projection(
-                    backlogByDate.getKey(),
-                    backlogByProcessPath.getKey(),
-                    backlogByDateOut.getKey(),
-                    backlogByDateOut.getValue()))))
-        .collect(
-            Collectors.groupingBy(Projection::getDate,
-                Collectors.groupingBy(Projection::getDateOut,
-                    Collectors.groupingBy(Projection::getProcessPath, Collectors.summingLong(Projection::getQuantity)))));
-  }
-
-
-  @Value
-  private static class Projection {
-    Instant date;
-    ProcessPath processPath;
-    Instant dateOut;
-    long quantity;
-  }
 }
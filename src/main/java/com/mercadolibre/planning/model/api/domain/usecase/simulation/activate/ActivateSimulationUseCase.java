@@ -18,6 +18,7 @@ import com.mercadolibre.planning.model.api.domain.entity.current.CurrentProcessi
 import com.mercadolibre.planning.model.api.domain.service.headcount.ProcessPathHeadcountShareService;
 import com.mercadolibre.planning.model.api.domain.usecase.UseCase;
 import com.mercadolibre.planning.model.api.domain.usecase.forecast.update.UpdateStaffingPlanUseCase;
+import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CptProjectionCache;
 import com.mercadolibre.planning.model.api.web.controller.projection.request.QuantityByDate;
 import com.mercadolibre.planning.model.api.web.controller.simulation.Simulation;
 import java.time.Instant;
@@ -43,11 +44,15 @@ public class ActivateSimulationUseCase implements UseCase<SimulationInput, List<
 
   private final ProcessPathHeadcountShareService processPathHeadcountShareService;
 
+  private final CptProjectionCache cptProjectionCache;
+
   @Override
   @Deprecated
   public List<SimulationOutput> execute(final SimulationInput input) {
     deactivateOldSimulations(input);
-    return createSimulation(input);
+    final List<SimulationOutput> simulations = createSimulation(input);
+    cptProjectionCache.invalidate(input.getWarehouseId());
+    return simulations;
   }
 
   private void deactivateOldSimulations(final SimulationInput input) {
@@ -1,6 +1,7 @@
 package com.mercadolibre.planning.model.api.domain.usecase.simulation.deactivate;
 
 import com.mercadolibre.planning.model.api.client.db.repository.current.CurrentProcessingDistributionRepository;
+import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CptProjectionCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -10,6 +11,8 @@ public class DeactivateSimulationService {
 
     private final CurrentProcessingDistributionRepository currentProcessingDistributionRepository;
 
+    private final CptProjectionCache cptProjectionCache;
+
 
     public void deactivateSimulation(final DeactivateSimulationOfWeek deactivateSimulationOfWeek) {
 
@@ -21,6 +24,8 @@ public class DeactivateSimulationService {
                 deactivateSimulationOfWeek.getUserId()
         );
 
+        cptProjectionCache.invalidate(deactivateSimulationOfWeek.getLogisticCenterId());
+
     }
 
 }
@@ -2,6 +2,7 @@ package com.mercadolibre.planning.model.api.exception;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.GATEWAY_TIMEOUT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
 import com.mercadolibre.fbm.wms.outbound.commons.web.response.ErrorResponse;
@@ -67,6 +68,8 @@ public class ApiExceptionHandler {
   private static final String PROCESSING_TIME_EXCEPTION = "processing_time_exception";
   private static final String TAGS_PARSING_EXCEPTION = "tags_parsing_exception";
 
+  private static final String PROJECTION_DEPENDENCY_TIMEOUT = "projection_dependency_timeout";
+
   private static final String INVALID_ARGUMENTS_EXCEPTION = "invalid_arguments";
 
   @ExceptionHandler(BindException.class)
@@ -418,4 +421,20 @@ public class ApiExceptionHandler {
     log.error(exception.getMessage(), exception);
     return new ResponseEntity<>(errorResponse, new HttpHeaders(), errorResponse.getStatus());
   }
+
+  @ExceptionHandler(ProjectionDependencyTimeoutException.class)
+  public ResponseEntity<ErrorResponse> handleProjectionDependencyTimeoutException(
+      final ProjectionDependencyTimeoutException exception,
+      final HttpServletRequest request
+  ) {
+    final ErrorResponse errorResponse = new ErrorResponse(
+        GATEWAY_TIMEOUT,
+        exception.getMessage(),
+        PROJECTION_DEPENDENCY_TIMEOUT
+    );
+
+    request.setAttribute(EXCEPTION_ATTRIBUTE, exception);
+    log.error(exception.getMessage(), exception);
+    return new ResponseEntity<>(errorResponse, new HttpHeaders(), errorResponse.getStatus());
+  }
 }
@@ -0,0 +1,14 @@
+package com.mercadolibre.planning.model.api.exception;
+
+import java.time.Duration;
+
+public class ProjectionDependencyTimeoutException extends RuntimeException {
+
+  private static final String MESSAGE_PATTERN = "The projection timed out after %s ms waiting for its %s dependency";
+
+  private static final long serialVersionUID = 1L;
+
+  public ProjectionDependencyTimeoutException(final String dependency, final Duration timeout) {
+    super(String.format(MESSAGE_PATTERN, timeout.toMillis(), dependency));
+  }
+}
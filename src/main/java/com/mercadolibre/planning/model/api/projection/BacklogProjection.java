@@ -26,11 +26,9 @@ import com.mercadolibre.flow.projection.tools.services.entities.orderedbacklogby
 import com.mercadolibre.flow.projection.tools.services.entities.process.ParallelProcess;
 import com.mercadolibre.flow.projection.tools.services.entities.process.ParallelProcess.Context.Assistant;
 import com.mercadolibre.flow.projection.tools.services.entities.process.Processor;
-import com.mercadolibre.flow.projection.tools.services.entities.process.SequentialProcess;
 import com.mercadolibre.flow.projection.tools.services.entities.process.SimpleProcess;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
-import com.mercadolibre.planning.model.api.domain.entity.Workflow;
 import com.mercadolibre.planning.model.api.projection.backlogmanager.DistributionBasedConsumer;
 import com.mercadolibre.planning.model.api.projection.backlogmanager.OrderedBacklogByProcessPath;
 import com.mercadolibre.planning.model.api.projection.backlogmanager.ProcessPathMerger;
@@ -74,7 +72,7 @@ public final class BacklogProjection {
       BACKLOG_BY_DATE_MERGER
   );
 
-  private static final Set<ProcessName> PROCESSES = Set.of(PICKING, PACKING, BATCH_SORTER, WALL_IN, PACKING_WALL);
+  public static final Set<ProcessName> PROCESSES = Set.of(PICKING, PACKING, BATCH_SORTER, WALL_IN, PACKING_WALL);
 
   private BacklogProjection() {
   }
@@ -116,6 +114,39 @@ public final class BacklogProjection {
         .oneProcessContext(PACKING_PROCESS_GROUP, new ParallelProcess.Context(ASSISTANT));
   }
 
+  /**
+   * Builds a context holder whose initial backlogs are the given ones, as if a projection was resumed from a previous state.
+   *
+   * <p>Picking's backlog must be an {@link OrderedBacklogByProcessPath} and the rest of the processes' backlogs must be
+   * {@link OrderedBacklogByDate}, as the ones returned by {@link #projectStates}.
+   *
+   * @param backlogs   backlog of each process at the date from which the projection will be resumed.
+   * @param throughput available processing power of each process.
+   * @return unconsumed context holder.
+   */
+  public static ContextsHolder buildContextsFromBacklogs(
+      final Map<ProcessName, Backlog> backlogs,
+      final Map<ProcessName, Map<Instant, Integer>> throughput
+  ) {
+    final ContextsHolder.ContextsHolderBuilder builder = ContextsHolder.builder()
+        .oneProcessContext(PICKING.getName(), new SimpleProcess.Context(
+            new ThroughputPerHour(throughput.getOrDefault(PICKING, emptyMap())),
+            BACKLOG_BY_PROCESS_PATH_HELPER,
+            backlogs.get(PICKING)
+        ));
+
+    PROCESSES.stream()
+        .filter(process -> process != PICKING)
+        .forEach(process -> builder.oneProcessContext(process.getName(), new SimpleProcess.Context(
+            new ThroughputPerHour(throughput.getOrDefault(process, emptyMap())),
+            BACKLOG_BY_DATE_HELPER,
+            backlogs.getOrDefault(process, OrderedBacklogByDate.emptyBacklog())
+        )));
+
+    return builder.oneProcessContext(PACKING_PROCESS_GROUP, new ParallelProcess.Context(ASSISTANT))
+        .build();
+  }
+
   public static Map<ProcessName, SimpleProcess.Context> buildOrderedBacklogByDateBasedProcessesContexts(
       final Set<ProcessName> processes,
       final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> backlog,
@@ -183,24 +214,7 @@ public final class BacklogProjection {
    * @return graph.
    */
   public static Processor buildGraph() {
-    return SequentialProcess.builder()
-        .name(Workflow.FBM_WMS_OUTBOUND.getName())
-        .process(new SimpleProcess(PICKING.getName()))
-        .process(
-            ParallelProcess.builder()
-                .name(PACKING_PROCESS_GROUP)
-                .processor(new SimpleProcess(PACKING.getName()))
-                .processor(
-                    SequentialProcess.builder()
-                        .name(CONSOLIDATION_PROCESS_GROUP)
-                        .process(new SimpleProcess(BATCH_SORTER.getName()))
-                        .process(new SimpleProcess(WALL_IN.getName()))
-                        .process(new SimpleProcess(PACKING_WALL.getName()))
-                        .build()
-                )
-                .build()
-        )
-        .build();
+    return ProjectionGraphs.OUTBOUND;
   }
 
   /**
@@ -229,6 +243,38 @@ public final class BacklogProjection {
       final Upstream upstream,
       final List<Instant> inflectionPoints,
       final Set<ProcessName> processes
+  ) {
+    final var states = projectStates(graph, holder, upstream, inflectionPoints, processes);
+
+    return states.entrySet()
+        .stream()
+        .collect(
+            toMap(
+                Map.Entry::getKey,
+                entry -> entry.getValue()
+                    .stream()
+                    .collect(toMap(UnprocessedBacklogState::getEndDate, ubs -> ubs.getBacklog().total()))
+            )
+        );
+  }
+
+  /**
+   * Projects the graph and returns the unprocessed backlog states of each process, keeping the backlog representations so that
+   * they can be used to resume the projection with {@link #buildContextsFromBacklogs}.
+   *
+   * @param graph            graph that will be executed.
+   * @param holder           initial contexts of the graph's processes.
+   * @param upstream         backlog that feeds the first process of the graph.
+   * @param inflectionPoints points in time for which the projection will be evaluated.
+   * @param processes        processes whose states are required.
+   * @return unprocessed backlog states by process.
+   */
+  public static Map<ProcessName, List<UnprocessedBacklogState>> projectStates(
+      final Processor graph,
+      final ContextsHolder holder,
+      final Upstream upstream,
+      final List<Instant> inflectionPoints,
+      final Set<ProcessName> processes
   ) {
     final var processedContexts = graph.accept(holder, upstream, inflectionPoints);
 
@@ -242,7 +288,7 @@ public final class BacklogProjection {
                     .map(SimpleProcess.Context.class::cast)
                     .map(SimpleProcess.Context::getUnprocessedBacklog)
                     .flatMap(List::stream)
-                    .collect(toMap(UnprocessedBacklogState::getEndDate, ubs -> ubs.getBacklog().total()))
+                    .collect(Collectors.toList())
             )
         );
   }
@@ -2,7 +2,7 @@ package com.mercadolibre.planning.model.api.projection;
 
 import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PICKING;
 import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.WAVING;
-import static com.mercadolibre.planning.model.api.projection.BacklogProjection.toOrderedBacklogByDate;
+import static java.time.temporal.ChronoUnit.HOURS;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toMap;
 
@@ -14,9 +14,12 @@ import com.mercadolibre.flow.projection.tools.services.entities.process.SimplePr
 import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
 import com.mercadolibre.planning.model.api.projection.backlogmanager.OrderedBacklogByProcessPath;
+import com.mercadolibre.planning.model.api.projection.backlogmanager.SortedBacklogByDate;
 import com.mercadolibre.planning.model.api.projection.builder.Projector;
+import com.mercadolibre.planning.model.api.projection.dto.response.ColumnarBacklogProjectionResponse;
 import com.mercadolibre.planning.model.api.util.DateUtils;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -98,11 +101,19 @@ public final class BacklogProjectionService {
   ) {
     final List<ProcessName> prePackingProcess = List.of(WAVING, PICKING);
 
-    OrderedBacklogByDate byDate = prePackingProcess.contains(process)
-        ? (OrderedBacklogByDate) toOrderedBacklogByDate(((OrderedBacklogByProcessPath) backlog).getBacklogs())
-        : (OrderedBacklogByDate) backlog;
+    if (prePackingProcess.contains(process)) {
+      final Map<Instant, Integer> quantityByDateOut = new HashMap<>();
+      ((OrderedBacklogByProcessPath) backlog).values()
+          .map(SortedBacklogByDate.class::cast)
+          .forEach(processPathBacklog -> {
+            for (int i = 0; i < processPathBacklog.size(); i++) {
+              quantityByDateOut.merge(processPathBacklog.dateAt(i), (int) processPathBacklog.quantityAt(i), Integer::sum);
+            }
+          });
+      return quantityByDateOut;
+    }
 
-    return byDate.getBacklogs().entrySet().stream()
+    return ((OrderedBacklogByDate) backlog).getBacklogs().entrySet().stream()
         .collect(
             toMap(
                 Map.Entry::getKey,
@@ -119,12 +130,76 @@ public final class BacklogProjectionService {
       final Map<ProcessName, Map<Instant, Integer>> throughput,
       final List<ProcessName> processes,
       final Projector projector
+  ) {
+    return execute(
+        executionDateFrom,
+        executionDateTo,
+        currentBacklog,
+        forecastBacklog,
+        throughput,
+        processes,
+        projector,
+        InflectionPointsMode.FIXED_WINDOW
+    );
+  }
+
+  /**
+   * Projects the backlog of each process at every hour of the projection.
+   *
+   * <p>The results are only reported at the exact hours, so with {@link InflectionPointsMode#EVENT_DRIVEN} the projection steps at
+   * each of them.
+   */
+  public static Map<Instant, Map<ProcessName, Map<Instant, Integer>>> execute(
+      final Instant executionDateFrom,
+      final Instant executionDateTo,
+      final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> currentBacklog,
+      final Map<Instant, Map<ProcessPath, Map<Instant, Long>>> forecastBacklog,
+      final Map<ProcessName, Map<Instant, Integer>> throughput,
+      final List<ProcessName> processes,
+      final Projector projector,
+      final InflectionPointsMode mode
   ) {
     final ContextsHolder updatedContext =
-        Projection.execute(executionDateFrom, executionDateTo, currentBacklog, forecastBacklog, throughput, projector);
+        projectHours(executionDateFrom, executionDateTo, currentBacklog, forecastBacklog, throughput, projector, mode);
 
     final var backlogProjection = transformToBacklogProjectionAndFilterNonExactHours(processes, updatedContext);
 
     return groupProjectionMapByOperationHour(backlogProjection);
   }
+
+  /**
+   * Same projection as {@link #execute(Instant, Instant, Map, Map, Map, List, Projector, InflectionPointsMode)} but the backlog of each
+   * process at every hour is encoded in a {@link ColumnarBacklogProjectionResponse} while the processed contexts are read.
+   */
+  public static ColumnarBacklogProjectionResponse executeColumnar(
+      final Instant executionDateFrom,
+      final Instant executionDateTo,
+      final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> currentBacklog,
+      final Map<Instant, Map<ProcessPath, Map<Instant, Long>>> forecastBacklog,
+      final Map<ProcessName, Map<Instant, Integer>> throughput,
+      final List<ProcessName> processes,
+      final Projector projector,
+      final InflectionPointsMode mode
+  ) {
+    final ContextsHolder updatedContext =
+        projectHours(executionDateFrom, executionDateTo, currentBacklog, forecastBacklog, throughput, projector, mode);
+
+    return ColumnarBacklogProjection.encode(processes, updatedContext);
+  }
+
+  private static ContextsHolder projectHours(
+      final Instant executionDateFrom,
+      final Instant executionDateTo,
+      final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> currentBacklog,
+      final Map<Instant, Map<ProcessPath, Map<Instant, Long>>> forecastBacklog,
+      final Map<ProcessName, Map<Instant, Integer>> throughput,
+      final Projector projector,
+      final InflectionPointsMode mode
+  ) {
+    final List<Instant> hours = DateUtils.instantRange(executionDateFrom, executionDateTo, HOURS)
+        .filter(DateUtils::isOnTheHour)
+        .toList();
+
+    return Projection.execute(executionDateFrom, executionDateTo, currentBacklog, forecastBacklog, throughput, projector, mode, hours);
+  }
 }
@@ -0,0 +1,15 @@
+package com.mercadolibre.planning.model.api.projection;
+
+/**
+ * How the branches of the parallel processes of a projection are projected.
+ */
+public enum BranchesMode {
+  /**
+   * One after the other, on the thread running the projection.
+   */
+  SEQUENTIAL,
+  /**
+   * At the same time, each one on a thread of the branches executor, see {@link ConcurrentParallelProcess}.
+   */
+  CONCURRENT
+}
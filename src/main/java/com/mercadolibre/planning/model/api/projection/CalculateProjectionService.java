@@ -22,7 +22,7 @@ import com.mercadolibre.flow.projection.tools.services.entities.orderedbacklogby
 import com.mercadolibre.flow.projection.tools.services.entities.orderedbacklogbydate.helpers.OrderedBacklogByDateMerger;
 import com.mercadolibre.flow.projection.tools.services.entities.orderedbacklogbydate.helpers.OrderedBacklogByDateRatioSplitter;
 import com.mercadolibre.flow.projection.tools.services.entities.process.ParallelProcess;
-import com.mercadolibre.flow.projection.tools.services.entities.process.SequentialProcess;
+import com.mercadolibre.flow.projection.tools.services.entities.process.Processor;
 import com.mercadolibre.flow.projection.tools.services.entities.process.SimpleProcess;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
 import com.mercadolibre.planning.model.api.domain.entity.Workflow;
@@ -31,6 +31,7 @@ import com.mercadolibre.planning.model.api.projection.dto.ProjectionRequest;
 import com.mercadolibre.planning.model.api.projection.dto.ProjectionResult;
 import com.mercadolibre.planning.model.api.util.DateUtils;
 import java.time.Instant;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -67,18 +68,35 @@ public class CalculateProjectionService {
    * @return projections
    */
   public List<ProjectionResult> execute(final Workflow workflow, final ProjectionRequest projectionRequest) {
+    return execute(workflow, projectionRequest, InflectionPointsMode.FIXED_WINDOW);
+  }
 
-    final var inflectionPoints = DateUtils.generateInflectionPoints(
-        projectionRequest.getDateFrom(),
-        projectionRequest.getDateTo(),
-        INFLECTION_WINDOW_SIZE_IN_MINUTES
-    );
+  /**
+   * Calculate projection about params with the given inflection points generation mode.
+   *
+   * @param workflow          workflow
+   * @param projectionRequest request
+   * @param mode              how the inflection points are generated
+   * @return projections
+   */
+  public List<ProjectionResult> execute(
+      final Workflow workflow,
+      final ProjectionRequest projectionRequest,
+      final InflectionPointsMode mode
+  ) {
+    final var inflectionPoints = mode == InflectionPointsMode.FIXED_WINDOW
+        ? DateUtils.generateInflectionPoints(
+            projectionRequest.getDateFrom(),
+            projectionRequest.getDateTo(),
+            INFLECTION_WINDOW_SIZE_IN_MINUTES
+        )
+        : planInflectionPoints(projectionRequest);
 
     final var ratios = ProjectionUtils.ratiosAsDistributions(projectionRequest.getRatioByHour(), inflectionPoints);
 
     final PiecewiseUpstream forecastedBacklog = ProjectionUtils.mapForecastToUpstreamBacklog(projectionRequest.getForecastSales());
 
-    final SequentialProcess globalSequentialProcess = buildProcessGraph(workflow);
+    final Processor globalSequentialProcess = buildProcessGraph(workflow);
     final ContextsHolder context = buildContextsHolder(
         projectionRequest.getBacklogBySlaAndProcess(),
         projectionRequest.getThroughputByProcess(),
@@ -101,27 +119,24 @@ public class CalculateProjectionService {
     return mappingResponseService(dateOuts, projectedEndDateByDateOut, remainingQuantityByDateOut, projectionRequest.getDateFrom());
   }
 
-  private SequentialProcess buildProcessGraph(final Workflow workflow) {
+  private static List<Instant> planInflectionPoints(final ProjectionRequest projectionRequest) {
+    final var datesIn = projectionRequest.getForecastSales().stream()
+        .map(ProjectionRequest.PlanningDistribution::getDateIn)
+        .map(ZonedDateTime::toInstant)
+        .collect(Collectors.toSet());
+
+    final var planner = InflectionPointsPlanner.between(projectionRequest.getDateFrom(), projectionRequest.getDateTo())
+        .upstream(datesIn)
+        .at(projectionRequest.getRatioByHour().keySet())
+        .at(ProjectionUtils.obtainDateOutsFrom(projectionRequest.getBacklogBySlaAndProcess()));
+    projectionRequest.getThroughputByProcess().values().forEach(planner::throughput);
+
+    return planner.plan();
+  }
+
+  private Processor buildProcessGraph(final Workflow workflow) {
     if (workflow == Workflow.FBM_WMS_OUTBOUND) {
-      return SequentialProcess.builder()
-          .name(workflow.getName())
-          .process(new SimpleProcess(WAVING.getName()))
-          .process(new SimpleProcess(PICKING.getName()))
-          .process(
-              ParallelProcess.builder()
-                  .name(PACKING_PROCESS_GROUP)
-                  .processor(new SimpleProcess(PACKING.getName()))
-                  .processor(
-                      SequentialProcess.builder()
-                          .name(CONSOLIDATION_PROCESS_GROUP)
-                          .process(new SimpleProcess(BATCH_SORTER.getName()))
-                          .process(new SimpleProcess(WALL_IN.getName()))
-                          .process(new SimpleProcess(PACKING_WALL.getName()))
-                          .build()
-                  )
-                  .build()
-          )
-          .build();
+      return ProjectionGraphs.WAVING_OUTBOUND;
     } else {
       throw new UnsupportedWorkflowException();
     }
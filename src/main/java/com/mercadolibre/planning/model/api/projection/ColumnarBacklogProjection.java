@@ -0,0 +1,104 @@
+package com.mercadolibre.planning.model.api.projection;
+
+import com.mercadolibre.flow.projection.tools.services.entities.context.Backlog;
+import com.mercadolibre.flow.projection.tools.services.entities.context.ContextsHolder;
+import com.mercadolibre.flow.projection.tools.services.entities.context.UnprocessedBacklogState;
+import com.mercadolibre.flow.projection.tools.services.entities.orderedbacklogbydate.OrderedBacklogByDate;
+import com.mercadolibre.flow.projection.tools.services.entities.process.SimpleProcess;
+import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
+import com.mercadolibre.planning.model.api.projection.backlogmanager.OrderedBacklogByProcessPath;
+import com.mercadolibre.planning.model.api.projection.backlogmanager.SortedBacklogByDate;
+import com.mercadolibre.planning.model.api.projection.dto.response.ColumnarBacklogProjectionResponse;
+import com.mercadolibre.planning.model.api.util.DateUtils;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+
+/**
+ * Encodes the hourly backlog of the processed contexts straight into a {@link ColumnarBacklogProjectionResponse}.
+ *
+ * <p>The on the hour states are read twice: once to build the operation hours and dates out dictionaries and once to add their
+ * quantities into the arrays of each process.
+ */
+final class ColumnarBacklogProjection {
+
+  private ColumnarBacklogProjection() {
+  }
+
+  static ColumnarBacklogProjectionResponse encode(final List<ProcessName> processes, final ContextsHolder processedContexts) {
+    final List<List<UnprocessedBacklogState>> statesByProcess = processes.stream()
+        .map(process -> hourlyStates(processedContexts, process))
+        .toList();
+
+    final NavigableSet<Instant> operationHours = new TreeSet<>();
+    final NavigableSet<Instant> dateOuts = new TreeSet<>();
+    statesByProcess.forEach(states -> states.forEach(state -> {
+      operationHours.add(state.getEndDate());
+      forEachDateOut(state.getBacklog(), (dateOut, quantity) -> dateOuts.add(dateOut));
+    }));
+
+    final long base = operationHours.isEmpty() ? 0L : operationHours.first().getEpochSecond();
+    final Map<Instant, Integer> hourIndex = indexOf(operationHours);
+    final Map<Instant, Integer> dateOutIndex = indexOf(dateOuts);
+    final int width = dateOuts.size();
+
+    final int[][] quantities = new int[processes.size()][operationHours.size() * width];
+    for (int p = 0; p < processes.size(); p++) {
+      final int[] processQuantities = quantities[p];
+      statesByProcess.get(p).forEach(state -> {
+        final int row = hourIndex.get(state.getEndDate()) * width;
+        forEachDateOut(state.getBacklog(), (dateOut, quantity) -> processQuantities[row + dateOutIndex.get(dateOut)] += quantity);
+      });
+    }
+
+    return new ColumnarBacklogProjectionResponse(
+        base,
+        offsets(operationHours, base),
+        offsets(dateOuts, base),
+        List.copyOf(processes),
+        quantities
+    );
+  }
+
+  private static List<UnprocessedBacklogState> hourlyStates(final ContextsHolder processedContexts, final ProcessName process) {
+    final var context = (SimpleProcess.Context) processedContexts.getProcessContextByProcessName(process.getName());
+    return context.getUnprocessedBacklog().stream()
+        .filter(state -> DateUtils.isOnTheHour(state.getEndDate()))
+        .toList();
+  }
+
+  /**
+   * Visits the quantity of each date out of a backlog, backlogs by process path are visited through each of their process paths.
+   */
+  private static void forEachDateOut(final Backlog backlog, final BiConsumer<Instant, Integer> action) {
+    if (backlog instanceof OrderedBacklogByProcessPath) {
+      ((OrderedBacklogByProcessPath) backlog).forEach((processPath, processPathBacklog) -> forEachDateOut(processPathBacklog, action));
+    } else if (backlog instanceof SortedBacklogByDate) {
+      final var sorted = (SortedBacklogByDate) backlog;
+      for (int i = 0; i < sorted.size(); i++) {
+        action.accept(sorted.dateAt(i), (int) sorted.quantityAt(i));
+      }
+    } else {
+      ((OrderedBacklogByDate) backlog).getBacklogs().forEach((dateOut, quantity) -> action.accept(dateOut, (int) quantity.total()));
+    }
+  }
+
+  private static Map<Instant, Integer> indexOf(final NavigableSet<Instant> dates) {
+    final Map<Instant, Integer> index = new HashMap<>(dates.size() * 2);
+    for (final Instant date : dates) {
+      index.put(date, index.size());
+    }
+    return index;
+  }
+
+  private static int[] offsets(final NavigableSet<Instant> dates, final long base) {
+    return dates.stream()
+        .mapToInt(date -> Math.toIntExact(date.getEpochSecond() - base))
+        .toArray();
+  }
+
+}
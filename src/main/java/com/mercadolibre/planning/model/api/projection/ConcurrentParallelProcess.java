@@ -0,0 +1,140 @@
+package com.mercadolibre.planning.model.api.projection;
+
+import com.mercadolibre.flow.projection.tools.services.entities.context.Backlog;
+import com.mercadolibre.flow.projection.tools.services.entities.context.ContextsHolder;
+import com.mercadolibre.flow.projection.tools.services.entities.context.Merger;
+import com.mercadolibre.flow.projection.tools.services.entities.context.ProcessContext;
+import com.mercadolibre.flow.projection.tools.services.entities.context.ProcessedBacklogState;
+import com.mercadolibre.flow.projection.tools.services.entities.context.Upstream;
+import com.mercadolibre.flow.projection.tools.services.entities.process.ParallelProcess;
+import com.mercadolibre.flow.projection.tools.services.entities.process.Processor;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link ParallelProcess} whose branches are projected concurrently.
+ *
+ * <p>Once the upstream is split, the branches of a parallel process do not depend on each other: each one only reads and updates the
+ * contexts of its own processes. So each branch is projected by a parallel process that only holds that branch, all of them on the
+ * executor and over the same contexts, and then their results are put together in branch order:
+ * <ul>
+ *   <li>the contexts updated by each branch are taken from that branch's result.</li>
+ *   <li>the processed backlog of the parallel process is merged, inflection window by inflection window, from the processed backlog of
+ *   each branch, which is what the sequential parallel process does when merging the output of its processors.</li>
+ * </ul>
+ *
+ * <p>Branches must not modify the contexts they receive, as they are shared by all of them, but return new contexts for the processes
+ * they update, as the processes of the projection tools do. The contexts returned by a branch that are not the ones it received are
+ * the ones that it updated, and a context updated by more than one branch fails the projection.
+ *
+ * <p>The executor must not be the one running the calling projection, as this process waits for its branches.
+ */
+public final class ConcurrentParallelProcess implements Processor {
+
+  private static final String UPDATED_BY_MORE_THAN_ONE_BRANCH = "The context of %s was updated by more than one branch of %s";
+
+  private final String name;
+
+  private final List<Processor> branches;
+
+  private final ParallelProcess.Context.Assistant assistant;
+
+  private final Merger merger;
+
+  private final Executor executor;
+
+  public ConcurrentParallelProcess(
+      final String name,
+      final List<Processor> branches,
+      final ParallelProcess.Context.Assistant assistant,
+      final Merger merger,
+      final Executor executor
+  ) {
+    this.name = name;
+    this.branches = branches.stream()
+        .map(branch -> (Processor) new ParallelProcess(name, List.of(branch)))
+        .toList();
+    this.assistant = assistant;
+    this.merger = merger;
+    this.executor = executor;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public ContextsHolder accept(final ContextsHolder contexts, final Upstream upstream, final List<Instant> inflectionPoints) {
+    final List<CompletableFuture<ContextsHolder>> futures = branches.stream()
+        .map(branch -> CompletableFuture.supplyAsync(() -> branch.accept(contexts, upstream, inflectionPoints), executor))
+        .toList();
+
+    final List<ContextsHolder> results = futures.stream()
+        .map(ConcurrentParallelProcess::join)
+        .toList();
+
+    final Map<String, ProcessContext> updated = mergeContexts(contexts.getProcessContextByProcessName(), results);
+    updated.put(name, new ParallelProcess.Context(assistant, mergeProcessedBacklog(results)));
+
+    return new ContextsHolder(updated);
+  }
+
+  /**
+   * Puts together the contexts returned by every branch. A process context that a branch returns and that is not the one it received
+   * was updated by that branch, and as the branches do not share processes, only one branch may update each context.
+   *
+   * @throws IllegalStateException when more than one branch updates the context of the same process.
+   */
+  private Map<String, ProcessContext> mergeContexts(final Map<String, ProcessContext> initial, final List<ContextsHolder> results) {
+    final Map<String, ProcessContext> updated = new HashMap<>(initial);
+    results.forEach(result -> result.getProcessContextByProcessName().forEach((processName, context) -> {
+      final ProcessContext received = initial.get(processName);
+      if (name.equals(processName) || context == received) {
+        return;
+      }
+
+      final ProcessContext previous = updated.put(processName, context);
+      if (previous != received && previous != context) {
+        throw new IllegalStateException(String.format(UPDATED_BY_MORE_THAN_ONE_BRANCH, processName, name));
+      }
+    }));
+    return updated;
+  }
+
+  private List<ProcessedBacklogState> mergeProcessedBacklog(final List<ContextsHolder> results) {
+    final List<List<ProcessedBacklogState>> processedByBranch = results.stream()
+        .map(result -> result.getProcessContextByProcessName(name).getProcessedBacklog())
+        .map(processed -> processed.stream().map(ProcessedBacklogState.class::cast).toList())
+        .toList();
+
+    final List<ProcessedBacklogState> first = processedByBranch.get(0);
+    final List<ProcessedBacklogState> merged = new ArrayList<>(first.size());
+    for (int i = 0; i < first.size(); i++) {
+      final int window = i;
+      final Backlog[] backlogs = processedByBranch.stream()
+          .map(processed -> processed.get(window).getBacklog())
+          .toArray(Backlog[]::new);
+
+      merged.add(new ProcessedBacklogState(first.get(i).getStartDate(), first.get(i).getEndDate(), merger.merge(backlogs)));
+    }
+    return merged;
+  }
+
+  private static ContextsHolder join(final CompletableFuture<ContextsHolder> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+}
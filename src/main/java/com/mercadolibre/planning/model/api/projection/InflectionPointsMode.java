@@ -0,0 +1,15 @@
+package com.mercadolibre.planning.model.api.projection;
+
+/**
+ * How the inflection points of a projection are generated.
+ */
+public enum InflectionPointsMode {
+  /**
+   * Every five minutes, from the projection start to its end.
+   */
+  FIXED_WINDOW,
+  /**
+   * Where the projection inputs change or its results are required, and at least every max step, see {@link InflectionPointsPlanner}.
+   */
+  EVENT_DRIVEN
+}
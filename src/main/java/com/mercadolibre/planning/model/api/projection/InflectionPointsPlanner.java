@@ -0,0 +1,141 @@
+package com.mercadolibre.planning.model.api.projection;
+
+import static java.time.temporal.ChronoUnit.HOURS;
+import static java.time.temporal.ChronoUnit.MINUTES;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * Plans the inflection points of a projection from the instants in which its inputs change, instead of using a fixed window.
+ *
+ * <p>Throughput is defined by hour and forecast is ingested by hour, so the planner steps at throughput discontinuities, at the limits
+ * of each upstream piece, at the SLA cut-offs and at the instants whose results are requested. No interpolation is done inside a step:
+ * the projection tools only know what each process processed by the end of a step, so end dates and remaining quantities are
+ * quantized by the step, and each chained process can add up to one step of error. The maximum step bounds that error, and its
+ * default is the fixed window size, so event driven projections are never coarser than the fixed window ones and only add the steps
+ * at which the inputs change off the fixed window grid.
+ *
+ * <p>As with {@link com.mercadolibre.planning.model.api.util.DateUtils#generateInflectionPoints}, the first inflection point is the
+ * projection start truncated to minutes and every point is minute precise.
+ */
+public final class InflectionPointsPlanner {
+
+  public static final Duration DEFAULT_MAX_STEP = Duration.ofMinutes(5);
+
+  private static final Duration UPSTREAM_PIECE = Duration.ofHours(1);
+
+  private final Instant dateFrom;
+
+  private final Instant dateTo;
+
+  private final NavigableSet<Instant> events = new TreeSet<>();
+
+  private Duration maxStep = DEFAULT_MAX_STEP;
+
+  private InflectionPointsPlanner(final Instant dateFrom, final Instant dateTo) {
+    this.dateFrom = dateFrom.truncatedTo(MINUTES);
+    this.dateTo = dateTo.truncatedTo(MINUTES);
+  }
+
+  public static InflectionPointsPlanner between(final Instant dateFrom, final Instant dateTo) {
+    return new InflectionPointsPlanner(dateFrom, dateTo);
+  }
+
+  /**
+   * Adds the instants in which the throughput changes its value, including the end of its last hour.
+   *
+   * @param throughput throughput per hour by date.
+   * @return this planner.
+   */
+  public InflectionPointsPlanner throughput(final Map<Instant, Integer> throughput) {
+    Integer previous = null;
+    Instant last = null;
+    for (final Instant date : new TreeSet<>(throughput.keySet())) {
+      final Integer value = throughput.get(date);
+      final boolean isContiguous = last != null && last.plus(1, HOURS).equals(date);
+      if (last != null && !isContiguous) {
+        add(last.plus(1, HOURS));
+      }
+      if (!isContiguous || !Objects.equals(previous, value)) {
+        add(date);
+      }
+      previous = value;
+      last = date;
+    }
+
+    if (last != null) {
+      add(last.plus(1, HOURS));
+    }
+    return this;
+  }
+
+  /**
+   * Adds the start and end of each upstream piece.
+   *
+   * @param datesIn dates in of the forecasted upstream, each one is ingested along one hour.
+   * @return this planner.
+   */
+  public InflectionPointsPlanner upstream(final Collection<Instant> datesIn) {
+    datesIn.forEach(dateIn -> {
+      add(dateIn);
+      add(dateIn.plus(UPSTREAM_PIECE));
+    });
+    return this;
+  }
+
+  /**
+   * Adds instants in which the projection state is required, such as SLA cut-offs or the dates of the requested results.
+   *
+   * @param instants instants to step at.
+   * @return this planner.
+   */
+  public InflectionPointsPlanner at(final Collection<Instant> instants) {
+    instants.forEach(this::add);
+    return this;
+  }
+
+  public InflectionPointsPlanner maxStep(final Duration maxStep) {
+    if (maxStep.isNegative() || maxStep.isZero()) {
+      throw new IllegalArgumentException("max step must be positive");
+    }
+    this.maxStep = maxStep;
+    return this;
+  }
+
+  /**
+   * Returns the inflection points, sorted, from the projection start to its end.
+   */
+  public List<Instant> plan() {
+    final List<Instant> inflectionPoints = new ArrayList<>();
+    inflectionPoints.add(dateFrom);
+
+    if (!dateTo.isAfter(dateFrom)) {
+      return inflectionPoints;
+    }
+
+    events.add(dateTo);
+
+    Instant previous = dateFrom;
+    for (final Instant event : events.subSet(dateFrom, false, dateTo, true)) {
+      for (Instant filler = previous.plus(maxStep); filler.isBefore(event); filler = filler.plus(maxStep)) {
+        inflectionPoints.add(filler);
+      }
+      inflectionPoints.add(event);
+      previous = event;
+    }
+    return inflectionPoints;
+  }
+
+  private void add(final Instant date) {
+    events.add(date.truncatedTo(MINUTES));
+  }
+
+}
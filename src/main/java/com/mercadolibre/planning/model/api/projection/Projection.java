@@ -8,7 +8,9 @@ import com.mercadolibre.flow.projection.tools.services.entities.process.Processo
 import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
 import com.mercadolibre.planning.model.api.projection.builder.Projector;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -26,7 +28,70 @@ public final class Projection {
       final Map<ProcessName, Map<Instant, Integer>> throughput,
       final Projector projector
   ) {
-    final List<Instant> inflectionPoints = generateInflectionPoints(executionDateFrom, executionDateTo, INFLECTION_WINDOW_SIZE_IN_MINUTES);
+    return execute(
+        executionDateFrom,
+        executionDateTo,
+        currentBacklog,
+        forecastBacklog,
+        throughput,
+        projector,
+        InflectionPointsMode.FIXED_WINDOW,
+        List.of()
+    );
+  }
+
+  /**
+   * Executes the projection of the projector's graph.
+   *
+   * @param executionDateFrom projection start.
+   * @param executionDateTo   projection end.
+   * @param currentBacklog    current backlog by process, process path and date out.
+   * @param forecastBacklog   forecasted backlog by date in, process path and date out.
+   * @param throughput        throughput per hour by process and date.
+   * @param projector         builder of the graph and its contexts.
+   * @param mode              how the inflection points are generated.
+   * @param outputs           instants whose results are required, only used to plan event driven inflection points.
+   * @return updated contexts.
+   */
+  public static ContextsHolder execute(
+      final Instant executionDateFrom,
+      final Instant executionDateTo,
+      final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> currentBacklog,
+      final Map<Instant, Map<ProcessPath, Map<Instant, Long>>> forecastBacklog,
+      final Map<ProcessName, Map<Instant, Integer>> throughput,
+      final Projector projector,
+      final InflectionPointsMode mode,
+      final Collection<Instant> outputs
+  ) {
+    return execute(
+        executionDateFrom,
+        executionDateTo,
+        currentBacklog,
+        forecastBacklog,
+        throughput,
+        projector,
+        mode,
+        outputs,
+        InflectionPointsPlanner.DEFAULT_MAX_STEP
+    );
+  }
+
+  /**
+   * Executes the projection of the projector's graph, bounding the event driven steps by the given max step.
+   */
+  static ContextsHolder execute(
+      final Instant executionDateFrom,
+      final Instant executionDateTo,
+      final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> currentBacklog,
+      final Map<Instant, Map<ProcessPath, Map<Instant, Long>>> forecastBacklog,
+      final Map<ProcessName, Map<Instant, Integer>> throughput,
+      final Projector projector,
+      final InflectionPointsMode mode,
+      final Collection<Instant> outputs,
+      final Duration maxStep
+  ) {
+    final List<Instant> inflectionPoints =
+        inflectionPoints(mode, executionDateFrom, executionDateTo, forecastBacklog.keySet(), throughput, outputs, maxStep);
 
     final Processor graph = projector.buildGraph();
 
@@ -36,4 +101,26 @@ public final class Projection {
 
     return graph.accept(contexts, upstream, inflectionPoints);
   }
+
+  static List<Instant> inflectionPoints(
+      final InflectionPointsMode mode,
+      final Instant executionDateFrom,
+      final Instant executionDateTo,
+      final Collection<Instant> forecastDatesIn,
+      final Map<ProcessName, Map<Instant, Integer>> throughput,
+      final Collection<Instant> outputs,
+      final Duration maxStep
+  ) {
+    if (mode == InflectionPointsMode.FIXED_WINDOW) {
+      return generateInflectionPoints(executionDateFrom, executionDateTo, INFLECTION_WINDOW_SIZE_IN_MINUTES);
+    }
+
+    final var planner = InflectionPointsPlanner.between(executionDateFrom, executionDateTo)
+        .upstream(forecastDatesIn)
+        .at(outputs)
+        .maxStep(maxStep);
+    throughput.values().forEach(planner::throughput);
+
+    return planner.plan();
+  }
 }
@@ -0,0 +1,178 @@
+package com.mercadolibre.planning.model.api.projection;
+
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.BATCH_SORTER;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.EXPEDITION;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.HU_ASSEMBLY;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PACKING;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PACKING_WALL;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PICKING;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.SALES_DISPATCH;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.WALL_IN;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.WAVING;
+
+import com.mercadolibre.flow.projection.tools.services.entities.context.Merger;
+import com.mercadolibre.flow.projection.tools.services.entities.process.ParallelProcess;
+import com.mercadolibre.flow.projection.tools.services.entities.process.Processor;
+import com.mercadolibre.flow.projection.tools.services.entities.process.SequentialProcess;
+import com.mercadolibre.flow.projection.tools.services.entities.process.SimpleProcess;
+import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
+import com.mercadolibre.planning.model.api.domain.entity.Workflow;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Registry of the workflow graphs used by the projections.
+ *
+ * <p>Graphs only describe the processes and how they are connected, the state of a projection is kept in the {@code ContextsHolder}
+ * that is passed to {@link Processor#accept}. So each graph is built once, when this class is loaded, and shared by every projection
+ * instead of being rebuilt on each request.
+ */
+public final class ProjectionGraphs {
+
+  public static final String PACKING_PROCESS_GROUP = "packing_group";
+
+  public static final String CONSOLIDATION_PROCESS_GROUP = "consolidation_group";
+
+  public static final String ORDER_ASSEMBLY_PROCESS_GROUP = "order_assembly";
+
+  public static final String PRE_EXPEDITION_PROCESS_GROUP = "pre_expedition_group";
+
+  public static final String OUTBOUND_PROCESS_GROUP = "outbound_group";
+
+  public static final String OUTBOUND_SHIPPING_PROCESS_GROUP = "OutboundShipping";
+
+  public static final String SHIPPING_EXPEDITION_PROCESS_GROUP = "Expedition";
+
+  /**
+   * Picking followed by packing and consolidation.
+   */
+  public static final Processor OUTBOUND = SequentialProcess.builder()
+      .name(Workflow.FBM_WMS_OUTBOUND.getName())
+      .process(simpleProcess(PICKING))
+      .process(packingGroup())
+      .build();
+
+  /**
+   * Waving followed by picking, packing and consolidation.
+   */
+  public static final Processor WAVING_OUTBOUND = SequentialProcess.builder()
+      .name(Workflow.FBM_WMS_OUTBOUND.getName())
+      .process(simpleProcess(WAVING))
+      .process(simpleProcess(PICKING))
+      .process(packingGroup())
+      .build();
+
+  /**
+   * {@link #OUTBOUND} followed by hu assembly and sales dispatch.
+   */
+  public static final Processor OUTBOUND_SHIPPING = SequentialProcess.builder()
+      .name(OUTBOUND_SHIPPING_PROCESS_GROUP)
+      .process(SequentialProcess.builder()
+          .name(Workflow.FBM_WMS_OUTBOUND.getName())
+          .process(simpleProcess(PICKING))
+          .process(packingGroup())
+          .build())
+      .process(expedition(SHIPPING_EXPEDITION_PROCESS_GROUP))
+      .build();
+
+  /**
+   * Picking followed by packing and consolidation, as a process group of the unified projections.
+   */
+  public static final Processor ORDER_ASSEMBLY = orderAssembly();
+
+  /**
+   * Hu assembly followed by sales dispatch, as a process group of the unified projections.
+   */
+  public static final Processor EXPEDITION_GROUP = expedition(EXPEDITION.getName());
+
+  /**
+   * Waving followed by {@link #ORDER_ASSEMBLY}.
+   */
+  public static final Processor FROM_WAVING_TO_PACKING = SequentialProcess.builder()
+      .name(PRE_EXPEDITION_PROCESS_GROUP)
+      .process(simpleProcess(WAVING))
+      .process(orderAssembly())
+      .build();
+
+  /**
+   * Waving followed by {@link #ORDER_ASSEMBLY} and {@link #EXPEDITION_GROUP}.
+   */
+  public static final Processor UNIFIED_OUTBOUND = SequentialProcess.builder()
+      .name(OUTBOUND_PROCESS_GROUP)
+      .process(simpleProcess(WAVING))
+      .process(orderAssembly())
+      .process(expedition(EXPEDITION.getName()))
+      .build();
+
+  private ProjectionGraphs() {
+  }
+
+  /**
+   * {@link #UNIFIED_OUTBOUND} whose packing and consolidation branches are projected concurrently, see {@link ConcurrentParallelProcess}.
+   *
+   * @param assistant assistant of the packing group context, used to split its upstream.
+   * @param merger    merger of the packing and consolidation output.
+   * @param executor  executor of the branches.
+   * @return a new unified outbound graph.
+   */
+  public static Processor unifiedOutbound(
+      final ParallelProcess.Context.Assistant assistant,
+      final Merger merger,
+      final Executor executor
+  ) {
+    return SequentialProcess.builder()
+        .name(OUTBOUND_PROCESS_GROUP)
+        .process(simpleProcess(WAVING))
+        .process(SequentialProcess.builder()
+            .name(ORDER_ASSEMBLY_PROCESS_GROUP)
+            .process(simpleProcess(PICKING))
+            .process(new ConcurrentParallelProcess(
+                PACKING_PROCESS_GROUP,
+                List.of(simpleProcess(PACKING), consolidation()),
+                assistant,
+                merger,
+                executor
+            ))
+            .build())
+        .process(expedition(EXPEDITION.getName()))
+        .build();
+  }
+
+  private static SimpleProcess simpleProcess(final ProcessName processName) {
+    return new SimpleProcess(processName.getName());
+  }
+
+  private static Processor packingGroup() {
+    return ParallelProcess.builder()
+        .name(PACKING_PROCESS_GROUP)
+        .processor(simpleProcess(PACKING))
+        .processor(consolidation())
+        .build();
+  }
+
+  private static Processor consolidation() {
+    return SequentialProcess.builder()
+        .name(CONSOLIDATION_PROCESS_GROUP)
+        .process(simpleProcess(BATCH_SORTER))
+        .process(simpleProcess(WALL_IN))
+        .process(simpleProcess(PACKING_WALL))
+        .build();
+  }
+
+  private static Processor orderAssembly() {
+    return SequentialProcess.builder()
+        .name(ORDER_ASSEMBLY_PROCESS_GROUP)
+        .process(simpleProcess(PICKING))
+        .process(packingGroup())
+        .build();
+  }
+
+  private static Processor expedition(final String name) {
+    return SequentialProcess.builder()
+        .name(name)
+        .process(simpleProcess(HU_ASSEMBLY))
+        .process(simpleProcess(SALES_DISPATCH))
+        .build();
+  }
+
+}
@@ -7,6 +7,7 @@ import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
 import com.mercadolibre.planning.model.api.projection.builder.Projector;
 import com.mercadolibre.planning.model.api.projection.builder.SlaProjectionResult;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Comparator;
 import java.util.List;
@@ -28,11 +29,69 @@ public final class SLAProjectionService {
       final Map<ProcessName, Map<Instant, Integer>> throughput,
       final Map<Instant, Instant> cutOff,
       final Projector projector
+  ) {
+    return execute(
+        executionDateFrom,
+        executionDateTo,
+        currentBacklog,
+        forecastBacklog,
+        throughput,
+        cutOff,
+        projector,
+        InflectionPointsMode.FIXED_WINDOW
+    );
+  }
+
+  /**
+   * Projects the end date and the remaining quantity at cut-off of each SLA.
+   *
+   * <p>With {@link InflectionPointsMode#EVENT_DRIVEN} the projection also steps at every SLA and cut-off, so the remaining quantities
+   * are taken at the exact cut-off.
+   */
+  public static SlaProjectionResult execute(
+      final Instant executionDateFrom,
+      final Instant executionDateTo,
+      final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> currentBacklog,
+      final Map<Instant, Map<ProcessPath, Map<Instant, Long>>> forecastBacklog,
+      final Map<ProcessName, Map<Instant, Integer>> throughput,
+      final Map<Instant, Instant> cutOff,
+      final Projector projector,
+      final InflectionPointsMode mode
+  ) {
+    return execute(
+        executionDateFrom,
+        executionDateTo,
+        currentBacklog,
+        forecastBacklog,
+        throughput,
+        cutOff,
+        projector,
+        mode,
+        InflectionPointsPlanner.DEFAULT_MAX_STEP
+    );
+  }
+
+  /**
+   * Projects the end date and the remaining quantity at cut-off of each SLA, bounding the event driven steps by the given max step.
+   */
+  static SlaProjectionResult execute(
+      final Instant executionDateFrom,
+      final Instant executionDateTo,
+      final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> currentBacklog,
+      final Map<Instant, Map<ProcessPath, Map<Instant, Long>>> forecastBacklog,
+      final Map<ProcessName, Map<Instant, Integer>> throughput,
+      final Map<Instant, Instant> cutOff,
+      final Projector projector,
+      final InflectionPointsMode mode,
+      final Duration maxStep
   ) {
     final List<Instant> slas = getSLAs(currentBacklog, forecastBacklog);
 
-    final ContextsHolder updatedContext =
-        Projection.execute(executionDateFrom, executionDateTo, currentBacklog, forecastBacklog, throughput, projector);
+    final List<Instant> outputs = Stream.concat(slas.stream(), cutOff.values().stream()).toList();
+
+    final ContextsHolder updatedContext = Projection.execute(
+        executionDateFrom, executionDateTo, currentBacklog, forecastBacklog, throughput, projector, mode, outputs, maxStep
+    );
 
     final Map<Instant, Long> remainingQuantity = projector.getRemainingQuantity(updatedContext, cutOff);
 
@@ -12,16 +12,24 @@ import java.time.Instant;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
-import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 @Service
-@AllArgsConstructor
 public class AvailableCapacityUseCase {
 
-  private static Map<Instant, Instant> getCutOffs(final Map<Instant, Integer> cycleTimeBySla) {
+  private final ForkJoinPool sensitivityPool;
+
+  public AvailableCapacityUseCase(@Qualifier("projectionsForkJoinPool") final ForkJoinPool projectionsForkJoinPool) {
+    this.sensitivityPool = projectionsForkJoinPool;
+  }
+
+  public static Map<Instant, Instant> getCutOffs(final Map<Instant, Integer> cycleTimeBySla) {
     return cycleTimeBySla.entrySet().stream()
         .collect(Collectors.toMap(Map.Entry::getKey, entry -> calculateCutOffFromSla(entry.getKey(), entry.getValue())));
   }
@@ -56,25 +64,31 @@ public class AvailableCapacityUseCase {
         .toList();
   }
 
-  private static List<CapacityBySLA> calculateMinCapacityBySLA(final List<CapacityBySLA> capacityBySLA) {
-    return capacityBySLA.stream()
-        .map(currentHour -> new CapacityBySLA(currentHour.date(), getMinCapBetweenSlaAndFollowingOnes(capacityBySLA, currentHour)))
-        .toList();
-  }
-
   /**
-   * Obtains the minimum capacity between the Sla received and the following Sla.
+   * Obtains, for each SLA, the minimum capacity between the SLA and the following ones, with a single suffix-minimum pass.
    *
-   * @param capacityBySLA SLA list with its available capacity.
-   * @param sinceSLA      SLA in which the available slow shipment capacity is calculated.
-   * @return a {@link CapacityBySLA} that has the SLA and its available capacity taking into account the following SLAs
+   * @param capacityBySLA SLA list with its available capacity, sorted by SLA.
+   * @return a {@link CapacityBySLA} for each SLA that has its available capacity taking into account the following SLAs
    */
-  private static int getMinCapBetweenSlaAndFollowingOnes(final List<CapacityBySLA> capacityBySLA, final CapacityBySLA sinceSLA) {
-    return capacityBySLA.stream()
-        .filter(sla -> !sla.date().isBefore(sinceSLA.date()))
-        .mapToInt(CapacityBySLA::capacity)
-        .min()
-        .orElse(sinceSLA.capacity());
+  private static List<CapacityBySLA> calculateMinCapacityBySLA(final List<CapacityBySLA> capacityBySLA) {
+    final int[] minimumCapacities = new int[capacityBySLA.size()];
+
+    int suffixMinimum = Integer.MAX_VALUE;
+    for (int i = capacityBySLA.size() - 1; i >= 0; i--) {
+      suffixMinimum = Math.min(suffixMinimum, capacityBySLA.get(i).capacity());
+      minimumCapacities[i] = suffixMinimum;
+    }
+
+    // SLAs with the same date are following ones of each other, so they share the minimum of the first of them
+    for (int i = 1; i < minimumCapacities.length; i++) {
+      if (capacityBySLA.get(i).date().equals(capacityBySLA.get(i - 1).date())) {
+        minimumCapacities[i] = minimumCapacities[i - 1];
+      }
+    }
+
+    return IntStream.range(0, capacityBySLA.size())
+        .mapToObj(i -> new CapacityBySLA(capacityBySLA.get(i).date(), minimumCapacities[i]))
+        .toList();
   }
 
   /**
@@ -109,6 +123,22 @@ public class AvailableCapacityUseCase {
         projector
     );
 
+    return execute(projection, throughput, cutOffs);
+  }
+
+  /**
+   * Calculates the minimum capacity by each SLA from an already executed projection.
+   *
+   * @param projection projection executed with the received throughput and cut-offs
+   * @param throughput processing power by operation hour
+   * @param cutOffs    cut-off of each sla
+   * @return the minimum capacity calculated by each SLA.
+   */
+  public List<CapacityBySLA> execute(
+      final SlaProjectionResult projection,
+      final Map<ProcessName, Map<Instant, Integer>> throughput,
+      final Map<Instant, Instant> cutOffs
+  ) {
     final var endDateCutOffBySLA = getProjectedEndDateByCutOffsAndSLA(projection.slas(), cutOffs);
 
     final var slasWithoutCapacity = getSlasWithoutCapacity(endDateCutOffBySLA);
@@ -128,6 +158,60 @@ public class AvailableCapacityUseCase {
     return calculateMinCapacityBySLA(capacityBySLA);
   }
 
+  /**
+   * Calculates, for each SLA, the extra units that can be added to its backlog before its projected end date, or the one of any
+   * following SLA, crosses its cut-off.
+   *
+   * <p>Unlike {@link #execute}, which estimates the capacity from the throughput left between the projected end date and the cut-off,
+   * the units are found by projecting the extra backlog, so the effect of the units on the rest of the projection is taken into account.
+   * The SLAs that meet their cut-off are searched in parallel, each one with a binary search over projections.
+   *
+   * @param executionDateFrom lower range of the time to be calculated
+   * @param executionDateTo   upper range of the time to be calculated
+   * @param currentBacklog    backlog that exists in each process opened by process path and sla
+   * @param forecastBacklog   backlog that is expected to arrive by date in, process path and sla
+   * @param throughput        processing power by operation hour
+   * @param cycleTimeBySla    cycle time expressed in minutes for each sla
+   * @return the absorbable units by each SLA, sorted by SLA.
+   */
+  public List<CapacityBySLA> executeSensitivity(
+      final Instant executionDateFrom,
+      final Instant executionDateTo,
+      final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> currentBacklog,
+      final Map<Instant, Map<ProcessPath, Map<Instant, Long>>> forecastBacklog,
+      final Map<ProcessName, Map<Instant, Integer>> throughput,
+      final Map<Instant, Integer> cycleTimeBySla
+  ) {
+    final var cutOffs = getCutOffs(cycleTimeBySla);
+    final var sensitivity = new CapacitySensitivity(
+        executionDateFrom,
+        executionDateTo,
+        currentBacklog,
+        forecastBacklog,
+        throughput,
+        cutOffs
+    );
+
+    final SlaProjectionResult projection = sensitivity.project(currentBacklog);
+
+    final List<Instant> slas = projection.slas().stream()
+        .map(SlaProjectionResult.Sla::date)
+        .distinct()
+        .sorted()
+        .toList();
+
+    // SLAs that already miss their cut-off, or are followed by one that misses it, cannot absorb any unit, so they are not searched
+    final List<ForkJoinTask<Integer>> searches = slas.stream()
+        .map(sla -> CapacitySensitivity.meetsCutOffs(projection, sla, cutOffs)
+            ? sensitivityPool.submit(() -> sensitivity.absorbableUnits(sla))
+            : null)
+        .toList();
+
+    return IntStream.range(0, slas.size())
+        .mapToObj(i -> new CapacityBySLA(slas.get(i), searches.get(i) == null ? 0 : searches.get(i).join()))
+        .toList();
+  }
+
   record EndDateCutOffBySLA(Instant date, Instant projectedEndDate, Instant cutOff) {
   }
 }
@@ -0,0 +1,15 @@
+package com.mercadolibre.planning.model.api.projection.availablecapacity;
+
+/**
+ * How the available capacity of each SLA is calculated.
+ */
+public enum CapacityMode {
+  /**
+   * From the throughput left between the projected end date of each SLA and its cut-off.
+   */
+  THROUGHPUT,
+  /**
+   * By searching, with projections, the extra units each SLA can absorb before it misses its cut-off.
+   */
+  SENSITIVITY
+}
@@ -0,0 +1,144 @@
+package com.mercadolibre.planning.model.api.projection.availablecapacity;
+
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PICKING;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.WAVING;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.TOT_MONO;
+import static java.util.Collections.emptyMap;
+
+import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
+import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
+import com.mercadolibre.planning.model.api.projection.SLAProjectionService;
+import com.mercadolibre.planning.model.api.projection.builder.PackingProjectionBuilder;
+import com.mercadolibre.planning.model.api.projection.builder.SlaProjectionResult;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Searches the extra units of an SLA that can be absorbed before the projected end date of the SLA, or of any following SLA, crosses
+ * its cut-off.
+ *
+ * <p>The extra units are added to the picking backlog of the SLA, in its process path with the largest backlog. They are processed
+ * before the backlog of the following SLAs, so they also delay them, and the units are only absorbable if the SLA and all the
+ * following ones still meet their cut-offs, as the capacity of {@link AvailableCapacityUseCase#execute} is the minimum between the
+ * SLA and the following ones. Adding units to an SLA never brings a projected end date forward, so whether the SLAs still meet their
+ * cut-offs is monotone on the extra units and the largest amount is found with a binary search over projections. The search is
+ * bounded by the picking throughput of the projection range, as no more units can be picked.
+ */
+final class CapacitySensitivity {
+
+  private final Instant dateFrom;
+
+  private final Instant dateTo;
+
+  private final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> currentBacklog;
+
+  private final Map<Instant, Map<ProcessPath, Map<Instant, Long>>> forecastBacklog;
+
+  private final Map<ProcessName, Map<Instant, Integer>> throughput;
+
+  private final Map<Instant, Instant> cutOffs;
+
+  CapacitySensitivity(
+      final Instant dateFrom,
+      final Instant dateTo,
+      final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> currentBacklog,
+      final Map<Instant, Map<ProcessPath, Map<Instant, Long>>> forecastBacklog,
+      final Map<ProcessName, Map<Instant, Integer>> throughput,
+      final Map<Instant, Instant> cutOffs
+  ) {
+    this.dateFrom = dateFrom;
+    this.dateTo = dateTo;
+    this.currentBacklog = currentBacklog;
+    this.forecastBacklog = forecastBacklog;
+    this.throughput = throughput;
+    this.cutOffs = cutOffs;
+  }
+
+  SlaProjectionResult project(final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> backlog) {
+    return SLAProjectionService.execute(dateFrom, dateTo, backlog, forecastBacklog, throughput, cutOffs, new PackingProjectionBuilder());
+  }
+
+  static boolean meetsCutOff(final SlaProjectionResult projection, final Instant sla, final Instant cutOff) {
+    return projection.slas().stream()
+        .filter(each -> each.date().equals(sla))
+        .findFirst()
+        .map(each -> each.projectedEndDate() != null && !each.projectedEndDate().isAfter(cutOff))
+        .orElse(true);
+  }
+
+  /**
+   * Whether the SLA and all the following ones meet their cut-offs in the projection.
+   */
+  static boolean meetsCutOffs(final SlaProjectionResult projection, final Instant sla, final Map<Instant, Instant> cutOffs) {
+    return projection.slas().stream()
+        .map(SlaProjectionResult.Sla::date)
+        .filter(date -> !date.isBefore(sla))
+        .distinct()
+        .allMatch(date -> meetsCutOff(projection, date, cutOffs.get(date)));
+  }
+
+  /**
+   * Finds the extra units that can be absorbed by an SLA that, like all the following ones, meets its cut-off without them.
+   *
+   * @param sla SLA whose absorbable units are searched.
+   * @return the largest amount of extra units with which the SLA and all the following ones still meet their cut-offs.
+   */
+  int absorbableUnits(final Instant sla) {
+    final int maxUnits = maxUnits();
+    if (meetsCutOffWith(sla, maxUnits)) {
+      return maxUnits;
+    }
+
+    // invariant: the SLAs meet their cut-offs with low units and one of them misses it with high units
+    int low = 0;
+    int high = maxUnits;
+    while (high - low > 1) {
+      final int middle = low + (high - low) / 2;
+      if (meetsCutOffWith(sla, middle)) {
+        low = middle;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  int maxUnits() {
+    return ThroughputCalculator.totalWithinRange(throughput.getOrDefault(PICKING, emptyMap()), dateFrom, dateTo);
+  }
+
+  boolean meetsCutOffWith(final Instant sla, final int extraUnits) {
+    return meetsCutOffs(project(withExtraUnits(sla, extraUnits)), sla, cutOffs);
+  }
+
+  private Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> withExtraUnits(final Instant sla, final long extraUnits) {
+    final ProcessPath processPath = largestProcessPath(sla);
+
+    final Map<ProcessPath, Map<Instant, Long>> picking = new HashMap<>(currentBacklog.getOrDefault(PICKING, emptyMap()));
+    final Map<Instant, Long> quantityBySla = new HashMap<>(picking.getOrDefault(processPath, emptyMap()));
+    quantityBySla.merge(sla, extraUnits, Long::sum);
+    picking.put(processPath, quantityBySla);
+
+    final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> backlog = new HashMap<>(currentBacklog);
+    backlog.put(PICKING, picking);
+    return backlog;
+  }
+
+  private ProcessPath largestProcessPath(final Instant sla) {
+    final Map<ProcessPath, Long> quantityByProcessPath = new HashMap<>();
+    Stream.of(WAVING, PICKING)
+        .map(process -> currentBacklog.getOrDefault(process, emptyMap()))
+        .forEach(backlog -> backlog.forEach((processPath, quantityBySla) ->
+            quantityByProcessPath.merge(processPath, quantityBySla.getOrDefault(sla, 0L), Long::sum)
+        ));
+
+    return quantityByProcessPath.entrySet().stream()
+        .filter(entry -> entry.getValue() > 0)
+        .max(Map.Entry.<ProcessPath, Long>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+        .map(Map.Entry::getKey)
+        .orElse(TOT_MONO);
+  }
+
+}
@@ -1,25 +1,20 @@
 package com.mercadolibre.planning.model.api.projection.backlogmanager;
 
-import static java.util.stream.Collectors.toMap;
-
 import com.mercadolibre.flow.projection.tools.services.entities.context.Backlog;
 import com.mercadolibre.flow.projection.tools.services.entities.context.BacklogConsume;
 import com.mercadolibre.flow.projection.tools.services.entities.context.Consumer;
-import com.mercadolibre.flow.projection.tools.services.entities.orderedbacklogbydate.OrderedBacklogByDateConsumer;
-import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
 import com.mercadolibre.planning.model.api.util.MathUtil;
 import java.time.Instant;
-import java.util.Map;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 public class DistributionBasedConsumer implements Consumer {
 
-  private final OrderedBacklogByDateConsumer delegate;
+  private final Consumer delegate;
 
   private final double reservedProcessingPowerRatio;
 
-  public DistributionBasedConsumer(final OrderedBacklogByDateConsumer delegate) {
+  public DistributionBasedConsumer(final Consumer delegate) {
     this.delegate = delegate;
     this.reservedProcessingPowerRatio = 0D;
   }
@@ -28,11 +23,11 @@ public class DistributionBasedConsumer implements Consumer {
       final int processingPower,
       final long processPathQuantity,
       final long total,
-      final Long reservedProcessingPower
+      final long reservedProcessingPower
   ) {
     final var processPathBacklog = processPathQuantity - reservedProcessingPower;
     final var ratio = MathUtil.safeDiv((double) processPathBacklog, (double) total);
-    return (int) (processingPower * ratio) + reservedProcessingPower.intValue();
+    return (int) (processingPower * ratio) + (int) reservedProcessingPower;
   }
 
   /**
@@ -54,63 +49,49 @@ public class DistributionBasedConsumer implements Consumer {
       final int processingPower
   ) {
     final var backlog = (OrderedBacklogByProcessPath) backlogToConsume;
+    final int processPaths = OrderedBacklogByProcessPath.processPathsCount();
 
-    final Map<ProcessPath, Long> totalBacklogByProcessPath = backlog.getBacklogs()
-        .entrySet()
-        .stream()
-        .collect(toMap(Map.Entry::getKey, entry -> entry.getValue().total()));
+    final var totalBacklogByProcessPath = new long[processPaths];
+    final var minBacklogToConsumeByProcessPath = new long[processPaths];
 
     final var minBacklogToConsume = (int) (processingPower * reservedProcessingPowerRatio);
 
-    final var minBacklogToConsumeByProcessPath = totalBacklogByProcessPath.entrySet().stream()
-        .collect(toMap(Map.Entry::getKey, entry -> Math.min(entry.getValue(), minBacklogToConsume)));
-    final var reservedProcessingPower = minBacklogToConsumeByProcessPath.values().stream().reduce(0L, Long::sum).intValue();
-
-    final var totalBacklog = backlogToConsume.total() - reservedProcessingPower;
-    final var assignableProcessingPower = processingPower - reservedProcessingPower;
-
-    final var processingPowerByProcessPath = totalBacklogByProcessPath.entrySet()
-        .stream()
-        .collect(
-            toMap(
-                Map.Entry::getKey,
-                entry -> calculateProcessPathProcessingPower(
-                    assignableProcessingPower,
-                    entry.getValue(),
-                    totalBacklog,
-                    minBacklogToConsumeByProcessPath.get(entry.getKey()
-                    )
-                )
+    long totalBacklog = 0L;
+    long reservedProcessingPower = 0L;
+    for (int i = 0; i < processPaths; i++) {
+      final var processPathBacklog = backlog.get(i);
+      if (processPathBacklog != null) {
+        totalBacklogByProcessPath[i] = processPathBacklog.total();
+        minBacklogToConsumeByProcessPath[i] = Math.min(totalBacklogByProcessPath[i], minBacklogToConsume);
+        totalBacklog += totalBacklogByProcessPath[i];
+        reservedProcessingPower += minBacklogToConsumeByProcessPath[i];
+      }
+    }
+
+    final var assignableBacklog = totalBacklog - (int) reservedProcessingPower;
+    final var assignableProcessingPower = processingPower - (int) reservedProcessingPower;
+
+    final var processed = new Backlog[processPaths];
+    final var leftOver = new Backlog[processPaths];
+    for (int i = 0; i < processPaths; i++) {
+      final var processPathBacklog = backlog.get(i);
+      if (processPathBacklog != null) {
+        final var consumed = delegate.consume(
+            startingDate,
+            endingDate,
+            processPathBacklog,
+            calculateProcessPathProcessingPower(
+                assignableProcessingPower,
+                totalBacklogByProcessPath[i],
+                assignableBacklog,
+                minBacklogToConsumeByProcessPath[i]
             )
         );
 
-    final Map<ProcessPath, BacklogConsume> consumed = backlog.getBacklogs()
-        .entrySet()
-        .stream()
-        .collect(toMap(
-                Map.Entry::getKey,
-                entry -> delegate.consume(
-                    startingDate,
-                    endingDate,
-                    entry.getValue(),
-                    processingPowerByProcessPath.get(entry.getKey())
-                )
-            )
-        );
-
-    final Map<ProcessPath, Backlog> processed = consumed.entrySet()
-        .stream()
-        .collect(toMap(
-            Map.Entry::getKey,
-            entry -> entry.getValue().getConsumed()
-        ));
-
-    final Map<ProcessPath, Backlog> leftOver = consumed.entrySet()
-        .stream()
-        .collect(toMap(
-            Map.Entry::getKey,
-            entry -> entry.getValue().getLeftOver()
-        ));
+        processed[i] = consumed.getConsumed();
+        leftOver[i] = consumed.getLeftOver();
+      }
+    }
 
     return new BacklogConsume(new OrderedBacklogByProcessPath(processed), new OrderedBacklogByProcessPath(leftOver));
   }
@@ -1,76 +1,161 @@
 package com.mercadolibre.planning.model.api.projection.backlogmanager;
 
-import static java.util.stream.Collectors.toMap;
-
 import com.mercadolibre.flow.projection.tools.services.entities.context.Backlog;
 import com.mercadolibre.flow.projection.tools.services.entities.orderedbacklogbydate.OrderedBacklogByDate;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
 import com.mercadolibre.planning.model.api.projection.waverless.sla.BacklogAndForecastByDate;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.function.LongUnaryOperator;
-import java.util.stream.Collectors;
-import lombok.Value;
+import java.util.stream.Stream;
 
-@Value
-public class OrderedBacklogByProcessPath implements Backlog {
+/**
+ * Backlog split by process path.
+ *
+ * <p>The backlog of each process path is kept in an array indexed by the process path ordinal, so consuming, merging and splitting
+ * it does not need to hash or build maps. Process paths without backlog have no entry.
+ */
+public final class OrderedBacklogByProcessPath implements Backlog {
 
-  Map<ProcessPath, Backlog> backlogs;
+  private static final ProcessPath[] PROCESS_PATHS = ProcessPath.values();
 
-  public static OrderedBacklogByProcessPath from(final Map<ProcessPath, Map<Instant, Long>> currentBacklog) {
-    final Map<ProcessPath, Backlog> orderedBacklogByProcessPath = currentBacklog.entrySet()
-        .stream()
-        .collect(
-            toMap(Map.Entry::getKey, entry -> new OrderedBacklogByDate(asQuantityByDate(entry.getValue())))
-        );
+  private final Backlog[] backlogs;
+
+  public OrderedBacklogByProcessPath(final Map<ProcessPath, ? extends Backlog> backlogs) {
+    this.backlogs = new Backlog[PROCESS_PATHS.length];
+    backlogs.forEach((processPath, backlog) -> this.backlogs[processPath.ordinal()] = backlog);
+  }
 
-    return new OrderedBacklogByProcessPath(orderedBacklogByProcessPath);
+  /**
+   * Wraps an array of backlogs indexed by process path ordinal, which must not be modified afterwards.
+   */
+  OrderedBacklogByProcessPath(final Backlog[] backlogs) {
+    this.backlogs = backlogs;
+  }
+
+  public static OrderedBacklogByProcessPath from(final Map<ProcessPath, Map<Instant, Long>> currentBacklog) {
+    return of(currentBacklog, quantities -> new OrderedBacklogByDate(asQuantityByDate(quantities)));
   }
 
   public static OrderedBacklogByProcessPath fromForecast(final Map<ProcessPath, Map<Instant, Long>> forecast) {
-    final Map<ProcessPath, Backlog> orderedBacklogByProcessPath = forecast.entrySet()
-        .stream()
-        .collect(
-            toMap(Map.Entry::getKey, entry -> new BacklogAndForecastByDate(asBacklogAndForecastByDate(entry.getValue())))
-        );
+    return of(forecast, quantities -> new BacklogAndForecastByDate(asBacklogAndForecastByDate(quantities)));
+  }
 
-    return new OrderedBacklogByProcessPath(orderedBacklogByProcessPath);
+  /**
+   * Builds a backlog whose process paths are represented by {@link SortedBacklogByDate}.
+   *
+   * @param currentBacklog quantity by process path and date out.
+   * @return backlog by process path.
+   */
+  public static OrderedBacklogByProcessPath fromSortedByDate(final Map<ProcessPath, Map<Instant, Long>> currentBacklog) {
+    return of(currentBacklog, SortedBacklogByDate::from);
+  }
+
+  static int processPathsCount() {
+    return PROCESS_PATHS.length;
+  }
+
+  private static OrderedBacklogByProcessPath of(
+      final Map<ProcessPath, Map<Instant, Long>> quantities,
+      final Function<Map<Instant, Long>, Backlog> mapper
+  ) {
+    final var backlogs = new Backlog[PROCESS_PATHS.length];
+    quantities.forEach((processPath, quantityByDate) -> backlogs[processPath.ordinal()] = mapper.apply(quantityByDate));
+
+    return new OrderedBacklogByProcessPath(backlogs);
   }
 
   private static Map<Instant, BacklogAndForecastByDate.Quantity> asBacklogAndForecastByDate(final Map<Instant, Long> quantities) {
-    return quantities.entrySet().stream()
-        .collect(
-            toMap(Map.Entry::getKey, entry -> new BacklogAndForecastByDate.Quantity(0, entry.getValue()))
-        );
+    final Map<Instant, BacklogAndForecastByDate.Quantity> result = new HashMap<>(quantities.size() * 2);
+    quantities.forEach((date, quantity) -> result.put(date, new BacklogAndForecastByDate.Quantity(0, quantity)));
+    return result;
   }
 
   private static Map<Instant, OrderedBacklogByDate.Quantity> asQuantityByDate(final Map<Instant, Long> quantities) {
-    return quantities.entrySet().stream()
-        .collect(
-            toMap(Map.Entry::getKey, entry -> new OrderedBacklogByDate.Quantity(entry.getValue()))
-        );
+    final Map<Instant, OrderedBacklogByDate.Quantity> result = new HashMap<>(quantities.size() * 2);
+    quantities.forEach((date, quantity) -> result.put(date, new OrderedBacklogByDate.Quantity(quantity)));
+    return result;
+  }
+
+  /**
+   * Returns the backlog of the process path, or null if the process path has no backlog.
+   */
+  public Backlog get(final ProcessPath processPath) {
+    return backlogs[processPath.ordinal()];
+  }
+
+  Backlog get(final int ordinal) {
+    return backlogs[ordinal];
+  }
+
+  /**
+   * Returns a copy of the backlogs by process path. Hot paths should prefer {@link #get}, {@link #forEach} or {@link #values}.
+   */
+  public Map<ProcessPath, Backlog> getBacklogs() {
+    final Map<ProcessPath, Backlog> result = new EnumMap<>(ProcessPath.class);
+    forEach(result::put);
+    return result;
+  }
+
+  public void forEach(final BiConsumer<ProcessPath, Backlog> action) {
+    for (int i = 0; i < backlogs.length; i++) {
+      if (backlogs[i] != null) {
+        action.accept(PROCESS_PATHS[i], backlogs[i]);
+      }
+    }
+  }
+
+  public Stream<Backlog> values() {
+    return Arrays.stream(backlogs).filter(Objects::nonNull);
   }
 
   @Override
   public long total() {
-    return backlogs.values()
-        .stream()
-        .mapToLong(Backlog::total)
-        .sum();
+    long total = 0L;
+    for (final Backlog backlog : backlogs) {
+      if (backlog != null) {
+        total += backlog.total();
+      }
+    }
+    return total;
   }
 
   @Override
   public Backlog map(final LongUnaryOperator f) {
-    return new OrderedBacklogByProcessPath(
-        backlogs.entrySet()
-            .stream()
-            .collect(
-                Collectors.toMap(
-                    Map.Entry::getKey,
-                    entry -> entry.getValue().map(f)
-                )
-            )
-    );
+    final var mapped = new Backlog[backlogs.length];
+    for (int i = 0; i < backlogs.length; i++) {
+      if (backlogs[i] != null) {
+        mapped[i] = backlogs[i].map(f);
+      }
+    }
+    return new OrderedBacklogByProcessPath(mapped);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof OrderedBacklogByProcessPath)) {
+      return false;
+    }
+    return Arrays.equals(backlogs, ((OrderedBacklogByProcessPath) o).backlogs);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(backlogs);
+  }
+
+  @Override
+  public String toString() {
+    return "OrderedBacklogByProcessPath(backlogs=" + getBacklogs() + ")";
   }
 
 }
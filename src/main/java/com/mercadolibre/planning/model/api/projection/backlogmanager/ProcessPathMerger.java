@@ -1,19 +1,10 @@
 package com.mercadolibre.planning.model.api.projection.backlogmanager;
 
-import static java.util.stream.Collectors.collectingAndThen;
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.mapping;
-
 import com.mercadolibre.flow.projection.tools.services.entities.context.Backlog;
 import com.mercadolibre.flow.projection.tools.services.entities.context.Merger;
 import com.mercadolibre.flow.projection.tools.services.entities.orderedbacklogbydate.OrderedBacklogByDate;
-import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
@@ -38,26 +29,25 @@ public class ProcessPathMerger implements Merger {
   }
 
   public Backlog mergeBacklogs(Backlog... backlogs) {
-    final Map<ProcessPath, Backlog> backlogsByProcessPath = Arrays.stream(backlogs)
-        .map(OrderedBacklogByProcessPath.class::cast)
-        .map(OrderedBacklogByProcessPath::getBacklogs)
-        .map(Map::entrySet)
-        .flatMap(Set::stream)
-        .collect(
-            groupingBy(
-                Map.Entry::getKey,
-                mapping(
-                    Map.Entry::getValue,
-                    collectingAndThen(Collectors.toList(), this::mergeList)
-                )
-            )
-        );
-
-    return new OrderedBacklogByProcessPath(backlogsByProcessPath);
-  }
+    final int processPaths = OrderedBacklogByProcessPath.processPathsCount();
+    final var merged = new Backlog[processPaths];
+    final var sameProcessPathBacklogs = new Backlog[backlogs.length];
+
+    for (int i = 0; i < processPaths; i++) {
+      int count = 0;
+      for (final Backlog backlog : backlogs) {
+        final var processPathBacklog = ((OrderedBacklogByProcessPath) backlog).get(i);
+        if (processPathBacklog != null) {
+          sameProcessPathBacklogs[count++] = processPathBacklog;
+        }
+      }
+
+      if (count > 0) {
+        merged[i] = delegateMerger.merge(Arrays.copyOf(sameProcessPathBacklogs, count));
+      }
+    }
 
-  private Backlog mergeList(final List<Backlog> backlogs) {
-    return delegateMerger.merge(backlogs.toArray(new Backlog[0]));
+    return new OrderedBacklogByProcessPath(merged);
   }
 
 }
@@ -23,10 +23,9 @@ public class ProcessPathSplitter implements Splitter {
 
   private static Stream<Tuple> mapOrderedBacklogToTuple(final Instant date, final Backlog backlog) {
     final var orderedBacklogs = (OrderedBacklogByProcessPath) backlog;
-    return orderedBacklogs.getBacklogs()
-        .entrySet()
-        .stream()
-        .map(backlogEntry -> new Tuple(date, backlogEntry.getKey(), backlogEntry.getValue()));
+    final Stream.Builder<Tuple> tuples = Stream.builder();
+    orderedBacklogs.forEach((processPath, processPathBacklog) -> tuples.add(new Tuple(date, processPath, processPathBacklog)));
+    return tuples.build();
   }
 
   /**
@@ -0,0 +1,143 @@
+package com.mercadolibre.planning.model.api.projection.backlogmanager;
+
+import com.mercadolibre.flow.projection.tools.services.entities.context.Backlog;
+import com.mercadolibre.flow.projection.tools.services.entities.orderedbacklogbydate.OrderedBacklogByDate;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Backlog by date out backed by two parallel arrays sorted by date: the epoch second of each date out and its quantity.
+ *
+ * <p>It is equivalent to an {@link OrderedBacklogByDate} but merging it is a merge-join of sorted arrays and consuming it is a single
+ * pass over them (see {@link SortedBacklogByDateMerger} and {@link SortedBacklogByDateConsumer}), so no map nor quantity object is
+ * allocated by date out. Instances are immutable: the arrays are never modified once built, which lets derived backlogs share the
+ * dates of the backlog they were obtained from. Dates out are second precise.
+ */
+public final class SortedBacklogByDate implements Backlog {
+
+  private static final long[] NO_VALUES = new long[0];
+
+  private static final SortedBacklogByDate EMPTY_BACKLOG = new SortedBacklogByDate(NO_VALUES, NO_VALUES);
+
+  private final long[] dates;
+
+  private final long[] quantities;
+
+  SortedBacklogByDate(final long[] dates, final long[] quantities) {
+    this.dates = dates;
+    this.quantities = quantities;
+  }
+
+  public static SortedBacklogByDate emptyBacklog() {
+    return EMPTY_BACKLOG;
+  }
+
+  /**
+   * Builds a backlog from the quantity of each date out.
+   *
+   * @param quantityByDate quantity by date out.
+   * @return sorted backlog.
+   */
+  public static SortedBacklogByDate from(final Map<Instant, Long> quantityByDate) {
+    if (quantityByDate.isEmpty()) {
+      return EMPTY_BACKLOG;
+    }
+
+    final var sortedDates = quantityByDate.keySet().toArray(new Instant[0]);
+    Arrays.sort(sortedDates);
+
+    final var dates = new long[sortedDates.length];
+    final var quantities = new long[sortedDates.length];
+    for (int i = 0; i < sortedDates.length; i++) {
+      dates[i] = sortedDates[i].getEpochSecond();
+      quantities[i] = quantityByDate.get(sortedDates[i]);
+    }
+
+    return new SortedBacklogByDate(dates, quantities);
+  }
+
+  public static SortedBacklogByDate from(final OrderedBacklogByDate backlog) {
+    final Map<Instant, Long> quantityByDate = new HashMap<>();
+    backlog.getBacklogs().forEach((date, quantity) -> quantityByDate.put(date, quantity.total()));
+    return from(quantityByDate);
+  }
+
+  /**
+   * Converts this backlog to the projection tools representation, for the utilities that only support it.
+   */
+  public OrderedBacklogByDate toOrderedBacklogByDate() {
+    final Map<Instant, OrderedBacklogByDate.Quantity> quantityByDate = new HashMap<>(dates.length * 2);
+    for (int i = 0; i < dates.length; i++) {
+      quantityByDate.put(dateAt(i), new OrderedBacklogByDate.Quantity(quantities[i]));
+    }
+    return new OrderedBacklogByDate(quantityByDate);
+  }
+
+  public int size() {
+    return dates.length;
+  }
+
+  public Instant dateAt(final int index) {
+    return Instant.ofEpochSecond(dates[index]);
+  }
+
+  public long quantityAt(final int index) {
+    return quantities[index];
+  }
+
+  long[] dates() {
+    return dates;
+  }
+
+  long[] quantities() {
+    return quantities;
+  }
+
+  @Override
+  public long total() {
+    long total = 0L;
+    for (final long quantity : quantities) {
+      total += quantity;
+    }
+    return total;
+  }
+
+  @Override
+  public Backlog map(final LongUnaryOperator f) {
+    final var mapped = new long[quantities.length];
+    for (int i = 0; i < quantities.length; i++) {
+      mapped[i] = f.applyAsLong(quantities[i]);
+    }
+    return new SortedBacklogByDate(dates, mapped);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof SortedBacklogByDate)) {
+      return false;
+    }
+    final var other = (SortedBacklogByDate) o;
+    return Arrays.equals(dates, other.dates) && Arrays.equals(quantities, other.quantities);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(dates) + Arrays.hashCode(quantities);
+  }
+
+  @Override
+  public String toString() {
+    final var builder = new StringBuilder("SortedBacklogByDate(");
+    for (int i = 0; i < dates.length; i++) {
+      builder.append(i == 0 ? "" : ", ").append(dateAt(i)).append('=').append(quantities[i]);
+    }
+    return builder.append(')').toString();
+  }
+
+}
@@ -0,0 +1,47 @@
+package com.mercadolibre.planning.model.api.projection.backlogmanager;
+
+import com.mercadolibre.flow.projection.tools.services.entities.context.Backlog;
+import com.mercadolibre.flow.projection.tools.services.entities.context.BacklogConsume;
+import com.mercadolibre.flow.projection.tools.services.entities.context.Consumer;
+import java.time.Instant;
+
+public class SortedBacklogByDateConsumer implements Consumer {
+
+  /**
+   * Consumes a {@link SortedBacklogByDate} in date out order, the earliest date out is consumed first.
+   *
+   * <p>The backlog is walked once and both the consumed and left over backlogs share its dates, so only their quantities arrays are
+   * allocated.
+   *
+   * @param startingDate     date from which the backlog begins to be consumed
+   * @param endingDate       date to which the backlog is consumed
+   * @param backlogToConsume backlog to be consumed
+   * @param processingPower  processing power of units that can be consumed
+   * @return consumed and left over backlogs
+   */
+  @Override
+  public BacklogConsume consume(
+      final Instant startingDate,
+      final Instant endingDate,
+      final Backlog backlogToConsume,
+      final int processingPower
+  ) {
+    final var backlog = (SortedBacklogByDate) backlogToConsume;
+    final var quantities = backlog.quantities();
+
+    final var consumed = new long[quantities.length];
+    final var leftOver = new long[quantities.length];
+
+    long remainingPower = Math.max(processingPower, 0);
+    for (int i = 0; i < quantities.length; i++) {
+      consumed[i] = Math.min(quantities[i], remainingPower);
+      leftOver[i] = quantities[i] - consumed[i];
+      remainingPower -= consumed[i];
+    }
+
+    return new BacklogConsume(
+        new SortedBacklogByDate(backlog.dates(), consumed),
+        new SortedBacklogByDate(backlog.dates(), leftOver)
+    );
+  }
+}
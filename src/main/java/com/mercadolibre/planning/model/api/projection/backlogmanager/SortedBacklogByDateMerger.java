@@ -0,0 +1,76 @@
+package com.mercadolibre.planning.model.api.projection.backlogmanager;
+
+import com.mercadolibre.flow.projection.tools.services.entities.context.Backlog;
+import com.mercadolibre.flow.projection.tools.services.entities.context.Merger;
+import java.util.Arrays;
+import java.util.Objects;
+
+public class SortedBacklogByDateMerger implements Merger {
+
+  /**
+   * Merges several {@link SortedBacklogByDate} by adding the quantities of the same date out.
+   *
+   * <p>As every backlog is sorted by date out, the merge is a merge-join that walks each backlog once.
+   *
+   * @param backlogs backlogs to be merged, null backlogs are ignored.
+   * @return SortedBacklogByDate.
+   */
+  @Override
+  public Backlog merge(final Backlog... backlogs) {
+    final var sorted = Arrays.stream(backlogs)
+        .filter(Objects::nonNull)
+        .map(SortedBacklogByDate.class::cast)
+        .toArray(SortedBacklogByDate[]::new);
+
+    if (sorted.length == 0) {
+      return SortedBacklogByDate.emptyBacklog();
+    } else if (sorted.length == 1) {
+      return sorted[0];
+    } else {
+      return mergeJoin(sorted);
+    }
+  }
+
+  private static SortedBacklogByDate mergeJoin(final SortedBacklogByDate... backlogs) {
+    int capacity = 0;
+    for (final var backlog : backlogs) {
+      capacity += backlog.size();
+    }
+
+    final var dates = new long[capacity];
+    final var quantities = new long[capacity];
+    final var cursors = new int[backlogs.length];
+
+    int size = 0;
+    while (true) {
+      long nextDate = Long.MAX_VALUE;
+      boolean pending = false;
+      for (int i = 0; i < backlogs.length; i++) {
+        if (cursors[i] < backlogs[i].size()) {
+          nextDate = Math.min(nextDate, backlogs[i].dates()[cursors[i]]);
+          pending = true;
+        }
+      }
+
+      if (!pending) {
+        break;
+      }
+
+      long quantity = 0L;
+      for (int i = 0; i < backlogs.length; i++) {
+        if (cursors[i] < backlogs[i].size() && backlogs[i].dates()[cursors[i]] == nextDate) {
+          quantity += backlogs[i].quantities()[cursors[i]];
+          cursors[i]++;
+        }
+      }
+
+      dates[size] = nextDate;
+      quantities[size] = quantity;
+      size++;
+    }
+
+    return size == capacity
+        ? new SortedBacklogByDate(dates, quantities)
+        : new SortedBacklogByDate(Arrays.copyOf(dates, size), Arrays.copyOf(quantities, size));
+  }
+}
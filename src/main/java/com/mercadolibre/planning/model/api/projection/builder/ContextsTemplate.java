@@ -0,0 +1,118 @@
+package com.mercadolibre.planning.model.api.projection.builder;
+
+import static java.util.Collections.emptyMap;
+
+import com.mercadolibre.flow.projection.tools.services.entities.context.ContextsHolder;
+import com.mercadolibre.flow.projection.tools.services.entities.context.ProcessContext;
+import com.mercadolibre.flow.projection.tools.services.entities.orderedbacklogbydate.OrderedBacklogByDate;
+import com.mercadolibre.flow.projection.tools.services.entities.process.ParallelProcess;
+import com.mercadolibre.flow.projection.tools.services.entities.process.SimpleProcess;
+import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
+import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Reusable description of the contexts of the processes of a projection graph.
+ *
+ * <p>Which processes have a context, and the helpers, throughput representations and assistants of each one do not depend on the
+ * request, so each {@link Projector} defines its template once and each projection only supplies its backlog and throughput to get
+ * a new {@link ContextsHolder}.
+ */
+final class ContextsTemplate {
+
+  private final Map<String, ContextFactory> factories;
+
+  private ContextsTemplate(final Map<String, ContextFactory> factories) {
+    this.factories = factories;
+  }
+
+  static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Builds a new, unconsumed, context holder with the backlog and throughput of a projection.
+   *
+   * @param backlog    current backlog of each process by process path.
+   * @param throughput available processing power of each process.
+   * @return context holder with a context for each process of the template.
+   */
+  ContextsHolder instantiate(
+      final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> backlog,
+      final Map<ProcessName, Map<Instant, Integer>> throughput
+  ) {
+    final ContextsHolder.ContextsHolderBuilder builder = ContextsHolder.builder();
+    factories.forEach((name, factory) -> builder.oneProcessContext(name, factory.build(backlog, throughput)));
+
+    return builder.build();
+  }
+
+  /**
+   * Builds the context of one process from the backlog and throughput of a projection.
+   */
+  @FunctionalInterface
+  interface ContextFactory {
+    ProcessContext build(
+        Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> backlog,
+        Map<ProcessName, Map<Instant, Integer>> throughput
+    );
+  }
+
+  static final class Builder {
+
+    private final Map<String, ContextFactory> factories = new LinkedHashMap<>();
+
+    private Builder() {
+    }
+
+    /**
+     * Adds processes whose backlog is an {@link OrderedBacklogByDate} and whose throughput is per hour.
+     */
+    Builder orderedBacklogByDate(final Set<ProcessName> processNames) {
+      processNames.forEach(process -> context(
+          process.getName(),
+          (backlog, throughput) -> ProjectorUtils.buildOrderedBacklogByDateProcessContext(backlog, throughput, process)
+      ));
+      return this;
+    }
+
+    /**
+     * Adds a process whose backlog is an {@link com.mercadolibre.planning.model.api.projection.backlogmanager.OrderedBacklogByProcessPath}
+     * of {@link com.mercadolibre.planning.model.api.projection.backlogmanager.SortedBacklogByDate}.
+     *
+     * @param processName process.
+     * @param throughput  representation of the throughput of the process.
+     */
+    Builder orderedBacklogByProcessPath(
+        final ProcessName processName,
+        final Function<Map<Instant, Integer>, SimpleProcess.Throughput> throughput
+    ) {
+      return context(
+          processName.getName(),
+          (backlogs, throughputs) -> ProjectorUtils.buildOrderedBacklogByProcessPathProcessContexts(
+              backlogs,
+              processName,
+              throughput.apply(throughputs.getOrDefault(processName, emptyMap()))
+          )
+      );
+    }
+
+    Builder parallel(final String name, final ParallelProcess.Context.Assistant assistant) {
+      return context(name, (backlog, throughput) -> new ParallelProcess.Context(assistant));
+    }
+
+    Builder context(final String name, final ContextFactory factory) {
+      factories.put(name, factory);
+      return this;
+    }
+
+    ContextsTemplate build() {
+      return new ContextsTemplate(new LinkedHashMap<>(factories));
+    }
+  }
+
+}
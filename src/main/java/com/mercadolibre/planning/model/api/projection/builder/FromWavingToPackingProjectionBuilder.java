@@ -6,22 +6,17 @@ import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PACK
 import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PICKING;
 import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.WALL_IN;
 import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.WAVING;
-import static com.mercadolibre.planning.model.api.projection.builder.ProjectorUtils.buildBaseContextHolder;
-import static com.mercadolibre.planning.model.api.projection.builder.ProjectorUtils.buildOrderAssemblyProcessor;
-import static com.mercadolibre.planning.model.api.projection.builder.ProjectorUtils.buildOrderedBacklogByDateBasedProcessesContexts;
-import static com.mercadolibre.planning.model.api.projection.builder.ProjectorUtils.buildOrderedBacklogByProcessPathProcessContexts;
+import static com.mercadolibre.planning.model.api.projection.builder.ProjectorUtils.baseContextsTemplate;
 import static com.mercadolibre.planning.model.api.projection.builder.ProjectorUtils.buildPiecewiseUpstream;
-import static com.mercadolibre.planning.model.api.projection.builder.ProjectorUtils.buildSimpleProcess;
 import static com.mercadolibre.planning.model.api.projection.builder.ProjectorUtils.calculateRemainingQuantity;
-import static java.util.Collections.emptyMap;
 
 import com.mercadolibre.flow.projection.tools.services.entities.context.ContextsHolder;
 import com.mercadolibre.flow.projection.tools.services.entities.context.PiecewiseUpstream;
 import com.mercadolibre.flow.projection.tools.services.entities.context.ThroughputPerHour;
 import com.mercadolibre.flow.projection.tools.services.entities.process.Processor;
-import com.mercadolibre.flow.projection.tools.services.entities.process.SequentialProcess;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
+import com.mercadolibre.planning.model.api.projection.ProjectionGraphs;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -30,9 +25,13 @@ import java.util.Set;
 
 public class FromWavingToPackingProjectionBuilder implements Projector {
 
-  static final String OUTBOUND_PROCESS_GROUP = "pre_expedition_group";
+  static final String OUTBOUND_PROCESS_GROUP = ProjectionGraphs.PRE_EXPEDITION_PROCESS_GROUP;
   static final Set<ProcessName> PROCESS_NAMES = Set.of(PACKING, BATCH_SORTER, WALL_IN, PACKING_WALL);
   private static final Set<ProcessName> PRE_EXPEDITION_PROCESSES = Set.of(WAVING, PICKING, PACKING, BATCH_SORTER, WALL_IN, PACKING_WALL);
+  private static final ContextsTemplate CONTEXTS = baseContextsTemplate(PROCESS_NAMES)
+      .orderedBacklogByProcessPath(WAVING, InstantThroughput::new)
+      .orderedBacklogByProcessPath(PICKING, ThroughputPerHour::new)
+      .build();
 
 
   /**
@@ -42,28 +41,13 @@ public class FromWavingToPackingProjectionBuilder implements Projector {
    */
   @Override
   public Processor buildGraph() {
-    return SequentialProcess.builder()
-        .name(OUTBOUND_PROCESS_GROUP)
-        .process(buildSimpleProcess(WAVING))
-        .process(buildOrderAssemblyProcessor())
-        .build();
+    return ProjectionGraphs.FROM_WAVING_TO_PACKING;
   }
 
   @Override
   public ContextsHolder buildContextHolder(final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> backlog,
                                            final Map<ProcessName, Map<Instant, Integer>> throughput) {
-    final var wavingThroughput = new InstantThroughput(throughput.getOrDefault(WAVING, emptyMap()));
-    final var wavingContext = buildOrderedBacklogByProcessPathProcessContexts(backlog, WAVING, wavingThroughput);
-
-    final var pickingThroughput = new ThroughputPerHour(throughput.getOrDefault(PICKING, emptyMap()));
-    final var pickingContext = buildOrderedBacklogByProcessPathProcessContexts(backlog, PICKING, pickingThroughput);
-
-    final var contexts = buildOrderedBacklogByDateBasedProcessesContexts(backlog, throughput, PROCESS_NAMES);
-
-    return buildBaseContextHolder(contexts)
-        .oneProcessContext(WAVING.getName(), wavingContext)
-        .oneProcessContext(PICKING.getName(), pickingContext)
-        .build();
+    return CONTEXTS.instantiate(backlog, throughput);
   }
 
   @Override
@@ -8,35 +8,31 @@ import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PICK
 import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.SALES_DISPATCH;
 import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.WALL_IN;
 import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.WAVING;
-import static com.mercadolibre.planning.model.api.projection.builder.ProjectorUtils.buildBaseContextHolder;
-import static com.mercadolibre.planning.model.api.projection.builder.ProjectorUtils.buildExpeditionProcessor;
-import static com.mercadolibre.planning.model.api.projection.builder.ProjectorUtils.buildOrderAssemblyProcessor;
-import static com.mercadolibre.planning.model.api.projection.builder.ProjectorUtils.buildOrderedBacklogByDateBasedProcessesContexts;
-import static com.mercadolibre.planning.model.api.projection.builder.ProjectorUtils.buildOrderedBacklogByProcessPathProcessContexts;
+import static com.mercadolibre.planning.model.api.projection.builder.ProjectorUtils.baseContextsTemplate;
 import static com.mercadolibre.planning.model.api.projection.builder.ProjectorUtils.buildPiecewiseUpstream;
-import static com.mercadolibre.planning.model.api.projection.builder.ProjectorUtils.buildSimpleProcess;
 import static com.mercadolibre.planning.model.api.projection.builder.ProjectorUtils.calculateRemainingQuantity;
-import static java.util.Collections.emptyMap;
 
 import com.mercadolibre.flow.projection.tools.services.entities.context.ContextsHolder;
 import com.mercadolibre.flow.projection.tools.services.entities.context.PiecewiseUpstream;
 import com.mercadolibre.flow.projection.tools.services.entities.context.ThroughputPerHour;
 import com.mercadolibre.flow.projection.tools.services.entities.process.Processor;
-import com.mercadolibre.flow.projection.tools.services.entities.process.SequentialProcess;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
+import com.mercadolibre.planning.model.api.projection.BranchesMode;
+import com.mercadolibre.planning.model.api.projection.ProjectionGraphs;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * This class is used to project the necessary processes for outbound operation.
  */
 public class OutboundProjectionBuilder implements Projector {
 
-  static final String OUTBOUND_PROCESS_GROUP = "outbound_group";
+  static final String OUTBOUND_PROCESS_GROUP = ProjectionGraphs.OUTBOUND_PROCESS_GROUP;
 
   static final Set<ProcessName> POST_PICKING_PROCESS = Set.of(PACKING, BATCH_SORTER, WALL_IN, PACKING_WALL, HU_ASSEMBLY, SALES_DISPATCH);
 
@@ -45,6 +41,44 @@ public class OutboundProjectionBuilder implements Projector {
   static final Set<ProcessName> OUTBOUND_PROCESSES =
       Set.of(WAVING, PICKING, PACKING, BATCH_SORTER, WALL_IN, PACKING_WALL, HU_ASSEMBLY, SALES_DISPATCH);
 
+  private static final ContextsTemplate CONTEXTS = baseContextsTemplate(POST_PICKING_PROCESS)
+      .orderedBacklogByProcessPath(WAVING, InstantThroughput::new)
+      .orderedBacklogByProcessPath(PICKING, ThroughputPerHour::new)
+      .build();
+
+  private static final Map<Executor, Processor> CONCURRENT_GRAPHS = new ConcurrentHashMap<>();
+
+  private final Processor graph;
+
+  public OutboundProjectionBuilder() {
+    this.graph = ProjectionGraphs.UNIFIED_OUTBOUND;
+  }
+
+  /**
+   * Builder whose graph projects the packing and the consolidation branches concurrently. The graph is built the first time an
+   * executor is used and then shared by every builder of that executor.
+   *
+   * @param branchesExecutor executor of the branches, it must not be the one running the projection.
+   */
+  public OutboundProjectionBuilder(final Executor branchesExecutor) {
+    this.graph = CONCURRENT_GRAPHS.computeIfAbsent(
+        branchesExecutor,
+        executor -> ProjectionGraphs.unifiedOutbound(ProjectorUtils.ASSISTANT, ProjectorUtils.BACKLOG_BY_DATE_MERGER, executor)
+    );
+  }
+
+  /**
+   * Builder of the given branches mode.
+   *
+   * @param branchesMode     how the packing and the consolidation branches are projected.
+   * @param branchesExecutor executor of the branches when they are projected concurrently.
+   * @return the builder.
+   */
+  public static OutboundProjectionBuilder of(final BranchesMode branchesMode, final Executor branchesExecutor) {
+    return branchesMode == BranchesMode.CONCURRENT
+        ? new OutboundProjectionBuilder(branchesExecutor)
+        : new OutboundProjectionBuilder();
+  }
 
   /**
    * Builds Outbound projection Processes graph.
@@ -53,12 +87,7 @@ public class OutboundProjectionBuilder implements Projector {
    */
   @Override
   public Processor buildGraph() {
-    return SequentialProcess.builder()
-        .name(OUTBOUND_PROCESS_GROUP)
-        .process(buildSimpleProcess(WAVING))
-        .process(buildOrderAssemblyProcessor())
-        .process(buildExpeditionProcessor())
-        .build();
+    return graph;
   }
 
   /**
@@ -71,23 +100,7 @@ public class OutboundProjectionBuilder implements Projector {
   @Override
   public ContextsHolder buildContextHolder(final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> backlog,
                                            final Map<ProcessName, Map<Instant, Integer>> throughput) {
-    final var wavingThroughput = new InstantThroughput(throughput.getOrDefault(WAVING, emptyMap()));
-    final var wavingContext = buildOrderedBacklogByProcessPathProcessContexts(backlog, WAVING, wavingThroughput);
-
-    final var pickingThroughput = new ThroughputPerHour(throughput.getOrDefault(PICKING, emptyMap()));
-    final var pickingContext = buildOrderedBacklogByProcessPathProcessContexts(backlog, PICKING, pickingThroughput);
-
-    final var postPickingBacklog = backlog.entrySet().stream()
-        .filter(entry -> !PRE_PICKING_PROCESS.contains(entry.getKey()))
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-    final var postPickingContext =
-        buildOrderedBacklogByDateBasedProcessesContexts(postPickingBacklog, throughput, POST_PICKING_PROCESS);
-
-    return buildBaseContextHolder(postPickingContext)
-        .oneProcessContext(WAVING.getName(), wavingContext)
-        .oneProcessContext(PICKING.getName(), pickingContext)
-        .build();
+    return CONTEXTS.instantiate(backlog, throughput);
   }
 
   /**
@@ -6,9 +6,8 @@ import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PACK
 import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PICKING;
 import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.WALL_IN;
 import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.WAVING;
-import static com.mercadolibre.planning.model.api.projection.builder.ProjectorUtils.buildBaseContextHolder;
 import static com.mercadolibre.planning.model.api.projection.builder.ProjectorUtils.buildOrderAssemblyProcessor;
-import static com.mercadolibre.planning.model.api.projection.builder.ProjectorUtils.buildOrderedBacklogByDateBasedProcessesContexts;
+import static com.mercadolibre.planning.model.api.projection.builder.ProjectorUtils.baseContextsTemplate;
 import static com.mercadolibre.planning.model.api.projection.builder.ProjectorUtils.buildPiecewiseUpstream;
 import static com.mercadolibre.planning.model.api.projection.builder.ProjectorUtils.calculateRemainingQuantity;
 import static java.util.Collections.emptyMap;
@@ -16,23 +15,19 @@ import static java.util.stream.Collectors.flatMapping;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toMap;
 
-import com.mercadolibre.flow.projection.tools.services.entities.context.BacklogHelper;
 import com.mercadolibre.flow.projection.tools.services.entities.context.ContextsHolder;
-import com.mercadolibre.flow.projection.tools.services.entities.context.Merger;
 import com.mercadolibre.flow.projection.tools.services.entities.context.PiecewiseUpstream;
 import com.mercadolibre.flow.projection.tools.services.entities.context.ThroughputPerHour;
 import com.mercadolibre.flow.projection.tools.services.entities.orderedbacklogbydate.OrderedBacklogByDate;
-import com.mercadolibre.flow.projection.tools.services.entities.orderedbacklogbydate.OrderedBacklogByDateConsumer;
-import com.mercadolibre.flow.projection.tools.services.entities.orderedbacklogbydate.helpers.BacklogByDateHelper;
-import com.mercadolibre.flow.projection.tools.services.entities.orderedbacklogbydate.helpers.OrderedBacklogByDateMerger;
 import com.mercadolibre.flow.projection.tools.services.entities.process.Processor;
 import com.mercadolibre.flow.projection.tools.services.entities.process.SimpleProcess;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
 import com.mercadolibre.planning.model.api.projection.backlogmanager.DistributionBasedConsumer;
 import com.mercadolibre.planning.model.api.projection.backlogmanager.OrderedBacklogByProcessPath;
-import com.mercadolibre.planning.model.api.projection.backlogmanager.ProcessPathMerger;
+import com.mercadolibre.planning.model.api.projection.backlogmanager.SortedBacklogByDate;
 import java.time.Instant;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -50,19 +45,12 @@ public class PackingProjectionBuilder implements Projector {
 
   private static final Set<ProcessName> PROCESS_NAME = Set.of(PACKING, BATCH_SORTER, WALL_IN, PACKING_WALL);
 
-  private static final Merger BACKLOG_BY_DATE_MERGER = new OrderedBacklogByDateMerger();
-
-  private static final OrderedBacklogByDateConsumer BACKLOG_BY_DATE_CONSUMER = new OrderedBacklogByDateConsumer();
-
-  private static final double MIN_THROUGHPUT_PERCENTAGE = 0.05;
-
-  private static final BacklogHelper BACKLOG_BY_PROCESS_PATH_HELPER = new BacklogByDateHelper(
-      new DistributionBasedConsumer(BACKLOG_BY_DATE_CONSUMER, MIN_THROUGHPUT_PERCENTAGE),
-      new ProcessPathMerger(BACKLOG_BY_DATE_MERGER)
-  );
-
   private static final Set<ProcessName> PACKING_PROJECTION_PROCESSES = Set.of(PICKING, PACKING, BATCH_SORTER, WALL_IN, PACKING_WALL);
 
+  private static final ContextsTemplate CONTEXTS = baseContextsTemplate(PROCESS_NAME)
+      .context(PICKING.getName(), PackingProjectionBuilder::buildPickingProcessContext)
+      .build();
+
   private static SimpleProcess.Context buildPickingProcessContext(
       final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> backlog,
       final Map<ProcessName, Map<Instant, Integer>> throughput
@@ -73,6 +61,7 @@ public class PackingProjectionBuilder implements Projector {
     ).collect(
         groupingBy(
             Map.Entry::getKey,
+            () -> new EnumMap<>(ProcessPath.class),
             flatMapping(
                 entry -> entry.getValue()
                     .entrySet()
@@ -82,11 +71,11 @@ public class PackingProjectionBuilder implements Projector {
         )
     );
 
-    final var currentPickingBacklog = OrderedBacklogByProcessPath.from(pickingWithWavingBacklog);
+    final var currentPickingBacklog = OrderedBacklogByProcessPath.fromSortedByDate(pickingWithWavingBacklog);
 
     return new SimpleProcess.Context(
         new ThroughputPerHour(throughput.getOrDefault(PICKING, emptyMap())),
-        BACKLOG_BY_PROCESS_PATH_HELPER,
+        ProjectorUtils.BACKLOG_BY_PROCESS_PATH_HELPER,
         currentPickingBacklog
     );
   }
@@ -102,8 +91,8 @@ public class PackingProjectionBuilder implements Projector {
   }
 
   /**
-   * Builds context holder for a projection in which Picking's backlog is represented by an {@link OrderedBacklogByProcessPath} and the
-   * rest of the processes by {@link OrderedBacklogByDate}.
+   * Builds context holder for a projection in which Picking's backlog is represented by an {@link OrderedBacklogByProcessPath} of
+   * {@link SortedBacklogByDate} and the rest of the processes by {@link OrderedBacklogByDate}.
    *
    * <p>Pickings' backlog is consumed by a {@link DistributionBasedConsumer} and split between the following Processes
    * taking into account the Process Path. This split backlog is (in the same splitting operation)
@@ -118,12 +107,7 @@ public class PackingProjectionBuilder implements Projector {
       final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> backlog,
       final Map<ProcessName, Map<Instant, Integer>> throughput
   ) {
-    final var contexts = buildOrderedBacklogByDateBasedProcessesContexts(backlog, throughput, PROCESS_NAME);
-    final var pickingContext = buildPickingProcessContext(backlog, throughput);
-
-    return buildBaseContextHolder(contexts)
-        .oneProcessContext(PICKING.getName(), pickingContext)
-        .build();
+    return CONTEXTS.instantiate(backlog, throughput);
   }
 
   /**
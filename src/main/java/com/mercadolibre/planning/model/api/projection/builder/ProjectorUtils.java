@@ -1,14 +1,8 @@
 package com.mercadolibre.planning.model.api.projection.builder;
 
-import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.BATCH_SORTER;
-import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.EXPEDITION;
-import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.HU_ASSEMBLY;
-import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PACKING;
-import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PACKING_WALL;
 import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PICKING;
-import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.SALES_DISPATCH;
-import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.WALL_IN;
 import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.WAVING;
+import static com.mercadolibre.planning.model.api.projection.ProjectionGraphs.PACKING_PROCESS_GROUP;
 import static com.mercadolibre.planning.model.api.util.DateUtils.instantRange;
 import static java.time.temporal.ChronoUnit.HOURS;
 import static java.util.Collections.emptyMap;
@@ -35,14 +29,16 @@ import com.mercadolibre.flow.projection.tools.services.entities.orderedbacklogby
 import com.mercadolibre.flow.projection.tools.services.entities.orderedbacklogbydate.utils.OrderedBacklogByDateUtils;
 import com.mercadolibre.flow.projection.tools.services.entities.process.ParallelProcess;
 import com.mercadolibre.flow.projection.tools.services.entities.process.Processor;
-import com.mercadolibre.flow.projection.tools.services.entities.process.SequentialProcess;
 import com.mercadolibre.flow.projection.tools.services.entities.process.SimpleProcess;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
-import com.mercadolibre.planning.model.api.projection.BacklogProjection;
+import com.mercadolibre.planning.model.api.projection.ProjectionGraphs;
 import com.mercadolibre.planning.model.api.projection.backlogmanager.DistributionBasedConsumer;
 import com.mercadolibre.planning.model.api.projection.backlogmanager.OrderedBacklogByProcessPath;
 import com.mercadolibre.planning.model.api.projection.backlogmanager.ProcessPathMerger;
+import com.mercadolibre.planning.model.api.projection.backlogmanager.SortedBacklogByDate;
+import com.mercadolibre.planning.model.api.projection.backlogmanager.SortedBacklogByDateConsumer;
+import com.mercadolibre.planning.model.api.projection.backlogmanager.SortedBacklogByDateMerger;
 import com.mercadolibre.planning.model.api.projection.waverless.idleness.ProcessPathSplitter;
 import java.time.Instant;
 import java.util.Collection;
@@ -60,63 +56,46 @@ import java.util.stream.Stream;
 final class ProjectorUtils {
 
   private static final OrderedBacklogByDateConsumer BACKLOG_BY_DATE_CONSUMER = new OrderedBacklogByDateConsumer();
-  private static final Merger BACKLOG_BY_DATE_MERGER = new OrderedBacklogByDateMerger();
+  static final Merger BACKLOG_BY_DATE_MERGER = new OrderedBacklogByDateMerger();
+  private static final Merger SORTED_BACKLOG_BY_DATE_MERGER = new SortedBacklogByDateMerger();
   static final ParallelProcess.Context.Assistant ASSISTANT = new DelegateAssistant(
-      new ProcessPathSplitter(BacklogProjection::toOrderedBacklogByDate),
+      new ProcessPathSplitter(ProjectorUtils::toOrderedBacklogByDate),
       BACKLOG_BY_DATE_MERGER
   );
   private static final BacklogHelper BACKLOG_BY_DATE_HELPER = new BacklogByDateHelper(
       BACKLOG_BY_DATE_CONSUMER,
       BACKLOG_BY_DATE_MERGER
   );
-  private static final String CONSOLIDATION_PROCESS_GROUP = "consolidation_group";
   private static final double MIN_THROUGHPUT_PERCENTAGE = 0.05;
   static final BacklogHelper BACKLOG_BY_PROCESS_PATH_HELPER = new BacklogByDateHelper(
-      new DistributionBasedConsumer(BACKLOG_BY_DATE_CONSUMER, MIN_THROUGHPUT_PERCENTAGE),
-      new ProcessPathMerger(BACKLOG_BY_DATE_MERGER)
+      new DistributionBasedConsumer(new SortedBacklogByDateConsumer(), MIN_THROUGHPUT_PERCENTAGE),
+      new ProcessPathMerger(SORTED_BACKLOG_BY_DATE_MERGER)
   );
-  private static final String ORDER_ASSEMBLY_PROCESS_GROUP = "order_assembly";
-  private static final String PACKING_PROCESS_GROUP = "packing_group";
   private static final Set<ProcessName> PRE_PACKING_PROCESSES = Set.of(WAVING, PICKING);
 
   private ProjectorUtils() {
   }
 
   /**
-   * Constructs contexts for processes using ordered backlogs by date.
+   * Constructs the context of a process using an ordered backlog by date.
    *
-   * @param backlog      Map of process names to a map of process paths by timestamps.
-   * @param throughput   Map of a process to its throughput at different timestamps.
-   * @param processNames Set of process names to construct contexts for.
-   * @return Map of process names to their corresponding contexts.
+   * @param backlog     Map of process names to a map of process paths by timestamps.
+   * @param throughput  Map of a process to its throughput at different timestamps.
+   * @param processName Process to construct the context for.
+   * @return the context of the process, with the backlog of all its process paths merged.
    */
-  static Map<ProcessName, SimpleProcess.Context> buildOrderedBacklogByDateBasedProcessesContexts(
+  static SimpleProcess.Context buildOrderedBacklogByDateProcessContext(
       final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> backlog,
       final Map<ProcessName, Map<Instant, Integer>> throughput,
-      final Set<ProcessName> processNames
+      final ProcessName processName
   ) {
-    final var backlogQuantityByProcess = buildOrderedBacklogProcess(backlog);
+    final var processBacklog = backlog.get(processName);
 
-    return processNames.stream()
-        .collect(
-            toMap(
-                Function.identity(),
-                process -> new SimpleProcess.Context(
-                    new ThroughputPerHour(throughput.getOrDefault(process, emptyMap())),
-                    BACKLOG_BY_DATE_HELPER,
-                    backlogQuantityByProcess.getOrDefault(process, OrderedBacklogByDate.emptyBacklog())
-                )
-            )
-        );
-  }
-
-  private static Map<ProcessName, Backlog> buildOrderedBacklogProcess(
-      final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> backlog
-  ) {
-    return backlog.entrySet().stream()
-        .collect(
-            toMap(Map.Entry::getKey, entry -> asOrderedBacklogByDate(entry.getValue().values()))
-        );
+    return new SimpleProcess.Context(
+        new ThroughputPerHour(throughput.getOrDefault(processName, emptyMap())),
+        BACKLOG_BY_DATE_HELPER,
+        processBacklog == null ? OrderedBacklogByDate.emptyBacklog() : asOrderedBacklogByDate(processBacklog.values())
+    );
   }
 
   private static Backlog asOrderedBacklogByDate(final Collection<Map<Instant, Long>> backlogsByDate) {
@@ -136,6 +115,19 @@ final class ProjectorUtils {
     return new OrderedBacklogByDate(backlogQuantityByDate);
   }
 
+  /**
+   * Merges the backlogs of several process paths that picking hands over to the packing group. Picking and waving represent the
+   * backlog of each process path by a {@link SortedBacklogByDate}, the following processes use the projection tools
+   * {@link OrderedBacklogByDate}, so the merged backlog is converted once here.
+   *
+   * @param backlogByProcessPath sorted backlog by process path.
+   * @return merged backlog.
+   */
+  static Backlog toOrderedBacklogByDate(final Map<ProcessPath, Backlog> backlogByProcessPath) {
+    final var merged = SORTED_BACKLOG_BY_DATE_MERGER.merge(backlogByProcessPath.values().toArray(Backlog[]::new));
+    return ((SortedBacklogByDate) merged).toOrderedBacklogByDate();
+  }
+
   /**
    * Builds an instance of OrderedBacklogByProcessPath from a map of process paths to maps of instants to longs.
    *
@@ -149,7 +141,7 @@ final class ProjectorUtils {
       final ProcessName processName,
       final SimpleProcess.Throughput throughputGetter
   ) {
-    final var currentBacklog = OrderedBacklogByProcessPath.from(backlog.getOrDefault(processName, emptyMap()));
+    final var currentBacklog = OrderedBacklogByProcessPath.fromSortedByDate(backlog.getOrDefault(processName, emptyMap()));
 
     return new SimpleProcess.Context(
         throughputGetter,
@@ -159,18 +151,15 @@ final class ProjectorUtils {
   }
 
   /**
-   * Builds an instance of ContextsHolder using a map of process names to contexts.
+   * Builds a template with the contexts of the given processes, using ordered backlogs by date, and of the packing group.
    *
-   * @param contextMap The map of process names to contexts.
-   * @return A ContextsHolder instance representing the context holder of the process map.
+   * @param processNames processes whose backlog is an ordered backlog by date.
+   * @return template builder, to which the contexts of the remaining processes can be added.
    */
-  static ContextsHolder.ContextsHolderBuilder buildBaseContextHolder(
-      final Map<ProcessName, SimpleProcess.Context> contextMap
-  ) {
-    final ContextsHolder.ContextsHolderBuilder builder = ContextsHolder.builder();
-    contextMap.forEach((process, context) -> builder.oneProcessContext(process.getName(), context));
-
-    return builder.oneProcessContext(PACKING_PROCESS_GROUP, new ParallelProcess.Context(ASSISTANT));
+  static ContextsTemplate.Builder baseContextsTemplate(final Set<ProcessName> processNames) {
+    return ContextsTemplate.builder()
+        .orderedBacklogByDate(processNames)
+        .parallel(PACKING_PROCESS_GROUP, ASSISTANT);
   }
 
   public static SimpleProcess buildSimpleProcess(final ProcessName processName) {
@@ -178,32 +167,11 @@ final class ProjectorUtils {
   }
 
   public static Processor buildOrderAssemblyProcessor() {
-    return SequentialProcess.builder()
-        .name(ORDER_ASSEMBLY_PROCESS_GROUP)
-        .process(new SimpleProcess(PICKING.getName()))
-        .process(
-            ParallelProcess.builder()
-                .name(PACKING_PROCESS_GROUP)
-                .processor(new SimpleProcess(PACKING.getName()))
-                .processor(
-                    SequentialProcess.builder()
-                        .name(CONSOLIDATION_PROCESS_GROUP)
-                        .process(new SimpleProcess(BATCH_SORTER.getName()))
-                        .process(new SimpleProcess(WALL_IN.getName()))
-                        .process(new SimpleProcess(PACKING_WALL.getName()))
-                        .build()
-                )
-                .build()
-        )
-        .build();
+    return ProjectionGraphs.ORDER_ASSEMBLY;
   }
 
   public static Processor buildExpeditionProcessor() {
-    return SequentialProcess.builder()
-        .name(EXPEDITION.getName())
-        .process(new SimpleProcess(HU_ASSEMBLY.getName()))
-        .process(new SimpleProcess(SALES_DISPATCH.getName()))
-        .build();
+    return ProjectionGraphs.EXPEDITION_GROUP;
   }
 
   /**
@@ -224,7 +192,7 @@ final class ProjectorUtils {
         .collect(
             toMap(
                 Function.identity(),
-                date -> OrderedBacklogByProcessPath.from(
+                date -> OrderedBacklogByProcessPath.fromSortedByDate(
                     forecastedBacklog.getOrDefault(date, emptyMap())
                 )
             )
@@ -251,10 +219,9 @@ final class ProjectorUtils {
     var lastBacklog = (OrderedBacklogByProcessPath) processContext.getLastUnprocessedBacklogState()
         .getBacklog();
 
-    return lastBacklog.getBacklogs()
-        .values()
-        .stream()
-        .map(OrderedBacklogByDate.class::cast);
+    return lastBacklog.values()
+        .map(SortedBacklogByDate.class::cast)
+        .map(SortedBacklogByDate::toOrderedBacklogByDate);
   }
 
   public static List<OrderedBacklogByDate> getGlobalProcessedBacklogs(final ContextsHolder contexts, final String globalContextProcess) {
@@ -355,8 +322,9 @@ final class ProjectorUtils {
 
   private static Stream<BacklogState> processBacklogState(final BacklogState backlogState) {
     if (backlogState.getBacklog() instanceof OrderedBacklogByProcessPath backlog) {
-      return backlog.getBacklogs().values().stream()
-          .map(OrderedBacklogByDate.class::cast)
+      return backlog.values()
+          .map(SortedBacklogByDate.class::cast)
+          .map(SortedBacklogByDate::toOrderedBacklogByDate)
           .map(orderedBacklogByDate -> new ProcessedBacklogState(
               backlogState.getStartDate(),
               backlogState.getEndDate(),
@@ -0,0 +1,29 @@
+package com.mercadolibre.planning.model.api.projection.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
+import java.util.List;
+import lombok.Value;
+
+/**
+ * Columnar representation of a backlog projection by operation hour, process and date out.
+ *
+ * <p>Operation hours and dates out are dictionaries of offsets, in seconds, from {@code base}. The quantities of each process are a
+ * single array ordered by operation hour and then by date out, so the backlog of {@code processes[p]} at {@code operationHours[h]}
+ * for {@code dateOuts[d]} is {@code quantities[p][h * dateOuts.length + d]}. Absent backlogs are zero.
+ */
+@Value
+public class ColumnarBacklogProjectionResponse {
+    @JsonProperty("base")
+    long base;
+
+    @JsonProperty("operation_hours")
+    int[] operationHours;
+
+    @JsonProperty("date_outs")
+    int[] dateOuts;
+
+    List<ProcessName> processes;
+
+    int[][] quantities;
+}
@@ -12,10 +12,14 @@ import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.WAVI
 import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
 import com.mercadolibre.planning.model.api.projection.BacklogProjectionService;
+import com.mercadolibre.planning.model.api.projection.BranchesMode;
+import com.mercadolibre.planning.model.api.projection.InflectionPointsMode;
 import com.mercadolibre.planning.model.api.projection.builder.OutboundProjectionBuilder;
+import com.mercadolibre.planning.model.api.projection.dto.response.ColumnarBacklogProjectionResponse;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 public final class OutboundProjectionUseCase {
 
@@ -42,10 +46,61 @@ public final class OutboundProjectionUseCase {
       final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> currentBacklog,
       final Map<Instant, Map<ProcessPath, Map<Instant, Long>>> forecastBacklog,
       final Map<ProcessName, Map<Instant, Integer>> throughput
+  ) {
+    return execute(executionDateFrom, executionDateTo, currentBacklog, forecastBacklog, throughput, InflectionPointsMode.FIXED_WINDOW);
+  }
+
+  /**
+   * Same as {@link #execute(Instant, Instant, Map, Map, Map)} but with the given inflection points generation mode.
+   */
+  public static Map<Instant, Map<ProcessName, Map<Instant, Integer>>> execute(
+      final Instant executionDateFrom,
+      final Instant executionDateTo,
+      final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> currentBacklog,
+      final Map<Instant, Map<ProcessPath, Map<Instant, Long>>> forecastBacklog,
+      final Map<ProcessName, Map<Instant, Integer>> throughput,
+      final InflectionPointsMode mode
   ) {
     final OutboundProjectionBuilder projector = new OutboundProjectionBuilder();
     return BacklogProjectionService.execute(executionDateFrom, executionDateTo, currentBacklog, forecastBacklog, throughput, PROCESSES,
-        projector);
+        projector, mode);
+  }
 
+  /**
+   * Same as {@link #execute(Instant, Instant, Map, Map, Map, InflectionPointsMode)} but with the given branches mode, the packing and
+   * consolidation branches are projected concurrently on the given executor when it is {@link BranchesMode#CONCURRENT}.
+   */
+  public static Map<Instant, Map<ProcessName, Map<Instant, Integer>>> execute(
+      final Instant executionDateFrom,
+      final Instant executionDateTo,
+      final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> currentBacklog,
+      final Map<Instant, Map<ProcessPath, Map<Instant, Long>>> forecastBacklog,
+      final Map<ProcessName, Map<Instant, Integer>> throughput,
+      final InflectionPointsMode mode,
+      final BranchesMode branchesMode,
+      final Executor branchesExecutor
+  ) {
+    final OutboundProjectionBuilder projector = OutboundProjectionBuilder.of(branchesMode, branchesExecutor);
+    return BacklogProjectionService.execute(executionDateFrom, executionDateTo, currentBacklog, forecastBacklog, throughput, PROCESSES,
+        projector, mode);
+  }
+
+  /**
+   * Same as {@link #execute(Instant, Instant, Map, Map, Map, InflectionPointsMode, BranchesMode, Executor)} but returns the backlog in
+   * the columnar format.
+   */
+  public static ColumnarBacklogProjectionResponse executeColumnar(
+      final Instant executionDateFrom,
+      final Instant executionDateTo,
+      final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> currentBacklog,
+      final Map<Instant, Map<ProcessPath, Map<Instant, Long>>> forecastBacklog,
+      final Map<ProcessName, Map<Instant, Integer>> throughput,
+      final InflectionPointsMode mode,
+      final BranchesMode branchesMode,
+      final Executor branchesExecutor
+  ) {
+    final OutboundProjectionBuilder projector = OutboundProjectionBuilder.of(branchesMode, branchesExecutor);
+    return BacklogProjectionService.executeColumnar(executionDateFrom, executionDateTo, currentBacklog, forecastBacklog, throughput,
+        PROCESSES, projector, mode);
   }
 }
@@ -9,7 +9,6 @@ import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.SALE
 import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.WALL_IN;
 import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.WAVING;
 import static com.mercadolibre.planning.model.api.projection.BacklogProjection.buildContexts;
-import static com.mercadolibre.planning.model.api.projection.BacklogProjection.buildGraph;
 import static com.mercadolibre.planning.model.api.projection.BacklogProjection.buildOrderedBacklogByDateBasedProcessesContexts;
 import static com.mercadolibre.planning.model.api.projection.BacklogProjection.toOrderedBacklogByDate;
 import static com.mercadolibre.planning.model.api.util.DateUtils.generateInflectionPoints;
@@ -22,10 +21,10 @@ import com.mercadolibre.flow.projection.tools.services.entities.context.Piecewis
 import com.mercadolibre.flow.projection.tools.services.entities.context.UnprocessedBacklogState;
 import com.mercadolibre.flow.projection.tools.services.entities.orderedbacklogbydate.OrderedBacklogByDate;
 import com.mercadolibre.flow.projection.tools.services.entities.process.Processor;
-import com.mercadolibre.flow.projection.tools.services.entities.process.SequentialProcess;
 import com.mercadolibre.flow.projection.tools.services.entities.process.SimpleProcess;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
+import com.mercadolibre.planning.model.api.projection.ProjectionGraphs;
 import com.mercadolibre.planning.model.api.projection.backlogmanager.OrderedBacklogByProcessPath;
 import com.mercadolibre.planning.model.api.projection.dto.response.BacklogProjectionResponse;
 import com.mercadolibre.planning.model.api.util.DateUtils;
@@ -42,7 +41,6 @@ import lombok.Getter;
 public final class ShippingProjection {
 
   private static final int INFLECTION_WINDOW_SIZE_IN_MINUTES = 5;
-  private static final String EXPEDITION = "Expedition";
   private static final String OUTBOUND_SHIPPING = "OutboundShipping";
   private static final Set<ProcessName> PROCESSES =
       Set.of(PICKING, BATCH_SORTER, WALL_IN, PACKING, PACKING_WALL, HU_ASSEMBLY, SALES_DISPATCH);
@@ -102,17 +100,7 @@ public final class ShippingProjection {
    * @return a {@link Processor} with outbound and shipping processes.
    */
   private static Processor buildShippingGraph() {
-    return SequentialProcess.builder()
-        .name(OUTBOUND_SHIPPING)
-        .process(buildGraph())
-        .process(
-            SequentialProcess.builder()
-                .name(EXPEDITION)
-                .process(new SimpleProcess(HU_ASSEMBLY.getName()))
-                .process(new SimpleProcess(SALES_DISPATCH.getName()))
-                .build()
-        )
-        .build();
+    return ProjectionGraphs.OUTBOUND_SHIPPING;
   }
 
   /**
@@ -0,0 +1,49 @@
+package com.mercadolibre.planning.model.api.projection.scenario;
+
+import static java.util.Collections.emptyMap;
+
+import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * What-if scenario over a {@link ScenarioBase}: the throughput by process and operation hour and the cycle time by sla that replace
+ * the base ones. Hours, processes and slas that are not overridden keep their base values.
+ */
+public record Scenario(
+    String id,
+    Map<ProcessName, Map<Instant, Integer>> throughput,
+    Map<Instant, Integer> cycleTimeBySla
+) {
+
+  public Scenario {
+    throughput = throughput == null ? emptyMap() : throughput;
+    cycleTimeBySla = cycleTimeBySla == null ? emptyMap() : cycleTimeBySla;
+  }
+
+  Map<ProcessName, Map<Instant, Integer>> throughputOver(final Map<ProcessName, Map<Instant, Integer>> base) {
+    if (throughput.isEmpty()) {
+      return base;
+    }
+
+    final Map<ProcessName, Map<Instant, Integer>> merged = new HashMap<>(base);
+    throughput.forEach((process, overrides) -> {
+      final Map<Instant, Integer> tph = new HashMap<>(base.getOrDefault(process, emptyMap()));
+      tph.putAll(overrides);
+      merged.put(process, tph);
+    });
+    return merged;
+  }
+
+  Map<Instant, Integer> cycleTimeBySlaOver(final Map<Instant, Integer> base) {
+    if (cycleTimeBySla.isEmpty()) {
+      return base;
+    }
+
+    final Map<Instant, Integer> merged = new HashMap<>(base);
+    merged.putAll(cycleTimeBySla);
+    return merged;
+  }
+
+}
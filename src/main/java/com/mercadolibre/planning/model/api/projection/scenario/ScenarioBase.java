@@ -0,0 +1,40 @@
+package com.mercadolibre.planning.model.api.projection.scenario;
+
+import static java.util.stream.Collectors.toUnmodifiableMap;
+
+import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
+import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Inputs shared by every scenario of a batch. The maps are copied into unmodifiable ones, so they can be read concurrently by the
+ * projections of all the scenarios.
+ */
+public record ScenarioBase(
+    Instant dateFrom,
+    Instant dateTo,
+    Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> currentBacklog,
+    Map<Instant, Map<ProcessPath, Map<Instant, Long>>> forecastBacklog,
+    Map<ProcessName, Map<Instant, Integer>> throughput,
+    Map<Instant, Integer> cycleTimeBySla
+) {
+
+  public ScenarioBase {
+    currentBacklog = copyOf(currentBacklog);
+    forecastBacklog = copyOf(forecastBacklog);
+    throughput = throughput.entrySet().stream()
+        .collect(toUnmodifiableMap(Map.Entry::getKey, entry -> Map.copyOf(entry.getValue())));
+    cycleTimeBySla = Map.copyOf(cycleTimeBySla);
+  }
+
+  private static <K> Map<K, Map<ProcessPath, Map<Instant, Long>>> copyOf(final Map<K, Map<ProcessPath, Map<Instant, Long>>> backlog) {
+    return backlog.entrySet().stream()
+        .collect(toUnmodifiableMap(
+            Map.Entry::getKey,
+            entry -> entry.getValue().entrySet().stream()
+                .collect(toUnmodifiableMap(Map.Entry::getKey, quantities -> Map.copyOf(quantities.getValue())))
+        ));
+  }
+
+}
@@ -0,0 +1,12 @@
+package com.mercadolibre.planning.model.api.projection.scenario;
+
+import com.mercadolibre.planning.model.api.projection.availablecapacity.CapacityBySLA;
+import com.mercadolibre.planning.model.api.projection.builder.SlaProjectionResult;
+import java.util.List;
+
+public record ScenarioResult(
+    String id,
+    SlaProjectionResult projection,
+    List<CapacityBySLA> capacities
+) {
+}
@@ -0,0 +1,69 @@
+package com.mercadolibre.planning.model.api.projection.scenario;
+
+import static com.mercadolibre.planning.model.api.projection.availablecapacity.AvailableCapacityUseCase.getCutOffs;
+
+import com.mercadolibre.planning.model.api.projection.SLAProjectionService;
+import com.mercadolibre.planning.model.api.projection.availablecapacity.AvailableCapacityUseCase;
+import com.mercadolibre.planning.model.api.projection.builder.PackingProjectionBuilder;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * Projects several what-if scenarios of the same backlog and forecast in a single call.
+ *
+ * <p>The base inputs are parsed once and shared, read only, by every scenario. Each scenario runs the SLA projection once and derives
+ * its available capacity from it, as independent tasks of a fork-join pool.
+ */
+@Service
+public class ScenariosProjectionUseCase {
+
+  private final ForkJoinPool scenariosPool;
+
+  private final AvailableCapacityUseCase availableCapacityUseCase;
+
+  public ScenariosProjectionUseCase(
+      @Qualifier("projectionsForkJoinPool") final ForkJoinPool projectionsForkJoinPool,
+      final AvailableCapacityUseCase availableCapacityUseCase
+  ) {
+    this.scenariosPool = projectionsForkJoinPool;
+    this.availableCapacityUseCase = availableCapacityUseCase;
+  }
+
+  /**
+   * Executes the SLA projection and the available capacity of each scenario.
+   *
+   * @param base      inputs shared by all the scenarios.
+   * @param scenarios overrides of each scenario.
+   * @return the result of each scenario, in the same order as the scenarios.
+   */
+  public List<ScenarioResult> execute(final ScenarioBase base, final List<Scenario> scenarios) {
+    final List<ForkJoinTask<ScenarioResult>> tasks = scenarios.stream()
+        .map(scenario -> scenariosPool.submit(() -> project(base, scenario)))
+        .toList();
+
+    return tasks.stream()
+        .map(ForkJoinTask::join)
+        .toList();
+  }
+
+  private ScenarioResult project(final ScenarioBase base, final Scenario scenario) {
+    final var throughput = scenario.throughputOver(base.throughput());
+    final var cutOffs = getCutOffs(scenario.cycleTimeBySlaOver(base.cycleTimeBySla()));
+
+    final var projection = SLAProjectionService.execute(
+        base.dateFrom(),
+        base.dateTo(),
+        base.currentBacklog(),
+        base.forecastBacklog(),
+        throughput,
+        cutOffs,
+        new PackingProjectionBuilder()
+    );
+
+    return new ScenarioResult(scenario.id(), projection, availableCapacityUseCase.execute(projection, throughput, cutOffs));
+  }
+
+}
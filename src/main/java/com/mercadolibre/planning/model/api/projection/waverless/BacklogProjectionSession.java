@@ -0,0 +1,151 @@
+package com.mercadolibre.planning.model.api.projection.waverless;
+
+import static com.mercadolibre.planning.model.api.projection.BacklogProjection.PROCESSES;
+import static java.util.stream.Collectors.toMap;
+
+import com.mercadolibre.flow.projection.tools.services.entities.context.Backlog;
+import com.mercadolibre.flow.projection.tools.services.entities.context.ContextsHolder;
+import com.mercadolibre.flow.projection.tools.services.entities.context.UnprocessedBacklogState;
+import com.mercadolibre.flow.projection.tools.services.entities.process.Processor;
+import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
+import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
+import com.mercadolibre.planning.model.api.projection.BacklogProjection;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Incremental version of {@link BacklogProjection#project(List, List, Map, Map)} for a sequence of waves that grows one wave at a time.
+ *
+ * <p>The backlog of each process is kept at every inflection point as a checkpoint. When a new wave is added, the projection is
+ * resumed from the last checkpoint before the wave's date instead of projecting again from the first inflection point.
+ *
+ * <p>A checkpoint can only be used if there is no wave at its date, as that wave would be ambiguously applied before and after resuming.
+ * When no checkpoint can be used the projection is executed from the first inflection point, exactly as the non-incremental one.
+ */
+public final class BacklogProjectionSession {
+
+  private final Processor graph;
+
+  private final List<Instant> inflectionPoints;
+
+  private final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> currentBacklog;
+
+  private final Map<ProcessName, Map<Instant, Integer>> throughput;
+
+  private final List<Wave> waves = new ArrayList<>();
+
+  private final TreeMap<Instant, Map<ProcessName, Backlog>> checkpoints = new TreeMap<>();
+
+  private final Map<ProcessName, TreeMap<Instant, Long>> projectedBacklogs = new HashMap<>();
+
+  private BacklogProjectionSession(
+      final List<Instant> inflectionPoints,
+      final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> currentBacklog,
+      final Map<ProcessName, Map<Instant, Integer>> throughput
+  ) {
+    this.graph = BacklogProjection.buildGraph();
+    this.inflectionPoints = inflectionPoints;
+    this.currentBacklog = currentBacklog;
+    this.throughput = throughput;
+  }
+
+  /**
+   * Starts a session by projecting the current backlog without waves.
+   *
+   * @param inflectionPoints points in time for which the projection will be evaluated.
+   * @param currentBacklog   current backlog of each process by process path.
+   * @param throughput       available processing power of each process.
+   * @return projected session.
+   */
+  public static BacklogProjectionSession start(
+      final List<Instant> inflectionPoints,
+      final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> currentBacklog,
+      final Map<ProcessName, Map<Instant, Integer>> throughput
+  ) {
+    final var session = new BacklogProjectionSession(inflectionPoints, currentBacklog, throughput);
+    session.projectFrom(0);
+    return session;
+  }
+
+  /**
+   * Adds a wave to the session and updates the projected backlogs from the last usable checkpoint before the wave's date.
+   *
+   * @param wave new wave.
+   */
+  public void addWave(final Wave wave) {
+    waves.add(wave);
+    projectFrom(lastCheckpointIndexBefore(wave.getDate()));
+  }
+
+  public List<Wave> getWaves() {
+    return List.copyOf(waves);
+  }
+
+  /**
+   * Returns the total projected backlog by process and date, as {@link BacklogProjection#project(List, List, Map, Map)} would return
+   * for the same waves.
+   *
+   * @return projected backlog by process and date.
+   */
+  public Map<ProcessName, Map<Instant, Long>> getProjectedBacklogs() {
+    return projectedBacklogs.entrySet()
+        .stream()
+        .collect(toMap(Map.Entry::getKey, entry -> new HashMap<>(entry.getValue())));
+  }
+
+  private int lastCheckpointIndexBefore(final Instant date) {
+    final Set<Instant> wavesDates = waves.stream()
+        .map(Wave::getDate)
+        .collect(Collectors.toSet());
+
+    for (int i = inflectionPoints.size() - 1; i > 0; i--) {
+      final var inflectionPoint = inflectionPoints.get(i);
+      if (inflectionPoint.isBefore(date) && !wavesDates.contains(inflectionPoint) && checkpoints.containsKey(inflectionPoint)) {
+        return i;
+      }
+    }
+    return 0;
+  }
+
+  private void projectFrom(final int index) {
+    final Instant from = inflectionPoints.get(index);
+
+    final ContextsHolder contexts = index == 0
+        ? BacklogProjection.buildContexts(currentBacklog, throughput).build()
+        : BacklogProjection.buildContextsFromBacklogs(checkpoints.get(from), throughput);
+
+    final var pendingWaves = index == 0
+        ? waves
+        : waves.stream().filter(wave -> wave.getDate().isAfter(from)).collect(Collectors.toList());
+
+    final var states = BacklogProjection.projectStates(
+        graph,
+        contexts,
+        ProjectionUtils.asUpstream(pendingWaves),
+        inflectionPoints.subList(index, inflectionPoints.size()),
+        PROCESSES
+    );
+
+    if (index == 0) {
+      checkpoints.clear();
+      projectedBacklogs.clear();
+    } else {
+      checkpoints.tailMap(from, false).clear();
+      projectedBacklogs.values().forEach(backlogs -> backlogs.tailMap(from, false).clear());
+    }
+
+    states.forEach((process, processStates) -> {
+      final var backlogs = projectedBacklogs.computeIfAbsent(process, key -> new TreeMap<>());
+      for (final UnprocessedBacklogState state : processStates) {
+        backlogs.put(state.getEndDate(), state.getBacklog().total());
+        checkpoints.computeIfAbsent(state.getEndDate(), key -> new HashMap<>()).put(process, state.getBacklog());
+      }
+    });
+  }
+}
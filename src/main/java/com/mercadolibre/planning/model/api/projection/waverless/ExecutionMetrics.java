@@ -6,10 +6,16 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public enum ExecutionMetrics {
   UPSTREAM_ITERATIONS("upstream.iterations"),
-  SLA_DATE_ITERATIONS("sla.iterations");
+  SLA_DATE_ITERATIONS("sla.iterations"),
+  RESPONSE_CACHE_HITS("response_cache.hits"),
+  RESPONSE_CACHE_MISSES("response_cache.misses"),
+  PHASE_LATENCY("phase.latency"),
+  PHASE_ALLOCATED_BYTES("phase.allocated_bytes");
 
   private static final String FLOW_PREFIX = "application.planning.model.api.waverless.%s";
 
+  private static final String TAG_FORMAT = "%s:%s";
+
   private final String metric;
 
   ExecutionMetrics(final String sufix) {
@@ -20,6 +26,18 @@ public enum ExecutionMetrics {
     DataDogMetricsWrapper.histogram(metric, val);
   }
 
+  public void count(final long val, final String... tags) {
+    DataDogMetricsWrapper.histogram(metric, val, tags);
+  }
+
+  public void increment(final String... tags) {
+    DataDogMetricsWrapper.increment(metric, tags);
+  }
+
+  public static String tag(final String key, final Object value) {
+    return String.format(TAG_FORMAT, key, value);
+  }
+
   public static final class DataDogMetricsWrapper {
     private static final Metrics PROXY = Metrics.INSTANCE;
 
@@ -29,5 +47,9 @@ public enum ExecutionMetrics {
     static void histogram(String var1, long var2, String... var4) {
       PROXY.histogram(var1, var2, var4);
     }
+
+    static void increment(String var1, String... var2) {
+      PROXY.increment(var1, var2);
+    }
   }
 }
@@ -4,6 +4,7 @@ import static com.mercadolibre.planning.model.api.projection.waverless.PickingPr
 import static com.mercadolibre.planning.model.api.projection.waverless.PickingProjectionBuilder.asUpstream;
 import static com.mercadolibre.planning.model.api.projection.waverless.PickingProjectionBuilder.backlogProjection;
 import static com.mercadolibre.planning.model.api.projection.waverless.PickingProjectionBuilder.buildContextHolder;
+import static com.mercadolibre.planning.model.api.util.MapUtils.toEnumMap;
 import static java.util.Collections.emptyMap;
 
 import com.mercadolibre.flow.projection.tools.services.entities.process.Processor;
@@ -45,7 +46,6 @@ public final class NextSlaWaveProjector {
    * @param logisticCenterId warehouse
    * @return next wave configuration, if found.
    */
-  @Trace
   public static Optional<DateWaveSupplier> calculateNextWave(
       final List<Instant> inflectionPoints,
       final List<Wave> waves,
@@ -54,6 +54,42 @@ public final class NextSlaWaveProjector {
       final Map<ProcessPath, Map<ProcessName, Map<Instant, Integer>>> throughput,
       final Map<ProcessPath, Integer> minCycleTimes,
       final String logisticCenterId
+  ) {
+    return calculateNextWave(
+        inflectionPoints,
+        waves,
+        pendingBacklog,
+        currentBacklog,
+        throughput,
+        minCycleTimes,
+        logisticCenterId,
+        WavesOptions.defaults()
+    );
+  }
+
+  /**
+   * Projects the states of the picking backlog and returns the next wave by sla.
+   *
+   * @param inflectionPoints dates that will be projected
+   * @param waves            existing waves
+   * @param pendingBacklog   forecasted backlog by Process Path.
+   * @param currentBacklog   initial picking backlogs by process path
+   * @param throughput       throughput by Process Path and Hour.
+   * @param minCycleTimes    minimum cycle time configuration by Process Path. It must contain all Process Paths.
+   * @param logisticCenterId warehouse
+   * @param options          SLA search mode and executor on which the speculative SLA simulations are run.
+   * @return next wave configuration, if found.
+   */
+  @Trace
+  public static Optional<DateWaveSupplier> calculateNextWave(
+      final List<Instant> inflectionPoints,
+      final List<Wave> waves,
+      final PendingBacklog pendingBacklog,
+      final Map<ProcessPath, Map<Instant, Long>> currentBacklog,
+      final Map<ProcessPath, Map<ProcessName, Map<Instant, Integer>>> throughput,
+      final Map<ProcessPath, Integer> minCycleTimes,
+      final String logisticCenterId,
+      final WavesOptions options
   ) {
     final var nextWaveCandidateInflectionPoints = slaProjectionInflectionPoints(inflectionPoints, waves);
     if (nextWaveCandidateInflectionPoints.size() <= MIN_INFLECTION_POINTS_TO_PROJECT) {
@@ -71,7 +107,8 @@ public final class NextSlaWaveProjector {
         pickingThroughput,
         pendingBacklog,
         minCycleTimes,
-        logisticCenterId
+        logisticCenterId,
+        options
     );
   }
 
@@ -94,7 +131,8 @@ public final class NextSlaWaveProjector {
         .stream()
         .filter(pp -> pp != ProcessPath.GLOBAL)
         .collect(
-            Collectors.toMap(
+            toEnumMap(
+                ProcessPath.class,
                 Function.identity(),
                 pp -> throughput.get(pp).getOrDefault(ProcessName.PICKING, emptyMap())
             )
@@ -108,7 +146,8 @@ public final class NextSlaWaveProjector {
       final Map<ProcessPath, Map<Instant, Integer>> throughput,
       final PendingBacklog pendingBacklog,
       final Map<ProcessPath, Integer> minCycleTimes,
-      final String logisticCenterId
+      final String logisticCenterId,
+      final WavesOptions options
   ) {
     final var backlogProjection = projectedBacklogs.collect(Collectors.groupingBy(
         ProcessPathBacklog::getDate,
@@ -122,7 +161,8 @@ public final class NextSlaWaveProjector {
         pendingBacklog,
         minCycleTimes,
         waves,
-        logisticCenterId
+        logisticCenterId,
+        options
     );
   }
 
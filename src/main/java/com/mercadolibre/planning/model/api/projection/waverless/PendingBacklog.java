@@ -2,113 +2,201 @@ package com.mercadolibre.planning.model.api.projection.waverless;
 
 import static java.time.temporal.ChronoUnit.HOURS;
 import static java.util.Collections.emptyList;
-import static java.util.Collections.emptyMap;
-import static java.util.stream.Collectors.collectingAndThen;
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.mapping;
-import static java.util.stream.Collectors.reducing;
-import static java.util.stream.Collectors.summingLong;
 import static java.util.stream.Collectors.toMap;
 
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import lombok.RequiredArgsConstructor;
 import lombok.Value;
 
 /**
  * PendingBacklog encapsulates both the backlog ready to wave and the forecasted backlog and exposes a method to calculate the
  * backlog that will be in this state at some date.
+ *
+ * <p>The backlog is kept in primitive arrays indexed by process path ordinal and SLA index. The forecast of each process path and SLA
+ * is sorted by date in and accumulated in prefix sums, so the forecast that has arrived at some date is found with a binary search.
+ * The units waved by the previous waves are accumulated in a table that is only updated when new waves are appended to the ones
+ * of the last query.
  */
-@RequiredArgsConstructor
 public class PendingBacklog {
 
   private static final long NO_BACKLOG = 0L;
 
-  private final Map<ProcessPath, List<AvailableBacklog>> readyToWave;
+  private static final double MINUTES_IN_HOUR = 60D;
 
-  private final Map<ProcessPath, List<AvailableBacklog>> forecast;
+  private static final int PROCESS_PATHS = ProcessPath.values().length;
 
-  private static Set<Instant> slasFromBacklogs(final List<AvailableBacklog> readyToWave, final List<AvailableBacklog> forecast) {
-    return Stream.concat(readyToWave.stream(), forecast.stream())
+  private static final long[] NO_DATES = new long[0];
+
+  private static final double[] NO_QUANTITIES = new double[0];
+
+  private static final double[] NO_PREFIX_SUMS = {0D};
+
+  private final Map<ProcessPath, Set<Instant>> slasByProcessPath;
+
+  private final Instant[] slas;
+
+  private final double[][] readyToWave;
+
+  private final long[][][] forecastDatesIn;
+
+  private final double[][][] forecastQuantities;
+
+  private final double[][][] forecastPrefixSums;
+
+  private volatile WavedUnits wavedUnits;
+
+  public PendingBacklog(
+      final Map<ProcessPath, List<AvailableBacklog>> readyToWave,
+      final Map<ProcessPath, List<AvailableBacklog>> forecast
+  ) {
+    this.slasByProcessPath = slasByProcessPath(readyToWave, forecast);
+
+    this.slas = Stream.concat(readyToWave.values().stream(), forecast.values().stream())
+        .flatMap(List::stream)
         .map(AvailableBacklog::getDateOut)
-        .collect(Collectors.toSet());
+        .distinct()
+        .sorted()
+        .toArray(Instant[]::new);
+
+    this.readyToWave = new double[PROCESS_PATHS][slas.length];
+    readyToWave.forEach((pp, backlogs) -> backlogs.forEach(
+        backlog -> this.readyToWave[pp.ordinal()][slaIndex(backlog.getDateOut())] += backlog.getQuantity()
+    ));
+
+    this.forecastDatesIn = new long[PROCESS_PATHS][slas.length][];
+    this.forecastQuantities = new double[PROCESS_PATHS][slas.length][];
+    this.forecastPrefixSums = new double[PROCESS_PATHS][slas.length][];
+    for (int pp = 0; pp < PROCESS_PATHS; pp++) {
+      Arrays.fill(forecastDatesIn[pp], NO_DATES);
+      Arrays.fill(forecastQuantities[pp], NO_QUANTITIES);
+      Arrays.fill(forecastPrefixSums[pp], NO_PREFIX_SUMS);
+    }
+    forecast.forEach(this::indexForecast);
+
+    this.wavedUnits = new WavedUnits(emptyList(), new long[PROCESS_PATHS][slas.length]);
   }
 
-  private static Map<Instant, Long> availableBacklogFromProcessPathAt(
-      final Instant inflectionPoint,
-      final List<AvailableBacklog> readyToWave,
-      final List<AvailableBacklog> forecast,
-      final Map<Instant, Long> wavesBacklogBySla
+  private static Map<ProcessPath, Set<Instant>> slasByProcessPath(
+      final Map<ProcessPath, List<AvailableBacklog>> readyToWave,
+      final Map<ProcessPath, List<AvailableBacklog>> forecast
   ) {
-    final var backlogToWave = Stream.concat(
-        readyToWave.stream(),
-        mapForecast(inflectionPoint, forecast)
-    ).collect(
-        groupingBy(
-            AvailableBacklog::getDateOut,
-            mapping(AvailableBacklog::getQuantity, collectingAndThen(reducing(0D, Double::sum), Double::longValue))
-        )
-    );
-
-    return backlogToWave.entrySet()
-        .stream()
-        .filter(entry -> entry.getValue() > wavesBacklogBySla.getOrDefault(entry.getKey(), NO_BACKLOG))
-        .collect(
-            toMap(
-                Map.Entry::getKey,
-                entry -> entry.getValue() - wavesBacklogBySla.getOrDefault(entry.getKey(), NO_BACKLOG)
-            )
-        );
+    final var processPaths = Stream.concat(
+        readyToWave.keySet().stream(),
+        forecast.keySet().stream()
+    ).collect(Collectors.toSet());
 
+    return processPaths.stream()
+        .collect(toMap(
+            Function.identity(),
+            pp -> Stream.concat(
+                    readyToWave.getOrDefault(pp, emptyList()).stream(),
+                    forecast.getOrDefault(pp, emptyList()).stream()
+                )
+                .map(AvailableBacklog::getDateOut)
+                .collect(Collectors.toSet())
+        ));
+  }
 
+  private static int firstIndexNotBefore(final long[] sortedDates, final long date) {
+    int low = 0;
+    int high = sortedDates.length;
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (sortedDates[mid] < date) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
   }
 
-  private static Stream<AvailableBacklog> mapForecast(final Instant inflectionPoint, final List<AvailableBacklog> forecast) {
-    final var inflectionHour = inflectionPoint.truncatedTo(HOURS);
-    final var minutes = ZonedDateTime.ofInstant(inflectionPoint, ZoneOffset.UTC).getMinute();
-
-    final var multiplier = minutes / 60D;
-
-    return Stream.concat(
-        forecast.stream()
-            .filter(backlog -> backlog.getDateIn().isBefore(inflectionHour)),
-        forecast.stream()
-            .filter(backlog -> backlog.getDateIn().equals(inflectionHour))
-            .map(backlog -> new AvailableBacklog(
-                backlog.getDateIn(),
-                backlog.getDateOut(),
-                backlog.getQuantity() * multiplier
-            ))
-    );
+  private void indexForecast(final ProcessPath processPath, final List<AvailableBacklog> backlogs) {
+    final Map<Integer, List<AvailableBacklog>> backlogsBySla = backlogs.stream()
+        .collect(Collectors.groupingBy(backlog -> slaIndex(backlog.getDateOut())));
+
+    backlogsBySla.forEach((sla, slaBacklogs) -> {
+      // stable sort, so that the backlogs with the same date in are added in the same order as they were received
+      final var sorted = new ArrayList<>(slaBacklogs);
+      sorted.sort(Comparator.comparing(AvailableBacklog::getDateIn));
+
+      final var dates = new long[sorted.size()];
+      final var quantities = new double[sorted.size()];
+      final var prefixSums = new double[sorted.size() + 1];
+      for (int i = 0; i < sorted.size(); i++) {
+        dates[i] = sorted.get(i).getDateIn().getEpochSecond();
+        quantities[i] = sorted.get(i).getQuantity();
+        prefixSums[i + 1] = prefixSums[i] + quantities[i];
+      }
+
+      final int pp = processPath.ordinal();
+      forecastDatesIn[pp][sla] = dates;
+      forecastQuantities[pp][sla] = quantities;
+      forecastPrefixSums[pp][sla] = prefixSums;
+    });
   }
 
-  private static Map<ProcessPath, Map<Instant, Long>> reduceWavesByProcessPath(final List<Wave> waves) {
-    final var pendingProcessPathBacklogStream = waves.stream().map(Wave::getConfiguration)
-        .map(Map::entrySet)
-        .flatMap(Set::stream)
-        .flatMap(entry -> entry.getValue()
-            .getWavedUnitsByCpt().entrySet().stream().map(
-                wavedUnitsByCpt ->
-                    new PendingProcessPathBacklog(
-                        entry.getKey(),
-                        wavedUnitsByCpt.getKey(),
-                        wavedUnitsByCpt.getValue()
-                    )
-            )
-        );
+  int slaIndex(final Instant sla) {
+    return Arrays.binarySearch(slas, sla);
+  }
 
-    return pendingProcessPathBacklogStream
-        .collect(groupingBy(PendingProcessPathBacklog::getProcessPath,
-            groupingBy(PendingProcessPathBacklog::getSla, summingLong(PendingProcessPathBacklog::getQuantity)))
-        );
+  public int slasCount() {
+    return slas.length;
+  }
+
+  public Instant slaAt(final int index) {
+    return slas[index];
+  }
+
+  /**
+   * Calculates the backlog of a Process Path that is available to be waved at some date, net of the units waved by the previous waves.
+   *
+   * <p>Forecasted backlog is available once its date in has passed; the forecast of the current hour is available in proportion to the
+   * elapsed minutes of the hour.
+   *
+   * @param inflectionPoint date at which the backlog is evaluated.
+   * @param processPath     process path.
+   * @param waves           previous waves.
+   * @param availableBySla  output array with one position for each SLA, as indexed by {@link #slaAt(int)}, where the available units
+   *                        are written. SLAs without available backlog are set to zero.
+   */
+  public void availableBacklogAt(
+      final Instant inflectionPoint,
+      final ProcessPath processPath,
+      final List<Wave> waves,
+      final long[] availableBySla
+  ) {
+    final long inflectionHour = inflectionPoint.truncatedTo(HOURS).getEpochSecond();
+    final double multiplier = ZonedDateTime.ofInstant(inflectionPoint, ZoneOffset.UTC).getMinute() / MINUTES_IN_HOUR;
+
+    final int pp = processPath.ordinal();
+    final long[] waved = wavedUnitsFor(waves).units[pp];
+
+    for (int sla = 0; sla < slas.length; sla++) {
+      final long[] datesIn = forecastDatesIn[pp][sla];
+      final double[] quantities = forecastQuantities[pp][sla];
+
+      int index = firstIndexNotBefore(datesIn, inflectionHour);
+      double quantity = readyToWave[pp][sla] + forecastPrefixSums[pp][sla][index];
+      for (; index < datesIn.length && datesIn[index] == inflectionHour; index++) {
+        quantity += quantities[index] * multiplier;
+      }
+
+      final long units = (long) quantity;
+      availableBySla[sla] = units > waved[sla] ? units - waved[sla] : NO_BACKLOG;
+    }
   }
 
   public Map<ProcessPath, Map<Instant, Long>> availableBacklogAt(
@@ -116,35 +204,49 @@ public class PendingBacklog {
       final List<ProcessPath> processPaths,
       final List<Wave> waves
   ) {
-    final var wavesByProcessPath = reduceWavesByProcessPath(waves);
+    final long[] availableBySla = new long[slas.length];
 
     return processPaths.stream()
         .collect(toMap(
                 Function.identity(),
-                pp -> availableBacklogFromProcessPathAt(
-                    inflectionPoint,
-                    readyToWave.getOrDefault(pp, emptyList()),
-                    forecast.getOrDefault(pp, emptyList()),
-                    wavesByProcessPath.getOrDefault(pp, emptyMap())
-                )
+                pp -> {
+                  availableBacklogAt(inflectionPoint, pp, waves, availableBySla);
+
+                  final Map<Instant, Long> backlog = new HashMap<>();
+                  for (int sla = 0; sla < slas.length; sla++) {
+                    if (availableBySla[sla] > NO_BACKLOG) {
+                      backlog.put(slas[sla], availableBySla[sla]);
+                    }
+                  }
+                  return backlog;
+                }
             )
         );
   }
 
   public Map<ProcessPath, Set<Instant>> calculateSlasByProcessPath() {
-    final var processPaths = Stream.concat(
-        readyToWave.keySet().stream(),
-        forecast.keySet().stream()
-    ).collect(Collectors.toSet());
+    return slasByProcessPath;
+  }
 
-    return processPaths.stream()
-        .collect(toMap(
-            Function.identity(),
-            pp -> slasFromBacklogs(
-                readyToWave.getOrDefault(pp, emptyList()),
-                forecast.getOrDefault(pp, emptyList())
-            )
-        ));
+  /**
+   * Returns the waved units table for the waves, folding only the waves that were appended since the last query. If the waves are not
+   * an extension of the last ones the table is rebuilt.
+   */
+  private WavedUnits wavedUnitsFor(final List<Wave> waves) {
+    final var current = wavedUnits;
+    if (current.isPrefixOf(waves)) {
+      if (current.size() == waves.size()) {
+        return current;
+      }
+
+      final var updated = current.append(waves, this::slaIndex);
+      wavedUnits = updated;
+      return updated;
+    }
+
+    final var rebuilt = new WavedUnits(emptyList(), new long[PROCESS_PATHS][slas.length]).append(waves, this::slaIndex);
+    wavedUnits = rebuilt;
+    return rebuilt;
   }
 
   @Value
@@ -156,13 +258,54 @@ public class PendingBacklog {
     Double quantity;
   }
 
-  @Value
-  private static class PendingProcessPathBacklog {
-    ProcessPath processPath;
+  /**
+   * Immutable table of waved units by process path ordinal and SLA index, together with the waves that it accumulates.
+   */
+  private static final class WavedUnits {
+
+    private final List<Wave> waves;
+
+    private final long[][] units;
+
+    private WavedUnits(final List<Wave> waves, final long[][] units) {
+      this.waves = waves;
+      this.units = units;
+    }
+
+    int size() {
+      return waves.size();
+    }
+
+    boolean isPrefixOf(final List<Wave> other) {
+      if (other.size() < waves.size()) {
+        return false;
+      }
+
+      for (int i = 0; i < waves.size(); i++) {
+        if (waves.get(i) != other.get(i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    WavedUnits append(final List<Wave> allWaves, final Function<Instant, Integer> slaIndex) {
+      final long[][] updated = new long[units.length][];
+      for (int pp = 0; pp < units.length; pp++) {
+        updated[pp] = units[pp].clone();
+      }
 
-    Instant sla;
+      for (final Wave wave : allWaves.subList(waves.size(), allWaves.size())) {
+        wave.getConfiguration().forEach((pp, configuration) -> configuration.getWavedUnitsByCpt().forEach((sla, quantity) -> {
+          final int index = slaIndex.apply(sla);
+          if (index >= 0) {
+            updated[pp.ordinal()][index] += quantity;
+          }
+        }));
+      }
 
-    Long quantity;
+      return new WavedUnits(List.copyOf(allWaves), updated);
+    }
   }
 
 }
@@ -0,0 +1,130 @@
+package com.mercadolibre.planning.model.api.projection.waverless;
+
+import static com.mercadolibre.planning.model.api.projection.waverless.ExecutionMetrics.PHASE_ALLOCATED_BYTES;
+import static com.mercadolibre.planning.model.api.projection.waverless.ExecutionMetrics.PHASE_LATENCY;
+import static com.mercadolibre.planning.model.api.projection.waverless.ExecutionMetrics.tag;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.Value;
+
+/**
+ * Accumulates the elapsed time and the allocated bytes of each phase of {@link WavesCalculator#waves}.
+ *
+ * <p>Allocations are read from the {@link com.sun.management.ThreadMXBean} of the thread that runs the phase, so the work that a
+ * phase hands off to other threads, such as the speculative SLA simulations, is only accounted for in its elapsed time. Phases can
+ * be measured concurrently from different threads.
+ */
+public final class PhaseProfiler {
+
+  private static final String LOGISTIC_CENTER_ID_TAG = "logistic_center_id";
+
+  private static final String PHASE_TAG = "phase";
+
+  private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = threadMxBean();
+
+  private final Map<Phase, Accumulator> accumulators = new EnumMap<>(Phase.class);
+
+  public PhaseProfiler() {
+    Arrays.stream(Phase.values()).forEach(phase -> accumulators.put(phase, new Accumulator()));
+  }
+
+  private static com.sun.management.ThreadMXBean threadMxBean() {
+    final var bean = ManagementFactory.getThreadMXBean();
+    if (bean instanceof com.sun.management.ThreadMXBean sunBean && sunBean.isThreadAllocatedMemorySupported()) {
+      return sunBean;
+    }
+    return null;
+  }
+
+  private static long currentThreadAllocatedBytes() {
+    return THREAD_MX_BEAN == null ? 0L : THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+  }
+
+  public <T> T measure(final Phase phase, final Supplier<T> supplier) {
+    final long allocatedBytes = currentThreadAllocatedBytes();
+    final long start = System.nanoTime();
+    try {
+      return supplier.get();
+    } finally {
+      accumulators.get(phase).add(System.nanoTime() - start, currentThreadAllocatedBytes() - allocatedBytes);
+    }
+  }
+
+  public void run(final Phase phase, final Runnable runnable) {
+    measure(phase, () -> {
+      runnable.run();
+      return null;
+    });
+  }
+
+  public Map<Phase, Measure> getMeasures() {
+    final Map<Phase, Measure> measures = new EnumMap<>(Phase.class);
+    accumulators.forEach((phase, accumulator) -> measures.put(phase, accumulator.measure()));
+    return measures;
+  }
+
+  /**
+   * Sends the elapsed time and the allocated bytes of each executed phase as histograms tagged by phase and logistic center.
+   *
+   * @param logisticCenterId warehouse.
+   */
+  public void report(final String logisticCenterId) {
+    getMeasures().forEach((phase, measure) -> {
+      if (measure.getExecutions() > 0) {
+        final var tags = new String[]{tag(LOGISTIC_CENTER_ID_TAG, logisticCenterId), tag(PHASE_TAG, phase.toJson())};
+        PHASE_LATENCY.count(measure.getElapsedMillis(), tags);
+        PHASE_ALLOCATED_BYTES.count(measure.getAllocatedBytes(), tags);
+      }
+    });
+  }
+
+  public enum Phase {
+    INFLECTION_POINTS,
+    PENDING_BACKLOG,
+    SLA_PROJECTION,
+    IDLENESS_PROJECTION,
+    WAVE_CONSTRUCTION,
+    BACKLOG_PROJECTION;
+
+    @JsonValue
+    public String toJson() {
+      return name().toLowerCase(Locale.US);
+    }
+  }
+
+  @Value
+  public static class Measure {
+    long executions;
+
+    long elapsedMillis;
+
+    long allocatedBytes;
+  }
+
+  private static final class Accumulator {
+    private final LongAdder executions = new LongAdder();
+
+    private final LongAdder elapsedNanos = new LongAdder();
+
+    private final LongAdder allocatedBytes = new LongAdder();
+
+    void add(final long nanos, final long bytes) {
+      executions.increment();
+      elapsedNanos.add(nanos);
+      allocatedBytes.add(bytes);
+    }
+
+    Measure measure() {
+      return new Measure(executions.sum(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos.sum()), allocatedBytes.sum());
+    }
+  }
+
+}
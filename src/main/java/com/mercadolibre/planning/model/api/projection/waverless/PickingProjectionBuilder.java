@@ -1,6 +1,7 @@
 package com.mercadolibre.planning.model.api.projection.waverless;
 
 import static com.mercadolibre.planning.model.api.projection.waverless.sla.BacklogAndForecastByDateUtils.calculateProjectedEndDate;
+import static com.mercadolibre.planning.model.api.util.MapUtils.toEnumMap;
 import static java.util.Collections.emptyMap;
 import static java.util.stream.Collectors.flatMapping;
 import static java.util.stream.Collectors.groupingBy;
@@ -26,10 +27,12 @@ import com.mercadolibre.planning.model.api.projection.waverless.sla.BacklogAndFo
 import com.mercadolibre.planning.model.api.projection.waverless.sla.BacklogAndForecastDateMerge;
 import com.mercadolibre.planning.model.api.projection.waverless.sla.ProportionalBacklogConsumer;
 import java.time.Instant;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -51,14 +54,28 @@ public final class PickingProjectionBuilder {
 
   private static final BacklogAndForecastDateMerge MERGER = new BacklogAndForecastDateMerge();
 
+  // there are few distinct combinations of process paths, so the graphs are never evicted
+  private static final Map<List<ProcessPath>, Processor> GRAPHS = new ConcurrentHashMap<>();
+
   private PickingProjectionBuilder() {
   }
 
+  /**
+   * Returns the picking graph of the process paths. Graphs hold no projection state, so they are built once for each list of process
+   * paths and shared by every projection, including each SLA simulation of the waves calculation.
+   *
+   * @param processPaths process paths, whose order is kept in the graph.
+   * @return picking graph with one process for each process path.
+   */
   public static Processor buildGraph(final List<ProcessPath> processPaths) {
     if (isEmpty(processPaths)) {
       throw new IllegalArgumentException(MISSING_PROCESS_PATHS_ERROR_MESSAGE);
     }
 
+    return GRAPHS.computeIfAbsent(List.copyOf(processPaths), PickingProjectionBuilder::compileGraph);
+  }
+
+  private static Processor compileGraph(final List<ProcessPath> processPaths) {
     final List<Processor> processors = processPaths.stream()
         .map(PickingProjectionBuilder::processorName)
         .map(SimpleProcess::new)
@@ -104,7 +121,7 @@ public final class PickingProjectionBuilder {
     );
 
     return processPaths.stream()
-        .collect(toMap(Function.identity(), path -> getProjectedEndDate(path, updatedContexts, slas)));
+        .collect(toEnumMap(ProcessPath.class, Function.identity(), path -> getProjectedEndDate(path, updatedContexts, slas)));
   }
 
   static Upstream asUpstream(final Map<Instant, Map<ProcessPath, Map<Instant, Long>>> waves) {
@@ -130,6 +147,7 @@ public final class PickingProjectionBuilder {
                         .stream(),
                     groupingBy(
                         Map.Entry::getKey,
+                        () -> new EnumMap<>(ProcessPath.class),
                         flatMapping(
                             entry -> entry.getValue()
                                 .getWavedUnitsByCpt()
@@ -0,0 +1,88 @@
+package com.mercadolibre.planning.model.api.projection.waverless;
+
+import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Deadlines of the SLAs of a {@link PendingBacklog} indexed by process path ordinal and SLA index.
+ *
+ * <p>Deadlines are kept as minute offsets from the projection origin, which is the first inflection point. Inflection points, SLAs
+ * and cycle times are all minute precise, so comparing minute offsets is equivalent to comparing the dates.
+ */
+public final class SlaDeadlines {
+
+  private static final int NO_DEADLINE = Integer.MIN_VALUE;
+
+  private static final long SECONDS_IN_MINUTE = 60L;
+
+  private static final int PROCESS_PATHS = ProcessPath.values().length;
+
+  private final long originMinute;
+
+  private final PendingBacklog pendingBacklog;
+
+  private final int[][] deadlines;
+
+  private SlaDeadlines(final Instant origin, final PendingBacklog pendingBacklog) {
+    this.originMinute = epochMinute(origin);
+    this.pendingBacklog = pendingBacklog;
+    this.deadlines = new int[PROCESS_PATHS][pendingBacklog.slasCount()];
+    for (final int[] slaDeadlines : deadlines) {
+      Arrays.fill(slaDeadlines, NO_DEADLINE);
+    }
+  }
+
+  /**
+   * Builds the deadlines of each SLA of each process path of the pending backlog.
+   *
+   * @param origin             first inflection point.
+   * @param pendingBacklog     backlog whose SLAs are indexed.
+   * @param minutesBeforeSla   minutes between the deadline and the SLA of a process path.
+   * @return deadlines table.
+   */
+  static SlaDeadlines of(
+      final Instant origin,
+      final PendingBacklog pendingBacklog,
+      final ToIntBiFunction<ProcessPath, Instant> minutesBeforeSla
+  ) {
+    final var table = new SlaDeadlines(origin, pendingBacklog);
+
+    pendingBacklog.calculateSlasByProcessPath().forEach((pp, slas) -> slas.forEach(sla ->
+        table.deadlines[pp.ordinal()][pendingBacklog.slaIndex(sla)] = table.minuteOf(sla) - minutesBeforeSla.applyAsInt(pp, sla)
+    ));
+
+    return table;
+  }
+
+  private static long epochMinute(final Instant date) {
+    return Math.floorDiv(date.getEpochSecond(), SECONDS_IN_MINUTE);
+  }
+
+  int minuteOf(final Instant date) {
+    return (int) (epochMinute(date) - originMinute);
+  }
+
+  /**
+   * Returns true if the backlog of the SLA can still be waved at the minute, that is, if the minute is before the SLA deadline.
+   */
+  boolean isOpenAt(final ProcessPath processPath, final int slaIndex, final int minute) {
+    final int deadline = deadlines[processPath.ordinal()][slaIndex];
+    return deadline != NO_DEADLINE && minute < deadline;
+  }
+
+  /**
+   * Returns true if the projected end date of the SLA is after its deadline.
+   */
+  boolean isExpiredBy(final ProcessPath processPath, final Instant sla, final Instant endDate) {
+    final int deadline = deadlines[processPath.ordinal()][pendingBacklog.slaIndex(sla)];
+    if (deadline == NO_DEADLINE) {
+      return false;
+    }
+
+    final long deadlineSecond = (originMinute + deadline) * SECONDS_IN_MINUTE;
+    return endDate.getEpochSecond() > deadlineSecond || endDate.getEpochSecond() == deadlineSecond && endDate.getNano() > 0;
+  }
+
+}
@@ -12,6 +12,7 @@ import static com.mercadolibre.planning.model.api.domain.entity.TriggerName.SLA;
 import static com.mercadolibre.planning.model.api.projection.waverless.PickingProjectionBuilder.buildContextHolder;
 import static com.mercadolibre.planning.model.api.projection.waverless.PickingProjectionBuilder.buildGraph;
 import static com.mercadolibre.planning.model.api.projection.waverless.PickingProjectionBuilder.projectSla;
+import static com.mercadolibre.planning.model.api.util.MapUtils.toEnumMap;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 
@@ -22,15 +23,20 @@ import com.newrelic.api.agent.Trace;
 import java.time.Instant;
 import java.time.LocalTime;
 import java.time.ZoneOffset;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import lombok.Value;
 
 public final class SlaWaveCalculator {
@@ -70,6 +76,12 @@ public final class SlaWaveCalculator {
       )
   );
 
+  private static final String SEARCH_MODE_TAG = "search_mode";
+
+  private static final String FALLBACK_TAG = "fallback";
+
+  private static final int SPECULATIVE_BATCH_SIZE = Runtime.getRuntime().availableProcessors();
+
   private static final Map<String, List<LocalTime>> SAME_DAY_CPT = Map.of(
       WH_ARBA, List.of(),
       WH_BRBA, List.of(),
@@ -78,6 +90,32 @@ public final class SlaWaveCalculator {
   private SlaWaveCalculator() {
   }
 
+  /**
+   * Calculates the next wave by sla scanning every inflection point.
+   *
+   * @see #projectNextWave(List, Map, Map, PendingBacklog, Map, List, String, WavesOptions)
+   */
+  public static Optional<DateWaveSupplier> projectNextWave(
+      final List<Instant> inflectionPoints,
+      final Map<Instant, List<CurrentBacklog>> projectedBacklogs,
+      final Map<ProcessPath, Map<Instant, Integer>> throughput,
+      final PendingBacklog pendingBacklog,
+      final Map<ProcessPath, Integer> minCycleTimes,
+      final List<Wave> waves,
+      final String logisticCenterId
+  ) {
+    return projectNextWave(
+        inflectionPoints,
+        projectedBacklogs,
+        throughput,
+        pendingBacklog,
+        minCycleTimes,
+        waves,
+        logisticCenterId,
+        WavesOptions.defaults()
+    );
+  }
+
   /**
    * Calculates the next wave by sla.
    *
@@ -90,8 +128,11 @@ public final class SlaWaveCalculator {
    *
    * <p>Only the first wave is calculated as any of the following waves that could be calculated might be invalidated by an idleness wave.
    *
-   * <p>This is an unoptimized implementation as the inflection point could be searched with a binary search between the current date and
-   * the earliest SLA date.
+   * <p>With {@link SearchMode#LINEAR} every inflection point is simulated until the first one with expired SLAs is found. With
+   * {@link SearchMode#BISECTION} the inflection points are bisected, relying on the fact that once an SLA expires when waving at some
+   * date it will also expire when waving at any later date. If the bisected point does not produce a wave the search falls back to
+   * the linear scan. With {@link SearchMode#SPECULATIVE} the linear scan is executed in batches of inflection points whose simulations
+   * are run concurrently on the executor.
    *
    * @param inflectionPoints  dates for which the SLA will be verified.
    * @param projectedBacklogs projected backlog in ready to pick by Projection Date, Process Path, and Sla.
@@ -99,6 +140,9 @@ public final class SlaWaveCalculator {
    * @param pendingBacklog    forecasted backlog by Process Path.
    * @param minCycleTimes     minimum cycle time configuration by Process Path. It must contain all Process Paths.
    * @param waves             existing waves
+   * @param logisticCenterId  warehouse
+   * @param options           SLA search mode used to find the first inflection point with expired SLAs, and executor on which the
+   *                          speculative simulations are run.
    * @return next wave configuration, if found.
    */
   @Trace
@@ -109,12 +153,16 @@ public final class SlaWaveCalculator {
       final PendingBacklog pendingBacklog,
       final Map<ProcessPath, Integer> minCycleTimes,
       final List<Wave> waves,
-      final String logisticCenterId
+      final String logisticCenterId,
+      final WavesOptions options
   ) {
-    final var slas = pendingBacklog.calculateSlasByProcessPath();
-
-    final var deadlines = calculateDeadlines(slas, minCycleTimes);
-    final var pessimisticDeadlines = pessimisticCalculateDeadlines(slas, minCycleTimes, logisticCenterId);
+    final var origin = inflectionPoints.get(0);
+    final var deadlines = SlaDeadlines.of(origin, pendingBacklog, (pp, sla) -> minCycleTimes.get(pp));
+    final var pessimisticDeadlines = SlaDeadlines.of(
+        origin,
+        pendingBacklog,
+        (pp, sla) -> calculateMinutesToSubtract(logisticCenterId, sla, minCycleTimes, pp)
+    );
 
     final var processPaths = new ArrayList<>(throughput.keySet());
     final var graph = buildGraph(processPaths);
@@ -129,57 +177,52 @@ public final class SlaWaveCalculator {
         pendingBacklog
     );
 
-    Optional<Map<ProcessPath, Map<Instant, Long>>> previousWavedBacklog = Optional.empty();
-    Instant lastInflectionPoint = inflectionPoints.get(0);
-    final List<Instant> inflectionPointsToProject = inflectionPoints.subList(0, inflectionPoints.size() - 1);
-    for (Instant inflectionPoint : inflectionPointsToProject) {
-      final var backlogToWave = backlogToWave(inflectionPoint, pendingBacklog, waves, processPaths, deadlines);
-
-      final var expiredSlas = calculateSlaExpirationWithWaveSimulation(inflectionPoint, simulationContext, backlogToWave);
-      final var wavedBacklog = previousWavedBacklog.orElse(backlogToWave);
-
-      final var wave = buildWaveFromExpiredSlas(lastInflectionPoint, wavedBacklog, expiredSlas);
-      if (wave.isPresent()) {
-        ExecutionMetrics.SLA_DATE_ITERATIONS.count(inflectionPointsToProject.indexOf(inflectionPoint));
-        return wave;
-      }
+    final var search = new InflectionPointSearch(
+        inflectionPoints.subList(0, inflectionPoints.size() - 1),
+        inflectionPoint -> {
+          final var backlogToWave = backlogToWave(inflectionPoint, pendingBacklog, waves, processPaths, deadlines);
+          final var expiredSlas = calculateSlaExpirationWithWaveSimulation(inflectionPoint, simulationContext, backlogToWave);
+          return new SimulationResult(backlogToWave, expiredSlas);
+        }
+    );
 
-      previousWavedBacklog = Optional.of(backlogToWave);
-      lastInflectionPoint = inflectionPoint;
+    switch (options.getSlaSearchMode()) {
+      case BISECTION:
+        return search.bisect();
+      case SPECULATIVE:
+        return search.speculate(options.getExecutor(), SPECULATIVE_BATCH_SIZE);
+      default:
+        return search.scan(SearchMode.LINEAR.tag());
     }
-
-    ExecutionMetrics.SLA_DATE_ITERATIONS.count(inflectionPointsToProject.size());
-    return Optional.empty();
   }
 
+  /**
+   * Calculates the available backlog of each process path at the date, excluding the SLAs whose deadline has already passed.
+   */
   private static Map<ProcessPath, Map<Instant, Long>> backlogToWave(
       final Instant date,
       final PendingBacklog pending,
       final List<Wave> waves,
       final List<ProcessPath> processPaths,
-      final Map<ProcessPath, Map<Instant, Instant>> deadlines
+      final SlaDeadlines deadlines
   ) {
-    final var availableBacklog = pending.availableBacklogAt(date, processPaths, waves);
+    final int minute = deadlines.minuteOf(date);
+    final long[] availableBySla = new long[pending.slasCount()];
+
+    final Map<ProcessPath, Map<Instant, Long>> backlogToWave = new EnumMap<>(ProcessPath.class);
+    for (final ProcessPath processPath : processPaths) {
+      pending.availableBacklogAt(date, processPath, waves, availableBySla);
+
+      final Map<Instant, Long> backlogBySla = new HashMap<>();
+      for (int sla = 0; sla < availableBySla.length; sla++) {
+        if (availableBySla[sla] > 0 && deadlines.isOpenAt(processPath, sla, minute)) {
+          backlogBySla.put(pending.slaAt(sla), availableBySla[sla]);
+        }
+      }
+      backlogToWave.put(processPath, backlogBySla);
+    }
 
-    return filterExpiredBacklogFromAvailableBacklog(date, availableBacklog, deadlines);
-  }
-
-  private static Map<ProcessPath, Map<Instant, Long>> filterExpiredBacklogFromAvailableBacklog(
-      final Instant date,
-      final Map<ProcessPath, Map<Instant, Long>> availableBacklog,
-      final Map<ProcessPath, Map<Instant, Instant>> deadlines
-  ) {
-    return availableBacklog.entrySet()
-        .stream()
-        .collect(
-            Collectors.toMap(
-                Map.Entry::getKey,
-                entry -> entry.getValue().entrySet()
-                    .stream()
-                    .filter(cpt -> date.isBefore(deadlines.get(entry.getKey()).get(cpt.getKey())))
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))
-            )
-        );
+    return backlogToWave;
   }
 
   private static Map<ProcessPath, List<Instant>> calculateSlaExpirationWithWaveSimulation(
@@ -226,12 +269,13 @@ public final class SlaWaveCalculator {
 
     final Map<ProcessPath, Long> lowerBounds = expiredBacklog.entrySet()
         .stream()
-        .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().values().stream().reduce(0L, Long::sum)));
+        .collect(toEnumMap(ProcessPath.class, Map.Entry::getKey, entry -> entry.getValue().values().stream().reduce(0L, Long::sum)));
 
     final var configurations = expiredBacklog.keySet()
         .stream()
         .filter(pp -> lowerBounds.get(pp) > 0)
-        .collect(Collectors.toMap(
+        .collect(toEnumMap(
+            ProcessPath.class,
             Function.identity(),
             pp -> new Wave.WaveConfiguration(lowerBounds.get(pp), Long.MAX_VALUE, expiredBacklog.get(pp))
         ));
@@ -251,6 +295,7 @@ public final class SlaWaveCalculator {
         .stream()
         .collect(Collectors.groupingBy(
             CurrentBacklog::getProcessPath,
+            () -> new EnumMap<>(ProcessPath.class),
             Collectors.toMap(
                 CurrentBacklog::getCpt,
                 CurrentBacklog::getUnits
@@ -258,45 +303,6 @@ public final class SlaWaveCalculator {
         ));
   }
 
-  private static Map<ProcessPath, Map<Instant, Instant>> calculateDeadlines(
-      final Map<ProcessPath, Set<Instant>> slas,
-      final Map<ProcessPath, Integer> minCycleTime
-  ) {
-    return slas.keySet()
-        .stream()
-        .collect(Collectors.toMap(
-                Function.identity(),
-                pp -> slas.get(pp)
-                    .stream()
-                    .collect(Collectors.toMap(
-                            Function.identity(),
-                            sla -> sla.minus(minCycleTime.get(pp), ChronoUnit.MINUTES)
-                        )
-                    )
-            )
-        );
-  }
-
-  private static Map<ProcessPath, Map<Instant, Instant>> pessimisticCalculateDeadlines(
-      final Map<ProcessPath, Set<Instant>> slas,
-      final Map<ProcessPath, Integer> minCycleTime,
-      final String logisticCenterId
-  ) {
-    return slas.keySet()
-        .stream()
-        .collect(Collectors.toMap(
-                Function.identity(),
-                pp -> slas.get(pp)
-                    .stream()
-                    .collect(Collectors.toMap(
-                            Function.identity(),
-                            sla -> sla.minus(calculateMinutesToSubtract(logisticCenterId, sla, minCycleTime, pp), ChronoUnit.MINUTES)
-                        )
-                    )
-            )
-        );
-  }
-
   private static int calculateMinutesToSubtract(
       final String logisticCenterId,
       final Instant sla,
@@ -313,44 +319,43 @@ public final class SlaWaveCalculator {
 
   private static Map<ProcessPath, List<Instant>> filterWavedSlasWithProjectedEndDateAfterDeadline(
       final Map<ProcessPath, Map<Instant, Instant>> projections,
-      final Map<ProcessPath, Map<Instant, Instant>> deadlines,
+      final SlaDeadlines deadlines,
       final Map<ProcessPath, Map<Instant, Long>> backlogToWave
   ) {
-    final var results = projections.keySet()
-        .stream()
-        .collect(Collectors.toMap(
-                Function.identity(),
-                pp -> filterWavedSlasWithProjectedEndDateAfterDeadline(
-                    projections.get(pp),
-                    deadlines.get(pp),
-                    backlogToWave.getOrDefault(pp, emptyMap()).keySet()
-                )
-            )
-        );
+    final Map<ProcessPath, List<Instant>> results = new EnumMap<>(ProcessPath.class);
+    projections.forEach((pp, endDates) -> {
+      final var expiredSlas = filterWavedSlasWithProjectedEndDateAfterDeadline(
+          pp,
+          endDates,
+          deadlines,
+          backlogToWave.getOrDefault(pp, emptyMap()).keySet()
+      );
+
+      if (!expiredSlas.isEmpty()) {
+        results.put(pp, expiredSlas);
+      }
+    });
 
-    return results.entrySet()
-        .stream()
-        .filter(entry -> !entry.getValue().isEmpty())
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    return results;
   }
 
   private static List<Instant> filterWavedSlasWithProjectedEndDateAfterDeadline(
+      final ProcessPath processPath,
       final Map<Instant, Instant> projections,
-      final Map<Instant, Instant> deadlines,
+      final SlaDeadlines deadlines,
       final Set<Instant> wavedSlas
   ) {
     final var maxExpiredSla = wavedSlas.stream()
         .filter(sla -> Optional.ofNullable(projections.get(sla))
-            .map(endDate -> endDate.isAfter(deadlines.get(sla)))
+            .map(endDate -> deadlines.isExpiredBy(processPath, sla, endDate))
             .orElse(false)
         )
         .max(Comparator.naturalOrder());
 
     return maxExpiredSla.map(max ->
-        deadlines.keySet()
-            .stream()
-            .filter(sla -> sla.isBefore(max) || sla.equals(max))
-            .filter(wavedSlas::contains)
+        wavedSlas.stream()
+            .filter(sla -> !sla.isAfter(max))
+            .sorted()
             .collect(Collectors.toList())
     ).orElse(emptyList());
   }
@@ -361,7 +366,8 @@ public final class SlaWaveCalculator {
   ) {
     return expiredSlas.keySet()
         .stream()
-        .collect(Collectors.toMap(
+        .collect(toEnumMap(
+            ProcessPath.class,
             Function.identity(),
             pp -> expiredSlas.get(pp)
                 .stream()
@@ -387,7 +393,7 @@ public final class SlaWaveCalculator {
    */
   @Value
   public static class SimulationContext {
-    Map<ProcessPath, Map<Instant, Instant>> deadlines;
+    SlaDeadlines deadlines;
 
     List<ProcessPath> processPaths;
 
@@ -402,4 +408,154 @@ public final class SlaWaveCalculator {
     PendingBacklog pendingBacklog;
   }
 
+  /**
+   * Strategy used to find the first inflection point at which waving all the available backlog leaves some SLA expired.
+   */
+  public enum SearchMode {
+    LINEAR,
+    BISECTION,
+    SPECULATIVE;
+
+    private String tag() {
+      return ExecutionMetrics.tag(SEARCH_MODE_TAG, name().toLowerCase(Locale.ROOT));
+    }
+  }
+
+  @Value
+  private static class SimulationResult {
+    Map<ProcessPath, Map<Instant, Long>> backlogToWave;
+
+    Map<ProcessPath, List<Instant>> expiredSlas;
+
+    boolean hasExpiredSlas() {
+      return !expiredSlas.isEmpty();
+    }
+  }
+
+  /**
+   * Memoizes the SLA simulations by inflection point index so that the linear fallback does not repeat the simulations already
+   * executed by the bisection.
+   */
+  private static class InflectionPointSearch {
+
+    private final List<Instant> inflectionPoints;
+
+    private final Function<Instant, SimulationResult> simulation;
+
+    private final Map<Integer, SimulationResult> results = new HashMap<>();
+
+    private int iterations;
+
+    InflectionPointSearch(final List<Instant> inflectionPoints, final Function<Instant, SimulationResult> simulation) {
+      this.inflectionPoints = inflectionPoints;
+      this.simulation = simulation;
+    }
+
+    /**
+     * Bisects the inflection points looking for the first one with expired SLAs.
+     *
+     * <p>If no wave can be built from the found inflection point then the expiration of the SLAs is not monotonic for this input,
+     * so the linear scan is executed reusing the simulations that were already made.
+     */
+    Optional<DateWaveSupplier> bisect() {
+      int low = 0;
+      int high = inflectionPoints.size();
+      while (low < high) {
+        final int mid = (low + high) >>> 1;
+        if (simulate(mid).hasExpiredSlas()) {
+          high = mid;
+        } else {
+          low = mid + 1;
+        }
+      }
+
+      final Optional<DateWaveSupplier> wave = low < inflectionPoints.size() ? buildWaveAt(low) : Optional.empty();
+      if (wave.isPresent() || low == inflectionPoints.size()) {
+        ExecutionMetrics.SLA_DATE_ITERATIONS.count(iterations, SearchMode.BISECTION.tag(), fallbackTag(false));
+        return wave;
+      }
+
+      return scan(SearchMode.BISECTION.tag(), fallbackTag(true));
+    }
+
+    Optional<DateWaveSupplier> scan(final String... tags) {
+      for (int i = 0; i < inflectionPoints.size(); i++) {
+        if (simulate(i).hasExpiredSlas()) {
+          final var wave = buildWaveAt(i);
+          if (wave.isPresent()) {
+            ExecutionMetrics.SLA_DATE_ITERATIONS.count(iterations, tags);
+            return wave;
+          }
+        }
+      }
+
+      ExecutionMetrics.SLA_DATE_ITERATIONS.count(iterations, tags);
+      return Optional.empty();
+    }
+
+    /**
+     * Scans the inflection points in order, simulating each batch of inflection points concurrently.
+     *
+     * <p>The simulations of a batch that follow the found inflection point are wasted, so the batch size should not exceed the
+     * available parallelism. If any simulation of a batch fails, the ones that have not started yet are cancelled and its failure is
+     * rethrown unwrapped.
+     */
+    Optional<DateWaveSupplier> speculate(final Executor executor, final int batchSize) {
+      for (int from = 0; from < inflectionPoints.size(); from += batchSize) {
+        final int to = Math.min(from + batchSize, inflectionPoints.size());
+
+        final Map<Integer, CompletableFuture<SimulationResult>> batch = IntStream.range(from, to)
+            .filter(index -> !results.containsKey(index))
+            .boxed()
+            .collect(Collectors.toMap(
+                Function.identity(),
+                index -> CompletableFuture.supplyAsync(() -> simulation.apply(inflectionPoints.get(index)), executor)
+            ));
+
+        try {
+          batch.forEach((index, future) -> {
+            iterations++;
+            results.put(index, WavesCalculator.join(future));
+          });
+        } catch (RuntimeException e) {
+          batch.values().forEach(future -> future.cancel(false));
+          throw e;
+        }
+
+        for (int i = from; i < to; i++) {
+          if (simulate(i).hasExpiredSlas()) {
+            final var wave = buildWaveAt(i);
+            if (wave.isPresent()) {
+              ExecutionMetrics.SLA_DATE_ITERATIONS.count(iterations, SearchMode.SPECULATIVE.tag());
+              return wave;
+            }
+          }
+        }
+      }
+
+      ExecutionMetrics.SLA_DATE_ITERATIONS.count(iterations, SearchMode.SPECULATIVE.tag());
+      return Optional.empty();
+    }
+
+    private static String fallbackTag(final boolean fallback) {
+      return ExecutionMetrics.tag(FALLBACK_TAG, fallback);
+    }
+
+    private Optional<DateWaveSupplier> buildWaveAt(final int index) {
+      final int waveIndex = Math.max(0, index - 1);
+      return buildWaveFromExpiredSlas(
+          inflectionPoints.get(waveIndex),
+          simulate(waveIndex).getBacklogToWave(),
+          simulate(index).getExpiredSlas()
+      );
+    }
+
+    private SimulationResult simulate(final int index) {
+      return results.computeIfAbsent(index, i -> {
+        iterations++;
+        return simulation.apply(inflectionPoints.get(i));
+      });
+    }
+  }
+
 }
@@ -1,13 +1,19 @@
 package com.mercadolibre.planning.model.api.projection.waverless;
 
+import static com.mercadolibre.planning.model.api.projection.waverless.PhaseProfiler.Phase.BACKLOG_PROJECTION;
+import static com.mercadolibre.planning.model.api.projection.waverless.PhaseProfiler.Phase.IDLENESS_PROJECTION;
+import static com.mercadolibre.planning.model.api.projection.waverless.PhaseProfiler.Phase.INFLECTION_POINTS;
+import static com.mercadolibre.planning.model.api.projection.waverless.PhaseProfiler.Phase.PENDING_BACKLOG;
+import static com.mercadolibre.planning.model.api.projection.waverless.PhaseProfiler.Phase.SLA_PROJECTION;
+import static com.mercadolibre.planning.model.api.projection.waverless.PhaseProfiler.Phase.WAVE_CONSTRUCTION;
 import static com.mercadolibre.planning.model.api.util.DateUtils.generateInflectionPoints;
+import static com.mercadolibre.planning.model.api.util.MapUtils.toEnumMap;
 import static java.util.Collections.emptyMap;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toMap;
 
 import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
-import com.mercadolibre.planning.model.api.projection.BacklogProjection;
 import com.mercadolibre.planning.model.api.projection.ProcessPathConfiguration;
 import com.mercadolibre.planning.model.api.projection.UnitsByProcessPathAndProcess;
 import com.mercadolibre.planning.model.api.projection.waverless.PendingBacklog.AvailableBacklog;
@@ -18,24 +24,26 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Supplier;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import lombok.Value;
 
 public final class WavesCalculator {
 
-  private static final int MAX_WAVES_TO_PROJECT = 150;
+  public static final int INFLECTION_WINDOW_SIZE_IN_MINUTES = 5;
 
-  private static final int INFLECTION_WINDOW_SIZE_IN_MINUTES = 5;
+  private static final int MAX_WAVES_TO_PROJECT = 150;
 
   private WavesCalculator() {
   }
 
-  @Trace
   public static TriggerProjection waves(
       final Instant executionDate,
       final List<ProcessPathConfiguration> configurations,
@@ -46,37 +54,115 @@ public final class WavesCalculator {
       final String logisticCenterId,
       final WaveSizeConfig waveSizeConfig
   ) {
-    final List<Instant> inflectionPoints = calculateInflectionPoints(executionDate, throughput);
+    return waves(
+        executionDate,
+        configurations,
+        backlogs,
+        forecast,
+        throughput,
+        precalculatedWaves,
+        logisticCenterId,
+        waveSizeConfig,
+        WavesOptions.defaults()
+    );
+  }
 
-    final PendingBacklog pendingBacklog = asPendingBacklog(executionDate, backlogs, forecast);
+  /**
+   * Calculates the next waves by SLA and idleness.
+   *
+   * <p>On each iteration the next wave by idleness is evaluated on the executor while the next wave by SLA is evaluated on the
+   * calling thread, as both only read the same inputs and the previously found waves. The SLA evaluation is kept on the calling
+   * thread so that its speculative simulations can also be submitted to the executor without any pool thread waiting on another.
+   *
+   * @param executionDate      date from which the waves are calculated.
+   * @param configurations     cycle times by process path.
+   * @param backlogs           current backlogs by process path and process.
+   * @param forecast           forecasted backlog by process path.
+   * @param throughput         throughput by process path and process.
+   * @param precalculatedWaves precalculated wave distributions by process path.
+   * @param logisticCenterId   warehouse.
+   * @param waveSizeConfig     tph time settings in minutes for bounds.
+   * @param options            search mode, executor, limit, wave listener and profiler of the calculation.
+   * @return waves and projected backlogs.
+   */
+  @Trace
+  public static TriggerProjection waves(
+      final Instant executionDate,
+      final List<ProcessPathConfiguration> configurations,
+      final List<UnitsByProcessPathAndProcess> backlogs,
+      final List<ForecastedUnitsByProcessPath> forecast,
+      final Map<ProcessPath, Map<ProcessName, Map<Instant, Integer>>> throughput,
+      final Map<ProcessPath, List<PrecalculatedWave>> precalculatedWaves,
+      final String logisticCenterId,
+      final WaveSizeConfig waveSizeConfig,
+      final WavesOptions options
+  ) {
+    final PhaseProfiler profiler = options.getProfiler();
+    final Executor executor = options.getExecutor();
+    final WavesLimit limit = options.getLimit();
+
+    final List<Instant> inflectionPoints = profiler.measure(
+        INFLECTION_POINTS,
+        () -> calculateInflectionPoints(executionDate, throughput)
+    );
+
+    final PendingBacklog pendingBacklog = profiler.measure(
+        PENDING_BACKLOG,
+        () -> asPendingBacklog(executionDate, backlogs, forecast)
+    );
 
     final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> currentBacklog = asCurrentBacklogs(backlogs);
 
     final Map<ProcessPath, Integer> minCycleTimesByPP = configurations.stream()
-        .collect(toMap(ProcessPathConfiguration::getProcessPath, ProcessPathConfiguration::getMinCycleTime));
+        .collect(toEnumMap(ProcessPath.class, ProcessPathConfiguration::getProcessPath, ProcessPathConfiguration::getMinCycleTime));
+
+    final BacklogProjectionSession session = profiler.measure(
+        BACKLOG_PROJECTION,
+        () -> BacklogProjectionSession.start(inflectionPoints, currentBacklog, throughput.get(ProcessPath.GLOBAL))
+    );
+
+    final int maxWaves = Math.min(MAX_WAVES_TO_PROJECT, limit.getMaxWaves());
 
     final List<Wave> waves = new ArrayList<>();
     boolean nextWaveHasBeenProjected = true;
-    while (waves.size() < MAX_WAVES_TO_PROJECT && nextWaveHasBeenProjected) {
-      final Optional<DateWaveSupplier> bySla = NextSlaWaveProjector.calculateNextWave(
-          inflectionPoints,
-          waves,
-          pendingBacklog,
-          currentBacklog.getOrDefault(ProcessName.PICKING, emptyMap()),
-          throughput,
-          minCycleTimesByPP,
-          logisticCenterId
+    while (waves.size() < maxWaves && nextWaveHasBeenProjected) {
+      final CompletableFuture<Optional<DateWaveSupplier>> idlenessFuture = CompletableFuture.supplyAsync(
+          () -> profiler.measure(
+              IDLENESS_PROJECTION,
+              () -> NextIdlenessWaveProjector.calculateNextWave(
+                  inflectionPoints,
+                  pendingBacklog,
+                  currentBacklog,
+                  throughput,
+                  precalculatedWaves,
+                  session,
+                  waveSizeConfig
+              )
+          ),
+          executor
       );
 
-      final Optional<DateWaveSupplier> byIdleness = NextIdlenessWaveProjector.calculateNextWave(
-          inflectionPoints,
-          pendingBacklog,
-          currentBacklog,
-          throughput,
-          precalculatedWaves,
-          waves,
-          waveSizeConfig
-      );
+      final Optional<DateWaveSupplier> bySla;
+      try {
+        bySla = profiler.measure(
+            SLA_PROJECTION,
+            () -> NextSlaWaveProjector.calculateNextWave(
+                inflectionPoints,
+                waves,
+                pendingBacklog,
+                currentBacklog.getOrDefault(ProcessName.PICKING, emptyMap()),
+                throughput,
+                minCycleTimesByPP,
+                logisticCenterId,
+                options
+            )
+        );
+      } catch (RuntimeException e) {
+        idlenessFuture.cancel(false);
+        throw e;
+      }
+
+      final Optional<DateWaveSupplier> byIdleness = join(idlenessFuture);
 
       final var wave = bySla.map(
               sla -> byIdleness.map(
@@ -84,18 +170,38 @@ public final class WavesCalculator {
               ).orElse(bySla)
           )
           .orElse(byIdleness)
+          .filter(supplier -> limit.allows(supplier.getExecutionDate()))
           .map(DateWaveSupplier::getWave)
-          .map(Supplier::get);
+          .map(supplier -> profiler.measure(WAVE_CONSTRUCTION, supplier));
 
-      wave.ifPresent(waves::add);
+      wave.ifPresent(w -> {
+        waves.add(w);
+        profiler.run(BACKLOG_PROJECTION, () -> session.addWave(w));
+        options.getWaveListener().accept(w);
+      });
       nextWaveHasBeenProjected = wave.isPresent();
     }
 
-    final var projectedBacklogs = BacklogProjection.project(inflectionPoints, waves, currentBacklog, throughput.get(ProcessPath.GLOBAL));
+    final var projectedBacklogs = profiler.measure(BACKLOG_PROJECTION, session::getProjectedBacklogs);
+    profiler.report(logisticCenterId);
 
     return new TriggerProjection(waves, projectedBacklogs);
   }
 
+  /**
+   * Waits for the future, rethrowing the runtime exception it failed with instead of the {@link CompletionException} that wraps it.
+   */
+  static <T> T join(final CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
   private static List<Instant> calculateInflectionPoints(
       final Instant executionDate,
       final Map<ProcessPath, Map<ProcessName, Map<Instant, Integer>>> throughput
@@ -122,6 +228,7 @@ public final class WavesCalculator {
         .filter(backlog -> backlog.getProcessName() == ProcessName.WAVING)
         .collect(groupingBy(
             UnitsByProcessPathAndProcess::getProcessPath,
+            () -> new EnumMap<>(ProcessPath.class),
             Collectors.mapping(
                 backlog -> new AvailableBacklog(executionDate, backlog.getDateOut(), (double) backlog.getUnits()),
                 Collectors.toList()
@@ -131,6 +238,7 @@ public final class WavesCalculator {
     final var forecastedBacklog = forecast.stream()
         .collect(groupingBy(
             ForecastedUnitsByProcessPath::getProcessPath,
+            () -> new EnumMap<>(ProcessPath.class),
             Collectors.mapping(
                 backlog -> new AvailableBacklog(backlog.getDateIn(), backlog.getDateOut(), (double) backlog.getTotal()),
                 Collectors.toList()
@@ -147,8 +255,10 @@ public final class WavesCalculator {
         .filter(backlog -> backlog.getProcessName() != ProcessName.WAVING)
         .collect(groupingBy(
                 UnitsByProcessPathAndProcess::getProcessName,
+                () -> new EnumMap<>(ProcessName.class),
                 groupingBy(
                     UnitsByProcessPathAndProcess::getProcessPath,
+                    () -> new EnumMap<>(ProcessPath.class),
                     toMap(
                         UnitsByProcessPathAndProcess::getDateOut,
                         backlog -> (long) backlog.getUnits(),
@@ -0,0 +1,22 @@
+package com.mercadolibre.planning.model.api.projection.waverless;
+
+import java.time.Instant;
+import lombok.Value;
+
+/**
+ * Caps the waves suggested by {@link WavesCalculator}, both by number of waves and by the latest wave date.
+ */
+@Value
+public class WavesLimit {
+
+  public static final WavesLimit NONE = new WavesLimit(Integer.MAX_VALUE, Instant.MAX);
+
+  int maxWaves;
+
+  Instant horizon;
+
+  boolean allows(final Instant waveDate) {
+    return !waveDate.isAfter(horizon);
+  }
+
+}
@@ -0,0 +1,48 @@
+package com.mercadolibre.planning.model.api.projection.waverless;
+
+import com.mercadolibre.planning.model.api.projection.waverless.SlaWaveCalculator.SearchMode;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Settings of a waves calculation that do not change the suggested waves but how they are searched, reported and bounded.
+ *
+ * <p>{@link NextSlaWaveProjector} and {@link SlaWaveCalculator} only read the SLA search mode and the executor.
+ */
+@Value
+@Builder(toBuilder = true)
+public class WavesOptions {
+
+  /** Strategy used to find the next wave by SLA. */
+  @Builder.Default
+  SearchMode slaSearchMode = SearchMode.LINEAR;
+
+  /** Compute executor on which the idleness projection and the speculative SLA simulations are run. */
+  @Builder.Default
+  Executor executor = Runnable::run;
+
+  /** Cap on the number of waves and on the latest wave date. */
+  @Builder.Default
+  WavesLimit limit = WavesLimit.NONE;
+
+  /** Notified of each wave as soon as it is found, before the next one is searched. */
+  @Builder.Default
+  Consumer<Wave> waveListener = wave -> {
+  };
+
+  /** Accumulates the elapsed time and allocated bytes of each phase, a new one is built for each options instance. */
+  @Builder.Default
+  PhaseProfiler profiler = new PhaseProfiler();
+
+  /**
+   * Options of a sequential calculation with a linear SLA search and no limits.
+   *
+   * @return default options.
+   */
+  public static WavesOptions defaults() {
+    return WavesOptions.builder().build();
+  }
+
+}
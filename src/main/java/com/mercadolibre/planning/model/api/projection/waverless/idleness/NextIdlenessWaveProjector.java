@@ -10,6 +10,7 @@ import static java.util.stream.Collectors.toMap;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
 import com.mercadolibre.planning.model.api.projection.BacklogProjection;
+import com.mercadolibre.planning.model.api.projection.waverless.BacklogProjectionSession;
 import com.mercadolibre.planning.model.api.projection.waverless.ConfigurationValue;
 import com.mercadolibre.planning.model.api.projection.waverless.PendingBacklog;
 import com.mercadolibre.planning.model.api.projection.waverless.PrecalculatedWave;
@@ -66,6 +67,62 @@ public final class NextIdlenessWaveProjector {
   ) {
     final var backlogsStates = calculateBacklogStates(inflectionPoints, backlogs, throughput, previousWaves);
 
+    return calculateNextWaveWithBacklogStates(
+        pendingBacklog,
+        backlogsStates,
+        throughput,
+        precalculatedWaves,
+        previousWaves,
+        waveSizeConfig
+    );
+  }
+
+  /**
+   * Calculates the next idleness wave taking the projected backlogs from a {@link BacklogProjectionSession} that already contains
+   * the previous waves, instead of projecting them again.
+   *
+   * @param inflectionPoints   points to time in which backlogs must be evaluated.
+   * @param pendingBacklog     backlog in ready to wave and forecasted.
+   * @param backlogs           current backlogs by process and process path and cpt.
+   * @param throughput         tph by process and process path.
+   * @param precalculatedWaves precalculated wave distributions by process path.
+   * @param session            projection session with the previously calculated waves.
+   * @param waveSizeConfig     tph time settings in minutes for bounds.
+   * @return if found, a wave for idleness.
+   */
+  @Trace
+  public static Optional<DateWaveSupplier> calculateNextWave(
+      final List<Instant> inflectionPoints,
+      final PendingBacklog pendingBacklog,
+      final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> backlogs,
+      final Map<ProcessPath, Map<ProcessName, Map<Instant, Integer>>> throughput,
+      final Map<ProcessPath, List<PrecalculatedWave>> precalculatedWaves,
+      final BacklogProjectionSession session,
+      final WaveSizeConfig waveSizeConfig
+  ) {
+    final var backlogsStates = mergeBacklogStates(
+        buildCurrentBacklogs(inflectionPoints.get(0), backlogs),
+        session.getProjectedBacklogs()
+    );
+
+    return calculateNextWaveWithBacklogStates(
+        pendingBacklog,
+        backlogsStates,
+        throughput,
+        precalculatedWaves,
+        session.getWaves(),
+        waveSizeConfig
+    );
+  }
+
+  private static Optional<DateWaveSupplier> calculateNextWaveWithBacklogStates(
+      final PendingBacklog pendingBacklog,
+      final Map<ProcessName, Map<Instant, Long>> backlogsStates,
+      final Map<ProcessPath, Map<ProcessName, Map<Instant, Integer>>> throughput,
+      final Map<ProcessPath, List<PrecalculatedWave>> precalculatedWaves,
+      final List<Wave> previousWaves,
+      final WaveSizeConfig waveSizeConfig
+  ) {
     int minIdlenessTph = waveSizeConfig.getTphMinutesForIdleness()
         .stream()
         .filter(value -> "default".equalsIgnoreCase(value.getTags().get(PP)))
@@ -106,10 +163,17 @@ public final class NextIdlenessWaveProjector {
   ) {
     final var globalThroughput = throughput.get(ProcessPath.GLOBAL);
 
-    return Stream.of(
-            buildCurrentBacklogs(inflectionPoints.get(0), backlogs),
-            BacklogProjection.project(inflectionPoints, previousWaves, backlogs, globalThroughput)
-        )
+    return mergeBacklogStates(
+        buildCurrentBacklogs(inflectionPoints.get(0), backlogs),
+        BacklogProjection.project(inflectionPoints, previousWaves, backlogs, globalThroughput)
+    );
+  }
+
+  private static Map<ProcessName, Map<Instant, Long>> mergeBacklogStates(
+      final Map<ProcessName, Map<Instant, Long>> currentBacklogs,
+      final Map<ProcessName, Map<Instant, Long>> projectedBacklogs
+  ) {
+    return Stream.of(currentBacklogs, projectedBacklogs)
         .map(Map::entrySet)
         .flatMap(Set::stream)
         .collect(
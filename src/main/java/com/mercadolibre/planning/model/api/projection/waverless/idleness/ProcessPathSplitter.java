@@ -18,6 +18,7 @@ import com.mercadolibre.flow.projection.tools.services.entities.context.Upstream
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
 import com.mercadolibre.planning.model.api.projection.backlogmanager.OrderedBacklogByProcessPath;
 import java.time.Instant;
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
@@ -66,10 +67,12 @@ public class ProcessPathSplitter implements Splitter {
 
   private Backlog filterBacklogByProcessPath(final Backlog backlog, final Set<ProcessPath> acceptedPaths) {
     final var backlogByProcessPath = (OrderedBacklogByProcessPath) backlog;
-    final var filteredBacklog = backlogByProcessPath.getBacklogs().entrySet()
-        .stream()
-        .filter(entry -> acceptedPaths.contains(entry.getKey()))
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    final Map<ProcessPath, Backlog> filteredBacklog = new EnumMap<>(ProcessPath.class);
+    backlogByProcessPath.forEach((processPath, processPathBacklog) -> {
+      if (acceptedPaths.contains(processPath)) {
+        filteredBacklog.put(processPath, processPathBacklog);
+      }
+    });
 
     return finisher.apply(filteredBacklog);
   }
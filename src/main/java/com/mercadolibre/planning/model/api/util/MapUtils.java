@@ -1,13 +1,19 @@
 package com.mercadolibre.planning.model.api.util;
 
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 
 public final class MapUtils {
 
   // Hashmap default load factor: determines when to resize the hashmap (capacity * load factor = resize threshold)
   public static final double DEFAULT_LOAD_FACTOR = 0.75;
 
+  private static final String DUPLICATE_KEY_ERROR_MESSAGE = "Duplicate key %s";
+
   private MapUtils() {
 
   }
@@ -15,4 +21,23 @@ public final class MapUtils {
   public static <K, V> Map<K, V> mapWithSize(final int size) {
     return new HashMap<>((int) Math.ceil(size / DEFAULT_LOAD_FACTOR));
   }
+
+  /**
+   * Same as {@link Collectors#toMap(Function, Function)} but accumulating into an {@link EnumMap}, which is backed by an array indexed
+   * by the key ordinal instead of a hash table.
+   */
+  public static <T, K extends Enum<K>, V> Collector<T, ?, Map<K, V>> toEnumMap(
+      final Class<K> keyType,
+      final Function<? super T, ? extends K> keyMapper,
+      final Function<? super T, ? extends V> valueMapper
+  ) {
+    return Collectors.toMap(
+        keyMapper,
+        valueMapper,
+        (first, second) -> {
+          throw new IllegalStateException(String.format(DUPLICATE_KEY_ERROR_MESSAGE, first));
+        },
+        () -> new EnumMap<>(keyType)
+    );
+  }
 }
@@ -0,0 +1,121 @@
+package com.mercadolibre.planning.model.api.web.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Coalesces identical requests that are being calculated at the same time, so that only the first one is calculated and the rest wait
+ * for it and share its result.
+ *
+ * <p>Requests are identical when they are sent to the same endpoint with the same parameters and the same body, once the body is
+ * normalized by serializing its maps and properties sorted. Nothing is kept once a calculation ends: later requests calculate again,
+ * so the results are never stale. A failed calculation fails all of the requests that were waiting for it.
+ */
+@Slf4j
+@Component
+public class RequestCoalescer {
+
+  private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+
+  private final Map<Key, CompletableFuture<Object>> calculations = new ConcurrentHashMap<>();
+
+  private final ObjectMapper canonicalMapper;
+
+  public RequestCoalescer(final ObjectMapper objectMapper) {
+    this.canonicalMapper = objectMapper.copy()
+        .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+        .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true);
+  }
+
+  private static RuntimeException unwrap(final CompletionException exception) {
+    final var cause = exception.getCause();
+    if (cause instanceof RuntimeException) {
+      return (RuntimeException) cause;
+    } else if (cause instanceof Error) {
+      throw (Error) cause;
+    } else {
+      return exception;
+    }
+  }
+
+  /**
+   * Calculates the result of a request, or waits for the one that is being calculated for an identical request.
+   *
+   * @param endpoint    endpoint of the request.
+   * @param parameters  path variables and request parameters that the result depends on.
+   * @param body        request body.
+   * @param calculation calculates the result when no identical request is being calculated.
+   * @param <T>         type of the result.
+   * @return the calculated result, shared by all the identical requests, so it must not be modified.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T execute(
+      final String endpoint,
+      final List<?> parameters,
+      final Object body,
+      final Supplier<T> calculation
+  ) {
+    final var key = new Key(endpoint, fingerprint(parameters, body));
+
+    final var calculationInProgress = new CompletableFuture<Object>();
+    final var previous = calculations.putIfAbsent(key, calculationInProgress);
+    if (previous != null) {
+      log.debug("Coalescing request to {} with fingerprint {}", endpoint, key.getFingerprint());
+      try {
+        return (T) previous.join();
+      } catch (CompletionException e) {
+        throw unwrap(e);
+      }
+    }
+
+    try {
+      final T result = calculation.get();
+      calculationInProgress.complete(result);
+      return result;
+    } catch (RuntimeException | Error e) {
+      calculationInProgress.completeExceptionally(e);
+      throw e;
+    } finally {
+      calculations.remove(key, calculationInProgress);
+    }
+  }
+
+  String fingerprint(final List<?> parameters, final Object body) {
+    try {
+      final var digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+      digest.update(canonicalMapper.writeValueAsBytes(parameters));
+      return HexFormat.of().formatHex(digest.digest(canonicalMapper.writeValueAsBytes(body)));
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  int inProgress() {
+    return calculations.size();
+  }
+
+  @Value
+  private static class Key {
+    String endpoint;
+
+    String fingerprint;
+  }
+
+}
@@ -3,6 +3,7 @@ package com.mercadolibre.planning.model.api.web.controller.availablecapacity;
 import com.mercadolibre.planning.model.api.projection.availablecapacity.AvailableCapacity;
 import com.mercadolibre.planning.model.api.projection.availablecapacity.AvailableCapacityUseCase;
 import com.mercadolibre.planning.model.api.projection.availablecapacity.CapacityBySLA;
+import com.mercadolibre.planning.model.api.projection.availablecapacity.CapacityMode;
 import com.mercadolibre.planning.model.api.web.controller.availablecapacity.request.Request;
 import com.newrelic.api.agent.Trace;
 import java.util.List;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -26,16 +28,26 @@ public class AvailableCapacityController {
   @PostMapping
   public ResponseEntity<AvailableCapacity> getAvailableCapacity(
       @PathVariable final String logisticCenterID,
-      @RequestBody @Valid final Request request
+      @RequestBody @Valid final Request request,
+      @RequestParam(defaultValue = "THROUGHPUT") final CapacityMode mode
   ) {
-    final List<CapacityBySLA> capacities = availableCapacityUseCase.execute(
-        request.getExecutionDateFrom(),
-        request.getExecutionDateTo(),
-        request.asCurrentBacklog(),
-        request.asForecastBacklog(),
-        request.getThroughput(),
-        request.getCycleTimeBySla()
-    );
+    final List<CapacityBySLA> capacities = mode == CapacityMode.SENSITIVITY
+        ? availableCapacityUseCase.executeSensitivity(
+            request.getExecutionDateFrom(),
+            request.getExecutionDateTo(),
+            request.asCurrentBacklog(),
+            request.asForecastBacklog(),
+            request.getThroughput(),
+            request.getCycleTimeBySla()
+        )
+        : availableCapacityUseCase.execute(
+            request.getExecutionDateFrom(),
+            request.getExecutionDateTo(),
+            request.asCurrentBacklog(),
+            request.asForecastBacklog(),
+            request.getThroughput(),
+            request.getCycleTimeBySla()
+        );
     return ResponseEntity.ok(new AvailableCapacity(capacities));
   }
 }
@@ -21,6 +21,7 @@ import com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.in
 import com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.input.GetDeliveryPromiseProjectionInput;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.input.GetSlaProjectionInput;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.output.DeferralProjectionOutput;
+import com.mercadolibre.planning.model.api.web.controller.RequestCoalescer;
 import com.mercadolibre.planning.model.api.web.controller.editor.ProjectionTypeEditor;
 import com.mercadolibre.planning.model.api.web.controller.editor.WorkflowEditor;
 import com.mercadolibre.planning.model.api.web.controller.projection.request.BacklogProjectionRequest;
@@ -53,6 +54,8 @@ public class ProjectionController {
 
   private static final long CAP5_LIMIT_HOURS = 72;
 
+  private static final String CPTS_ENDPOINT = "projections/cpts";
+
   private final GetDeliveryPromiseProjectionUseCase delPromiseProjection;
 
   private final GetDeferralProjectionUseCase deferralProjectionUseCase;
@@ -63,6 +66,7 @@ public class ProjectionController {
 
   private final QueueProjectionService queueProjectionService;
 
+  private final RequestCoalescer requestCoalescer;
 
   @PostMapping("/cpts")
   @Trace(dispatcher = true)
@@ -85,11 +89,14 @@ public class ProjectionController {
         request.isApplyDeviation(),
         viewDate
     );
-    if (request.getType() != null && COMMAND_CENTER_SLA.equals(request.getType().name())) {
-      return ResponseEntity.ok(queueProjectionService.calculateCptProjection(input));
-    } else {
-      return ResponseEntity.ok(getSlaProjectionUseCase.execute(input));
-    }
+    return ResponseEntity.ok(requestCoalescer.execute(
+        CPTS_ENDPOINT,
+        List.of(workflow),
+        request,
+        () -> request.getType() != null && COMMAND_CENTER_SLA.equals(request.getType().name())
+            ? queueProjectionService.calculateCptProjection(input)
+            : getSlaProjectionUseCase.execute(input)
+    ));
   }
 
   @PostMapping("/cpts/delivery_promise")
@@ -60,6 +60,10 @@ public record SLAsProjectionRequest(
   }
 
   public Map<ProcessName, Map<Instant, Integer>> mapThroughput() {
+    return mapThroughput(throughput);
+  }
+
+  public static Map<ProcessName, Map<Instant, Integer>> mapThroughput(final Set<Throughput> throughput) {
     return throughput.stream()
         .flatMap(
             tph -> tph.quantityByProcessName().stream()
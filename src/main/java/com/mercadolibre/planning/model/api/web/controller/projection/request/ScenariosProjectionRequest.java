@@ -0,0 +1,50 @@
+package com.mercadolibre.planning.model.api.web.controller.projection.request;
+
+import static java.util.Collections.emptyMap;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.mercadolibre.planning.model.api.projection.scenario.Scenario;
+import com.mercadolibre.planning.model.api.projection.scenario.ScenarioBase;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public record ScenariosProjectionRequest(
+    SLAsProjectionRequest base,
+    List<ScenarioRequest> scenarios
+) {
+
+  public ScenarioBase mapBase() {
+    return new ScenarioBase(
+        base.dateFrom(),
+        base.dateTo(),
+        base.mapBacklogs(),
+        base.mapForecast(),
+        base.mapThroughput(),
+        base.cycleTimeBySla()
+    );
+  }
+
+  public List<Scenario> mapScenarios() {
+    return scenarios.stream()
+        .map(ScenarioRequest::toScenario)
+        .toList();
+  }
+
+  public record ScenarioRequest(
+      String id,
+      Set<SLAsProjectionRequest.Throughput> throughput,
+      @JsonProperty("cycle_time_by_sla")
+      Map<Instant, Integer> cycleTimeBySla
+  ) {
+
+    Scenario toScenario() {
+      return new Scenario(
+          id,
+          throughput == null ? emptyMap() : SLAsProjectionRequest.mapThroughput(throughput),
+          cycleTimeBySla
+      );
+    }
+  }
+}
@@ -0,0 +1,10 @@
+package com.mercadolibre.planning.model.api.web.controller.projection.response;
+
+import com.mercadolibre.planning.model.api.domain.entity.Workflow;
+import com.mercadolibre.planning.model.api.projection.scenario.ScenarioResult;
+import java.util.List;
+
+public record ScenariosProjectionResponse(
+    Workflow workflow,
+    List<ScenarioResult> scenarios) {
+}
@@ -5,42 +5,65 @@ import static java.util.stream.Collectors.toList;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.v2.backlog.BacklogUnifiedProjection;
+import com.mercadolibre.planning.model.api.projection.BranchesMode;
+import com.mercadolibre.planning.model.api.projection.InflectionPointsMode;
 import com.mercadolibre.planning.model.api.projection.dto.request.BacklogProjection;
 import com.mercadolibre.planning.model.api.projection.dto.request.total.BacklogProjectionTotalRequest;
 import com.mercadolibre.planning.model.api.projection.dto.response.Backlog;
 import com.mercadolibre.planning.model.api.projection.dto.response.BacklogProjectionResponse;
+import com.mercadolibre.planning.model.api.projection.dto.response.ColumnarBacklogProjectionResponse;
 import com.mercadolibre.planning.model.api.projection.dto.response.Process;
 import com.mercadolibre.planning.model.api.projection.dto.response.ProcessPathResponse;
 import com.mercadolibre.planning.model.api.projection.dto.response.Sla;
 import com.mercadolibre.planning.model.api.projection.dto.response.total.BacklogProjectionTotalResponse;
 import com.mercadolibre.planning.model.api.projection.dto.response.total.SlaTotal;
 import com.mercadolibre.planning.model.api.projection.outbound.OutboundProjectionUseCase;
+import com.mercadolibre.planning.model.api.web.controller.RequestCoalescer;
 import com.newrelic.api.agent.Trace;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import javax.validation.Valid;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
-@AllArgsConstructor
 @RequestMapping("/logistic_center/{logisticCenterId}/projections/backlog")
 @Slf4j
 public class BacklogProjectionController {
   private static final int IP_INTERVAL_SIZE = 60;
 
+  private static final String ENDPOINT = "projections/backlog";
+
+  private static final String COLUMNAR_ENDPOINT = "projections/backlog?format=columnar";
+
   private final BacklogUnifiedProjection backlogUnifiedProjection;
 
+  private final RequestCoalescer requestCoalescer;
+
+  private final Executor computeExecutor;
+
+  public BacklogProjectionController(
+      final BacklogUnifiedProjection backlogUnifiedProjection,
+      final RequestCoalescer requestCoalescer,
+      @Qualifier("meliContextAwareComputeExecutorService") final Executor meliContextAwareComputeExecutorService
+  ) {
+    this.backlogUnifiedProjection = backlogUnifiedProjection;
+    this.requestCoalescer = requestCoalescer;
+    this.computeExecutor = meliContextAwareComputeExecutorService;
+  }
+
   public static List<BacklogProjectionResponse> mapToBacklogProjectionResponses(
       final Map<Instant, Map<ProcessName, Map<Instant, Integer>>> projectionMap
   ) {
@@ -86,16 +109,57 @@ public class BacklogProjectionController {
   @Trace(dispatcher = true)
   public ResponseEntity<List<BacklogProjectionResponse>> getCalculationProjection(
       @PathVariable final String logisticCenterId,
-      @RequestBody final BacklogProjection backlogProjection) {
-
-    final Map<Instant, Map<ProcessName, Map<Instant, Integer>>> projectionResult = OutboundProjectionUseCase.execute(
-        backlogProjection.getDateFrom(),
-        backlogProjection.getDateTo(),
-        backlogProjection.mapBacklogs(),
-        backlogProjection.mapForecast(),
-        backlogProjection.mapThroughput()
-    );
-    return ResponseEntity.ok(mapToBacklogProjectionResponses(projectionResult));
+      @RequestBody final BacklogProjection backlogProjection,
+      @RequestParam(defaultValue = "FIXED_WINDOW") final InflectionPointsMode inflectionPointsMode,
+      @RequestParam(defaultValue = "SEQUENTIAL") final BranchesMode branchesMode) {
+
+    return ResponseEntity.ok(requestCoalescer.execute(
+        ENDPOINT,
+        List.of(logisticCenterId, inflectionPointsMode, branchesMode),
+        backlogProjection,
+        () -> {
+          final Map<Instant, Map<ProcessName, Map<Instant, Integer>>> projectionResult = OutboundProjectionUseCase.execute(
+              backlogProjection.getDateFrom(),
+              backlogProjection.getDateTo(),
+              backlogProjection.mapBacklogs(),
+              backlogProjection.mapForecast(),
+              backlogProjection.mapThroughput(),
+              inflectionPointsMode,
+              branchesMode,
+              computeExecutor
+          );
+          return mapToBacklogProjectionResponses(projectionResult);
+        }
+    ));
+  }
+
+  /**
+   * Same projection as {@link #getCalculationProjection} selected with {@code format=columnar}, which responds with a
+   * {@link ColumnarBacklogProjectionResponse} instead of the nested backlogs by operation hour.
+   */
+  @PostMapping(params = "format=columnar")
+  @Trace(dispatcher = true)
+  public ResponseEntity<ColumnarBacklogProjectionResponse> getColumnarCalculationProjection(
+      @PathVariable final String logisticCenterId,
+      @RequestBody final BacklogProjection backlogProjection,
+      @RequestParam(defaultValue = "FIXED_WINDOW") final InflectionPointsMode inflectionPointsMode,
+      @RequestParam(defaultValue = "SEQUENTIAL") final BranchesMode branchesMode) {
+
+    return ResponseEntity.ok(requestCoalescer.execute(
+        COLUMNAR_ENDPOINT,
+        List.of(logisticCenterId, inflectionPointsMode, branchesMode),
+        backlogProjection,
+        () -> OutboundProjectionUseCase.executeColumnar(
+            backlogProjection.getDateFrom(),
+            backlogProjection.getDateTo(),
+            backlogProjection.mapBacklogs(),
+            backlogProjection.mapForecast(),
+            backlogProjection.mapThroughput(),
+            inflectionPointsMode,
+            branchesMode,
+            computeExecutor
+        )
+    ));
   }
 
   /**
@@ -110,11 +174,12 @@ public class BacklogProjectionController {
   @Trace(dispatcher = true)
   public ResponseEntity<List<BacklogProjectionTotalResponse>> getCalculationProjectionUnified(
       @PathVariable final String logisticCenterId,
-      @RequestBody @Valid final BacklogProjectionTotalRequest request) {
+      @RequestBody @Valid final BacklogProjectionTotalRequest request,
+      @RequestParam(defaultValue = "FIXED_WINDOW") final InflectionPointsMode inflectionPointsMode) {
 
     request.validateDateRange();
 
-    final var projection = backlogUnifiedProjection.getProjection(request, IP_INTERVAL_SIZE);
+    final var projection = backlogUnifiedProjection.getProjection(request, IP_INTERVAL_SIZE, inflectionPointsMode);
 
     final var response = projection.entrySet().stream()
         .map(dateByProjection ->
@@ -3,14 +3,17 @@ package com.mercadolibre.planning.model.api.web.controller.projection.v2;
 import static java.time.temporal.ChronoUnit.MINUTES;
 
 import com.mercadolibre.planning.model.api.domain.entity.Workflow;
+import com.mercadolibre.planning.model.api.projection.InflectionPointsMode;
 import com.mercadolibre.planning.model.api.projection.SLAProjectionService;
 import com.mercadolibre.planning.model.api.projection.builder.PackingProjectionBuilder;
 import com.mercadolibre.planning.model.api.projection.builder.SlaProjectionResult;
+import com.mercadolibre.planning.model.api.web.controller.RequestCoalescer;
 import com.mercadolibre.planning.model.api.web.controller.editor.WorkflowEditor;
 import com.mercadolibre.planning.model.api.web.controller.projection.request.SLAsProjectionRequest;
 import com.mercadolibre.planning.model.api.web.controller.projection.response.SLAsProjectionResponse;
 import com.newrelic.api.agent.Trace;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
@@ -22,6 +25,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -30,6 +34,10 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/logistic_center/{logisticCenterId}/projections/sla")
 public class SLAsProjectionController {
 
+  private static final String ENDPOINT = "projections/sla";
+
+  private final RequestCoalescer requestCoalescer;
+
   private static Map<Instant, Instant> getCutOffs(final Map<Instant, Integer> cycleTimeBySla) {
     return cycleTimeBySla.entrySet().stream()
         .collect(Collectors.toMap(Map.Entry::getKey, entry -> calculateCutOffFromSla(entry.getKey(), entry.getValue())));
@@ -43,16 +51,23 @@ public class SLAsProjectionController {
   @Trace(dispatcher = true)
   public ResponseEntity<SLAsProjectionResponse> getSLAsProjection(
       @PathVariable final String logisticCenterId,
-      @RequestBody final SLAsProjectionRequest slAsProjection
+      @RequestBody final SLAsProjectionRequest slAsProjection,
+      @RequestParam(defaultValue = "FIXED_WINDOW") final InflectionPointsMode inflectionPointsMode
   ) {
-    final SlaProjectionResult slaProjectionResult = SLAProjectionService.execute(
-        slAsProjection.dateFrom(),
-        slAsProjection.dateTo(),
-        slAsProjection.mapBacklogs(),
-        slAsProjection.mapForecast(),
-        slAsProjection.mapThroughput(),
-        getCutOffs(slAsProjection.cycleTimeBySla()),
-        new PackingProjectionBuilder()
+    final SlaProjectionResult slaProjectionResult = requestCoalescer.execute(
+        ENDPOINT,
+        List.of(logisticCenterId, inflectionPointsMode),
+        slAsProjection,
+        () -> SLAProjectionService.execute(
+            slAsProjection.dateFrom(),
+            slAsProjection.dateTo(),
+            slAsProjection.mapBacklogs(),
+            slAsProjection.mapForecast(),
+            slAsProjection.mapThroughput(),
+            getCutOffs(slAsProjection.cycleTimeBySla()),
+            new PackingProjectionBuilder(),
+            inflectionPointsMode
+        )
     );
 
     return ResponseEntity.ok(new SLAsProjectionResponse(slAsProjection.workflow(), slaProjectionResult));
@@ -0,0 +1,44 @@
+package com.mercadolibre.planning.model.api.web.controller.projection.v2;
+
+import com.mercadolibre.planning.model.api.domain.entity.Workflow;
+import com.mercadolibre.planning.model.api.projection.scenario.ScenariosProjectionUseCase;
+import com.mercadolibre.planning.model.api.web.controller.editor.WorkflowEditor;
+import com.mercadolibre.planning.model.api.web.controller.projection.request.ScenariosProjectionRequest;
+import com.mercadolibre.planning.model.api.web.controller.projection.response.ScenariosProjectionResponse;
+import com.newrelic.api.agent.Trace;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.PropertyEditorRegistry;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.InitBinder;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/logistic_center/{logisticCenterId}/projections/scenarios")
+public class ScenariosProjectionController {
+
+  private ScenariosProjectionUseCase scenariosProjectionUseCase;
+
+  /**
+   * Projects the SLAs and the available capacity of each what-if scenario over the same backlog and forecast.
+   */
+  @PostMapping
+  @Trace(dispatcher = true)
+  public ResponseEntity<ScenariosProjectionResponse> getScenariosProjection(
+      @PathVariable final String logisticCenterId,
+      @RequestBody final ScenariosProjectionRequest request
+  ) {
+    final var results = scenariosProjectionUseCase.execute(request.mapBase(), request.mapScenarios());
+
+    return ResponseEntity.ok(new ScenariosProjectionResponse(request.base().workflow(), results));
+  }
+
+  @InitBinder
+  public void initBinder(final PropertyEditorRegistry dataBinder) {
+    dataBinder.registerCustomEditor(Workflow.class, new WorkflowEditor());
+  }
+}
@@ -0,0 +1,117 @@
+package com.mercadolibre.planning.model.api.web.controller.suggestionwaves;
+
+import static com.mercadolibre.planning.model.api.web.controller.suggestionwaves.SuggestionWavesCalculation.calculateWaves;
+import static com.mercadolibre.planning.model.api.web.controller.suggestionwaves.response.ResponseMapper.mapToDto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.planning.model.api.projection.waverless.PhaseProfiler;
+import com.mercadolibre.planning.model.api.web.controller.suggestionwaves.request.BatchRequest;
+import com.mercadolibre.planning.model.api.web.controller.suggestionwaves.request.BatchRequest.LogisticCenterRequest;
+import com.mercadolibre.planning.model.api.web.controller.suggestionwaves.response.BatchResult;
+import com.newrelic.api.agent.Trace;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Waves suggestions for many logistic centers in a single request.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/projections/waves")
+public class SuggestionWavesBatchController {
+
+  private static final int LINE_SEPARATOR = '\n';
+
+  // each logistic center is already calculated in its own pool thread, so its projections run on that same thread
+  private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
+  private final Executor batchExecutor;
+
+  private final ObjectMapper objectMapper;
+
+  private final SuggestionWavesCache suggestionWavesCache;
+
+  public SuggestionWavesBatchController(
+      @Qualifier("meliContextAwareBatchExecutorService") final Executor meliContextAwareBatchExecutorService,
+      final ObjectMapper objectMapper,
+      final SuggestionWavesCache suggestionWavesCache
+  ) {
+    this.batchExecutor = meliContextAwareBatchExecutorService;
+    this.objectMapper = objectMapper;
+    this.suggestionWavesCache = suggestionWavesCache;
+  }
+
+  /**
+   * Calculates the suggested waves of each logistic center of the batch concurrently, and streams each result as newline delimited
+   * json as soon as it is completed. A failure of one logistic center is written as an error result for that logistic center and does
+   * not affect the others.
+   */
+  @Trace(dispatcher = true)
+  @PostMapping(value = "/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> getBatchSuggestions(@RequestBody final BatchRequest batch) {
+    final StreamingResponseBody body = output -> {
+      final CompletionService<BatchResult> completionService = new ExecutorCompletionService<>(batchExecutor);
+      batch.getRequests().forEach(request -> completionService.submit(() -> suggest(request)));
+
+      for (int i = 0; i < batch.getRequests().size(); i++) {
+        writeResult(output, take(completionService));
+      }
+    };
+
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(body);
+  }
+
+  private BatchResult suggest(final LogisticCenterRequest logisticCenterRequest) {
+    final var logisticCenterId = logisticCenterRequest.getLogisticCenterId();
+    final var request = logisticCenterRequest.getRequest();
+
+    try {
+      final var response = suggestionWavesCache.get(
+          logisticCenterId,
+          request,
+          () -> mapToDto(logisticCenterId, request.getViewDate(), calculateWaves(logisticCenterId, request, DIRECT_EXECUTOR, wave -> {
+          }, new PhaseProfiler()))
+      );
+
+      return BatchResult.ok(logisticCenterId, response);
+    } catch (RuntimeException e) {
+      log.error("waves suggestion failed for logistic center {}", logisticCenterId, e);
+      return BatchResult.error(logisticCenterId, String.valueOf(e.getMessage()));
+    }
+  }
+
+  private BatchResult take(final CompletionService<BatchResult> completionService) throws IOException {
+    try {
+      return completionService.take().get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("interrupted while waiting for the batch results");
+    } catch (ExecutionException e) {
+      // suggest handles every failure of its logistic center, so this can only be an error
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private void writeResult(final OutputStream output, final BatchResult result) throws IOException {
+    output.write(objectMapper.writeValueAsBytes(result));
+    output.write(LINE_SEPARATOR);
+    output.flush();
+  }
+
+}
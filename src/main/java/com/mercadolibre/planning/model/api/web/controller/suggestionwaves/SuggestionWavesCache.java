@@ -0,0 +1,187 @@
+package com.mercadolibre.planning.model.api.web.controller.suggestionwaves;
+
+import static com.mercadolibre.planning.model.api.projection.waverless.ExecutionMetrics.RESPONSE_CACHE_HITS;
+import static com.mercadolibre.planning.model.api.projection.waverless.ExecutionMetrics.RESPONSE_CACHE_MISSES;
+import static com.mercadolibre.planning.model.api.projection.waverless.ExecutionMetrics.tag;
+import static com.mercadolibre.planning.model.api.projection.waverless.WavesCalculator.INFLECTION_WINDOW_SIZE_IN_MINUTES;
+import static java.util.Comparator.comparing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
+import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
+import com.mercadolibre.planning.model.api.projection.ProcessPathConfiguration;
+import com.mercadolibre.planning.model.api.projection.UnitsByProcessPathAndProcess;
+import com.mercadolibre.planning.model.api.projection.waverless.BacklogLimits;
+import com.mercadolibre.planning.model.api.projection.waverless.ForecastedUnitsByProcessPath;
+import com.mercadolibre.planning.model.api.projection.waverless.SlaWaveCalculator.SearchMode;
+import com.mercadolibre.planning.model.api.projection.waverless.WaveSizeConfig;
+import com.mercadolibre.planning.model.api.web.controller.suggestionwaves.request.Request;
+import com.mercadolibre.planning.model.api.web.controller.suggestionwaves.response.WaverlessResponse;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of waves suggestions keyed by a fingerprint of the request inputs.
+ *
+ * <p>Callers poll for suggestions every few minutes and most of the time only the view date changes. The fingerprint is a hash of
+ * the request with its view date truncated to the inflection window and with its backlogs, forecast and configurations sorted, so
+ * that requests that only differ in those aspects share the same suggestions.
+ */
+@Component
+public class SuggestionWavesCache {
+
+  private static final long MAXIMUM_SIZE = 500;
+
+  private static final long INFLECTION_WINDOW_SIZE_IN_SECONDS = INFLECTION_WINDOW_SIZE_IN_MINUTES * 60L;
+
+  // once the inflection window has passed the entries can not be hit anymore
+  private static final Duration TTL = Duration.ofSeconds(INFLECTION_WINDOW_SIZE_IN_SECONDS);
+
+  private static final String LOGISTIC_CENTER_ID_TAG = "logistic_center_id";
+
+  private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+
+  private final Cache<Key, WaverlessResponse> cache;
+
+  private final ObjectMapper canonicalMapper;
+
+  public SuggestionWavesCache(final ObjectMapper objectMapper) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_SIZE)
+        .expireAfterWrite(TTL)
+        .build();
+
+    this.canonicalMapper = objectMapper.copy()
+        .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+  }
+
+  private static Instant truncateToInflectionWindow(final Instant date) {
+    return Instant.ofEpochSecond(date.getEpochSecond() - Math.floorMod(date.getEpochSecond(), INFLECTION_WINDOW_SIZE_IN_SECONDS));
+  }
+
+  /**
+   * Returns the cached suggestions for the request, or calculates and caches them if there are none.
+   *
+   * @param logisticCenterId logistic center.
+   * @param request          waves suggestion request.
+   * @param calculation      calculates the suggestions on a cache miss.
+   * @return suggestions, with the view date of the request as execution date.
+   */
+  public WaverlessResponse get(
+      final String logisticCenterId,
+      final Request request,
+      final Supplier<WaverlessResponse> calculation
+  ) {
+    final var key = new Key(logisticCenterId, fingerprint(request));
+
+    final var cached = cache.getIfPresent(key);
+    if (cached != null) {
+      RESPONSE_CACHE_HITS.increment(tag(LOGISTIC_CENTER_ID_TAG, logisticCenterId));
+      return new WaverlessResponse(
+          cached.getLogisticCenterId(),
+          request.getViewDate(),
+          cached.getSuggestions(),
+          cached.getProjectedBacklogs(),
+          null
+      );
+    }
+
+    RESPONSE_CACHE_MISSES.increment(tag(LOGISTIC_CENTER_ID_TAG, logisticCenterId));
+    final var response = calculation.get();
+    cache.put(key, response);
+    return response;
+  }
+
+  public void invalidate(final String logisticCenterId) {
+    cache.asMap().keySet().removeIf(key -> key.getLogisticCenterId().equals(logisticCenterId));
+  }
+
+  String fingerprint(final Request request) {
+    final var normalized = new NormalizedRequest(
+        truncateToInflectionWindow(request.getViewDate()),
+        sorted(request.getProcessPathConfigurations()),
+        sorted(request.getBacklogs()),
+        sorted(request.getForecast()),
+        request.getThroughput(),
+        request.getBacklogLimits(),
+        request.getPrecalculatedWaves(),
+        request.getWaveSizeConfig(),
+        request.getSlaSearchModeOrDefault(),
+        request.getWavesLimit().getMaxWaves(),
+        request.getWavesLimit().getHorizon()
+    );
+
+    try {
+      final var digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+      return HexFormat.of().formatHex(digest.digest(canonicalMapper.writeValueAsBytes(normalized)));
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private <T> List<T> sorted(final List<T> values) {
+    if (values == null) {
+      return List.of();
+    }
+
+    return values.stream()
+        .sorted(comparing(this::canonicalJson))
+        .toList();
+  }
+
+  private String canonicalJson(final Object value) {
+    try {
+      return canonicalMapper.writeValueAsString(value);
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Value
+  private static class Key {
+    String logisticCenterId;
+
+    String fingerprint;
+  }
+
+  @Value
+  private static class NormalizedRequest {
+    Instant viewDate;
+
+    List<ProcessPathConfiguration> processPathConfigurations;
+
+    List<UnitsByProcessPathAndProcess> backlogs;
+
+    List<ForecastedUnitsByProcessPath> forecast;
+
+    Map<ProcessPath, Map<ProcessName, Map<Instant, Float>>> throughput;
+
+    BacklogLimits backlogLimits;
+
+    Map<ProcessPath, List<Request.PrecalculatedWaveDto>> precalculatedWaves;
+
+    WaveSizeConfig waveSizeConfig;
+
+    SearchMode slaSearchMode;
+
+    int maxWaves;
+
+    Instant horizon;
+  }
+
+}
@@ -0,0 +1,64 @@
+package com.mercadolibre.planning.model.api.web.controller.suggestionwaves;
+
+import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
+import com.mercadolibre.planning.model.api.projection.ProcessPathConfiguration;
+import com.mercadolibre.planning.model.api.projection.UnitsByProcessPathAndProcess;
+import com.mercadolibre.planning.model.api.projection.waverless.PhaseProfiler;
+import com.mercadolibre.planning.model.api.projection.waverless.Wave;
+import com.mercadolibre.planning.model.api.projection.waverless.WavesCalculator;
+import com.mercadolibre.planning.model.api.projection.waverless.WavesCalculator.TriggerProjection;
+import com.mercadolibre.planning.model.api.projection.waverless.WavesOptions;
+import com.mercadolibre.planning.model.api.web.controller.suggestionwaves.request.Request;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Adapts a waves suggestion {@link Request} to {@link WavesCalculator}.
+ */
+final class SuggestionWavesCalculation {
+
+  private SuggestionWavesCalculation() {
+  }
+
+  static TriggerProjection calculateWaves(
+      final String logisticCenterId,
+      final Request request,
+      final Executor executor,
+      final Consumer<Wave> waveListener,
+      final PhaseProfiler profiler
+  ) {
+    final Set<ProcessPath> processPath = request.getProcessPathConfigurations()
+        .stream()
+        .map(ProcessPathConfiguration::getProcessPath)
+        .collect(Collectors.toSet());
+
+    return WavesCalculator.waves(
+        request.getViewDate(),
+        request.getProcessPathConfigurations(),
+        getBacklogFiltered(request.getBacklogs(), processPath),
+        List.of(),
+        request.getIntThroughput(),
+        request.getPrecalculatedWavesAsEntities(),
+        logisticCenterId,
+        request.getWaveSizeConfig(),
+        WavesOptions.builder()
+            .slaSearchMode(request.getSlaSearchModeOrDefault())
+            .executor(executor)
+            .limit(request.getWavesLimit())
+            .waveListener(waveListener)
+            .profiler(profiler)
+            .build()
+    );
+  }
+
+  private static List<UnitsByProcessPathAndProcess> getBacklogFiltered(final List<UnitsByProcessPathAndProcess> backlog,
+                                                                       final Set<ProcessPath> processPaths) {
+    return backlog.stream()
+        .filter(processPathAndProcess -> processPaths.contains(processPathAndProcess.getProcessPath()))
+        .toList();
+  }
+
+}
@@ -1,61 +1,133 @@
 package com.mercadolibre.planning.model.api.web.controller.suggestionwaves;
 
+import static com.mercadolibre.planning.model.api.web.controller.suggestionwaves.SuggestionWavesCalculation.calculateWaves;
+import static com.mercadolibre.planning.model.api.web.controller.suggestionwaves.response.ResponseMapper.mapProjectedBacklogsToDto;
 import static com.mercadolibre.planning.model.api.web.controller.suggestionwaves.response.ResponseMapper.mapToDto;
+import static com.mercadolibre.planning.model.api.web.controller.suggestionwaves.response.ResponseMapper.mapWaveToDto;
 
-import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
-import com.mercadolibre.planning.model.api.projection.ProcessPathConfiguration;
-import com.mercadolibre.planning.model.api.projection.UnitsByProcessPathAndProcess;
-import com.mercadolibre.planning.model.api.projection.waverless.WavesCalculator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.planning.model.api.projection.waverless.PhaseProfiler;
 import com.mercadolibre.planning.model.api.web.controller.suggestionwaves.request.Request;
+import com.mercadolibre.planning.model.api.web.controller.suggestionwaves.response.WaveStreamEvent;
 import com.mercadolibre.planning.model.api.web.controller.suggestionwaves.response.WaverlessResponse;
 import com.newrelic.api.agent.Trace;
-import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
-import lombok.AllArgsConstructor;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
-@AllArgsConstructor
 @RequestMapping("/logistic_center/{logisticCenterId}/projections")
 public class SuggestionWavesController {
 
+  private static final int LINE_SEPARATOR = '\n';
 
+  private static final String DEBUG_PHASES_HEADER = "X-Debug-Phases";
+
+  private final Executor computeExecutor;
+
+  private final ObjectMapper objectMapper;
+
+  private final SuggestionWavesCache suggestionWavesCache;
+
+  public SuggestionWavesController(
+      @Qualifier("meliContextAwareComputeExecutorService") final Executor meliContextAwareComputeExecutorService,
+      final ObjectMapper objectMapper,
+      final SuggestionWavesCache suggestionWavesCache
+  ) {
+    this.computeExecutor = meliContextAwareComputeExecutorService;
+    this.objectMapper = objectMapper;
+    this.suggestionWavesCache = suggestionWavesCache;
+  }
+
+  /**
+   * Calculates the suggested waves. When the debug phases header is set, the suggestions are always calculated, bypassing the cache,
+   * and the elapsed time and allocated bytes of each phase of the calculation are added to the response.
+   */
   @Trace(dispatcher = true)
   @PostMapping("/waves")
   public ResponseEntity<WaverlessResponse> getSuggestions(
       @PathVariable final String logisticCenterId,
+      @RequestHeader(name = DEBUG_PHASES_HEADER, defaultValue = "false") final boolean debugPhases,
       @RequestBody final Request request
   ) {
+    if (debugPhases) {
+      final var profiler = new PhaseProfiler();
+      final var waves = calculateWaves(logisticCenterId, request, computeExecutor, wave -> {
+      }, profiler);
+
+      return ResponseEntity.ok(mapToDto(logisticCenterId, request.getViewDate(), waves).withPhases(profiler.getMeasures()));
+    }
 
-    final Set<ProcessPath> processPath = request.getProcessPathConfigurations()
-        .stream()
-        .map(ProcessPathConfiguration::getProcessPath)
-        .collect(Collectors.toSet());
-
-    final var waves = WavesCalculator.waves(
-        request.getViewDate(),
-        request.getProcessPathConfigurations(),
-        getBacklogFiltered(request.getBacklogs(), processPath),
-        List.of(),
-        request.getIntThroughput(),
-        request.getPrecalculatedWavesAsEntities(),
+    final var response = suggestionWavesCache.get(
         logisticCenterId,
-        request.getWaveSizeConfig()
+        request,
+        () -> mapToDto(logisticCenterId, request.getViewDate(), calculateWaves(logisticCenterId, request, computeExecutor, wave -> {
+        }, new PhaseProfiler()))
     );
-    return ResponseEntity.ok(mapToDto(logisticCenterId, request.getViewDate(), waves));
+
+    return ResponseEntity.ok(response);
+  }
+
+  @DeleteMapping("/waves/cache")
+  public ResponseEntity<Void> invalidateSuggestions(@PathVariable final String logisticCenterId) {
+    suggestionWavesCache.invalidate(logisticCenterId);
+    return ResponseEntity.noContent().build();
+  }
+
+  /**
+   * Streams the suggested waves as newline delimited json. Each wave is written and flushed as soon as it is found, so that
+   * callers can act on the first waves before the rest are calculated. The projected backlogs are written last.
+   */
+  @Trace(dispatcher = true)
+  @PostMapping(value = "/waves/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamSuggestions(
+      @PathVariable final String logisticCenterId,
+      @RequestBody final Request request
+  ) {
+    final StreamingResponseBody body = output -> {
+      final var waves = calculateWaves(
+          logisticCenterId,
+          request,
+          computeExecutor,
+          wave -> writeEvent(output, WaveStreamEvent.wave(logisticCenterId, request.getViewDate(), mapWaveToDto(wave))),
+          new PhaseProfiler()
+      );
+
+      writeEvent(
+          output,
+          WaveStreamEvent.projectedBacklogs(
+              logisticCenterId,
+              request.getViewDate(),
+              mapProjectedBacklogsToDto(waves.getProjectedBacklogs())
+          )
+      );
+    };
+
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(body);
   }
 
-  private List<UnitsByProcessPathAndProcess> getBacklogFiltered(final List<UnitsByProcessPathAndProcess> backlog,
-                                                                final Set<ProcessPath> processPaths) {
-    return backlog.stream()
-        .filter(processPathAndProcess -> processPaths.contains(processPathAndProcess.getProcessPath()))
-        .toList();
+  private void writeEvent(final OutputStream output, final WaveStreamEvent event) {
+    try {
+      output.write(objectMapper.writeValueAsBytes(event));
+      output.write(LINE_SEPARATOR);
+      output.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 
 }
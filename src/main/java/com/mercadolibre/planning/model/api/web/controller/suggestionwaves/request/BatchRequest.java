@@ -0,0 +1,16 @@
+package com.mercadolibre.planning.model.api.web.controller.suggestionwaves.request;
+
+import java.util.List;
+import lombok.Value;
+
+@Value
+public class BatchRequest {
+  List<LogisticCenterRequest> requests;
+
+  @Value
+  public static class LogisticCenterRequest {
+    String logisticCenterId;
+
+    Request request;
+  }
+}
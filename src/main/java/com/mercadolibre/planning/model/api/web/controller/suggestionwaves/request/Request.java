@@ -1,5 +1,7 @@
 package com.mercadolibre.planning.model.api.web.controller.suggestionwaves.request;
 
+import static com.mercadolibre.planning.model.api.util.MapUtils.toEnumMap;
+
 import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
 import com.mercadolibre.planning.model.api.projection.ProcessPathConfiguration;
@@ -8,6 +10,8 @@ import com.mercadolibre.planning.model.api.projection.waverless.BacklogLimits;
 import com.mercadolibre.planning.model.api.projection.waverless.WaveSizeConfig;
 import com.mercadolibre.planning.model.api.projection.waverless.ForecastedUnitsByProcessPath;
 import com.mercadolibre.planning.model.api.projection.waverless.PrecalculatedWave;
+import com.mercadolibre.planning.model.api.projection.waverless.SlaWaveCalculator.SearchMode;
+import com.mercadolibre.planning.model.api.projection.waverless.WavesLimit;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
@@ -35,6 +39,12 @@ public class Request {
 
   WaveSizeConfig waveSizeConfig;
 
+  SearchMode slaSearchMode;
+
+  Integer maxWaves;
+
+  Instant horizon;
+
   private static Map<ProcessName, Map<Instant, Integer>> mapProcessNamesTph(final Map<ProcessName, Map<Instant, Float>> tph) {
     final Function<Map<Instant, Float>, Map<Instant, Integer>> asIntMap = map -> map.entrySet()
         .stream()
@@ -42,7 +52,7 @@ public class Request {
 
     return tph.entrySet()
         .stream()
-        .collect(Collectors.toMap(Map.Entry::getKey, entry -> asIntMap.apply(entry.getValue())));
+        .collect(toEnumMap(ProcessName.class, Map.Entry::getKey, entry -> asIntMap.apply(entry.getValue())));
   }
 
   private static List<PrecalculatedWave> asPrecalculatedWaveEntity(final List<PrecalculatedWaveDto> dtos) {
@@ -51,10 +61,13 @@ public class Request {
         .collect(Collectors.toList());
   }
 
+  /**
+   * Throughput as rounded units, keyed by {@link java.util.EnumMap}s as expected by the waves projection.
+   */
   public Map<ProcessPath, Map<ProcessName, Map<Instant, Integer>>> getIntThroughput() {
     return throughput.entrySet()
         .stream()
-        .collect(Collectors.toMap(Map.Entry::getKey, entry -> mapProcessNamesTph(entry.getValue())));
+        .collect(toEnumMap(ProcessPath.class, Map.Entry::getKey, entry -> mapProcessNamesTph(entry.getValue())));
   }
 
   public Map<ProcessPath, List<PrecalculatedWave>> getPrecalculatedWavesAsEntities() {
@@ -64,7 +77,18 @@ public class Request {
 
     return precalculatedWaves.entrySet()
         .stream()
-        .collect(Collectors.toMap(Map.Entry::getKey, entry -> asPrecalculatedWaveEntity(entry.getValue())));
+        .collect(toEnumMap(ProcessPath.class, Map.Entry::getKey, entry -> asPrecalculatedWaveEntity(entry.getValue())));
+  }
+
+  public SearchMode getSlaSearchModeOrDefault() {
+    return slaSearchMode == null ? SearchMode.LINEAR : slaSearchMode;
+  }
+
+  public WavesLimit getWavesLimit() {
+    return new WavesLimit(
+        maxWaves == null ? WavesLimit.NONE.getMaxWaves() : maxWaves,
+        horizon == null ? WavesLimit.NONE.getHorizon() : horizon
+    );
   }
 
   @Data
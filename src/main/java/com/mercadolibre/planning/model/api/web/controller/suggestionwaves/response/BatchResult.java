@@ -0,0 +1,30 @@
+package com.mercadolibre.planning.model.api.web.controller.suggestionwaves.response;
+
+import lombok.Value;
+
+/**
+ * Result of the waves suggestion of one logistic center of a batch. Failed logistic centers carry the error instead of the response.
+ */
+@Value
+public class BatchResult {
+  String logisticCenterId;
+
+  Status status;
+
+  WaverlessResponse response;
+
+  String error;
+
+  public static BatchResult ok(final String logisticCenterId, final WaverlessResponse response) {
+    return new BatchResult(logisticCenterId, Status.OK, response, null);
+  }
+
+  public static BatchResult error(final String logisticCenterId, final String error) {
+    return new BatchResult(logisticCenterId, Status.ERROR, null, error);
+  }
+
+  public enum Status {
+    OK,
+    ERROR
+  }
+}
@@ -1,5 +1,6 @@
 package com.mercadolibre.planning.model.api.web.controller.suggestionwaves.response;
 
+import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
 import com.mercadolibre.planning.model.api.domain.entity.TriggerName;
 import com.mercadolibre.planning.model.api.projection.waverless.Wave;
@@ -29,11 +30,20 @@ public final class ResponseMapper {
   public static WaverlessResponse mapToDto(final String logisticCenterId, final Instant viewDate,
                                            final WavesCalculator.TriggerProjection triggers) {
     final var suggestions = triggers.getWaves().stream()
-        .map(wave -> new WaveDto(wave.getDate(), getWaveConfigurations(wave), wave.getReason()))
+        .map(ResponseMapper::mapWaveToDto)
         .toList();
 
-    final var projectedBacklogs = triggers.getProjectedBacklogs()
-        .entrySet()
+    return new WaverlessResponse(logisticCenterId, viewDate, suggestions, mapProjectedBacklogsToDto(triggers.getProjectedBacklogs()), null);
+  }
+
+  public static WaveDto mapWaveToDto(final Wave wave) {
+    return new WaveDto(wave.getDate(), getWaveConfigurations(wave), wave.getReason());
+  }
+
+  public static Map<ProcessName, List<WaverlessResponse.UnitsAtOperationHour>> mapProjectedBacklogsToDto(
+      final Map<ProcessName, Map<Instant, Long>> projectedBacklogs
+  ) {
+    return projectedBacklogs.entrySet()
         .stream()
         .collect(
             Collectors.toMap(
@@ -46,8 +56,6 @@ public final class ResponseMapper {
                     .toList()
             )
         );
-
-    return new WaverlessResponse(logisticCenterId, viewDate, suggestions, projectedBacklogs);
   }
 
   private static List<WaveConfigurationDto> getWaveConfigurations(final Wave wave) {
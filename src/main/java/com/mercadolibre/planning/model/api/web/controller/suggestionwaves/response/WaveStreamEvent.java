@@ -0,0 +1,41 @@
+package com.mercadolibre.planning.model.api.web.controller.suggestionwaves.response;
+
+import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import lombok.Value;
+
+/**
+ * Line of the streamed waves suggestion. Each suggested wave is sent in its own event as soon as it is found, and the projected
+ * backlogs are sent in the last event.
+ */
+@Value
+public class WaveStreamEvent {
+  EventType type;
+
+  String logisticCenterId;
+
+  Instant executionDate;
+
+  WaveDto wave;
+
+  Map<ProcessName, List<WaverlessResponse.UnitsAtOperationHour>> projectedBacklogs;
+
+  public static WaveStreamEvent wave(final String logisticCenterId, final Instant executionDate, final WaveDto wave) {
+    return new WaveStreamEvent(EventType.WAVE, logisticCenterId, executionDate, wave, null);
+  }
+
+  public static WaveStreamEvent projectedBacklogs(
+      final String logisticCenterId,
+      final Instant executionDate,
+      final Map<ProcessName, List<WaverlessResponse.UnitsAtOperationHour>> projectedBacklogs
+  ) {
+    return new WaveStreamEvent(EventType.PROJECTED_BACKLOGS, logisticCenterId, executionDate, null, projectedBacklogs);
+  }
+
+  public enum EventType {
+    WAVE,
+    PROJECTED_BACKLOGS
+  }
+}
@@ -1,10 +1,12 @@
 package com.mercadolibre.planning.model.api.web.controller.suggestionwaves.response;
 
 import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
+import com.mercadolibre.planning.model.api.projection.waverless.PhaseProfiler;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import lombok.Value;
+import lombok.With;
 
 @Value
 public class WaverlessResponse {
@@ -16,6 +18,12 @@ public class WaverlessResponse {
 
   Map<ProcessName, List<UnitsAtOperationHour>> projectedBacklogs;
 
+  /**
+   * Elapsed time and allocated bytes by phase of the calculation, only present when requested with the debug header.
+   */
+  @With
+  Map<PhaseProfiler.Phase, PhaseProfiler.Measure> phases;
+
   @Value
   public static class UnitsAtOperationHour {
     Instant date;
@@ -0,0 +1,300 @@
+package com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt;
+
+import static com.mercadolibre.planning.model.api.domain.entity.Workflow.FBM_WMS_OUTBOUND;
+import static java.time.ZonedDateTime.parse;
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.planning.model.api.domain.entity.sla.GetSlaByWarehouseOutput;
+import com.mercadolibre.planning.model.api.domain.usecase.projection.ExecutionMetrics;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.verification.VerificationMode;
+
+class CptProjectionCacheTest {
+
+  private static final String WH = "ARTW01";
+
+  private static final String OTHER_WH = "ARBA01";
+
+  private static final ZonedDateTime DATE_FROM = parse("2023-09-08T10:00:00Z");
+
+  private static final ZonedDateTime CURRENT_DATE = parse("2023-09-08T10:15:00Z");
+
+  private static final ZonedDateTime SLA_1 = parse("2023-09-08T12:00:00Z");
+
+  private static final ZonedDateTime SLA_2 = parse("2023-09-08T14:00:00Z");
+
+  private static final List<Backlog> BACKLOG = List.of(new Backlog(SLA_1, 150), new Backlog(SLA_2, 100));
+
+  private static final String HITS = "application.planning.model.api.cpt.projection_cache.hits";
+
+  private static final String MISSES = "application.planning.model.api.cpt.projection_cache.misses";
+
+  private final AtomicInteger calculations = new AtomicInteger();
+
+  private MockedStatic<ExecutionMetrics.DataDogMetricsWrapper> wrapper;
+
+  private CptProjectionCache cache;
+
+  private static Map<ZonedDateTime, Integer> capacity() {
+    final Map<ZonedDateTime, Integer> capacity = new HashMap<>();
+    for (int hour = 0; hour <= 6; hour++) {
+      capacity.put(DATE_FROM.plusHours(hour), 100);
+    }
+    return capacity;
+  }
+
+  private static SlaProjectionInput input(final String logisticCenterId,
+                                          final ZonedDateTime currentDate,
+                                          final Map<ZonedDateTime, Integer> capacity,
+                                          final List<Backlog> backlog) {
+    return SlaProjectionInput.builder()
+        .workflow(FBM_WMS_OUTBOUND)
+        .logisticCenterId(logisticCenterId)
+        .capacity(capacity)
+        .backlog(backlog)
+        .dateFrom(DATE_FROM)
+        .dateTo(DATE_FROM.plusHours(6))
+        .plannedUnits(emptyList())
+        .slaByWarehouse(List.of(
+            GetSlaByWarehouseOutput.builder().date(SLA_1).build(),
+            GetSlaByWarehouseOutput.builder().date(SLA_2).build()
+        ))
+        .currentDate(currentDate)
+        .build();
+  }
+
+  @BeforeEach
+  void setUp() {
+    wrapper = mockStatic(ExecutionMetrics.DataDogMetricsWrapper.class);
+    cache = new CptProjectionCache(new ObjectMapper().findAndRegisterModules());
+  }
+
+  @AfterEach
+  void tearDown() {
+    wrapper.close();
+  }
+
+  private void verifyCount(final String metric, final String logisticCenterId, final String projection, final VerificationMode mode) {
+    wrapper.verify(() -> ExecutionMetrics.DataDogMetricsWrapper.increment(
+        metric, "logistic_center_id:" + logisticCenterId, "projection:" + projection
+    ), mode);
+  }
+
+  private List<String> get(final String logisticCenterId, final Object normalizedInput) {
+    return cache.get(CptProjectionCache.SLA_PROJECTION, logisticCenterId, normalizedInput, () -> {
+      calculations.incrementAndGet();
+      return List.of(logisticCenterId);
+    });
+  }
+
+  /**
+   * Starts a thread that gets a projection whose calculation does not finish until it is released.
+   */
+  private Thread getUntilReleased(final CountDownLatch started, final CountDownLatch release, final List<List<String>> results) {
+    final Thread thread = new Thread(() -> {
+      try (var ignored = mockStatic(ExecutionMetrics.DataDogMetricsWrapper.class)) {
+        results.add(cache.get(CptProjectionCache.SLA_PROJECTION, WH, BACKLOG, () -> {
+          calculations.incrementAndGet();
+          started.countDown();
+          await(release);
+          return List.of(WH);
+        }));
+      }
+    });
+    thread.start();
+    return thread;
+  }
+
+  private static void await(final CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Test
+  void testProjectionsOfTheSameInputsWithinTheSameMinuteAreShared() {
+    // WHEN
+    final var first = cache.calculate(input(WH, CURRENT_DATE.plusSeconds(10), capacity(), BACKLOG));
+    final var second = cache.calculate(input(WH, CURRENT_DATE.plusSeconds(50), capacity(), List.of(BACKLOG.get(1), BACKLOG.get(0))));
+
+    // THEN
+    verifyCount(HITS, WH, CptProjectionCache.SLA_PROJECTION, times(1));
+    verifyCount(MISSES, WH, CptProjectionCache.SLA_PROJECTION, times(1));
+    assertEquals(first, second);
+    assertEquals(CalculateCptProjectionUseCase.execute(input(WH, CURRENT_DATE, capacity(), BACKLOG)), first);
+  }
+
+  @Test
+  void testProjectionsOfDifferentInputsAreNotShared() {
+    // WHEN
+    cache.calculate(input(WH, CURRENT_DATE, capacity(), BACKLOG));
+    cache.calculate(input(WH, CURRENT_DATE.plusMinutes(1), capacity(), BACKLOG));
+    cache.calculate(input(WH, CURRENT_DATE, capacity(), BACKLOG.subList(0, 1)));
+    cache.calculate(input(OTHER_WH, CURRENT_DATE, capacity(), BACKLOG));
+
+    // THEN
+    verifyCount(HITS, WH, CptProjectionCache.SLA_PROJECTION, never());
+    verifyCount(HITS, OTHER_WH, CptProjectionCache.SLA_PROJECTION, never());
+    verifyCount(MISSES, WH, CptProjectionCache.SLA_PROJECTION, times(3));
+    verifyCount(MISSES, OTHER_WH, CptProjectionCache.SLA_PROJECTION, times(1));
+  }
+
+  @Test
+  void testHitsAndMissesAreCountedByKindOfProjection() {
+    // GIVEN
+    get(WH, BACKLOG);
+    get(WH, BACKLOG);
+    get(WH, BACKLOG);
+
+    // WHEN
+    cache.get(CptProjectionCache.QUEUE_PROJECTION, WH, BACKLOG, () -> List.of(WH));
+
+    // THEN
+    verifyCount(HITS, WH, CptProjectionCache.SLA_PROJECTION, times(2));
+    verifyCount(MISSES, WH, CptProjectionCache.SLA_PROJECTION, times(1));
+    verifyCount(HITS, WH, CptProjectionCache.QUEUE_PROJECTION, never());
+    verifyCount(MISSES, WH, CptProjectionCache.QUEUE_PROJECTION, times(1));
+  }
+
+  @Test
+  void testCapacityOfTheInputIsNotModified() {
+    // GIVEN
+    final var capacity = capacity();
+
+    // WHEN
+    cache.calculate(input(WH, CURRENT_DATE, capacity, BACKLOG));
+
+    // THEN
+    assertEquals(capacity(), capacity);
+  }
+
+  @Test
+  void testCachedProjectionsAreNotModifiedByTheCallers() {
+    // GIVEN
+    final var expected = cache.calculate(input(WH, CURRENT_DATE, capacity(), BACKLOG));
+    cache.calculate(input(WH, CURRENT_DATE, capacity(), BACKLOG)).clear();
+
+    // WHEN
+    final var result = cache.calculate(input(WH, CURRENT_DATE, capacity(), BACKLOG));
+
+    // THEN
+    assertEquals(expected, result);
+  }
+
+  @Test
+  void testInvalidateOnlyRemovesTheLogisticCenterProjections() {
+    // GIVEN
+    get(WH, BACKLOG);
+    get(OTHER_WH, BACKLOG);
+
+    // WHEN
+    cache.invalidate(WH);
+
+    get(WH, BACKLOG);
+    get(OTHER_WH, BACKLOG);
+
+    // THEN
+    assertEquals(3, calculations.get());
+  }
+
+  @Test
+  void testConcurrentRequestsOfTheSameProjectionAreCalculatedOnce() throws InterruptedException {
+    // GIVEN
+    final var started = new CountDownLatch(1);
+    final var release = new CountDownLatch(1);
+    final List<List<String>> results = new CopyOnWriteArrayList<>();
+
+    final Thread first = getUntilReleased(started, release, results);
+    started.await();
+
+    // WHEN
+    final Thread second = new Thread(() -> {
+      try (var ignored = mockStatic(ExecutionMetrics.DataDogMetricsWrapper.class)) {
+        results.add(get(WH, BACKLOG));
+      }
+    });
+    second.start();
+    while (second.getState() != Thread.State.BLOCKED && second.getState() != Thread.State.WAITING) {
+      Thread.onSpinWait();
+    }
+
+    release.countDown();
+    first.join();
+    second.join();
+
+    // THEN
+    assertEquals(1, calculations.get());
+    assertEquals(List.of(List.of(WH), List.of(WH)), results);
+  }
+
+  @Test
+  void testFailedCalculationsAreNotCached() {
+    // GIVEN
+    final var failure = new IllegalStateException("projection failed");
+
+    // WHEN
+    final var thrown = assertThrows(IllegalStateException.class, () ->
+        cache.get(CptProjectionCache.SLA_PROJECTION, WH, BACKLOG, () -> {
+          throw failure;
+        })
+    );
+
+    // THEN
+    assertEquals(failure, thrown);
+    assertEquals(List.of(WH), get(WH, BACKLOG));
+    assertEquals(1, calculations.get());
+  }
+
+  @Test
+  void testProjectionsCalculatedDuringAnInvalidationAreNotHitAfterIt() throws InterruptedException {
+    // GIVEN
+    final var started = new CountDownLatch(1);
+    final var release = new CountDownLatch(1);
+
+    final Thread stale = getUntilReleased(started, release, new CopyOnWriteArrayList<>());
+    started.await();
+
+    // WHEN
+    cache.invalidate(WH);
+
+    release.countDown();
+    stale.join();
+
+    get(WH, BACKLOG);
+
+    // THEN
+    assertEquals(2, calculations.get());
+  }
+
+  @Test
+  void testFingerprintKeepsTheZonesOfTheDates() {
+    // GIVEN
+    final var zoned = SLA_1.withZoneSameInstant(ZoneId.of("America/Argentina/Buenos_Aires"));
+
+    // THEN
+    assertEquals(cache.fingerprint(Map.of(SLA_1, 1, SLA_2, 2)), cache.fingerprint(Map.of(SLA_2, 2, SLA_1, 1)));
+    assertNotEquals(cache.fingerprint(List.of(SLA_1)), cache.fingerprint(List.of(zoned)));
+  }
+
+}
@@ -0,0 +1,176 @@
+package com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt;
+
+import static java.time.ZonedDateTime.parse;
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.mercadolibre.planning.model.api.domain.entity.sla.GetSlaByWarehouseOutput;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class IncrementalCptProjectionTest {
+
+  private static final ZonedDateTime FIRST_HOUR = parse("2023-09-08T10:00:00Z");
+
+  private static final ZonedDateTime DATE_TO = FIRST_HOUR.plusDays(3);
+
+  private static final ZonedDateTime SLA_1 = parse("2023-09-08T12:00:00Z");
+
+  private static final ZonedDateTime SLA_2 = parse("2023-09-08T12:30:00Z");
+
+  private static final ZonedDateTime SLA_3 = parse("2023-09-08T14:00:00Z");
+
+  private static final List<GetSlaByWarehouseOutput> SLAS = List.of(sla(SLA_1), sla(SLA_2), sla(SLA_3));
+
+  private static GetSlaByWarehouseOutput sla(final ZonedDateTime date) {
+    return GetSlaByWarehouseOutput.builder().date(date).build();
+  }
+
+  private static Map<ZonedDateTime, Integer> capacity(final int value) {
+    final Map<ZonedDateTime, Integer> capacity = new HashMap<>();
+    for (int hour = 0; hour <= 72; hour++) {
+      capacity.put(FIRST_HOUR.plusHours(hour), value);
+    }
+    return capacity;
+  }
+
+  private static List<CptCalculationOutput> project(final ZonedDateTime currentDate,
+                                                    final ZonedDateTime dateTo,
+                                                    final Map<ZonedDateTime, Integer> capacity,
+                                                    final List<GetSlaByWarehouseOutput> slas,
+                                                    final List<Backlog> backlog) {
+
+    return CalculateCptProjectionUseCase.execute(SlaProjectionInput.builder()
+        .capacity(new HashMap<>(capacity))
+        .backlog(backlog)
+        .dateFrom(FIRST_HOUR)
+        .dateTo(dateTo)
+        .plannedUnits(emptyList())
+        .slaByWarehouse(slas)
+        .currentDate(currentDate)
+        .build());
+  }
+
+  private static void assertSameProjection(final List<CptCalculationOutput> expected, final List<CptCalculationOutput> actual) {
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i).getDate(), actual.get(i).getDate());
+      assertEquals(expected.get(i).getProjectedEndDate(), actual.get(i).getProjectedEndDate());
+      assertEquals(expected.get(i).getRemainingQuantity(), actual.get(i).getRemainingQuantity());
+      assertEquals(expected.get(i).getTotalCurrentBacklog(), actual.get(i).getTotalCurrentBacklog());
+      assertEquals(expected.get(i).getTotalPlannedBacklog(), actual.get(i).getTotalPlannedBacklog());
+    }
+  }
+
+  private static LongStream seeds() {
+    return LongStream.range(0, 50);
+  }
+
+  @Test
+  void testProjectionResumesFromTheCapacityLeftByThePreviousSlas() {
+    // GIVEN
+    final var projection = IncrementalCptProjection.of(FIRST_HOUR, DATE_TO, capacity(100), SLAS);
+    final var backlog = List.of(new Backlog(SLA_1, 150), new Backlog(SLA_2, 100), new Backlog(SLA_3, 50));
+
+    // WHEN
+    final var result = projection.project(FIRST_HOUR, backlog);
+
+    // THEN
+    assertEquals(parse("2023-09-08T11:30Z"), result.get(0).getProjectedEndDate());
+    assertEquals(parse("2023-09-08T12:30Z"), result.get(1).getProjectedEndDate());
+    assertEquals(parse("2023-09-08T13:00Z"), result.get(2).getProjectedEndDate());
+    assertSameProjection(project(FIRST_HOUR, DATE_TO, capacity(100), SLAS, backlog), result);
+  }
+
+  @Test
+  void testBacklogBeyondTheHorizonCapacityIsNotProjected() {
+    // GIVEN
+    final var dateTo = FIRST_HOUR.plusHours(2);
+    final var projection = IncrementalCptProjection.of(FIRST_HOUR, dateTo, capacity(100), SLAS);
+    final var backlog = List.of(new Backlog(SLA_1, 150), new Backlog(SLA_3, 500));
+
+    // WHEN
+    final var result = projection.project(FIRST_HOUR.plusMinutes(30), backlog);
+
+    // THEN
+    assertNull(result.get(2).getProjectedEndDate());
+    assertEquals(FIRST_HOUR, result.get(1).getProjectedEndDate());
+    assertSameProjection(project(FIRST_HOUR.plusMinutes(30), dateTo, capacity(100), SLAS, backlog), result);
+  }
+
+  @Test
+  void testNegativeCapacitiesAreProjectedWithTheWholeProjection() {
+    // GIVEN
+    final var capacity = capacity(100);
+    capacity.put(FIRST_HOUR.plusHours(1), -20);
+
+    final var projection = IncrementalCptProjection.of(FIRST_HOUR, DATE_TO, capacity, SLAS);
+    final var backlog = List.of(new Backlog(SLA_1, 150), new Backlog(SLA_2, 100));
+
+    // WHEN
+    final var result = projection.project(FIRST_HOUR.plusMinutes(15), backlog);
+
+    // THEN
+    assertSameProjection(project(FIRST_HOUR.plusMinutes(15), DATE_TO, capacity, SLAS, backlog), result);
+  }
+
+  @Test
+  void testCurrentDateOutsideOfTheFirstHourIsRejected() {
+    // GIVEN
+    final var projection = IncrementalCptProjection.of(FIRST_HOUR, DATE_TO, capacity(100), SLAS);
+
+    // WHEN - THEN
+    assertThrows(IllegalArgumentException.class, () -> projection.project(FIRST_HOUR.plusHours(1), emptyList()));
+  }
+
+  @ParameterizedTest
+  @MethodSource("seeds")
+  void testProjectionIsTheSameAsTheWholeProjection(final long seed) {
+    // GIVEN
+    final var random = new Random(seed);
+    final var dateTo = FIRST_HOUR.plusHours(1 + random.nextInt(72));
+
+    final Map<ZonedDateTime, Integer> capacity = new HashMap<>();
+    for (int hour = 0; hour <= 72; hour++) {
+      if (random.nextInt(8) != 0) {
+        capacity.put(FIRST_HOUR.plusHours(hour), random.nextInt(5) == 0 ? 0 : random.nextInt(500));
+      }
+    }
+
+    final var dates = new TreeSet<ZonedDateTime>();
+    final int slasCount = 1 + random.nextInt(30);
+    while (dates.size() < slasCount) {
+      dates.add(FIRST_HOUR.plusMinutes(15L * (random.nextInt(76 * 4) - 8)));
+    }
+
+    final List<GetSlaByWarehouseOutput> slas = new ArrayList<>();
+    final List<Backlog> backlog = new ArrayList<>();
+    dates.forEach(date -> {
+      slas.add(sla(date));
+      if (random.nextInt(5) != 0) {
+        backlog.add(new Backlog(date, random.nextInt(2000)));
+      }
+    });
+
+    final var projection = IncrementalCptProjection.of(FIRST_HOUR, dateTo, capacity, slas);
+
+    // WHEN - THEN
+    for (int minutes = 0; minutes < 60; minutes += 5) {
+      final var currentDate = ZonedDateTime.ofInstant(FIRST_HOUR.plusMinutes(minutes).toInstant(), ZoneOffset.UTC);
+
+      assertSameProjection(project(currentDate, dateTo, capacity, slas, backlog), projection.project(currentDate, backlog));
+    }
+  }
+}
@@ -0,0 +1,117 @@
+package com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.QueueProjectionCalculator.Assistant;
+import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.QueueProjectionCalculator.Queue;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.ObjLongConsumer;
+import org.junit.jupiter.api.Test;
+
+class QueueProjectionCalculatorTest {
+
+  private static final Instant STARTING_DATE = Instant.parse("2023-09-08T10:00:00Z");
+
+  private static final Instant STEP_1 = Instant.parse("2023-09-08T11:00:00Z");
+
+  private static final Instant STEP_2 = Instant.parse("2023-09-08T12:00:00Z");
+
+  private static final Instant STEP_3 = Instant.parse("2023-09-08T13:00:00Z");
+
+  private static final Instant CUTOFF_1 = Instant.parse("2023-09-08T12:00:00Z");
+
+  private static final Instant CUTOFF_2 = Instant.parse("2023-09-08T14:00:00Z");
+
+  private static final Instant CUTOFF_3 = Instant.parse("2023-09-08T16:00:00Z");
+
+  /**
+   * Each hour the upstream outputs 50 units for the third cutoff and the stage processes 100 units.
+   */
+  private static final Assistant ASSISTANT = new Assistant() {
+    @Override
+    public void calcUpstreamIntegral(final Instant from, final Instant to, final ObjLongConsumer<Instant> output) {
+      output.accept(CUTOFF_3, 50);
+    }
+
+    @Override
+    public long calcProcessingCapacityIntegral(final Instant from, final Instant to) {
+      return 100;
+    }
+
+    @Override
+    public Instant calcExhaustionDate(final Instant startingDate, final long quantityToProcess) {
+      return startingDate.plusSeconds(36 * quantityToProcess);
+    }
+  };
+
+  private static QueueProjectionCalculator.Log calculate(final Queue startingQueue) {
+    return QueueProjectionCalculator.calculate(STARTING_DATE, startingQueue, new TreeSet<>(List.of(STEP_1, STEP_2, STEP_3)), ASSISTANT);
+  }
+
+  @Test
+  void testQueueIsConsumedByDiscriminatorOrder() {
+    // GIVEN
+    final var startingQueue = Queue.of(Map.of(CUTOFF_2, 60L, CUTOFF_1, 80L));
+
+    // WHEN
+    final var log = calculate(startingQueue);
+
+    // THEN
+    assertEquals(Map.of(CUTOFF_2, 40L, CUTOFF_3, 50L), log.queueAt(STEP_1).getQuantityByDiscriminator());
+    assertEquals(Map.of(CUTOFF_3, 40L), log.queueAt(STEP_2).getQuantityByDiscriminator());
+    assertEquals(Map.of(), log.queueAt(STEP_3).getQuantityByDiscriminator());
+    assertEquals(log.queueAt(STEP_3).getQuantityByDiscriminator(), log.lastQueue().getQuantityByDiscriminator());
+
+    assertEquals(Instant.parse("2023-09-08T10:48:00Z"), log.lastExhaustionInstant(CUTOFF_1));
+    assertEquals(Instant.parse("2023-09-08T11:24:00Z"), log.lastExhaustionInstant(CUTOFF_2));
+    assertEquals(Instant.parse("2023-09-08T12:54:00Z"), log.lastExhaustionInstant(CUTOFF_3));
+    assertEquals(0, log.overconsumptionAt(STEP_2));
+    assertEquals(10, log.overconsumptionAt(STEP_3));
+  }
+
+  @Test
+  void testQuantitiesAreReadFromTheLastChange() {
+    // GIVEN
+    final var startingQueue = Queue.of(Map.of(CUTOFF_1, 150L, CUTOFF_2, 30L));
+
+    // WHEN
+    final var log = calculate(startingQueue);
+
+    // THEN
+    assertEquals(150, log.quantityAt(STARTING_DATE, CUTOFF_1));
+    assertEquals(50, log.quantityAt(STEP_1, CUTOFF_1));
+    assertEquals(30, log.quantityAt(STEP_1, CUTOFF_2));
+    assertEquals(0, log.quantityAt(STEP_2, CUTOFF_1));
+    assertEquals(0, log.quantityAt(STEP_2, CUTOFF_2));
+    assertEquals(80, log.quantityAt(STEP_2, CUTOFF_3));
+    assertEquals(30, log.quantityAt(STEP_3, CUTOFF_3));
+    assertNull(log.lastExhaustionInstant(CUTOFF_3));
+  }
+
+  @Test
+  void testStartingQueueIsNotModified() {
+    // GIVEN
+    final var startingQueue = Queue.of(Map.of(CUTOFF_1, 150L));
+
+    // WHEN
+    final var log = calculate(startingQueue);
+
+    // THEN
+    assertEquals(Map.of(CUTOFF_1, 150L), startingQueue.getQuantityByDiscriminator());
+    assertEquals(Map.of(CUTOFF_1, 150L), log.queueAt(STARTING_DATE).getQuantityByDiscriminator());
+  }
+
+  @Test
+  void testQueueIsOnlyKeptAtTheEndOfTheSteps() {
+    // GIVEN
+    final var log = calculate(new Queue());
+
+    // WHEN - THEN
+    assertThrows(IllegalArgumentException.class, () -> log.queueAt(CUTOFF_3));
+  }
+}
@@ -22,6 +22,8 @@ import com.mercadolibre.planning.model.api.web.controller.projection.request.Qua
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -56,6 +58,15 @@ class QueueProjectionServiceTest {
   @Mock
   private GetCycleTimeService getCycleTimeService;
 
+  @Mock
+  private CptProjectionCache cptProjectionCache;
+
+  @BeforeEach
+  void setUp() {
+    when(cptProjectionCache.get(any(), any(), any(), any()))
+        .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(3).get());
+  }
+
   @Test
   void projectionSlaOk() {
 
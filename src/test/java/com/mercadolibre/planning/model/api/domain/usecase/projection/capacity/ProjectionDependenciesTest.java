@@ -0,0 +1,164 @@
+package com.mercadolibre.planning.model.api.domain.usecase.projection.capacity;
+
+import static com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.ProjectionDependency.CYCLE_TIMES;
+import static com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.ProjectionDependency.SLAS;
+import static com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.ProjectionDependency.THROUGHPUT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mockStatic;
+
+import com.mercadolibre.planning.model.api.domain.usecase.projection.ExecutionMetrics;
+import com.mercadolibre.planning.model.api.exception.ProjectionDependencyTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+class ProjectionDependenciesTest {
+
+  private static final String LATENCY_METRIC = "application.planning.model.api.projection.dependency.latency";
+
+  private MockedStatic<ExecutionMetrics.DataDogMetricsWrapper> wrapper;
+
+  private ExecutorService executor;
+
+  private ProjectionDependencies projectionDependencies;
+
+  private static String await(final CountDownLatch started, final CountDownLatch released, final String value) {
+    started.countDown();
+    try {
+      released.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return value;
+  }
+
+  @BeforeEach
+  void setUp() {
+    wrapper = mockStatic(ExecutionMetrics.DataDogMetricsWrapper.class);
+    executor = Executors.newFixedThreadPool(2);
+    projectionDependencies = new ProjectionDependencies(executor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    wrapper.close();
+    executor.shutdownNow();
+  }
+
+  @Test
+  void testLookupsAreStartedConcurrently() throws InterruptedException {
+    // GIVEN
+    final var started = new CountDownLatch(2);
+    final var released = new CountDownLatch(1);
+
+    // WHEN
+    final var slas = projectionDependencies.fetch(SLAS, () -> await(started, released, "slas"));
+    final var throughput = projectionDependencies.fetch(THROUGHPUT, () -> await(started, released, "throughput"));
+
+    // THEN
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    released.countDown();
+
+    assertEquals("slas", ProjectionDependencies.join(slas));
+    assertEquals("throughput", ProjectionDependencies.join(throughput));
+  }
+
+  @Test
+  void testLatencyIsRecordedByDependency() {
+    // GIVEN
+    final var sameThreadDependencies = new ProjectionDependencies(Runnable::run);
+
+    // WHEN
+    ProjectionDependencies.join(sameThreadDependencies.fetch(CYCLE_TIMES, () -> 1));
+
+    // THEN
+    wrapper.verify(() -> ExecutionMetrics.DataDogMetricsWrapper.histogram(eq(LATENCY_METRIC), anyLong(), eq("dependency:cycle_times")));
+  }
+
+  @Test
+  void testLookupFailsWhenItTimesOut() {
+    // GIVEN
+    final var released = new CountDownLatch(1);
+    final var lookup = projectionDependencies.fetch(SLAS, Duration.ofMillis(10), () -> await(new CountDownLatch(0), released, "slas"));
+
+    // WHEN
+    final var exception = assertThrows(ProjectionDependencyTimeoutException.class, () -> ProjectionDependencies.join(lookup));
+
+    // THEN
+    released.countDown();
+    assertEquals("The projection timed out after 10 ms waiting for its slas dependency", exception.getMessage());
+  }
+
+  @Test
+  void testRunningLookupIsInterruptedWhenItTimesOut() throws InterruptedException {
+    // GIVEN
+    final var started = new CountDownLatch(1);
+    final var interrupted = new CountDownLatch(1);
+
+    // WHEN
+    final var lookup = projectionDependencies.fetch(SLAS, Duration.ofMillis(500), () -> {
+      started.countDown();
+      try {
+        new CountDownLatch(1).await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        interrupted.countDown();
+      }
+      return "slas";
+    });
+
+    // THEN
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    assertThrows(ProjectionDependencyTimeoutException.class, () -> ProjectionDependencies.join(lookup));
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void testQueuedLookupTimeoutStartsWhenItRuns() throws InterruptedException {
+    // GIVEN
+    final var saturatedExecutor = Executors.newSingleThreadExecutor();
+    final var saturatedDependencies = new ProjectionDependencies(saturatedExecutor);
+
+    final var started = new CountDownLatch(1);
+    final var released = new CountDownLatch(1);
+    saturatedExecutor.execute(() -> await(started, released, "busy"));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    // WHEN
+    final var lookup = saturatedDependencies.fetch(SLAS, Duration.ofMillis(50), () -> "slas");
+
+    // THEN
+    assertThrows(TimeoutException.class, () -> lookup.get(500, TimeUnit.MILLISECONDS));
+    released.countDown();
+    assertEquals("slas", ProjectionDependencies.join(lookup));
+
+    saturatedExecutor.shutdown();
+    assertTrue(saturatedExecutor.awaitTermination(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void testLookupFailuresAreRethrown() {
+    // GIVEN
+    final var failure = new IllegalStateException("route coverage is down");
+
+    // WHEN
+    final var lookup = projectionDependencies.fetch(SLAS, () -> {
+      throw failure;
+    });
+
+    // THEN
+    assertSame(failure, assertThrows(IllegalStateException.class, () -> ProjectionDependencies.join(lookup)));
+  }
+
+}
@@ -17,7 +17,9 @@ import static org.springframework.test.util.AssertionErrors.assertEquals;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
 import com.mercadolibre.planning.model.api.projection.builder.OutboundProjectionBuilder;
+import com.mercadolibre.planning.model.api.projection.dto.response.ColumnarBacklogProjectionResponse;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -204,4 +206,61 @@ class BacklogProjectionServiceTest {
         (b, c) -> assertEquals("", c, resultBacklogAtFirstHour.get(b))
     ));
   }
+
+  @ParameterizedTest
+  @MethodSource("testArguments")
+  @DisplayName("Test columnar projections have the same backlog as the nested ones")
+  void check_columnar_projections_are_equivalent(
+      final Instant dateFrom,
+      final Instant dateTo,
+      final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> currentShippingBacklogs,
+      final Map<Instant, Map<ProcessPath, Map<Instant, Long>>> upstream,
+      final Map<ProcessName, Map<Instant, Integer>> getShippingThroughput,
+      final Map<Instant, Map<ProcessName, Map<Instant, Integer>>> expected
+  ) {
+    final var processes = List.of(PICKING, BATCH_SORTER, WALL_IN, PACKING, PACKING_WALL, HU_ASSEMBLY, SALES_DISPATCH);
+
+    final var nested = BacklogProjectionService.execute(
+        dateFrom, dateTo, currentShippingBacklogs, upstream, getShippingThroughput, processes, new OutboundProjectionBuilder()
+    );
+
+    final var columnar = BacklogProjectionService.executeColumnar(
+        dateFrom, dateTo, currentShippingBacklogs, upstream, getShippingThroughput, processes, new OutboundProjectionBuilder(),
+        InflectionPointsMode.FIXED_WINDOW
+    );
+
+    assertEquals("", withoutZeros(nested), decode(columnar));
+  }
+
+  private static Map<Instant, Map<ProcessName, Map<Instant, Integer>>> decode(final ColumnarBacklogProjectionResponse columnar) {
+    final Map<Instant, Map<ProcessName, Map<Instant, Integer>>> decoded = new HashMap<>();
+    final int width = columnar.getDateOuts().length;
+    for (int p = 0; p < columnar.getProcesses().size(); p++) {
+      for (int h = 0; h < columnar.getOperationHours().length; h++) {
+        for (int d = 0; d < width; d++) {
+          final int quantity = columnar.getQuantities()[p][h * width + d];
+          if (quantity != 0) {
+            decoded.computeIfAbsent(Instant.ofEpochSecond(columnar.getBase() + columnar.getOperationHours()[h]), key -> new HashMap<>())
+                .computeIfAbsent(columnar.getProcesses().get(p), key -> new HashMap<>())
+                .put(Instant.ofEpochSecond(columnar.getBase() + columnar.getDateOuts()[d]), quantity);
+          }
+        }
+      }
+    }
+    return decoded;
+  }
+
+  private static Map<Instant, Map<ProcessName, Map<Instant, Integer>>> withoutZeros(
+      final Map<Instant, Map<ProcessName, Map<Instant, Integer>>> backlog
+  ) {
+    final Map<Instant, Map<ProcessName, Map<Instant, Integer>>> filtered = new HashMap<>();
+    backlog.forEach((date, byProcess) -> byProcess.forEach((process, byDateOut) -> byDateOut.forEach((dateOut, quantity) -> {
+      if (quantity != 0) {
+        filtered.computeIfAbsent(date, key -> new HashMap<>())
+            .computeIfAbsent(process, key -> new HashMap<>())
+            .put(dateOut, quantity);
+      }
+    })));
+    return filtered;
+  }
 }
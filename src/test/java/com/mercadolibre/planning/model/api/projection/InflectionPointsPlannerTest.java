@@ -0,0 +1,94 @@
+package com.mercadolibre.planning.model.api.projection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.mercadolibre.planning.model.api.util.DateUtils;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class InflectionPointsPlannerTest {
+
+  private static final Instant DATE_FROM = Instant.parse("2023-09-08T00:10:30Z");
+
+  private static final Instant DATE_TO = Instant.parse("2023-09-08T04:00:00Z");
+
+  private static Instant at(final String time) {
+    return Instant.parse("2023-09-08T" + time + ":00Z");
+  }
+
+  @Test
+  void testPlanOnlyStepsAtThroughputChanges() {
+    // GIVEN
+    final var throughput = Map.of(
+        at("00:00"), 100,
+        at("01:00"), 100,
+        at("02:00"), 200,
+        at("03:00"), 200
+    );
+
+    // WHEN
+    final var inflectionPoints = InflectionPointsPlanner.between(DATE_FROM, DATE_TO)
+        .throughput(throughput)
+        .maxStep(Duration.ofHours(3))
+        .plan();
+
+    // THEN
+    assertEquals(List.of(at("00:10"), at("02:00"), at("04:00")), inflectionPoints);
+  }
+
+  @Test
+  void testPlanStepsAtUpstreamPiecesAndOutputs() {
+    // WHEN
+    final var inflectionPoints = InflectionPointsPlanner.between(DATE_FROM, DATE_TO)
+        .upstream(List.of(at("01:00")))
+        .at(List.of(Instant.parse("2023-09-08T02:45:10Z"), at("06:00")))
+        .maxStep(Duration.ofHours(3))
+        .plan();
+
+    // THEN
+    assertEquals(List.of(at("00:10"), at("01:00"), at("02:00"), at("02:45"), at("04:00")), inflectionPoints);
+  }
+
+  @Test
+  void testPlanFillsStepsLongerThanMaxStep() {
+    // WHEN
+    final var inflectionPoints = InflectionPointsPlanner.between(DATE_FROM, DATE_TO)
+        .maxStep(Duration.ofHours(1))
+        .plan();
+
+    // THEN
+    assertEquals(List.of(at("00:10"), at("01:10"), at("02:10"), at("03:10"), at("04:00")), inflectionPoints);
+  }
+
+  @Test
+  void testDefaultMaxStepIsTheFixedWindow() {
+    // WHEN
+    final var inflectionPoints = InflectionPointsPlanner.between(at("00:00"), DATE_TO).plan();
+
+    // THEN
+    assertEquals(DateUtils.generateInflectionPoints(at("00:00"), DATE_TO, 5), inflectionPoints);
+  }
+
+  @Test
+  void testPlanWithoutHorizon() {
+    // WHEN
+    final var inflectionPoints = InflectionPointsPlanner.between(DATE_TO, DATE_FROM).plan();
+
+    // THEN
+    assertEquals(List.of(DATE_TO), inflectionPoints);
+  }
+
+  @Test
+  void testInvalidMaxStep() {
+    // GIVEN
+    final var planner = InflectionPointsPlanner.between(DATE_FROM, DATE_TO);
+
+    // WHEN - THEN
+    assertThrows(IllegalArgumentException.class, () -> planner.maxStep(Duration.ZERO));
+  }
+
+}
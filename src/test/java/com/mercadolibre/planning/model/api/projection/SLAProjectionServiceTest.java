@@ -13,12 +13,14 @@ import static com.mercadolibre.planning.model.api.projection.builder.SlaProjecti
 import static java.util.Collections.emptyMap;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
 import com.mercadolibre.planning.model.api.projection.builder.PackingProjectionBuilder;
 import com.mercadolibre.planning.model.api.projection.builder.Projector;
 import com.mercadolibre.planning.model.api.projection.builder.SlaProjectionResult;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Comparator;
 import java.util.List;
@@ -46,6 +48,19 @@ public class SLAProjectionServiceTest {
   private static final Instant DATE_5 = Instant.parse("2023-09-08T04:00:00Z");
   private static final Instant DATE_6 = Instant.parse("2023-09-08T05:00:00Z");
   private static final Instant DATE_7 = Instant.parse("2023-09-08T06:00:00Z");
+  private static final Duration OFF_GRID_START = Duration.ofMinutes(2);
+
+  /**
+   * Picking, batch sorter, wall in and packing wall, the longest chain of processes of the packing projection.
+   */
+  private static final int CHAINED_PROCESSES = 4;
+
+  private static final Duration END_DATE_TOLERANCE = InflectionPointsPlanner.DEFAULT_MAX_STEP.multipliedBy(CHAINED_PROCESSES);
+
+  /**
+   * Units that the fixtures' throughput of 1000 units per hour processes within the end date tolerance.
+   */
+  private static final double REMAINING_QUANTITY_TOLERANCE = 1000D * END_DATE_TOLERANCE.toSeconds() / Duration.ofHours(1).toSeconds();
 
   private static final SlaProjectionResult EXPECTED_1 = new SlaProjectionResult(
       List.of(
@@ -207,4 +222,51 @@ public class SLAProjectionServiceTest {
 
     assertEquals(slasExpected, slasActual);
   }
+
+  /**
+   * The projection starts off the fixed window grid, so both modes step at different inflection points during its first hour. Each
+   * chained process can add up to one step of error, so results may differ by up to one max step for each process of the longest
+   * chain of the graph, and remaining quantities by what can be processed meanwhile.
+   */
+  @ParameterizedTest
+  @MethodSource("testArguments")
+  @DisplayName("event driven projections at the default max step must be within tolerance of the fixed window ones")
+  void check_event_driven_projections_are_within_tolerance_of_the_fixed_window(
+      final Instant dateFrom,
+      final Instant dateTo,
+      final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> currentBacklogs,
+      final Map<Instant, Map<ProcessPath, Map<Instant, Long>>> forecastBacklog,
+      final Map<ProcessName, Map<Instant, Integer>> throughput,
+      final Map<Instant, Instant> cutOff,
+      final Projector projector
+  ) {
+    // GIVEN
+    final Instant offGridDateFrom = dateFrom.plus(OFF_GRID_START);
+
+    // WHEN
+    final SlaProjectionResult fixedWindow = SLAProjectionService.execute(
+        offGridDateFrom, dateTo, currentBacklogs, forecastBacklog, throughput, cutOff, projector, InflectionPointsMode.FIXED_WINDOW
+    );
+    final SlaProjectionResult eventDriven = SLAProjectionService.execute(
+        offGridDateFrom, dateTo, currentBacklogs, forecastBacklog, throughput, cutOff, projector, InflectionPointsMode.EVENT_DRIVEN
+    );
+
+    // THEN
+    assertEquals(fixedWindow.slas().size(), eventDriven.slas().size());
+    for (int i = 0; i < fixedWindow.slas().size(); i++) {
+      final Sla expected = fixedWindow.slas().get(i);
+      final Sla actual = eventDriven.slas().get(i);
+
+      assertEquals(expected.date(), actual.date());
+      if (expected.projectedEndDate() == null || actual.projectedEndDate() == null) {
+        assertEquals(expected.projectedEndDate(), actual.projectedEndDate(), () -> "projected end date of " + expected.date());
+      } else {
+        final Duration difference = Duration.between(expected.projectedEndDate(), actual.projectedEndDate()).abs();
+        assertTrue(difference.compareTo(END_DATE_TOLERANCE) <= 0, () -> "projected end date of " + expected.date() + " is " + difference
+            + " away from the fixed window one");
+      }
+      assertEquals(expected.remainingQuantity(), actual.remainingQuantity(), REMAINING_QUANTITY_TOLERANCE,
+          () -> "remaining quantity of " + expected.date());
+    }
+  }
 }
@@ -0,0 +1,153 @@
+package com.mercadolibre.planning.model.api.projection.availablecapacity;
+
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.BATCH_SORTER;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PACKING;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PACKING_WALL;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PICKING;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.WALL_IN;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.WAVING;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.NON_TOT_MONO;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.TOT_MONO;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.TOT_MULTI_BATCH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
+import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CapacitySensitivityTest {
+
+  private static final Instant DATE_1 = Instant.parse("2023-09-08T00:00:00Z");
+  private static final Instant DATE_2 = Instant.parse("2023-09-08T01:00:00Z");
+  private static final Instant DATE_3 = Instant.parse("2023-09-08T02:00:00Z");
+  private static final Instant DATE_4 = Instant.parse("2023-09-08T03:00:00Z");
+  private static final Instant DATE_5 = Instant.parse("2023-09-08T04:00:00Z");
+  private static final Instant DATE_6 = Instant.parse("2023-09-08T05:00:00Z");
+  private static final Instant DATE_7 = Instant.parse("2023-09-08T06:00:00Z");
+  private static final Instant SLA_1 = Instant.parse("2023-09-08T02:00:00Z");
+  private static final Instant SLA_2 = Instant.parse("2023-09-08T04:00:00Z");
+  private static final Instant SLA_3 = Instant.parse("2023-09-08T10:00:00Z");
+
+  private static final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> CURRENT_BACKLOG = Map.of(
+      WAVING, Map.of(TOT_MONO, Map.of(SLA_1, 500L, SLA_2, 500L), TOT_MULTI_BATCH, Map.of(SLA_2, 550L)),
+      PICKING, Map.of(TOT_MONO, Map.of(SLA_1, 1000L, SLA_2, 1000L), NON_TOT_MONO, Map.of(SLA_3, 250L)),
+      PACKING, Map.of(TOT_MONO, Map.of(SLA_3, 1000L)),
+      BATCH_SORTER, Map.of(TOT_MULTI_BATCH, Map.of(SLA_2, 300L)),
+      WALL_IN, Map.of()
+  );
+
+  private static final Map<Instant, Map<ProcessPath, Map<Instant, Long>>> FORECAST_BACKLOG = Map.of(
+      DATE_1, Map.of(TOT_MONO, Map.of(SLA_2, 240L)),
+      DATE_2, Map.of(TOT_MULTI_BATCH, Map.of(SLA_3, 1200L))
+  );
+
+  private static final Map<ProcessName, Map<Instant, Integer>> THROUGHPUT = Map.of(
+      WAVING, throughputValues(1000),
+      PICKING, throughputValues(1000),
+      PACKING, throughputValues(1000),
+      BATCH_SORTER, throughputValues(1000),
+      WALL_IN, throughputValues(1000),
+      PACKING_WALL, throughputValues(1000)
+  );
+
+  private static final Map<Instant, Integer> CYCLE_TIME_BY_SLA = Map.of(SLA_1, 30, SLA_2, 30, SLA_3, 30);
+
+  private ForkJoinPool pool;
+
+  private AvailableCapacityUseCase useCase;
+
+  private static Map<Instant, Integer> throughputValues(final int value) {
+    return Map.of(DATE_1, value, DATE_2, value, DATE_3, value, DATE_4, value, DATE_5, value, DATE_6, value, DATE_7, value);
+  }
+
+  @BeforeEach
+  void setUp() {
+    pool = new ForkJoinPool(2);
+    useCase = new AvailableCapacityUseCase(pool);
+  }
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  void testAbsorbableUnitsAreTheLargestThatMeetTheCutOff() {
+    // WHEN
+    final List<CapacityBySLA> capacities = useCase.executeSensitivity(
+        DATE_1, DATE_7, CURRENT_BACKLOG, FORECAST_BACKLOG, THROUGHPUT, CYCLE_TIME_BY_SLA
+    );
+
+    // THEN
+    final var sensitivity = new CapacitySensitivity(
+        DATE_1, DATE_7, CURRENT_BACKLOG, FORECAST_BACKLOG, THROUGHPUT, AvailableCapacityUseCase.getCutOffs(CYCLE_TIME_BY_SLA)
+    );
+
+    assertEquals(List.of(SLA_1, SLA_2, SLA_3), capacities.stream().map(CapacityBySLA::date).toList());
+    for (final CapacityBySLA capacity : capacities) {
+      if (capacity.capacity() > 0) {
+        assertTrue(sensitivity.meetsCutOffWith(capacity.date(), capacity.capacity()));
+      }
+      if (capacity.capacity() < sensitivity.maxUnits()) {
+        final int missingUnits = sensitivity.meetsCutOffWith(capacity.date(), 0) ? capacity.capacity() + 1 : 0;
+        assertFalse(sensitivity.meetsCutOffWith(capacity.date(), missingUnits));
+      }
+    }
+  }
+
+  @Test
+  void testSensitivityIsMonotone() {
+    // GIVEN
+    final var sensitivity = new CapacitySensitivity(
+        DATE_1, DATE_7, CURRENT_BACKLOG, FORECAST_BACKLOG, THROUGHPUT, AvailableCapacityUseCase.getCutOffs(CYCLE_TIME_BY_SLA)
+    );
+
+    // WHEN
+    final int absorbableUnits = sensitivity.absorbableUnits(SLA_3);
+
+    // THEN
+    for (int units = 0; units <= sensitivity.maxUnits(); units += 500) {
+      assertEquals(units <= absorbableUnits, sensitivity.meetsCutOffWith(SLA_3, units));
+    }
+  }
+
+  @Test
+  void testAbsorbableUnitsAreBoundedByTheFollowingSlas() {
+    // GIVEN
+    // the first SLA has a short backlog and a wide margin to its cut-off, but the units it absorbs delay the second one, which is tight
+    final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> currentBacklog = Map.of(
+        PICKING, Map.of(TOT_MONO, Map.of(SLA_1, 100L, SLA_2, 2800L))
+    );
+    final Map<Instant, Instant> cutOffs = AvailableCapacityUseCase.getCutOffs(Map.of(SLA_1, 30, SLA_2, 30));
+
+    final var sensitivity = new CapacitySensitivity(DATE_1, DATE_7, currentBacklog, Map.of(), THROUGHPUT, cutOffs);
+
+    // WHEN
+    final int absorbableUnits = sensitivity.absorbableUnits(SLA_1);
+
+    // THEN
+    final var withAbsorbableUnits = sensitivity.project(withPickingBacklog(SLA_1, 100L + absorbableUnits));
+    assertTrue(CapacitySensitivity.meetsCutOff(withAbsorbableUnits, SLA_2, cutOffs.get(SLA_2)));
+
+    final var withOneMoreUnit = sensitivity.project(withPickingBacklog(SLA_1, 100L + absorbableUnits + 1));
+    assertTrue(CapacitySensitivity.meetsCutOff(withOneMoreUnit, SLA_1, cutOffs.get(SLA_1)));
+    assertFalse(CapacitySensitivity.meetsCutOff(withOneMoreUnit, SLA_2, cutOffs.get(SLA_2)));
+
+    assertTrue(absorbableUnits <= sensitivity.absorbableUnits(SLA_2));
+  }
+
+  private static Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> withPickingBacklog(final Instant sla, final long quantity) {
+    final Map<Instant, Long> quantityBySla = new HashMap<>(Map.of(SLA_1, 100L, SLA_2, 2800L));
+    quantityBySla.put(sla, quantity);
+    return Map.of(PICKING, Map.of(TOT_MONO, quantityBySla));
+  }
+}
@@ -0,0 +1,56 @@
+package com.mercadolibre.planning.model.api.projection.backlogmanager;
+
+import static com.mercadolibre.planning.model.api.projection.waverless.WavesBySlaUtil.SLA_1;
+import static com.mercadolibre.planning.model.api.projection.waverless.WavesBySlaUtil.SLA_2;
+import static com.mercadolibre.planning.model.api.projection.waverless.WavesBySlaUtil.SLA_3;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class SortedBacklogByDateConsumerTest {
+
+  private static final Instant STARTING_DATE = Instant.parse("2023-03-21T00:00:00Z");
+
+  private static final Instant ENDING_DATE = Instant.parse("2023-03-21T01:00:00Z");
+
+  private static final SortedBacklogByDateConsumer CONSUMER = new SortedBacklogByDateConsumer();
+
+  @Test
+  void testConsumeEarliestDatesFirst() {
+    // GIVEN
+    final var backlog = SortedBacklogByDate.from(Map.of(SLA_1, 100L, SLA_2, 300L, SLA_3, 500L));
+
+    // WHEN
+    final var result = CONSUMER.consume(STARTING_DATE, ENDING_DATE, backlog, 250);
+
+    // THEN
+    assertEquals(SortedBacklogByDate.from(Map.of(SLA_1, 100L, SLA_2, 150L, SLA_3, 0L)), result.getConsumed());
+    assertEquals(SortedBacklogByDate.from(Map.of(SLA_1, 0L, SLA_2, 150L, SLA_3, 500L)), result.getLeftOver());
+  }
+
+  @Test
+  void testConsumeMoreThanAvailable() {
+    // GIVEN
+    final var backlog = SortedBacklogByDate.from(Map.of(SLA_1, 100L, SLA_2, 300L));
+
+    // WHEN
+    final var result = CONSUMER.consume(STARTING_DATE, ENDING_DATE, backlog, 1000);
+
+    // THEN
+    assertEquals(400L, result.getConsumed().total());
+    assertEquals(0L, result.getLeftOver().total());
+  }
+
+  @Test
+  void testConsumeEmptyBacklog() {
+    // WHEN
+    final var result = CONSUMER.consume(STARTING_DATE, ENDING_DATE, SortedBacklogByDate.emptyBacklog(), 100);
+
+    // THEN
+    assertEquals(0L, result.getConsumed().total());
+    assertEquals(0L, result.getLeftOver().total());
+  }
+
+}
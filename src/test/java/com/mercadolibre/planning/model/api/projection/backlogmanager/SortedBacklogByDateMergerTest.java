@@ -0,0 +1,48 @@
+package com.mercadolibre.planning.model.api.projection.backlogmanager;
+
+import static com.mercadolibre.planning.model.api.projection.waverless.WavesBySlaUtil.SLA_1;
+import static com.mercadolibre.planning.model.api.projection.waverless.WavesBySlaUtil.SLA_2;
+import static com.mercadolibre.planning.model.api.projection.waverless.WavesBySlaUtil.SLA_3;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Instant;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class SortedBacklogByDateMergerTest {
+
+  private static final Instant SLA_4 = Instant.parse("2023-03-06T06:00:00Z");
+
+  private static final SortedBacklogByDateMerger MERGER = new SortedBacklogByDateMerger();
+
+  @Test
+  void testMergeAddsQuantitiesOfTheSameDate() {
+    // GIVEN
+    final var one = SortedBacklogByDate.from(Map.of(SLA_1, 10L, SLA_3, 30L));
+    final var two = SortedBacklogByDate.from(Map.of(SLA_2, 20L, SLA_3, 5L));
+    final var three = SortedBacklogByDate.from(Map.of(SLA_4, 40L, SLA_1, 1L));
+
+    // WHEN
+    final var result = MERGER.merge(one, two, three);
+
+    // THEN
+    assertEquals(SortedBacklogByDate.from(Map.of(SLA_1, 11L, SLA_2, 20L, SLA_3, 35L, SLA_4, 40L)), result);
+  }
+
+  @Test
+  void testMergeOneBacklog() {
+    // GIVEN
+    final var backlog = SortedBacklogByDate.from(Map.of(SLA_1, 10L));
+
+    // WHEN - THEN
+    assertSame(backlog, MERGER.merge(backlog, null));
+  }
+
+  @Test
+  void testMergeNoBacklogs() {
+    // WHEN - THEN
+    assertEquals(SortedBacklogByDate.emptyBacklog(), MERGER.merge());
+  }
+
+}
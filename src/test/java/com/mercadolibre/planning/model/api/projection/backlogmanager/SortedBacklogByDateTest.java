@@ -0,0 +1,71 @@
+package com.mercadolibre.planning.model.api.projection.backlogmanager;
+
+import static com.mercadolibre.planning.model.api.projection.waverless.WavesBySlaUtil.SLA_1;
+import static com.mercadolibre.planning.model.api.projection.waverless.WavesBySlaUtil.SLA_2;
+import static com.mercadolibre.planning.model.api.projection.waverless.WavesBySlaUtil.SLA_3;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.mercadolibre.flow.projection.tools.services.entities.orderedbacklogbydate.OrderedBacklogByDate;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class SortedBacklogByDateTest {
+
+  @Test
+  void testFromSortsByDate() {
+    // WHEN
+    final var backlog = SortedBacklogByDate.from(Map.of(SLA_3, 30L, SLA_1, 10L, SLA_2, 20L));
+
+    // THEN
+    assertEquals(3, backlog.size());
+    assertEquals(SLA_1, backlog.dateAt(0));
+    assertEquals(SLA_2, backlog.dateAt(1));
+    assertEquals(SLA_3, backlog.dateAt(2));
+    assertEquals(10L, backlog.quantityAt(0));
+    assertEquals(20L, backlog.quantityAt(1));
+    assertEquals(30L, backlog.quantityAt(2));
+    assertEquals(60L, backlog.total());
+  }
+
+  @Test
+  void testMap() {
+    // GIVEN
+    final var backlog = SortedBacklogByDate.from(Map.of(SLA_1, 10L, SLA_2, 20L));
+
+    // WHEN
+    final var result = backlog.map(quantity -> quantity * 2);
+
+    // THEN
+    assertEquals(SortedBacklogByDate.from(Map.of(SLA_1, 20L, SLA_2, 40L)), result);
+  }
+
+  @Test
+  void testOrderedBacklogByDateConversion() {
+    // GIVEN
+    final var orderedBacklogByDate = new OrderedBacklogByDate(
+        Map.of(
+            SLA_1, new OrderedBacklogByDate.Quantity(10L),
+            SLA_2, new OrderedBacklogByDate.Quantity(20L)
+        )
+    );
+
+    // WHEN
+    final var backlog = SortedBacklogByDate.from(orderedBacklogByDate);
+
+    // THEN
+    assertEquals(SortedBacklogByDate.from(Map.of(SLA_1, 10L, SLA_2, 20L)), backlog);
+    assertEquals(orderedBacklogByDate, backlog.toOrderedBacklogByDate());
+  }
+
+  @Test
+  void testEmptyBacklog() {
+    // WHEN
+    final var backlog = SortedBacklogByDate.from(Map.of());
+
+    // THEN
+    assertEquals(0, backlog.size());
+    assertEquals(0L, backlog.total());
+    assertEquals(SortedBacklogByDate.emptyBacklog(), backlog);
+  }
+
+}
@@ -0,0 +1,62 @@
+package com.mercadolibre.planning.model.api.projection.builder;
+
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PACKING;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.WAVING;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.TOT_MONO;
+import static com.mercadolibre.planning.model.api.projection.ProjectionGraphs.PACKING_PROCESS_GROUP;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mercadolibre.flow.projection.tools.services.entities.process.ParallelProcess;
+import com.mercadolibre.flow.projection.tools.services.entities.process.SimpleProcess;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ContextsTemplateTest {
+
+  private static final Instant DATE = Instant.parse("2023-03-29T00:00:00Z");
+
+  private static final ContextsTemplate TEMPLATE = ProjectorUtils.baseContextsTemplate(Set.of(PACKING))
+      .orderedBacklogByProcessPath(WAVING, InstantThroughput::new)
+      .build();
+
+  @Test
+  void testInstantiateBuildsOneContextByProcess() {
+    // GIVEN
+    final var backlog = Map.of(PACKING, Map.of(TOT_MONO, Map.of(DATE, 10L)));
+    final var throughput = Map.of(PACKING, Map.of(DATE, 5), WAVING, Map.of(DATE, 5));
+
+    // WHEN
+    final var holder = TEMPLATE.instantiate(backlog, throughput);
+
+    // THEN
+    assertEquals(
+        Set.of(PACKING.getName(), PACKING_PROCESS_GROUP, WAVING.getName()),
+        holder.getProcessContextByProcessName().keySet()
+    );
+    assertTrue(holder.getProcessContextByProcessName(PACKING.getName()) instanceof SimpleProcess.Context);
+    assertTrue(holder.getProcessContextByProcessName(PACKING_PROCESS_GROUP) instanceof ParallelProcess.Context);
+  }
+
+  @Test
+  void testInstantiateReturnsNewContexts() {
+    // GIVEN
+    final var backlog = Map.of(PACKING, Map.of(TOT_MONO, Map.of(DATE, 10L)));
+    final var throughput = Map.of(PACKING, Map.of(DATE, 5));
+
+    // WHEN
+    final var first = TEMPLATE.instantiate(backlog, throughput);
+    final var second = TEMPLATE.instantiate(backlog, throughput);
+
+    // THEN
+    assertNotSame(first, second);
+    assertNotSame(
+        first.getProcessContextByProcessName(PACKING.getName()),
+        second.getProcessContextByProcessName(PACKING.getName())
+    );
+  }
+
+}
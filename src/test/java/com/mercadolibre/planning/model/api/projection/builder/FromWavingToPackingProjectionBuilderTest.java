@@ -17,7 +17,6 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.mercadolibre.flow.projection.tools.services.entities.context.ContextsHolder;
 import com.mercadolibre.flow.projection.tools.services.entities.context.PiecewiseUpstream;
-import com.mercadolibre.flow.projection.tools.services.entities.orderedbacklogbydate.OrderedBacklogByDate;
 import com.mercadolibre.flow.projection.tools.services.entities.process.ParallelProcess;
 import com.mercadolibre.flow.projection.tools.services.entities.process.Processor;
 import com.mercadolibre.flow.projection.tools.services.entities.process.SequentialProcess;
@@ -25,6 +24,7 @@ import com.mercadolibre.flow.projection.tools.services.entities.process.SimplePr
 import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
 import com.mercadolibre.planning.model.api.projection.backlogmanager.OrderedBacklogByProcessPath;
+import com.mercadolibre.planning.model.api.projection.backlogmanager.SortedBacklogByDate;
 import com.mercadolibre.planning.model.api.util.DateUtils;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -156,10 +156,7 @@ public class FromWavingToPackingProjectionBuilderTest {
         final var expected = Optional.of(new OrderedBacklogByProcessPath(
                 Collections.singletonMap(
                         TOT_MONO,
-                        new OrderedBacklogByDate(Collections.singletonMap(
-                                SLAS[0],
-                                new OrderedBacklogByDate.Quantity(240)
-                        ))
+                        SortedBacklogByDate.from(Map.of(SLAS[0], 240L))
                 )
         ));
 
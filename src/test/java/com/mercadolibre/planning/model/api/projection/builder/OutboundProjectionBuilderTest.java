@@ -16,17 +16,24 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
+import com.mercadolibre.flow.projection.tools.services.entities.context.Backlog;
 import com.mercadolibre.flow.projection.tools.services.entities.context.ContextsHolder;
 import com.mercadolibre.flow.projection.tools.services.entities.context.PiecewiseUpstream;
-import com.mercadolibre.flow.projection.tools.services.entities.orderedbacklogbydate.OrderedBacklogByDate;
+import com.mercadolibre.flow.projection.tools.services.entities.context.ProcessContext;
+import com.mercadolibre.flow.projection.tools.services.entities.context.ProcessedBacklogState;
+import com.mercadolibre.flow.projection.tools.services.entities.context.UnprocessedBacklogState;
 import com.mercadolibre.flow.projection.tools.services.entities.process.ParallelProcess;
 import com.mercadolibre.flow.projection.tools.services.entities.process.Processor;
 import com.mercadolibre.flow.projection.tools.services.entities.process.SequentialProcess;
 import com.mercadolibre.flow.projection.tools.services.entities.process.SimpleProcess;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
+import com.mercadolibre.planning.model.api.projection.BranchesMode;
+import com.mercadolibre.planning.model.api.projection.ProjectionInputs;
 import com.mercadolibre.planning.model.api.projection.backlogmanager.OrderedBacklogByProcessPath;
+import com.mercadolibre.planning.model.api.projection.backlogmanager.SortedBacklogByDate;
 import com.mercadolibre.planning.model.api.util.DateUtils;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -35,8 +42,12 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 public class OutboundProjectionBuilderTest {
 
@@ -180,10 +191,7 @@ public class OutboundProjectionBuilderTest {
         final var expected = Optional.of(new OrderedBacklogByProcessPath(
                 Collections.singletonMap(
                         TOT_MONO,
-                        new OrderedBacklogByDate(Collections.singletonMap(
-                                SLAS[0],
-                                new OrderedBacklogByDate.Quantity(240)
-                        ))
+                        SortedBacklogByDate.from(Map.of(SLAS[0], 240L))
                 )
         ));
 
@@ -260,6 +268,118 @@ public class OutboundProjectionBuilderTest {
         assertEquals(3718, remainingQuantity.get(SLAS[1]));
     }
 
+    @Test
+    void testConcurrentBranchesAreEquivalentToSequentialProjection() {
+        // GIVEN
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        final OutboundProjectionBuilder sequential = new OutboundProjectionBuilder();
+        final OutboundProjectionBuilder concurrent = new OutboundProjectionBuilder(executor);
+
+        final Map<ProcessName, Map<Instant, Integer>> throughput = Map.of(
+                WAVING, throughput(1000, 1200, 800, 1000, 1000, 900, 1000),
+                PICKING, throughput(900, 1000, 1100, 700, 1000, 1000, 1000),
+                PACKING, throughput(300, 400, 500, 300, 200, 400, 500),
+                BATCH_SORTER, throughput(200, 100, 300, 200, 100, 300, 200),
+                WALL_IN, throughput(150, 250, 150, 250, 150, 250, 150),
+                PACKING_WALL, throughput(100, 200, 100, 300, 100, 200, 100),
+                HU_ASSEMBLY, throughput(500, 500, 500, 500, 500, 500, 500),
+                SALES_DISPATCH, throughput(400, 400, 400, 400, 400, 400, 400)
+        );
+
+        final List<Instant> inflectionPoints = DateUtils.generateInflectionPoints(DATES[0], DATES[6], 5);
+
+        try {
+            // WHEN
+            final ContextsHolder expected = sequential.buildGraph()
+                    .accept(sequential.buildContextHolder(BACKLOG, throughput), sequential.toUpstream(FORECAST), inflectionPoints);
+
+            final ContextsHolder actual = concurrent.buildGraph()
+                    .accept(concurrent.buildContextHolder(BACKLOG, throughput), concurrent.toUpstream(FORECAST), inflectionPoints);
+
+            // THEN
+            assertEquals(
+                    expected.getProcessContextByProcessName().keySet(),
+                    actual.getProcessContextByProcessName().keySet()
+            );
+
+            expected.getProcessContextByProcessName().forEach((processName, context) -> {
+                final var actualContext = actual.getProcessContextByProcessName(processName);
+                assertEquals(processedBacklogs(context), processedBacklogs(actualContext), processName);
+
+                if (context instanceof SimpleProcess.Context) {
+                    assertEquals(
+                            unprocessedBacklogs((SimpleProcess.Context) context),
+                            unprocessedBacklogs((SimpleProcess.Context) actualContext),
+                            processName
+                    );
+                }
+            });
+
+            assertEquals(
+                    sequential.calculateProjectedEndDate(Arrays.asList(SLAS), expected),
+                    concurrent.calculateProjectedEndDate(Arrays.asList(SLAS), actual)
+            );
+            assertEquals(sequential.getRemainingQuantity(expected, CUT_OFF), concurrent.getRemainingQuantity(actual, CUT_OFF));
+
+            assertSame(concurrent.buildGraph(), OutboundProjectionBuilder.of(BranchesMode.CONCURRENT, executor).buildGraph());
+            assertSame(sequential.buildGraph(), OutboundProjectionBuilder.of(BranchesMode.SEQUENTIAL, executor).buildGraph());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 8})
+    void testConcurrentBranchesAreEquivalentToSequentialProjectionOfGeneratedInputs(final int processPaths) {
+        // GIVEN
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        final OutboundProjectionBuilder sequential = new OutboundProjectionBuilder();
+        final OutboundProjectionBuilder concurrent = new OutboundProjectionBuilder(executor);
+
+        final ProjectionInputs inputs = ProjectionInputs.generate(1, 48, processPaths, 42L);
+        final List<Instant> inflectionPoints = DateUtils.generateInflectionPoints(inputs.getDateFrom(), inputs.getDateTo(), 5);
+
+        try {
+            // WHEN
+            final ContextsHolder expected = sequential.buildGraph().accept(
+                    sequential.buildContextHolder(inputs.getCurrentBacklog(), inputs.getThroughput()),
+                    sequential.toUpstream(inputs.getForecastBacklog()),
+                    inflectionPoints
+            );
+
+            final ContextsHolder actual = concurrent.buildGraph().accept(
+                    concurrent.buildContextHolder(inputs.getCurrentBacklog(), inputs.getThroughput()),
+                    concurrent.toUpstream(inputs.getForecastBacklog()),
+                    inflectionPoints
+            );
+
+            // THEN
+            assertEquals(
+                    sequential.calculateProjectedEndDate(inputs.getSlas(), expected),
+                    concurrent.calculateProjectedEndDate(inputs.getSlas(), actual)
+            );
+            assertEquals(
+                    sequential.getRemainingQuantity(expected, inputs.getCutOffs()),
+                    concurrent.getRemainingQuantity(actual, inputs.getCutOffs())
+            );
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<Backlog> processedBacklogs(final ProcessContext context) {
+        return context.getProcessedBacklog().stream()
+                .map(ProcessedBacklogState::getBacklog)
+                .collect(Collectors.toList());
+    }
+
+    private static List<Backlog> unprocessedBacklogs(final SimpleProcess.Context context) {
+        return context.getUnprocessedBacklog().stream()
+                .map(UnprocessedBacklogState::getBacklog)
+                .collect(Collectors.toList());
+    }
 
     private void assertContextsHolder(final ContextsHolder contextsHolder) {
         assertNotNull(contextsHolder);
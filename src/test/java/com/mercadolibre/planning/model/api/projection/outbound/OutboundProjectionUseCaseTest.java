@@ -20,6 +20,7 @@ import static org.mockito.Mockito.mockStatic;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
 import com.mercadolibre.planning.model.api.projection.BacklogProjectionService;
+import com.mercadolibre.planning.model.api.projection.InflectionPointsMode;
 import com.mercadolibre.planning.model.api.projection.builder.OutboundProjectionBuilder;
 import java.time.Instant;
 import java.util.List;
@@ -122,7 +123,8 @@ class OutboundProjectionUseCaseTest {
             FORECAST_BACKLOG,
             OUTBOUND_THROUGHPUT,
             PROCESS_NAMES,
-            PROJECTOR))
+            PROJECTOR,
+            InflectionPointsMode.FIXED_WINDOW))
         .thenReturn(MOCK_PROJECTION);
 
     OutboundProjectionUseCase.execute(
@@ -141,7 +143,8 @@ class OutboundProjectionUseCaseTest {
             eq(FORECAST_BACKLOG),
             eq(OUTBOUND_THROUGHPUT),
             eq(PROCESS_NAMES),
-            refEq(PROJECTOR)
+            refEq(PROJECTOR),
+            eq(InflectionPointsMode.FIXED_WINDOW)
         )
     );
 
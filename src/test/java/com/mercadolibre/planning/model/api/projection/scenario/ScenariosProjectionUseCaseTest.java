@@ -0,0 +1,147 @@
+package com.mercadolibre.planning.model.api.projection.scenario;
+
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.BATCH_SORTER;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PACKING;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PACKING_WALL;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PICKING;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.WALL_IN;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.WAVING;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.NON_TOT_MONO;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.TOT_MONO;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.TOT_MULTI_BATCH;
+import static com.mercadolibre.planning.model.api.projection.availablecapacity.AvailableCapacityUseCase.getCutOffs;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
+import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
+import com.mercadolibre.planning.model.api.projection.SLAProjectionService;
+import com.mercadolibre.planning.model.api.projection.availablecapacity.AvailableCapacityUseCase;
+import com.mercadolibre.planning.model.api.projection.builder.PackingProjectionBuilder;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ScenariosProjectionUseCaseTest {
+
+  private static final Instant DATE_1 = Instant.parse("2023-09-08T00:00:00Z");
+  private static final Instant DATE_2 = Instant.parse("2023-09-08T01:00:00Z");
+  private static final Instant DATE_3 = Instant.parse("2023-09-08T02:00:00Z");
+  private static final Instant DATE_4 = Instant.parse("2023-09-08T03:00:00Z");
+  private static final Instant DATE_5 = Instant.parse("2023-09-08T04:00:00Z");
+  private static final Instant DATE_6 = Instant.parse("2023-09-08T05:00:00Z");
+  private static final Instant DATE_7 = Instant.parse("2023-09-08T06:00:00Z");
+  private static final Instant SLA_1 = Instant.parse("2023-09-08T10:00:00Z");
+  private static final Instant SLA_2 = Instant.parse("2023-09-08T11:00:00Z");
+  private static final Instant SLA_3 = Instant.parse("2023-09-08T12:00:00Z");
+
+  private static final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> CURRENT_BACKLOG = Map.of(
+      WAVING, Map.of(TOT_MONO, Map.of(SLA_1, 1500L, SLA_2, 1500L), TOT_MULTI_BATCH, Map.of(SLA_2, 550L)),
+      PICKING, Map.of(TOT_MONO, Map.of(SLA_1, 1000L, SLA_2, 1000L), NON_TOT_MONO, Map.of(SLA_1, 250L)),
+      PACKING, Map.of(TOT_MONO, Map.of(SLA_3, 1000L)),
+      BATCH_SORTER, Map.of(TOT_MULTI_BATCH, Map.of(SLA_1, 1000L, SLA_3, 500L)),
+      WALL_IN, Map.of()
+  );
+
+  private static final Map<Instant, Map<ProcessPath, Map<Instant, Long>>> FORECAST_BACKLOG = Map.of(
+      DATE_1, Map.of(TOT_MONO, Map.of(SLA_1, 240L)),
+      DATE_2, Map.of(TOT_MULTI_BATCH, Map.of(SLA_2, 1200L))
+  );
+
+  private static final Map<ProcessName, Map<Instant, Integer>> THROUGHPUT = Map.of(
+      WAVING, throughputValues(1000),
+      PICKING, throughputValues(1000),
+      PACKING, throughputValues(1000),
+      BATCH_SORTER, throughputValues(1000),
+      WALL_IN, throughputValues(1000),
+      PACKING_WALL, throughputValues(1000)
+  );
+
+  private static final Map<Instant, Integer> CYCLE_TIME_BY_SLA = Map.of(SLA_1, 30, SLA_2, 30, SLA_3, 30);
+
+  private static final ScenarioBase BASE = new ScenarioBase(
+      DATE_1, DATE_7, CURRENT_BACKLOG, FORECAST_BACKLOG, THROUGHPUT, CYCLE_TIME_BY_SLA
+  );
+
+  private AvailableCapacityUseCase availableCapacityUseCase;
+
+  private ForkJoinPool pool;
+
+  private ScenariosProjectionUseCase useCase;
+
+  private static Map<Instant, Integer> throughputValues(final int value) {
+    return Map.of(DATE_1, value, DATE_2, value, DATE_3, value, DATE_4, value, DATE_5, value, DATE_6, value, DATE_7, value);
+  }
+
+  @BeforeEach
+  void setUp() {
+    pool = new ForkJoinPool(2);
+    availableCapacityUseCase = new AvailableCapacityUseCase(pool);
+    useCase = new ScenariosProjectionUseCase(pool, availableCapacityUseCase);
+  }
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  void testEachScenarioIsEquivalentToItsOwnProjection() {
+    // GIVEN
+    final var scenarios = List.of(
+        new Scenario("base", null, null),
+        new Scenario("slow_picking", Map.of(PICKING, throughputValues(200)), null),
+        new Scenario("long_cycle_time", null, Map.of(SLA_1, 180, SLA_3, 90)),
+        new Scenario("fast_packing", Map.of(PACKING, Map.of(DATE_2, 3000, DATE_3, 3000)), Map.of(SLA_2, 0))
+    );
+
+    // WHEN
+    final var results = useCase.execute(BASE, scenarios);
+
+    // THEN
+    assertEquals(scenarios.size(), results.size());
+    for (int i = 0; i < scenarios.size(); i++) {
+      assertEquals(sequentialProjection(scenarios.get(i)), results.get(i));
+    }
+  }
+
+  @Test
+  void testScenarioOverridesOnlyReplaceTheirValues() {
+    // GIVEN
+    final var scenario = new Scenario("scenario", Map.of(PICKING, Map.of(DATE_2, 10)), Map.of(SLA_1, 60));
+
+    // WHEN
+    final var throughput = scenario.throughputOver(THROUGHPUT);
+    final var cycleTimeBySla = scenario.cycleTimeBySlaOver(CYCLE_TIME_BY_SLA);
+
+    // THEN
+    final var expectedPicking = new HashMap<>(throughputValues(1000));
+    expectedPicking.put(DATE_2, 10);
+
+    assertEquals(expectedPicking, throughput.get(PICKING));
+    assertEquals(THROUGHPUT.get(PACKING), throughput.get(PACKING));
+    assertEquals(Map.of(SLA_1, 60, SLA_2, 30, SLA_3, 30), cycleTimeBySla);
+  }
+
+  @Test
+  void testBaseIsImmutable() {
+    assertThrows(UnsupportedOperationException.class, () -> BASE.throughput().get(PICKING).put(DATE_1, 0));
+    assertThrows(UnsupportedOperationException.class, () -> BASE.currentBacklog().get(PICKING).get(TOT_MONO).put(SLA_1, 0L));
+  }
+
+  private ScenarioResult sequentialProjection(final Scenario scenario) {
+    final var throughput = scenario.throughputOver(THROUGHPUT);
+    final var cutOffs = getCutOffs(scenario.cycleTimeBySlaOver(CYCLE_TIME_BY_SLA));
+
+    final var projection = SLAProjectionService.execute(
+        DATE_1, DATE_7, CURRENT_BACKLOG, FORECAST_BACKLOG, throughput, cutOffs, new PackingProjectionBuilder()
+    );
+
+    return new ScenarioResult(scenario.id(), projection, availableCapacityUseCase.execute(projection, throughput, cutOffs));
+  }
+}
@@ -0,0 +1,117 @@
+package com.mercadolibre.planning.model.api.projection.waverless;
+
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.BATCH_SORTER;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PACKING;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PACKING_WALL;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PICKING;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.WALL_IN;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.NON_TOT_MONO;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.TOT_MONO;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.TOT_MULTI_BATCH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
+import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
+import com.mercadolibre.planning.model.api.domain.entity.TriggerName;
+import com.mercadolibre.planning.model.api.projection.BacklogProjection;
+import com.mercadolibre.planning.model.api.util.DateUtils;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class BacklogProjectionSessionTest {
+
+  private static final Instant FIRST_INFLECTION_POINT = Instant.parse("2023-03-29T00:00:00Z");
+
+  private static final Instant LAST_INFLECTION_POINT = Instant.parse("2023-03-29T08:00:00Z");
+
+  private static final List<Instant> INFLECTION_POINTS = DateUtils.generateInflectionPoints(
+      FIRST_INFLECTION_POINT, LAST_INFLECTION_POINT, 5
+  );
+
+  private static final List<ProcessPath> PROCESS_PATHS = List.of(TOT_MONO, NON_TOT_MONO, TOT_MULTI_BATCH);
+
+  private static final List<ProcessName> PROCESSES = List.of(PICKING, PACKING, BATCH_SORTER, WALL_IN, PACKING_WALL);
+
+  private static final int WAVES = 12;
+
+  private static Instant randomSla(final Random random) {
+    return FIRST_INFLECTION_POINT.plus(random.nextInt(10), ChronoUnit.HOURS);
+  }
+
+  private static Map<ProcessPath, Map<Instant, Long>> randomBacklogByProcessPath(final Random random) {
+    return PROCESS_PATHS.stream()
+        .filter(pp -> random.nextBoolean())
+        .collect(Collectors.toMap(
+            Function.identity(),
+            pp -> IntStream.range(0, 1 + random.nextInt(3))
+                .boxed()
+                .collect(Collectors.toMap(i -> randomSla(random), i -> (long) random.nextInt(2000), Long::sum))
+        ));
+  }
+
+  private static Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> randomCurrentBacklog(final Random random) {
+    return PROCESSES.stream()
+        .collect(Collectors.toMap(Function.identity(), process -> randomBacklogByProcessPath(random)));
+  }
+
+  private static Map<ProcessName, Map<Instant, Integer>> randomThroughput(final Random random) {
+    return PROCESSES.stream()
+        .collect(Collectors.toMap(
+            Function.identity(),
+            process -> DateUtils.instantRange(FIRST_INFLECTION_POINT, LAST_INFLECTION_POINT.plus(1, ChronoUnit.HOURS), ChronoUnit.HOURS)
+                .collect(Collectors.toMap(Function.identity(), date -> random.nextInt(3000)))
+        ));
+  }
+
+  private static Wave randomWave(final Random random) {
+    final var date = INFLECTION_POINTS.get(random.nextInt(INFLECTION_POINTS.size()));
+
+    final Map<ProcessPath, Wave.WaveConfiguration> configuration = randomBacklogByProcessPath(random)
+        .entrySet()
+        .stream()
+        .collect(Collectors.toMap(Map.Entry::getKey, entry -> new Wave.WaveConfiguration(0, Long.MAX_VALUE, entry.getValue())));
+
+    return new Wave(date, TriggerName.IDLENESS, configuration);
+  }
+
+  @ParameterizedTest
+  @ValueSource(longs = {1L, 7L, 42L, 1234L, 98765L})
+  @DisplayName("incremental projection must be equal to projecting all the waves from the first inflection point")
+  void testSessionIsEquivalentToFullProjection(final long seed) {
+    // GIVEN
+    final var random = new Random(seed);
+    final var currentBacklog = randomCurrentBacklog(random);
+    final var throughput = randomThroughput(random);
+
+    final var session = BacklogProjectionSession.start(INFLECTION_POINTS, currentBacklog, throughput);
+    final List<Wave> waves = new ArrayList<>();
+
+    assertEquals(
+        BacklogProjection.project(INFLECTION_POINTS, waves, currentBacklog, throughput),
+        session.getProjectedBacklogs()
+    );
+
+    for (int i = 0; i < WAVES; i++) {
+      // WHEN
+      final var wave = randomWave(random);
+      waves.add(wave);
+      session.addWave(wave);
+
+      // THEN
+      assertEquals(
+          BacklogProjection.project(INFLECTION_POINTS, waves, currentBacklog, throughput),
+          session.getProjectedBacklogs()
+      );
+    }
+  }
+}
@@ -4,6 +4,7 @@ import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.TOT_
 import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.TOT_MULTI_BATCH;
 import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.TOT_MULTI_ORDER;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -89,4 +90,19 @@ class OrderedBacklogByProcessPathTest {
     verify(totMultiOrder).map(op);
     verify(totMultiBatch).map(op);
   }
+
+  @Test
+  @DisplayName("backlogs must be indexed by process path")
+  void testGet() {
+    // GIVEN
+    final Backlog totMono = Mockito.mock(Backlog.class);
+
+    final var backlog = new OrderedBacklogByProcessPath(Map.of(TOT_MONO, totMono));
+
+    // WHEN - THEN
+    assertEquals(totMono, backlog.get(TOT_MONO));
+    assertNull(backlog.get(TOT_MULTI_BATCH));
+    assertEquals(Map.of(TOT_MONO, totMono), backlog.getBacklogs());
+    assertEquals(new OrderedBacklogByProcessPath(Map.of(TOT_MONO, totMono)), backlog);
+  }
 }
@@ -5,6 +5,8 @@ import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.TOT_
 import static com.mercadolibre.planning.model.api.projection.waverless.WavesBySlaUtil.SLA_1;
 import static com.mercadolibre.planning.model.api.projection.waverless.WavesBySlaUtil.SLA_2;
 import static com.mercadolibre.planning.model.api.projection.waverless.WavesBySlaUtil.SLA_3;
+import static com.mercadolibre.planning.model.api.domain.entity.TriggerName.SLA;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
@@ -13,12 +15,48 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 class PendingBacklogTest {
 
+  private static final Instant HOUR_1 = Instant.parse("2023-03-06T01:00:00Z");
+
+  private static final Instant HOUR_2 = Instant.parse("2023-03-06T02:00:00Z");
+
+  private static final Instant INFLECTION_POINT = Instant.parse("2023-03-06T01:30:00Z");
+
+  private static PendingBacklog pendingBacklog() {
+    return new PendingBacklog(
+        Map.of(
+            TOT_MONO, List.of(
+                new PendingBacklog.AvailableBacklog(SLA_1, SLA_1, 10D),
+                new PendingBacklog.AvailableBacklog(SLA_2, SLA_2, 20D)
+            )
+        ),
+        Map.of(
+            TOT_MONO, List.of(
+                new PendingBacklog.AvailableBacklog(HOUR_2, SLA_1, 100D),
+                new PendingBacklog.AvailableBacklog(HOUR_1, SLA_1, 15D),
+                new PendingBacklog.AvailableBacklog(Instant.parse("2023-03-06T00:00:00Z"), SLA_1, 30D),
+                new PendingBacklog.AvailableBacklog(HOUR_1, SLA_3, 7D)
+            ),
+            AMBIENT, List.of(
+                new PendingBacklog.AvailableBacklog(HOUR_2, SLA_2, 50D)
+            )
+        )
+    );
+  }
+
+  private static Wave wave(final Instant sla, final long units) {
+    return new Wave(
+        INFLECTION_POINT,
+        SLA,
+        Map.of(TOT_MONO, new Wave.WaveConfiguration(units, units, Map.of(sla, units)))
+    );
+  }
 
   static Stream<Arguments> source() {
     return Stream.of(
@@ -82,4 +120,52 @@ class PendingBacklogTest {
     // THEN
     assertEquals(expected, actual);
   }
+
+  @Test
+  void testAvailableBacklogAt() {
+    // GIVEN
+    final var pendingBacklog = pendingBacklog();
+
+    // WHEN
+    final var actual = pendingBacklog.availableBacklogAt(INFLECTION_POINT, List.of(TOT_MONO, AMBIENT), List.of());
+
+    // THEN
+    final var expected = Map.of(
+        TOT_MONO, Map.of(SLA_1, 47L, SLA_2, 20L, SLA_3, 3L),
+        AMBIENT, Map.<Instant, Long>of()
+    );
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  void testAvailableBacklogAtDiscountsPreviousWaves() {
+    // GIVEN
+    final var pendingBacklog = pendingBacklog();
+    final var firstWave = wave(SLA_1, 40L);
+    final var secondWave = wave(SLA_2, 20L);
+
+    // WHEN
+    final var afterFirstWave = pendingBacklog.availableBacklogAt(INFLECTION_POINT, List.of(TOT_MONO), List.of(firstWave));
+    final var afterSecondWave = pendingBacklog.availableBacklogAt(INFLECTION_POINT, List.of(TOT_MONO), List.of(firstWave, secondWave));
+    final var withOtherWaves = pendingBacklog.availableBacklogAt(INFLECTION_POINT, List.of(TOT_MONO), List.of(secondWave));
+
+    // THEN
+    assertEquals(Map.of(TOT_MONO, Map.of(SLA_1, 7L, SLA_2, 20L, SLA_3, 3L)), afterFirstWave);
+    assertEquals(Map.of(TOT_MONO, Map.of(SLA_1, 7L, SLA_3, 3L)), afterSecondWave);
+    assertEquals(Map.of(TOT_MONO, Map.of(SLA_1, 47L, SLA_3, 3L)), withOtherWaves);
+  }
+
+  @Test
+  void testAvailableBacklogBySlaIndex() {
+    // GIVEN
+    final var pendingBacklog = pendingBacklog();
+    final var available = new long[pendingBacklog.slasCount()];
+
+    // WHEN
+    pendingBacklog.availableBacklogAt(HOUR_2, TOT_MONO, List.of(wave(SLA_3, 10L)), available);
+
+    // THEN
+    assertEquals(List.of(SLA_1, SLA_2, SLA_3), List.of(pendingBacklog.slaAt(0), pendingBacklog.slaAt(1), pendingBacklog.slaAt(2)));
+    assertArrayEquals(new long[]{55L, 20L, 0L}, available);
+  }
 }
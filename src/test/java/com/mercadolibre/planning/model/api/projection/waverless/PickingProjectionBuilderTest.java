@@ -6,7 +6,9 @@ import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.TOT_
 import static com.mercadolibre.planning.model.api.util.DateUtils.generateInflectionPoints;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -18,6 +20,7 @@ import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -57,6 +60,19 @@ class PickingProjectionBuilderTest {
     assertEquals(PICKING_PROCESS, graph.getName());
   }
 
+  @Test
+  @DisplayName("when building graph for the same process paths then return the same graph")
+  void testGraphIsBuiltOnceByProcessPaths() {
+    // WHEN
+    final var graph = PickingProjectionBuilder.buildGraph(List.of(TOT_MONO, TOT_MULTI_BATCH));
+    final var sameProcessPaths = PickingProjectionBuilder.buildGraph(new ArrayList<>(List.of(TOT_MONO, TOT_MULTI_BATCH)));
+    final var otherProcessPaths = PickingProjectionBuilder.buildGraph(List.of(TOT_MONO));
+
+    // THEN
+    assertSame(graph, sameProcessPaths);
+    assertNotSame(graph, otherProcessPaths);
+  }
+
   @ParameterizedTest
   @NullAndEmptySource
   @DisplayName("when building graph without process paths then an exception should be thrown")
@@ -0,0 +1,86 @@
+package com.mercadolibre.planning.model.api.projection.waverless;
+
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.AMBIENT;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.NON_TOT_MONO;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.TOT_MONO;
+import static com.mercadolibre.planning.model.api.projection.waverless.WavesBySlaUtil.SLA_1;
+import static com.mercadolibre.planning.model.api.projection.waverless.WavesBySlaUtil.SLA_2;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class SlaDeadlinesTest {
+
+  private static final Instant ORIGIN = Instant.parse("2023-03-06T00:00:00Z");
+
+  private static final int TOT_MONO_CYCLE_TIME = 60;
+
+  private static final int AMBIENT_CYCLE_TIME = 90;
+
+  private static SlaDeadlines deadlines() {
+    final var pendingBacklog = new PendingBacklog(
+        Map.of(
+            TOT_MONO, List.of(
+                new PendingBacklog.AvailableBacklog(ORIGIN, SLA_1, 10D),
+                new PendingBacklog.AvailableBacklog(ORIGIN, SLA_2, 10D)
+            ),
+            AMBIENT, List.of(
+                new PendingBacklog.AvailableBacklog(ORIGIN, SLA_2, 10D)
+            )
+        ),
+        Map.of()
+    );
+
+    return SlaDeadlines.of(
+        ORIGIN,
+        pendingBacklog,
+        (pp, sla) -> pp == TOT_MONO ? TOT_MONO_CYCLE_TIME : AMBIENT_CYCLE_TIME
+    );
+  }
+
+  @Test
+  void testMinuteOf() {
+    // GIVEN
+    final var deadlines = deadlines();
+
+    // WHEN - THEN
+    assertEquals(0, deadlines.minuteOf(ORIGIN));
+    assertEquals(90, deadlines.minuteOf(Instant.parse("2023-03-06T01:30:59Z")));
+  }
+
+  @Test
+  void testIsOpenAt() {
+    // GIVEN
+    final var deadlines = deadlines();
+
+    // WHEN - THEN
+    // SLA_1 is at 03:00 so the deadline for TOT_MONO is at 02:00
+    assertTrue(deadlines.isOpenAt(TOT_MONO, 0, 119));
+    assertFalse(deadlines.isOpenAt(TOT_MONO, 0, 120));
+    // SLA_2 is at 04:00 so the deadline for AMBIENT is at 02:30
+    assertTrue(deadlines.isOpenAt(AMBIENT, 1, 149));
+    assertFalse(deadlines.isOpenAt(AMBIENT, 1, 150));
+    // AMBIENT has no backlog for SLA_1 and NON_TOT_MONO has no backlog at all
+    assertFalse(deadlines.isOpenAt(AMBIENT, 0, 0));
+    assertFalse(deadlines.isOpenAt(NON_TOT_MONO, 1, 0));
+  }
+
+  @Test
+  void testIsExpiredBy() {
+    // GIVEN
+    final var deadlines = deadlines();
+
+    // WHEN - THEN
+    assertFalse(deadlines.isExpiredBy(TOT_MONO, SLA_1, Instant.parse("2023-03-06T02:00:00Z")));
+    assertTrue(deadlines.isExpiredBy(TOT_MONO, SLA_1, Instant.parse("2023-03-06T02:00:00.001Z")));
+    assertFalse(deadlines.isExpiredBy(AMBIENT, SLA_2, Instant.parse("2023-03-06T02:29:59Z")));
+    assertTrue(deadlines.isExpiredBy(AMBIENT, SLA_2, Instant.parse("2023-03-06T02:30:01Z")));
+    assertFalse(deadlines.isExpiredBy(AMBIENT, SLA_1, Instant.parse("2023-03-06T05:00:00Z")));
+  }
+
+}
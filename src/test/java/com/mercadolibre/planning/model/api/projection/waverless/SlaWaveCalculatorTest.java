@@ -22,9 +22,12 @@ import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
 import com.mercadolibre.planning.model.api.domain.entity.TriggerName;
 import com.mercadolibre.planning.model.api.projection.waverless.PendingBacklog.AvailableBacklog;
 import com.mercadolibre.planning.model.api.projection.waverless.SlaWaveCalculator.CurrentBacklog;
+import com.mercadolibre.planning.model.api.projection.waverless.SlaWaveCalculator.SearchMode;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 import lombok.Value;
 import org.junit.jupiter.api.AfterEach;
@@ -41,6 +44,7 @@ class SlaWaveCalculatorTest {
   private static final Instant FORECAST_DATE_IN = Instant.parse("2023-03-06T02:00:00Z");
   private static final String WH = "ARBA01";
   private static final String WH_TEST = "BRBA01";
+  private static final String WH_WITHOUT_CYCLE_TIME_HACK = "ARTW01";
 
   private MockedStatic<ExecutionMetrics.DataDogMetricsWrapper> wrapper;
 
@@ -326,6 +330,120 @@ class SlaWaveCalculatorTest {
     assertEquals(expectedUnits.get(SLA_2), units.get(TOT_MONO).getWavedUnitsByCpt().get(SLA_2));
   }
 
+  @ParameterizedTest
+  @MethodSource("parameters")
+  @DisplayName("bisection search finds the same wave as the linear scan")
+  void testNextWaveWithBisection(
+      final Map<Instant, List<CurrentBacklog>> currentBacklog,
+      final Map<ProcessPath, List<AvailableBacklog>> readyToWave,
+      final Map<ProcessPath, List<AvailableBacklog>> forecast,
+      final Map<Instant, Long> expectedUnits
+  ) {
+    // GIVEN
+    final PendingBacklog pending = new PendingBacklog(readyToWave, forecast);
+
+    // WHEN
+    final var linear = SlaWaveCalculator.projectNextWave(
+        INFLECTION_POINTS,
+        currentBacklog,
+        PICKING_THROUGHPUT,
+        pending,
+        MIN_CYCLE_TIMES,
+        emptyList(),
+        WH,
+        WavesOptions.defaults()
+    );
+
+    final var bisection = SlaWaveCalculator.projectNextWave(
+        INFLECTION_POINTS,
+        currentBacklog,
+        PICKING_THROUGHPUT,
+        pending,
+        MIN_CYCLE_TIMES,
+        emptyList(),
+        WH,
+        WavesOptions.builder().slaSearchMode(SearchMode.BISECTION).build()
+    );
+
+    // THEN
+    assertTrue(linear.isPresent());
+    assertTrue(bisection.isPresent());
+
+    assertEquals(linear.get().getExecutionDate(), bisection.get().getExecutionDate());
+    assertEquals(linear.get().getWave().get(), bisection.get().getWave().get());
+  }
+
+  @ParameterizedTest
+  @MethodSource("parameters")
+  @DisplayName("speculative search finds the same wave as the linear scan")
+  void testNextWaveWithSpeculativeSimulations(
+      final Map<Instant, List<CurrentBacklog>> currentBacklog,
+      final Map<ProcessPath, List<AvailableBacklog>> readyToWave,
+      final Map<ProcessPath, List<AvailableBacklog>> forecast,
+      final Map<Instant, Long> expectedUnits
+  ) {
+    // GIVEN
+    final PendingBacklog pending = new PendingBacklog(readyToWave, forecast);
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    try {
+      // WHEN
+      final var linear = SlaWaveCalculator.projectNextWave(
+          INFLECTION_POINTS,
+          currentBacklog,
+          PICKING_THROUGHPUT,
+          pending,
+          MIN_CYCLE_TIMES,
+          emptyList(),
+          WH
+      );
+
+      final var speculative = SlaWaveCalculator.projectNextWave(
+          INFLECTION_POINTS,
+          currentBacklog,
+          PICKING_THROUGHPUT,
+          pending,
+          MIN_CYCLE_TIMES,
+          emptyList(),
+          WH,
+          WavesOptions.builder().slaSearchMode(SearchMode.SPECULATIVE).executor(executor).build()
+      );
+
+      // THEN
+      assertTrue(linear.isPresent());
+      assertTrue(speculative.isPresent());
+
+      assertEquals(linear.get().getExecutionDate(), speculative.get().getExecutionDate());
+      assertEquals(linear.get().getWave().get(), speculative.get().getWave().get());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testBisectionWithoutExpiredSlas() {
+    // GIVEN
+    final PendingBacklog pending = new PendingBacklog(
+        Map.of(TOT_MONO, List.of(new AvailableBacklog(SLA_1, SLA_3, 1D))),
+        emptyMap()
+    );
+
+    // WHEN
+    final var result = SlaWaveCalculator.projectNextWave(
+        INFLECTION_POINTS,
+        emptyMap(),
+        PICKING_THROUGHPUT,
+        pending,
+        Map.of(TOT_MONO, 0),
+        emptyList(),
+        WH_WITHOUT_CYCLE_TIME_HACK,
+        WavesOptions.builder().slaSearchMode(SearchMode.BISECTION).build()
+    );
+
+    // THEN
+    assertTrue(result.isEmpty());
+  }
+
   @Value
   private static class RequestTest {
     List<Instant> inflectionPoints;
@@ -15,12 +15,17 @@ import static java.util.Collections.emptyMap;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mockStatic;
 
+import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
+import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
 import com.mercadolibre.planning.model.api.domain.entity.TriggerName;
 import com.mercadolibre.planning.model.api.projection.ProcessPathConfiguration;
 import com.mercadolibre.planning.model.api.projection.UnitsByProcessPathAndProcess;
+import com.mercadolibre.planning.model.api.projection.waverless.SlaWaveCalculator.SearchMode;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -84,10 +89,8 @@ class WaveCalculatorTest {
     wrapper.close();
   }
 
-  @Test
-  void testCalculateBothTypeOfWaves() {
-    // GIVEN
-    final var backlog = List.of(
+  private static List<UnitsByProcessPathAndProcess> backlog() {
+    return List.of(
         new UnitsByProcessPathAndProcess(NON_TOT_MONO, WAVING, DATES[3], 800),
         new UnitsByProcessPathAndProcess(TOT_MULTI_BATCH, WAVING, DATES[3], 200),
         new UnitsByProcessPathAndProcess(TOT_MONO, WAVING, DATES[5], 2200),
@@ -105,8 +108,10 @@ class WaveCalculatorTest {
         new UnitsByProcessPathAndProcess(TOT_MULTI_BATCH, WALL_IN, DATES[0], 490),
         new UnitsByProcessPathAndProcess(TOT_MULTI_BATCH, PACKING_WALL, DATES[0], 800)
     );
+  }
 
-    final var throughput = Map.of(
+  private static Map<ProcessPath, Map<ProcessName, Map<Instant, Integer>>> throughput() {
+    return Map.of(
         GLOBAL, Map.of(
             PICKING, throughput(3600, 3600, 3600, 3600, 3600, 3600),
             PACKING, throughput(2800, 2800, 2800, 2800, 2800, 2800),
@@ -124,6 +129,81 @@ class WaveCalculatorTest {
             PICKING, throughput(1200, 1200, 1200, 1200, 1200, 1200)
         )
     );
+  }
+
+  @Test
+  void testConcurrentCalculationIsEqualToSequentialOne() {
+    // GIVEN
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    try {
+      // WHEN
+      final var sequential = WavesCalculator.waves(
+          FIRST_INFLECTION_POINT,
+          CONFIGURATIONS,
+          backlog(),
+          FORECAST,
+          throughput(),
+          emptyMap(),
+          WH,
+          BOUNDS_CONFIGURATIONS
+      );
+
+      final var concurrent = WavesCalculator.waves(
+          FIRST_INFLECTION_POINT,
+          CONFIGURATIONS,
+          backlog(),
+          FORECAST,
+          throughput(),
+          emptyMap(),
+          WH,
+          BOUNDS_CONFIGURATIONS,
+          WavesOptions.builder().slaSearchMode(SearchMode.SPECULATIVE).executor(executor).build()
+      );
+
+      // THEN
+      assertEquals(sequential, concurrent);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testPhasesAreMeasured() {
+    // GIVEN
+    final var profiler = new PhaseProfiler();
+
+    // WHEN
+    final var triggers = WavesCalculator.waves(
+        FIRST_INFLECTION_POINT,
+        CONFIGURATIONS,
+        backlog(),
+        FORECAST,
+        throughput(),
+        emptyMap(),
+        WH,
+        BOUNDS_CONFIGURATIONS,
+        WavesOptions.builder().profiler(profiler).build()
+    );
+
+    // THEN
+    final var measures = profiler.getMeasures();
+    final int iterations = triggers.getWaves().size() + 1;
+
+    assertEquals(1, measures.get(PhaseProfiler.Phase.INFLECTION_POINTS).getExecutions());
+    assertEquals(1, measures.get(PhaseProfiler.Phase.PENDING_BACKLOG).getExecutions());
+    assertEquals(iterations, measures.get(PhaseProfiler.Phase.SLA_PROJECTION).getExecutions());
+    assertEquals(iterations, measures.get(PhaseProfiler.Phase.IDLENESS_PROJECTION).getExecutions());
+    assertEquals(triggers.getWaves().size(), measures.get(PhaseProfiler.Phase.WAVE_CONSTRUCTION).getExecutions());
+    assertEquals(triggers.getWaves().size() + 2L, measures.get(PhaseProfiler.Phase.BACKLOG_PROJECTION).getExecutions());
+  }
+
+  @Test
+  void testCalculateBothTypeOfWaves() {
+    // GIVEN
+    final var backlog = backlog();
+    final var throughput = throughput();
+
     // WHEN
     final var triggers = WavesCalculator.waves(
         FIRST_INFLECTION_POINT,
@@ -11,6 +11,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import com.mercadolibre.flow.projection.tools.services.entities.orderedbacklogbydate.OrderedBacklogByDateConsumer;
 import com.mercadolibre.planning.model.api.projection.backlogmanager.DistributionBasedConsumer;
 import com.mercadolibre.planning.model.api.projection.backlogmanager.OrderedBacklogByProcessPath;
+import com.mercadolibre.planning.model.api.projection.backlogmanager.SortedBacklogByDate;
+import com.mercadolibre.planning.model.api.projection.backlogmanager.SortedBacklogByDateConsumer;
 import java.time.Instant;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
@@ -115,4 +117,26 @@ class DistributionBasedConsumerTest {
     assertEquals(0L, consumedBacklog.get(TOT_MONO).total());
     assertEquals(0L, consumedBacklog.get(TOT_MULTI_BATCH).total());
   }
+
+  @Test
+  void testWithSortedBacklogByDate() {
+    // GIVEN
+    final var consumer = new DistributionBasedConsumer(new SortedBacklogByDateConsumer());
+
+    final var backlog = OrderedBacklogByProcessPath.fromSortedByDate(
+        Map.of(
+            TOT_MONO, Map.of(SLA_1, 100L, SLA_2, 300L, SLA_3, 500L),
+            TOT_MULTI_BATCH, Map.of(SLA_1, 200L, SLA_2, 200L, SLA_3, 200L)
+        )
+    );
+
+    // WHEN
+    final var result = consumer.consume(STARTING_DATE, ENDING_DATE, backlog, 500);
+
+    // THEN
+    final OrderedBacklogByProcessPath consumed = (OrderedBacklogByProcessPath) (result.getConsumed());
+    assertEquals(SortedBacklogByDate.from(Map.of(SLA_1, 100L, SLA_2, 200L, SLA_3, 0L)), consumed.get(TOT_MONO));
+    assertEquals(SortedBacklogByDate.from(Map.of(SLA_1, 200L, SLA_2, 0L, SLA_3, 0L)), consumed.get(TOT_MULTI_BATCH));
+    assertEquals(1000L, result.getLeftOver().total());
+  }
 }
@@ -48,6 +48,7 @@ import com.mercadolibre.planning.model.api.domain.entity.forecast.PlanningDistri
 import com.mercadolibre.planning.model.api.domain.entity.forecast.ProcessingDistribution;
 import com.mercadolibre.planning.model.api.domain.usecase.forecast.create.CreateForecastOutput;
 import com.mercadolibre.planning.model.api.domain.usecase.forecast.create.CreateForecastUseCase;
+import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CptProjectionCache;
 import com.mercadolibre.planning.model.api.exception.TagsParsingException;
 import com.mercadolibre.planning.model.api.web.controller.forecast.dto.CreateForecastInputDto;
 import com.mercadolibre.planning.model.api.domain.usecase.simulation.deactivate.DeactivateSimulationOfWeek;
@@ -97,6 +98,9 @@ public class CreateForecastUseCaseTest {
   @Mock
   private DeactivateSimulationService deactivateSimulationService;
 
+  @Mock
+  private CptProjectionCache cptProjectionCache;
+
   @InjectMocks
   private CreateForecastUseCase createForecastUseCase;
 
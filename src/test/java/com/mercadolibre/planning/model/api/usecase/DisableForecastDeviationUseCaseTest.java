@@ -22,6 +22,7 @@ import com.mercadolibre.planning.model.api.client.db.repository.forecast.Current
 import com.mercadolibre.planning.model.api.domain.entity.forecast.CurrentForecastDeviation;
 import com.mercadolibre.planning.model.api.domain.usecase.forecast.deviation.disable.DisableForecastDeviationInput;
 import com.mercadolibre.planning.model.api.domain.usecase.forecast.deviation.disable.DisableForecastDeviationUseCase;
+import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CptProjectionCache;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
@@ -45,6 +46,9 @@ public class DisableForecastDeviationUseCaseTest {
     @Mock
     private CurrentForecastDeviationRepository deviationRepository;
 
+    @Mock
+    private CptProjectionCache cptProjectionCache;
+
     @Test
     public void testDisableForecastDeviationOneInput() {
 
@@ -20,6 +20,7 @@ import com.mercadolibre.planning.model.api.domain.entity.Workflow;
 import com.mercadolibre.planning.model.api.domain.entity.forecast.CurrentForecastDeviation;
 import com.mercadolibre.planning.model.api.domain.usecase.forecast.deviation.save.SaveDeviationInput;
 import com.mercadolibre.planning.model.api.domain.usecase.forecast.deviation.save.SaveDeviationUseCase;
+import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CptProjectionCache;
 import com.mercadolibre.planning.model.api.exception.UnexpiredDeviationPresentException;
 import com.mercadolibre.planning.model.api.web.controller.deviation.response.DeviationResponse;
 import java.time.Instant;
@@ -44,6 +45,9 @@ public class SaveDeviationUseCaseTest {
   @Mock
   private CurrentForecastDeviationRepository deviationRepository;
 
+  @Mock
+  private CptProjectionCache cptProjectionCache;
+
 
   @Test
   public void testSaveForecastDeviationOk() {
@@ -126,6 +130,7 @@ public class SaveDeviationUseCaseTest {
 
     verify(deviationRepository).findByLogisticCenterIdAndWorkflowAndIsActiveTrueAndDateToIsGreaterThan(anyString(), any(), any());
     verify(deviationRepository).saveAll(anyList());
+    verify(cptProjectionCache).invalidate(WAREHOUSE_ID);
   }
 
   @Test
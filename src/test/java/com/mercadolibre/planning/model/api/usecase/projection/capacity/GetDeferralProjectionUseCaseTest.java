@@ -30,9 +30,11 @@ import com.mercadolibre.planning.model.api.domain.usecase.entities.GetEntityInpu
 import com.mercadolibre.planning.model.api.domain.usecase.entities.maxcapacity.get.MaxCapacityInput;
 import com.mercadolibre.planning.model.api.domain.usecase.entities.maxcapacity.get.MaxCapacityService;
 import com.mercadolibre.planning.model.api.domain.usecase.entities.throughput.get.GetThroughputUseCase;
+import com.mercadolibre.planning.model.api.domain.usecase.projection.ExecutionMetrics;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.Backlog;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.DeferralStatus;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.GetDeferralProjectionUseCase;
+import com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.ProjectionDependencies;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.input.GetDeferralProjectionInput;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.output.DeferralProjectionOutput;
 import com.mercadolibre.planning.model.api.domain.usecase.sla.GetSlaByWarehouseOutboundService;
@@ -46,6 +48,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -53,7 +56,6 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -86,7 +88,6 @@ class GetDeferralProjectionUseCaseTest {
       OPERATING_HOURS.get(7)
   );
 
-  @InjectMocks
   private GetDeferralProjectionUseCase getDeliveryPromiseUseCase;
 
   @Mock
@@ -109,6 +110,10 @@ class GetDeferralProjectionUseCaseTest {
 
   private MockedStatic<DateUtils> dateUtils;
 
+  private MockedStatic<ExecutionMetrics.DataDogMetricsWrapper> wrapper;
+
+  private ForkJoinPool pool;
+
   private static List<Backlog> getNoDeferralBacklogs() {
     return of(
         new Backlog(CPTS.get(0), 500),
@@ -179,12 +184,28 @@ class GetDeferralProjectionUseCaseTest {
     dateUtils.when(() -> DateUtils.ignoreMinutes(any()))
         .thenCallRealMethod();
 
+    wrapper = mockStatic(ExecutionMetrics.DataDogMetricsWrapper.class);
+
     when(getCapacityPerHourService.execute(any(), any())).thenCallRealMethod();
+
+    pool = new ForkJoinPool(2);
+    getDeliveryPromiseUseCase = new GetDeferralProjectionUseCase(
+        maxCapacityService,
+        getCycleTimeService,
+        getSlaByWarehouseOutboundService,
+        plannedBacklogService,
+        getThroughputUseCase,
+        getCapacityPerHourService,
+        new ProjectionDependencies(Runnable::run),
+        pool
+    );
   }
 
   @AfterEach
   public void tearDown() {
     dateUtils.close();
+    wrapper.close();
+    pool.shutdownNow();
   }
 
   @Test
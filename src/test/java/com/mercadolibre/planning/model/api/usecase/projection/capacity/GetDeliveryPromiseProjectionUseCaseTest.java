@@ -20,9 +20,9 @@ import com.mercadolibre.planning.model.api.domain.usecase.cycletime.get.GetCycle
 import com.mercadolibre.planning.model.api.domain.usecase.entities.maxcapacity.get.MaxCapacityInput;
 import com.mercadolibre.planning.model.api.domain.usecase.entities.maxcapacity.get.MaxCapacityService;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.Backlog;
-import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CalculateCptProjectionUseCase;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CptCalculationDetailOutput;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CptCalculationOutput;
+import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CptProjectionCache;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.DeliveryPromiseProjectionOutput;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.SlaProjectionInput;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.DeferralStatus;
@@ -34,6 +34,7 @@ import com.mercadolibre.planning.model.api.web.controller.projection.request.Qua
 import com.mercadolibre.planning.model.api.web.controller.simulation.Simulation;
 import com.mercadolibre.planning.model.api.web.controller.simulation.SimulationEntity;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -73,7 +74,8 @@ public class GetDeliveryPromiseProjectionUseCaseTest {
   @Mock
   private GetSlaByWarehouseOutboundService getSlaByWarehouseOutboundService;
 
-  private MockedStatic<CalculateCptProjectionUseCase> calculateCptProjection;
+  @Mock
+  private CptProjectionCache cptProjectionCache;
 
   private MockedStatic<DateUtils> dateUtils;
 
@@ -142,7 +144,6 @@ public class GetDeliveryPromiseProjectionUseCaseTest {
 
   @BeforeEach
   public void setUp() {
-    calculateCptProjection = mockStatic(CalculateCptProjectionUseCase.class);
     dateUtils = mockStatic(DateUtils.class);
     dateUtils.when(DateUtils::getCurrentUtcDate)
         .thenReturn(NOW.truncatedTo(SECONDS));
@@ -150,7 +151,6 @@ public class GetDeliveryPromiseProjectionUseCaseTest {
 
   @AfterEach
   public void tearDown() {
-    calculateCptProjection.close();
     dateUtils.close();
   }
 
@@ -189,16 +189,18 @@ public class GetDeliveryPromiseProjectionUseCaseTest {
             List.of(CPT_1, CPT_2))
     )).thenReturn(cycleTimeByCpt);
 
-    calculateCptProjection.when(() ->
-        CalculateCptProjectionUseCase.execute(
+    when(
+        cptProjectionCache.calculate(
             SlaProjectionInput.builder()
+                .workflow(workflow)
+                .logisticCenterId(logisticCenterId)
                 .capacity(maxCapacitiesByHours)
                 .backlog(backlogs)
                 .dateFrom(dateFrom)
                 .dateTo(dateTo)
                 .plannedUnits(emptyList())
                 .slaByWarehouse(cptByWarehouse)
-                .currentDate(NOW.truncatedTo(SECONDS))
+                .currentDate(NOW.truncatedTo(ChronoUnit.MINUTES))
                 .build()
         )
     ).thenReturn(
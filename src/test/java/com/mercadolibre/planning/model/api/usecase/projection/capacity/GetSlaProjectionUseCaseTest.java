@@ -31,11 +31,13 @@ import com.mercadolibre.planning.model.api.domain.usecase.cycletime.get.GetCycle
 import com.mercadolibre.planning.model.api.domain.usecase.entities.EntityOutput;
 import com.mercadolibre.planning.model.api.domain.usecase.entities.GetEntityInput;
 import com.mercadolibre.planning.model.api.domain.usecase.entities.throughput.get.GetThroughputUseCase;
+import com.mercadolibre.planning.model.api.domain.usecase.projection.ExecutionMetrics;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.backlog.calculate.CalculateBacklogProjectionUseCase;
-import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CalculateCptProjectionUseCase;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CptCalculationOutput;
+import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CptProjectionCache;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CptProjectionOutput;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.GetSlaProjectionUseCase;
+import com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.ProjectionDependencies;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.capacity.input.GetSlaProjectionInput;
 import com.mercadolibre.planning.model.api.domain.usecase.sla.GetSlaByWarehouseInboundService;
 import com.mercadolibre.planning.model.api.domain.usecase.sla.GetSlaByWarehouseOutboundService;
@@ -50,6 +52,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @SuppressWarnings("PMD.LongVariable")
@@ -86,16 +89,22 @@ class GetSlaProjectionUseCaseTest {
   @Mock
   private GetCycleTimeService getCycleTimeService;
 
-  private MockedStatic<CalculateCptProjectionUseCase> calculateCptProjection;
+  @Mock
+  private CptProjectionCache cptProjectionCache;
+
+  @Spy
+  private ProjectionDependencies projectionDependencies = new ProjectionDependencies(Runnable::run);
+
+  private MockedStatic<ExecutionMetrics.DataDogMetricsWrapper> wrapper;
 
   @BeforeEach
-  public void setUp() {
-    calculateCptProjection = mockStatic(CalculateCptProjectionUseCase.class);
+  void setUp() {
+    wrapper = mockStatic(ExecutionMetrics.DataDogMetricsWrapper.class);
   }
 
   @AfterEach
-  public void tearDown() {
-    calculateCptProjection.close();
+  void tearDown() {
+    wrapper.close();
   }
 
   @Test
@@ -104,7 +113,7 @@ class GetSlaProjectionUseCaseTest {
     final ZonedDateTime etd = parse("2020-01-01T11:00:00Z");
     final ZonedDateTime projectedTime = parse("2020-01-02T10:00:00Z");
 
-    calculateCptProjection.when(() -> CalculateCptProjectionUseCase.execute(any()))
+    when(cptProjectionCache.calculate(any()))
         .thenReturn(List.of(
             new CptCalculationOutput(etd, projectedTime, 100, 0, 0, emptyList())
         ));
@@ -181,7 +190,7 @@ class GetSlaProjectionUseCaseTest {
             GetSlaByWarehouseOutput.builder().date(DATE_FROM.plusHours(1)).build()
         ));
 
-    calculateCptProjection.when(() -> CalculateCptProjectionUseCase.execute(any()))
+    when(cptProjectionCache.calculate(any()))
         .thenReturn(List.of(
             new CptCalculationOutput(etd, projectedTime, 100, 0, 0, emptyList())
         ));
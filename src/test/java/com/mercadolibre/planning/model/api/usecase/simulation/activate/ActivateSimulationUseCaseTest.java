@@ -32,6 +32,7 @@ import com.mercadolibre.planning.model.api.domain.entity.ProcessingType;
 import com.mercadolibre.planning.model.api.domain.entity.Workflow;
 import com.mercadolibre.planning.model.api.domain.entity.current.CurrentProcessingDistribution;
 import com.mercadolibre.planning.model.api.domain.service.headcount.ProcessPathHeadcountShareService;
+import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CptProjectionCache;
 import com.mercadolibre.planning.model.api.domain.usecase.simulation.activate.ActivateSimulationUseCase;
 import com.mercadolibre.planning.model.api.domain.usecase.simulation.activate.SimulationInput;
 import com.mercadolibre.planning.model.api.domain.usecase.simulation.activate.SimulationOutput;
@@ -66,6 +67,9 @@ public class ActivateSimulationUseCaseTest {
   @Mock
   private ProcessPathHeadcountShareService processPathHeadcountShareService;
 
+  @Mock
+  private CptProjectionCache cptProjectionCache;
+
   @Test
   @DisplayName("When creating a new simulation, the old ones turn inactive")
   public void activateSimulationTest() {
@@ -9,6 +9,7 @@ import static org.mockito.Mockito.verify;
 
 import com.mercadolibre.planning.model.api.client.db.repository.current.CurrentProcessingDistributionRepository;
 import com.mercadolibre.planning.model.api.domain.entity.Workflow;
+import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CptProjectionCache;
 import com.mercadolibre.planning.model.api.domain.usecase.simulation.deactivate.DeactivateSimulationOfWeek;
 import com.mercadolibre.planning.model.api.domain.usecase.simulation.deactivate.DeactivateSimulationService;
 import java.time.ZonedDateTime;
@@ -27,6 +28,9 @@ public class DeactivateSimulationServiceTest {
   @Mock
   private CurrentProcessingDistributionRepository currentProcessingDistributionRepository;
 
+  @Mock
+  private CptProjectionCache cptProjectionCache;
+
 
   @Test
   public void deactivateSimulationOkTest() {
@@ -52,6 +56,7 @@ public class DeactivateSimulationServiceTest {
         dateTo,
         USER_ID
     );
+    verify(cptProjectionCache).invalidate(WAREHOUSE_ID);
   }
 
 }
@@ -8,6 +8,7 @@ import com.mercadolibre.planning.model.api.domain.usecase.forecast.update.Update
 import com.mercadolibre.planning.model.api.domain.usecase.forecast.update.UpdateStaffingPlanUseCase;
 import com.mercadolibre.planning.model.api.domain.usecase.forecast.update.UpdateStaffingPlanUseCase.CreateSimulationInput;
 import com.mercadolibre.planning.model.api.domain.usecase.forecast.update.UpdateStaffingPlanUseCase.CurrentProcessingDistributionGateway;
+import com.mercadolibre.planning.model.api.domain.usecase.projection.calculate.cpt.CptProjectionCache;
 import com.mercadolibre.planning.model.api.web.controller.entity.EntityType;
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -26,11 +27,14 @@ class UpdateStaffingPlanUseCaseTest {
   @Mock
   private CurrentProcessingDistributionGateway currentProcessingDistributionGateway;
 
+  @Mock
+  private CptProjectionCache cptProjectionCache;
+
   private UpdateStaffingPlanUseCase updateStaffingPlanUseCase;
 
   @BeforeEach
   void setUp() {
-    updateStaffingPlanUseCase = new UpdateStaffingPlanUseCase(currentProcessingDistributionGateway);
+    updateStaffingPlanUseCase = new UpdateStaffingPlanUseCase(currentProcessingDistributionGateway, cptProjectionCache);
   }
 
   @Test
@@ -52,6 +56,7 @@ class UpdateStaffingPlanUseCaseTest {
 
     //Then
     verify(currentProcessingDistributionGateway).createStaffingUpdates(results);
+    verify(cptProjectionCache).invalidate(LOGISTIC_CENTER_ID);
 
   }
 
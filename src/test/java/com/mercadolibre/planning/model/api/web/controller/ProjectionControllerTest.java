@@ -60,11 +60,13 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
 @SuppressWarnings("PMD.LongVariable")
 @WebMvcTest(controllers = ProjectionController.class)
+@Import(RequestCoalescer.class)
 class ProjectionControllerTest {
 
   private static final String URL = "/planning/model/workflows/{workflow}/projections";
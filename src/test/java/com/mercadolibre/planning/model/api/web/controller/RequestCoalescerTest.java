@@ -0,0 +1,160 @@
+package com.mercadolibre.planning.model.api.web.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RequestCoalescerTest {
+
+  private static final String ENDPOINT = "projections/sla";
+
+  private static final Instant SLA_1 = Instant.parse("2023-09-08T10:00:00Z");
+
+  private static final Instant SLA_2 = Instant.parse("2023-09-08T11:00:00Z");
+
+  private static final Map<Instant, Integer> BODY = Map.of(SLA_1, 30, SLA_2, 45);
+
+  private final AtomicInteger calculations = new AtomicInteger();
+
+  private RequestCoalescer coalescer;
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    coalescer = new RequestCoalescer(new ObjectMapper().registerModule(new JavaTimeModule()));
+    executor = Executors.newFixedThreadPool(2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  private Supplier<String> blockedCalculation(final CountDownLatch started, final CountDownLatch release, final String result) {
+    return () -> {
+      calculations.incrementAndGet();
+      started.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      }
+      if (result == null) {
+        throw new IllegalArgumentException("calculation failed");
+      }
+      return result;
+    };
+  }
+
+  private Future<String> submitWaitingRequest() throws InterruptedException {
+    final var waitingThread = new AtomicReference<Thread>();
+    final Future<String> waiting = executor.submit(() -> {
+      waitingThread.set(Thread.currentThread());
+      return coalescer.execute(ENDPOINT, List.of("ARTW01"), BODY, () -> {
+        calculations.incrementAndGet();
+        return "duplicated";
+      });
+    });
+
+    // the request is waiting once its thread parks on the calculation in progress
+    while (waitingThread.get() == null || waitingThread.get().getState() != Thread.State.WAITING) {
+      TimeUnit.MILLISECONDS.sleep(1);
+    }
+    return waiting;
+  }
+
+  @Test
+  void testConcurrentIdenticalRequestsShareTheFirstCalculation() throws Exception {
+    // GIVEN
+    final var started = new CountDownLatch(1);
+    final var release = new CountDownLatch(1);
+
+    final Future<String> first = executor.submit(
+        () -> coalescer.execute(ENDPOINT, List.of("ARTW01"), BODY, blockedCalculation(started, release, "result"))
+    );
+    started.await();
+
+    // WHEN
+    final Future<String> duplicated = submitWaitingRequest();
+    release.countDown();
+
+    // THEN
+    assertEquals("result", first.get());
+    assertSame(first.get(), duplicated.get());
+    assertEquals(1, calculations.get());
+    assertEquals(0, coalescer.inProgress());
+  }
+
+  @Test
+  void testFailedCalculationFailsTheWaitingRequests() throws Exception {
+    // GIVEN
+    final var started = new CountDownLatch(1);
+    final var release = new CountDownLatch(1);
+
+    final Future<String> first = executor.submit(
+        () -> coalescer.execute(ENDPOINT, List.of("ARTW01"), BODY, blockedCalculation(started, release, null))
+    );
+    started.await();
+
+    // WHEN
+    final Future<String> duplicated = submitWaitingRequest();
+    release.countDown();
+
+    // THEN
+    final var firstException = assertThrows(ExecutionException.class, first::get);
+    final var duplicatedException = assertThrows(ExecutionException.class, duplicated::get);
+    assertSame(firstException.getCause(), duplicatedException.getCause());
+    assertEquals(1, calculations.get());
+    assertEquals(0, coalescer.inProgress());
+  }
+
+  @Test
+  void testSequentialRequestsAreNotCached() {
+    // WHEN
+    coalescer.execute(ENDPOINT, List.of("ARTW01"), BODY, calculations::incrementAndGet);
+    coalescer.execute(ENDPOINT, List.of("ARTW01"), BODY, calculations::incrementAndGet);
+
+    // THEN
+    assertEquals(2, calculations.get());
+  }
+
+  @Test
+  void testFingerprintIgnoresMapsOrder() {
+    // GIVEN
+    final Map<Instant, Integer> sorted = new LinkedHashMap<>();
+    sorted.put(SLA_1, 30);
+    sorted.put(SLA_2, 45);
+
+    final Map<Instant, Integer> reversed = new LinkedHashMap<>();
+    reversed.put(SLA_2, 45);
+    reversed.put(SLA_1, 30);
+
+    // THEN
+    assertEquals(coalescer.fingerprint(List.of("ARTW01"), sorted), coalescer.fingerprint(List.of("ARTW01"), reversed));
+    assertNotEquals(coalescer.fingerprint(List.of("ARTW01"), sorted), coalescer.fingerprint(List.of("ARBA01"), sorted));
+    assertNotEquals(coalescer.fingerprint(List.of("ARTW01"), sorted), coalescer.fingerprint(List.of("ARTW01"), Map.of(SLA_1, 30)));
+  }
+
+}
@@ -17,6 +17,7 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -165,4 +166,30 @@ class AvailableCapacityControllerTest {
       resultActions.andExpect(content().json(getResourceAsString("controller/slowshipments/response.json")));
     }
   }
+
+  @Test
+  void testAvailableCapacityEndpointInSensitivityMode() throws Exception {
+    // GIVEN
+    when(
+        availableCapacityUseCase.executeSensitivity(
+            DATE_1,
+            DATE_3,
+            CURRENT_BACKLOG,
+            FORECAST_BACKLOG,
+            THROUGHPUT,
+            CYCLE_TIME_BY_SLA
+        )).thenReturn(AVAILABLE_CAPACITY);
+
+    // WHEN
+    final ResultActions resultActions = mvc.perform(
+        post("/logistic_center/ARTW01/projections/capacity")
+            .param("mode", "SENSITIVITY")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(getResourceAsString("controller/slowshipments/request.json"))
+    );
+
+    // THEN
+    resultActions.andExpect(status().isOk())
+        .andExpect(content().json(getResourceAsString("controller/slowshipments/response.json")));
+  }
 }
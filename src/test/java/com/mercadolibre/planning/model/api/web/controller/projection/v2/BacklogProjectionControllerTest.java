@@ -7,18 +7,23 @@ import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
 import com.mercadolibre.planning.model.api.domain.usecase.projection.v2.backlog.BacklogUnifiedProjection;
+import com.mercadolibre.planning.model.api.projection.InflectionPointsMode;
 import com.mercadolibre.planning.model.api.projection.dto.request.total.BacklogProjectionTotalRequest;
 import com.mercadolibre.planning.model.api.projection.dto.request.total.BacklogRequest;
 import com.mercadolibre.planning.model.api.projection.dto.request.total.ProcessPathRequest;
 import com.mercadolibre.planning.model.api.projection.dto.request.total.Quantity;
 import com.mercadolibre.planning.model.api.projection.dto.request.total.Throughput;
+import com.mercadolibre.planning.model.api.web.controller.RequestCoalescer;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -27,11 +32,15 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
 @WebMvcTest(controllers = BacklogProjectionController.class)
+@Import(RequestCoalescer.class)
 class BacklogProjectionControllerTest {
 
   private static final String ERROR_MESSAGE = "Validation failed for argument";
@@ -86,6 +95,13 @@ class BacklogProjectionControllerTest {
   @MockBean
   private BacklogUnifiedProjection backlogUnifiedProjection;
 
+  @TestConfiguration
+  static class ComputeExecutorConfig {
+    @Bean
+    public ExecutorService meliContextAwareComputeExecutorService() {
+      return Executors.newFixedThreadPool(2);
+    }
+  }
 
   private static Stream<Arguments> calculationProjectionTotalParameters() {
     return Stream.of(
@@ -116,7 +132,7 @@ class BacklogProjectionControllerTest {
   @Test
   public void testGetCalculationProjectionTotalOk() throws Exception {
     //GIVEN
-    when(backlogUnifiedProjection.getProjection(PROJECTION_TOTAL_REQUEST_UC, 60))
+    when(backlogUnifiedProjection.getProjection(PROJECTION_TOTAL_REQUEST_UC, 60, InflectionPointsMode.FIXED_WINDOW))
         .thenReturn(RESPONSE_TOTAL_USECASE);
     //WHEN
     final ResultActions result = mvc.perform(
@@ -145,6 +161,50 @@ class BacklogProjectionControllerTest {
     );
   }
 
+  @Test
+  void testGetCalculationBacklogProjectionWithConcurrentBranches() throws Exception {
+    //WHEN
+    final ResultActions sequential = mvc.perform(
+        post(URL_V2, "ARTW01")
+            .contentType(APPLICATION_JSON)
+            .content(getResourceAsString("post_backlog_projection.json"))
+    );
+
+    final ResultActions concurrent = mvc.perform(
+        post(URL_V2, "ARTW01")
+            .param("branchesMode", "CONCURRENT")
+            .contentType(APPLICATION_JSON)
+            .content(getResourceAsString("post_backlog_projection.json"))
+    );
+
+    //THEN
+    concurrent.andExpectAll(
+        status().isOk(),
+        content().json(sequential.andReturn().getResponse().getContentAsString(), true)
+    );
+  }
+
+  @Test
+  void testGetColumnarCalculationBacklogProjection() throws Exception {
+    //WHEN
+    final ResultActions result = mvc.perform(
+        post(URL_V2, "ARTW01")
+            .param("format", "columnar")
+            .contentType(APPLICATION_JSON)
+            .content(getResourceAsString("post_backlog_projection.json"))
+    );
+
+    //THEN
+    result.andExpectAll(
+        status().isOk(),
+        jsonPath("$.base").isNumber(),
+        jsonPath("$.operation_hours").isArray(),
+        jsonPath("$.date_outs").isArray(),
+        jsonPath("$.processes").isArray(),
+        jsonPath("$.quantities").isArray()
+    );
+  }
+
   @Test
   public void testGetCalculationBacklogProjectionFailUrl() throws Exception {
 
@@ -11,9 +11,11 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
 import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
+import com.mercadolibre.planning.model.api.projection.InflectionPointsMode;
 import com.mercadolibre.planning.model.api.projection.SLAProjectionService;
 import com.mercadolibre.planning.model.api.projection.builder.PackingProjectionBuilder;
 import com.mercadolibre.planning.model.api.projection.builder.SlaProjectionResult;
+import com.mercadolibre.planning.model.api.web.controller.RequestCoalescer;
 import java.io.IOException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -28,12 +30,14 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.MockedStatic;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.ResultMatcher;
 
 @WebMvcTest(controllers = SLAsProjectionController.class)
+@Import(RequestCoalescer.class)
 public class SLAsProjectionControllerTest {
   private static final Instant DATE_1 = Instant.parse("2023-09-14T12:00:00Z");
 
@@ -154,7 +158,8 @@ public class SLAsProjectionControllerTest {
             forecast,
             throughput,
             cutOffs,
-            new PackingProjectionBuilder()
+            new PackingProjectionBuilder(),
+            InflectionPointsMode.FIXED_WINDOW
         )).thenReturn(capacity);
 
     // WHEN
@@ -0,0 +1,126 @@
+package com.mercadolibre.planning.model.api.web.controller.suggestionwaves;
+
+import static com.mercadolibre.planning.model.api.util.TestUtils.getResourceAsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mockStatic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.mercadolibre.planning.model.api.projection.waverless.ExecutionMetrics;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.ExecutorServiceAdapter;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@WebMvcTest(controllers = SuggestionWavesBatchController.class)
+@Import(SuggestionWavesCache.class)
+class SuggestionWavesBatchControllerTest {
+  private static final String URL = "/projections/waves/batch";
+
+  @Autowired
+  private MockMvc mvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  private MockedStatic<ExecutionMetrics.DataDogMetricsWrapper> wrapper;
+
+  @BeforeEach
+  public void setUp() {
+    wrapper = mockStatic(ExecutionMetrics.DataDogMetricsWrapper.class);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    wrapper.close();
+  }
+
+  /**
+   * Runs the batch and the streamed response on the test thread, so that the static metrics mock applies to them.
+   */
+  @TestConfiguration
+  static class BatchExecutorConfig {
+    @Bean
+    public ExecutorService meliContextAwareBatchExecutorService() {
+      return new ExecutorServiceAdapter(new SyncTaskExecutor());
+    }
+
+    @Bean
+    public WebMvcConfigurer synchronousAsyncSupport() {
+      return new WebMvcConfigurer() {
+        @Override
+        public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+          configurer.setTaskExecutor(new TaskExecutorAdapter(Runnable::run));
+        }
+      };
+    }
+  }
+
+  @Test
+  void testBatchIsolatesFailuresByLogisticCenter() throws Exception {
+    // GIVEN
+    final JsonNode request = objectMapper.readTree(getResourceAsString("controller/waverless/request.json"));
+    final ObjectNode invalidRequest = request.deepCopy();
+    invalidRequest.remove("throughput");
+
+    final ObjectNode batch = objectMapper.createObjectNode();
+    batch.putArray("requests")
+        .add(objectMapper.createObjectNode().put("logistic_center_id", "ARTW01").set("request", request))
+        .add(objectMapper.createObjectNode().put("logistic_center_id", "ARBA01").set("request", invalidRequest));
+
+    // WHEN
+    final MvcResult result = mvc.perform(
+        post(URL)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(batch))
+    ).andExpect(request().asyncStarted()).andReturn();
+
+    final String body = mvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getContentAsString();
+
+    // THEN
+    final String[] lines = body.split("\\n");
+    assertEquals(2, lines.length);
+
+    final Map<String, JsonNode> results = new HashMap<>();
+    for (final String line : lines) {
+      final JsonNode node = objectMapper.readTree(line);
+      results.put(node.get("logistic_center_id").asText(), node);
+    }
+
+    assertEquals("OK", results.get("ARTW01").get("status").asText());
+    JSONAssert.assertEquals(
+        getResourceAsString("controller/waverless/response.json"),
+        results.get("ARTW01").get("response").toString(),
+        false
+    );
+
+    assertEquals("ERROR", results.get("ARBA01").get("status").asText());
+  }
+
+}
@@ -0,0 +1,135 @@
+package com.mercadolibre.planning.model.api.web.controller.suggestionwaves;
+
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PICKING;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.WAVING;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.GLOBAL;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.NON_TOT_MONO;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.TOT_MONO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.mockStatic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.planning.model.api.projection.ProcessPathConfiguration;
+import com.mercadolibre.planning.model.api.projection.UnitsByProcessPathAndProcess;
+import com.mercadolibre.planning.model.api.projection.waverless.ExecutionMetrics;
+import com.mercadolibre.planning.model.api.web.controller.suggestionwaves.request.Request;
+import com.mercadolibre.planning.model.api.web.controller.suggestionwaves.response.WaverlessResponse;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+class SuggestionWavesCacheTest {
+
+  private static final String WH = "ARTW01";
+
+  private static final String OTHER_WH = "ARBA01";
+
+  private static final Instant VIEW_DATE = Instant.parse("2023-03-29T00:00:00Z");
+
+  private static final Instant SLA = Instant.parse("2023-03-29T06:00:00Z");
+
+  private static final List<UnitsByProcessPathAndProcess> BACKLOGS = List.of(
+      new UnitsByProcessPathAndProcess(TOT_MONO, WAVING, SLA, 100),
+      new UnitsByProcessPathAndProcess(NON_TOT_MONO, WAVING, SLA, 200),
+      new UnitsByProcessPathAndProcess(TOT_MONO, PICKING, SLA, 300)
+  );
+
+  private final AtomicInteger calculations = new AtomicInteger();
+
+  private MockedStatic<ExecutionMetrics.DataDogMetricsWrapper> wrapper;
+
+  private SuggestionWavesCache cache;
+
+  private static Request request(final Instant viewDate, final List<UnitsByProcessPathAndProcess> backlogs) {
+    return new Request(
+        viewDate,
+        List.of(new ProcessPathConfiguration(TOT_MONO, 120, 100, 60), new ProcessPathConfiguration(NON_TOT_MONO, 120, 100, 60)),
+        backlogs,
+        List.of(),
+        Map.of(GLOBAL, Map.of(PICKING, Map.of(VIEW_DATE, 100F, SLA, 200F))),
+        null,
+        null,
+        null,
+        null,
+        null,
+        null
+    );
+  }
+
+  @BeforeEach
+  public void setUp() {
+    wrapper = mockStatic(ExecutionMetrics.DataDogMetricsWrapper.class);
+    cache = new SuggestionWavesCache(new ObjectMapper().findAndRegisterModules());
+  }
+
+  @AfterEach
+  public void tearDown() {
+    wrapper.close();
+  }
+
+  private WaverlessResponse get(final String logisticCenterId, final Request request) {
+    return cache.get(logisticCenterId, request, () -> {
+      calculations.incrementAndGet();
+      return new WaverlessResponse(logisticCenterId, request.getViewDate(), List.of(), Map.of(), null);
+    });
+  }
+
+  @Test
+  void testRequestsInTheSameInflectionWindowShareTheResponse() {
+    // WHEN
+    final var first = get(WH, request(VIEW_DATE.plusSeconds(30), BACKLOGS));
+    final var second = get(WH, request(VIEW_DATE.plusSeconds(290), List.of(BACKLOGS.get(2), BACKLOGS.get(0), BACKLOGS.get(1))));
+
+    // THEN
+    assertEquals(1, calculations.get());
+    assertEquals(VIEW_DATE.plusSeconds(30), first.getExecutionDate());
+    assertEquals(VIEW_DATE.plusSeconds(290), second.getExecutionDate());
+  }
+
+  @Test
+  void testRequestsWithDifferentInputsDoNotShareTheResponse() {
+    // WHEN
+    get(WH, request(VIEW_DATE, BACKLOGS));
+    get(WH, request(VIEW_DATE.plusSeconds(300), BACKLOGS));
+    get(WH, request(VIEW_DATE, BACKLOGS.subList(0, 2)));
+    get(OTHER_WH, request(VIEW_DATE, BACKLOGS));
+
+    // THEN
+    assertEquals(4, calculations.get());
+  }
+
+  @Test
+  void testInvalidateOnlyRemovesTheLogisticCenterResponses() {
+    // GIVEN
+    get(WH, request(VIEW_DATE, BACKLOGS));
+    get(OTHER_WH, request(VIEW_DATE, BACKLOGS));
+
+    // WHEN
+    cache.invalidate(WH);
+
+    get(WH, request(VIEW_DATE, BACKLOGS));
+    get(OTHER_WH, request(VIEW_DATE, BACKLOGS));
+
+    // THEN
+    assertEquals(3, calculations.get());
+  }
+
+  @Test
+  void testFingerprintIgnoresBacklogsOrder() {
+    // WHEN
+    final var fingerprint = cache.fingerprint(request(VIEW_DATE, BACKLOGS));
+    final var reordered = cache.fingerprint(request(VIEW_DATE, List.of(BACKLOGS.get(1), BACKLOGS.get(2), BACKLOGS.get(0))));
+    final var other = cache.fingerprint(request(VIEW_DATE, List.of(BACKLOGS.get(1))));
+
+    // THEN
+    assertEquals(fingerprint, reordered);
+    assertNotEquals(fingerprint, other);
+  }
+
+}
@@ -1,29 +1,51 @@
 package com.mercadolibre.planning.model.api.web.controller.suggestionwaves;
 
 import static com.mercadolibre.planning.model.api.util.TestUtils.getResourceAsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mockStatic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.mercadolibre.planning.model.api.projection.waverless.ExecutionMetrics;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
+import org.skyscreamer.jsonassert.JSONAssert;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.support.TaskExecutorAdapter;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @WebMvcTest(controllers = SuggestionWavesController.class)
+@Import(SuggestionWavesCache.class)
 class SuggestionWavesControllerTest {
   private static final String URL = "/logistic_center/{logisticCenterId}/projections";
 
   @Autowired
   private MockMvc mvc;
 
+  @Autowired
+  private ObjectMapper objectMapper;
+
   private MockedStatic<ExecutionMetrics.DataDogMetricsWrapper> wrapper;
 
   @BeforeEach
@@ -36,6 +58,27 @@ class SuggestionWavesControllerTest {
     wrapper.close();
   }
 
+  @TestConfiguration
+  static class ComputeExecutorConfig {
+    @Bean
+    public ExecutorService meliContextAwareComputeExecutorService() {
+      return Executors.newFixedThreadPool(2);
+    }
+
+    /**
+     * Runs the streamed responses on the test thread, so that the static metrics mock applies to them.
+     */
+    @Bean
+    public WebMvcConfigurer synchronousAsyncSupport() {
+      return new WebMvcConfigurer() {
+        @Override
+        public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+          configurer.setTaskExecutor(new TaskExecutorAdapter(Runnable::run));
+        }
+      };
+    }
+  }
+
   @Test
   void testGetSuggestedWavesOk() throws Exception {
     // GIVEN
@@ -52,4 +95,59 @@ class SuggestionWavesControllerTest {
         .andExpect(content().json(getResourceAsString("controller/waverless/response.json")));
   }
 
+  @Test
+  void testGetSuggestedWavesWithPhasesBreakdown() throws Exception {
+    // WHEN
+    final ResultActions resultActions = mvc.perform(
+        post(URL + "/waves", "ARTW01")
+            .header("X-Debug-Phases", "true")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(getResourceAsString("controller/waverless/request.json"))
+    );
+
+    // THEN
+    resultActions.andExpect(status().isOk())
+        .andExpect(content().json(getResourceAsString("controller/waverless/response.json")))
+        .andExpect(jsonPath("$.phases.sla_projection.executions").isNumber())
+        .andExpect(jsonPath("$.phases.sla_projection.allocated_bytes").isNumber())
+        .andExpect(jsonPath("$.phases.backlog_projection.elapsed_millis").isNumber());
+  }
+
+  @Test
+  void testStreamSuggestedWaves() throws Exception {
+    // GIVEN
+    final ObjectNode request = (ObjectNode) objectMapper.readTree(getResourceAsString("controller/waverless/request.json"));
+    request.put("max_waves", 2);
+
+    final JsonNode expected = objectMapper.readTree(getResourceAsString("controller/waverless/response.json"));
+
+    // WHEN
+    final MvcResult result = mvc.perform(
+        post(URL + "/waves/stream", "ARTW01")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request))
+    ).andExpect(request().asyncStarted()).andReturn();
+
+    final String body = mvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getContentAsString();
+
+    // THEN
+    final String[] lines = body.split("\n");
+    assertEquals(3, lines.length);
+
+    for (int i = 0; i < 2; i++) {
+      final JsonNode event = objectMapper.readTree(lines[i]);
+      assertEquals("WAVE", event.get("type").asText());
+      assertEquals("ARTW01", event.get("logistic_center_id").asText());
+      JSONAssert.assertEquals(expected.get("suggestions").get(i).toString(), event.get("wave").toString(), false);
+    }
+
+    final JsonNode last = objectMapper.readTree(lines[2]);
+    assertEquals("PROJECTED_BACKLOGS", last.get("type").asText());
+    assertTrue(last.get("projected_backlogs").isObject());
+  }
+
 }
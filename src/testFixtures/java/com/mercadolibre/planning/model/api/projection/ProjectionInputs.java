@@ -0,0 +1,299 @@
+package com.mercadolibre.planning.model.api.projection;
+
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.BATCH_SORTER;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.HU_ASSEMBLY;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PACKING;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PACKING_WALL;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PICKING;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.SALES_DISPATCH;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.WALL_IN;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.WAVING;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.NON_TOT_MONO;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.NON_TOT_MULTI_BATCH;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.NON_TOT_MULTI_ORDER;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.NON_TOT_SINGLE_SKU;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.TOT_MONO;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.TOT_MULTI_BATCH;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.TOT_MULTI_ORDER;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.TOT_SINGLE_SKU;
+import static java.time.ZoneOffset.UTC;
+import static java.time.temporal.ChronoUnit.HOURS;
+import static java.time.temporal.ChronoUnit.MINUTES;
+
+import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
+import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
+import com.mercadolibre.planning.model.api.projection.dto.ProjectionRequest;
+import com.mercadolibre.planning.model.api.projection.dto.request.total.BacklogProjectionTotalRequest;
+import com.mercadolibre.planning.model.api.projection.dto.request.total.BacklogRequest;
+import com.mercadolibre.planning.model.api.projection.dto.request.total.ProcessPathRequest;
+import com.mercadolibre.planning.model.api.projection.dto.request.total.Quantity;
+import com.mercadolibre.planning.model.api.projection.dto.request.total.Throughput;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * Synthetic but realistic inputs for the projection engine, shared by the unit tests and the projection benchmarks.
+ *
+ * <p>The inputs are generated from a seed, so the same arguments always give the same data. The scale is given by the days of the
+ * projection horizon, the number of SLAs, which are evenly spread over it, and the number of process paths. Every process has
+ * current backlog for the SLAs of the first hours, the multi batch paths going through the wall and the others through packing, and
+ * the forecast of each SLA arrives along the hours before it.
+ */
+public final class ProjectionInputs {
+
+  public static final Instant DATE_FROM = Instant.parse("2023-09-08T00:00:00Z");
+
+  private static final List<ProcessPath> PROCESS_PATHS = List.of(
+      TOT_MONO,
+      TOT_MULTI_BATCH,
+      TOT_MULTI_ORDER,
+      TOT_SINGLE_SKU,
+      NON_TOT_MONO,
+      NON_TOT_MULTI_BATCH,
+      NON_TOT_MULTI_ORDER,
+      NON_TOT_SINGLE_SKU
+  );
+
+  private static final List<ProcessName> MULTI_BATCH_PROCESSES = List.of(BATCH_SORTER, WALL_IN, PACKING_WALL);
+
+  private static final List<ProcessName> DISPATCH_PROCESSES = List.of(HU_ASSEMBLY, SALES_DISPATCH);
+
+  private static final int SLA_STEP_PRECISION_IN_MINUTES = 5;
+
+  private static final int CURRENT_BACKLOG_HOURS = 8;
+
+  private static final int FORECAST_HOURS_BEFORE_SLA = 6;
+
+  private static final int MIN_CYCLE_TIME = 30;
+
+  private static final int MAX_CYCLE_TIME = 120;
+
+  private final Instant dateTo;
+
+  private final List<ProcessPath> processPaths;
+
+  private final List<Instant> slas;
+
+  private final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> currentBacklog;
+
+  private final Map<Instant, Map<ProcessPath, Map<Instant, Long>>> forecastBacklog;
+
+  private final Map<ProcessName, Map<Instant, Integer>> throughput;
+
+  private final Map<Instant, Integer> cycleTimeBySla;
+
+  private ProjectionInputs(final int days, final int slasCount, final int processPathsCount, final long seed) {
+    final var random = new Random(seed);
+
+    this.dateTo = DATE_FROM.plus(days * 24L, HOURS);
+    this.processPaths = PROCESS_PATHS.subList(0, Math.min(processPathsCount, PROCESS_PATHS.size()));
+    this.slas = slas(slasCount);
+    this.currentBacklog = currentBacklog(random);
+    this.forecastBacklog = forecastBacklog(random);
+    this.throughput = throughput(random, days);
+    this.cycleTimeBySla = cycleTimeBySla(random);
+  }
+
+  public static ProjectionInputs generate(final int days, final int slasCount, final int processPathsCount, final long seed) {
+    return new ProjectionInputs(days, slasCount, processPathsCount, seed);
+  }
+
+  private List<Instant> slas(final int slasCount) {
+    final long step = Math.max(SLA_STEP_PRECISION_IN_MINUTES, MINUTES.between(DATE_FROM, dateTo) / slasCount);
+
+    final var result = new ArrayList<Instant>(slasCount);
+    for (int i = 1; i <= slasCount; i++) {
+      final long minutes = step * i;
+      result.add(DATE_FROM.plus(minutes - minutes % SLA_STEP_PRECISION_IN_MINUTES, MINUTES));
+    }
+    return result;
+  }
+
+  private static void put(
+      final Map<ProcessPath, Map<Instant, Long>> backlog,
+      final ProcessPath processPath,
+      final Instant sla,
+      final long quantity
+  ) {
+    backlog.computeIfAbsent(processPath, pp -> new TreeMap<>()).merge(sla, quantity, Long::sum);
+  }
+
+  private Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> currentBacklog(final Random random) {
+    final Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> result = new EnumMap<>(ProcessName.class);
+
+    final var firstHours = DATE_FROM.plus(CURRENT_BACKLOG_HOURS, HOURS);
+    for (final ProcessPath pp : processPaths) {
+      final boolean isMultiBatch = pp == TOT_MULTI_BATCH || pp == NON_TOT_MULTI_BATCH;
+      for (final Instant sla : slas) {
+        put(result.computeIfAbsent(WAVING, process -> new EnumMap<>(ProcessPath.class)), pp, sla, 50L + random.nextInt(450));
+        if (sla.isAfter(firstHours)) {
+          continue;
+        }
+
+        put(result.computeIfAbsent(PICKING, process -> new EnumMap<>(ProcessPath.class)), pp, sla, 100L + random.nextInt(900));
+        final var postPicking = isMultiBatch ? MULTI_BATCH_PROCESSES : List.of(PACKING);
+        for (final ProcessName process : postPicking) {
+          put(result.computeIfAbsent(process, p -> new EnumMap<>(ProcessPath.class)), pp, sla, 50L + random.nextInt(450));
+        }
+        for (final ProcessName process : DISPATCH_PROCESSES) {
+          put(result.computeIfAbsent(process, p -> new EnumMap<>(ProcessPath.class)), pp, sla, 20L + random.nextInt(180));
+        }
+      }
+    }
+    return result;
+  }
+
+  private Map<Instant, Map<ProcessPath, Map<Instant, Long>>> forecastBacklog(final Random random) {
+    final Map<Instant, Map<ProcessPath, Map<Instant, Long>>> result = new TreeMap<>();
+    for (final ProcessPath pp : processPaths) {
+      for (final Instant sla : slas) {
+        final var slaHour = sla.truncatedTo(HOURS);
+        for (int hour = 1; hour <= FORECAST_HOURS_BEFORE_SLA; hour++) {
+          final var dateIn = slaHour.minus(hour, HOURS);
+          if (!dateIn.isBefore(DATE_FROM)) {
+            put(result.computeIfAbsent(dateIn, date -> new EnumMap<>(ProcessPath.class)), pp, sla, 10L + random.nextInt(90));
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  private static Map<Instant, Integer> hourly(final Random random, final int days, final int min, final int max) {
+    final Map<Instant, Integer> values = new TreeMap<>();
+    for (int hour = 0; hour <= days * 24; hour++) {
+      values.put(DATE_FROM.plus(hour, HOURS), min + random.nextInt(max - min));
+    }
+    return values;
+  }
+
+  private Map<ProcessName, Map<Instant, Integer>> throughput(final Random random, final int days) {
+    final Map<ProcessName, Map<Instant, Integer>> result = new EnumMap<>(ProcessName.class);
+    result.put(WAVING, hourly(random, days, 3500, 4500));
+    result.put(PICKING, hourly(random, days, 3000, 4000));
+    result.put(PACKING, hourly(random, days, 2000, 3000));
+    MULTI_BATCH_PROCESSES.forEach(process -> result.put(process, hourly(random, days, 1000, 1500)));
+    DISPATCH_PROCESSES.forEach(process -> result.put(process, hourly(random, days, 3000, 4000)));
+    return result;
+  }
+
+  private Map<Instant, Integer> cycleTimeBySla(final Random random) {
+    final Map<Instant, Integer> result = new TreeMap<>();
+    slas.forEach(sla -> result.put(sla, MIN_CYCLE_TIME + random.nextInt(MAX_CYCLE_TIME - MIN_CYCLE_TIME)));
+    return result;
+  }
+
+  public Instant getDateFrom() {
+    return DATE_FROM;
+  }
+
+  public Instant getDateTo() {
+    return dateTo;
+  }
+
+  public List<ProcessPath> getProcessPaths() {
+    return processPaths;
+  }
+
+  public List<Instant> getSlas() {
+    return slas;
+  }
+
+  public Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> getCurrentBacklog() {
+    return currentBacklog;
+  }
+
+  public Map<Instant, Map<ProcessPath, Map<Instant, Long>>> getForecastBacklog() {
+    return forecastBacklog;
+  }
+
+  public Map<ProcessName, Map<Instant, Integer>> getThroughput() {
+    return throughput;
+  }
+
+  public Map<Instant, Integer> getCycleTimeBySla() {
+    return cycleTimeBySla;
+  }
+
+  public Map<Instant, Instant> getCutOffs() {
+    final Map<Instant, Instant> cutOffs = new TreeMap<>();
+    cycleTimeBySla.forEach((sla, cycleTime) -> cutOffs.put(sla, sla.minus(cycleTime, MINUTES)));
+    return cutOffs;
+  }
+
+  /**
+   * Builds the request of {@link CalculateProjectionService}, whose backlog and forecast are not opened by process path.
+   */
+  public ProjectionRequest getProjectionRequest() {
+    final Map<ProcessName, Map<Instant, Integer>> backlog = new EnumMap<>(ProcessName.class);
+    currentBacklog.forEach((process, backlogByProcessPath) -> backlogByProcessPath.values().forEach(quantityBySla ->
+        quantityBySla.forEach((sla, quantity) ->
+            backlog.computeIfAbsent(process, p -> new TreeMap<>()).merge(sla, quantity.intValue(), Integer::sum)
+        )
+    ));
+
+    final var forecastSales = new ArrayList<ProjectionRequest.PlanningDistribution>();
+    forecastBacklog.forEach((dateIn, backlogByProcessPath) -> {
+      final Map<Instant, Long> quantityBySla = new TreeMap<>();
+      backlogByProcessPath.values().forEach(quantities ->
+          quantities.forEach((sla, quantity) -> quantityBySla.merge(sla, quantity, Long::sum))
+      );
+      quantityBySla.forEach((sla, quantity) ->
+          forecastSales.add(new ProjectionRequest.PlanningDistribution(dateIn.atZone(UTC), sla.atZone(UTC), quantity))
+      );
+    });
+
+    final Map<Instant, ProjectionRequest.PackingRatio> ratioByHour = new TreeMap<>();
+    throughput.get(PACKING).keySet().forEach(date -> ratioByHour.put(date, new ProjectionRequest.PackingRatio(0.7, 0.3)));
+
+    return ProjectionRequest.builder()
+        .dateFrom(DATE_FROM)
+        .dateTo(dateTo)
+        .throughputByProcess(throughput)
+        .backlogBySlaAndProcess(backlog)
+        .forecastSales(forecastSales)
+        .ratioByHour(ratioByHour)
+        .build();
+  }
+
+  /**
+   * Builds the request of the unified backlog projection, with the current picking backlog and the picking throughput.
+   */
+  public BacklogProjectionTotalRequest getBacklogProjectionTotalRequest() {
+    final var backlog = new ArrayList<ProcessPathRequest>();
+    currentBacklog.get(PICKING).forEach((pp, quantityBySla) -> backlog.add(new ProcessPathRequest(
+        pp,
+        quantityBySla.entrySet().stream()
+            .map(entry -> new Quantity(null, entry.getKey(), entry.getValue().intValue()))
+            .toList()
+    )));
+
+    final Map<ProcessPath, List<Quantity>> plannedByProcessPath = new EnumMap<>(ProcessPath.class);
+    forecastBacklog.forEach((dateIn, backlogByProcessPath) -> backlogByProcessPath.forEach((pp, quantityBySla) ->
+        quantityBySla.forEach((sla, quantity) ->
+            plannedByProcessPath.computeIfAbsent(pp, p -> new ArrayList<>()).add(new Quantity(dateIn, sla, quantity.intValue()))
+        )
+    ));
+    final var planned = plannedByProcessPath.entrySet().stream()
+        .map(entry -> new ProcessPathRequest(entry.getKey(), entry.getValue()))
+        .toList();
+
+    final var pickingThroughput = throughput.get(PICKING).entrySet().stream()
+        .map(entry -> new Throughput(entry.getKey(), entry.getValue()))
+        .toList();
+
+    return new BacklogProjectionTotalRequest(
+        DATE_FROM,
+        dateTo,
+        new BacklogRequest(backlog),
+        new BacklogRequest(planned),
+        pickingThroughput
+    );
+  }
+
+}
@@ -0,0 +1,318 @@
+package com.mercadolibre.planning.model.api.projection.waverless;
+
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.BATCH_SORTER;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PACKING;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PACKING_WALL;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.PICKING;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.WALL_IN;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessName.WAVING;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.GLOBAL;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.NON_TOT_MONO;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.NON_TOT_MULTI_BATCH;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.NON_TOT_MULTI_ORDER;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.NON_TOT_SINGLE_SKU;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.TOT_MONO;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.TOT_MULTI_BATCH;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.TOT_MULTI_ORDER;
+import static com.mercadolibre.planning.model.api.domain.entity.ProcessPath.TOT_SINGLE_SKU;
+import static com.mercadolibre.planning.model.api.domain.entity.TriggerName.IDLENESS;
+import static com.mercadolibre.planning.model.api.util.DateUtils.generateInflectionPoints;
+import static java.time.temporal.ChronoUnit.HOURS;
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+import com.mercadolibre.planning.model.api.domain.entity.ProcessName;
+import com.mercadolibre.planning.model.api.domain.entity.ProcessPath;
+import com.mercadolibre.planning.model.api.projection.ProcessPathConfiguration;
+import com.mercadolibre.planning.model.api.projection.UnitsByProcessPathAndProcess;
+import com.mercadolibre.planning.model.api.projection.waverless.PendingBacklog.AvailableBacklog;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Synthetic but realistic inputs for the waverless benchmarks.
+ *
+ * <p>The inputs are generated from a seed, so every fork of a benchmark runs with the same data. The scale is given by the number of
+ * process paths, the days of throughput, the number of SLAs, which are evenly spread over the throughput horizon, and the number of
+ * precalculated and previous waves.
+ */
+public final class WaverlessInputs {
+
+  public static final Instant EXECUTION_DATE = Instant.parse("2023-03-29T00:00:00Z");
+
+  public static final String LOGISTIC_CENTER_ID = "ARBA01";
+
+  private static final List<ProcessPath> PROCESS_PATHS = List.of(
+      TOT_MONO,
+      TOT_MULTI_BATCH,
+      TOT_MULTI_ORDER,
+      TOT_SINGLE_SKU,
+      NON_TOT_MONO,
+      NON_TOT_MULTI_BATCH,
+      NON_TOT_MULTI_ORDER,
+      NON_TOT_SINGLE_SKU
+  );
+
+  private static final List<ProcessName> MULTI_BATCH_PROCESSES = List.of(BATCH_SORTER, WALL_IN, PACKING_WALL);
+
+  private static final int INFLECTION_WINDOW_SIZE_IN_MINUTES = 5;
+
+  private static final int FORECAST_HOURS_BEFORE_SLA = 6;
+
+  private static final int SLAS_IN_DOWNSTREAM_PROCESSES = 4;
+
+  private static final String TAG = "process_path";
+
+  private static final String DEFAULT = "default";
+
+  private final List<ProcessPath> processPaths;
+
+  private final List<Instant> slas;
+
+  private final List<Instant> inflectionPoints;
+
+  private final List<ProcessPathConfiguration> configurations;
+
+  private final List<UnitsByProcessPathAndProcess> backlogs;
+
+  private final List<ForecastedUnitsByProcessPath> forecast;
+
+  private final Map<ProcessPath, Map<ProcessName, Map<Instant, Integer>>> throughput;
+
+  private final Map<ProcessPath, List<PrecalculatedWave>> precalculatedWaves;
+
+  private final List<Wave> previousWaves;
+
+  private final WaveSizeConfig waveSizeConfig;
+
+  private WaverlessInputs(
+      final int processPathsCount,
+      final int days,
+      final int slasCount,
+      final int precalculatedWavesCount,
+      final int previousWavesCount,
+      final long seed
+  ) {
+    final var random = new Random(seed);
+    final var horizon = EXECUTION_DATE.plus(days * 24L, HOURS);
+
+    this.processPaths = PROCESS_PATHS.subList(0, Math.min(processPathsCount, PROCESS_PATHS.size()));
+    this.slas = slas(horizon, slasCount);
+    this.inflectionPoints = generateInflectionPoints(EXECUTION_DATE, horizon, INFLECTION_WINDOW_SIZE_IN_MINUTES);
+    this.configurations = processPaths.stream()
+        .map(pp -> new ProcessPathConfiguration(pp, 240, 180, 60 + random.nextInt(4) * 15))
+        .collect(toList());
+    this.backlogs = backlogs(random);
+    this.forecast = forecast(random);
+    this.throughput = throughput(random, days);
+    this.precalculatedWaves = precalculatedWaves(random, precalculatedWavesCount);
+    this.previousWaves = previousWaves(random, previousWavesCount);
+    this.waveSizeConfig = new WaveSizeConfig(
+        List.of(new ConfigurationValue(60, Map.of(TAG, DEFAULT))),
+        List.of(new ConfigurationValue(90, Map.of(TAG, DEFAULT))),
+        List.of(new ConfigurationValue(30, Map.of(TAG, DEFAULT)))
+    );
+  }
+
+  public static WaverlessInputs generate(
+      final int processPathsCount,
+      final int days,
+      final int slasCount,
+      final int precalculatedWavesCount,
+      final int previousWavesCount,
+      final long seed
+  ) {
+    return new WaverlessInputs(processPathsCount, days, slasCount, precalculatedWavesCount, previousWavesCount, seed);
+  }
+
+  private static List<Instant> slas(final Instant horizon, final int slasCount) {
+    final long step = Math.max(INFLECTION_WINDOW_SIZE_IN_MINUTES, MINUTES.between(EXECUTION_DATE, horizon) / slasCount);
+
+    final var slas = new ArrayList<Instant>(slasCount);
+    for (int i = 1; i <= slasCount; i++) {
+      final var sla = EXECUTION_DATE.plus(step * i, MINUTES);
+      slas.add(sla.minus(MINUTES.between(sla.truncatedTo(HOURS), sla) % INFLECTION_WINDOW_SIZE_IN_MINUTES, MINUTES));
+    }
+    return slas;
+  }
+
+  private static Map<Instant, Integer> hourly(final Random random, final int days, final int min, final int max) {
+    final Map<Instant, Integer> values = new TreeMap<>();
+    for (int hour = 0; hour <= days * 24; hour++) {
+      values.put(EXECUTION_DATE.plus(hour, HOURS), min + random.nextInt(max - min));
+    }
+    return values;
+  }
+
+  private List<UnitsByProcessPathAndProcess> backlogs(final Random random) {
+    final var result = new ArrayList<UnitsByProcessPathAndProcess>();
+    for (final ProcessPath pp : processPaths) {
+      for (final Instant sla : slas) {
+        result.add(new UnitsByProcessPathAndProcess(pp, WAVING, sla, 50 + random.nextInt(450)));
+      }
+
+      for (final Instant sla : slas.subList(0, Math.min(SLAS_IN_DOWNSTREAM_PROCESSES, slas.size()))) {
+        result.add(new UnitsByProcessPathAndProcess(pp, PICKING, sla, 100 + random.nextInt(900)));
+        if (pp == TOT_MULTI_BATCH || pp == NON_TOT_MULTI_BATCH) {
+          MULTI_BATCH_PROCESSES.forEach(
+              process -> result.add(new UnitsByProcessPathAndProcess(pp, process, sla, 50 + random.nextInt(450)))
+          );
+        } else {
+          result.add(new UnitsByProcessPathAndProcess(pp, PACKING, sla, 100 + random.nextInt(600)));
+        }
+      }
+    }
+    return result;
+  }
+
+  private List<ForecastedUnitsByProcessPath> forecast(final Random random) {
+    final var result = new ArrayList<ForecastedUnitsByProcessPath>();
+    for (final ProcessPath pp : processPaths) {
+      for (final Instant sla : slas) {
+        final var slaHour = sla.truncatedTo(HOURS);
+        for (int hour = 1; hour <= FORECAST_HOURS_BEFORE_SLA; hour++) {
+          final var dateIn = slaHour.minus(hour, HOURS);
+          if (!dateIn.isBefore(EXECUTION_DATE)) {
+            result.add(new ForecastedUnitsByProcessPath(pp, dateIn, sla, 10 + random.nextInt(90)));
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  private Map<ProcessPath, Map<ProcessName, Map<Instant, Integer>>> throughput(final Random random, final int days) {
+    final Map<ProcessPath, Map<ProcessName, Map<Instant, Integer>>> result = new EnumMap<>(ProcessPath.class);
+
+    final int ppPickingThroughput = 3000 / processPaths.size();
+    processPaths.forEach(pp -> result.put(pp, Map.of(PICKING, hourly(random, days, ppPickingThroughput, 2 * ppPickingThroughput))));
+
+    final Map<ProcessName, Map<Instant, Integer>> global = new EnumMap<>(ProcessName.class);
+    global.put(PICKING, hourly(random, days, 3000, 4000));
+    global.put(PACKING, hourly(random, days, 2500, 3500));
+    MULTI_BATCH_PROCESSES.forEach(process -> global.put(process, hourly(random, days, 1200, 1800)));
+    result.put(GLOBAL, global);
+
+    return result;
+  }
+
+  private Map<ProcessPath, List<PrecalculatedWave>> precalculatedWaves(final Random random, final int wavesCount) {
+    final int slasByWave = Math.min(3, slas.size());
+
+    return processPaths.stream()
+        .collect(toMap(
+            Function.identity(),
+            pp -> {
+              final var waves = new ArrayList<PrecalculatedWave>(wavesCount);
+              for (int i = 0; i < wavesCount; i++) {
+                final int first = random.nextInt(slas.size() - slasByWave + 1);
+                final Map<Instant, Long> unitsBySla = new TreeMap<>();
+                slas.subList(first, first + slasByWave).forEach(sla -> unitsBySla.put(sla, 20L + random.nextInt(200)));
+                waves.add(new PrecalculatedWave(unitsBySla));
+              }
+              return waves;
+            }
+        ));
+  }
+
+  private List<Wave> previousWaves(final Random random, final int wavesCount) {
+    final var waves = new ArrayList<Wave>(wavesCount);
+    for (int i = 0; i < wavesCount; i++) {
+      final Map<ProcessPath, Wave.WaveConfiguration> configuration = new EnumMap<>(ProcessPath.class);
+      for (final ProcessPath pp : processPaths) {
+        final var sla = slas.get(Math.min(i, slas.size() - 1));
+        final long units = 50L + random.nextInt(200);
+        configuration.put(pp, new Wave.WaveConfiguration(units, units, Map.of(sla, units)));
+      }
+      waves.add(new Wave(EXECUTION_DATE.plus(30L * i, MINUTES), IDLENESS, configuration));
+    }
+    return Collections.unmodifiableList(waves);
+  }
+
+  public List<Instant> getInflectionPoints() {
+    return inflectionPoints;
+  }
+
+  public List<ProcessPathConfiguration> getConfigurations() {
+    return configurations;
+  }
+
+  public List<UnitsByProcessPathAndProcess> getBacklogs() {
+    return backlogs;
+  }
+
+  public List<ForecastedUnitsByProcessPath> getForecast() {
+    return forecast;
+  }
+
+  public Map<ProcessPath, Map<ProcessName, Map<Instant, Integer>>> getThroughput() {
+    return throughput;
+  }
+
+  public Map<ProcessPath, List<PrecalculatedWave>> getPrecalculatedWaves() {
+    return precalculatedWaves;
+  }
+
+  public List<Wave> getPreviousWaves() {
+    return previousWaves;
+  }
+
+  public WaveSizeConfig getWaveSizeConfig() {
+    return waveSizeConfig;
+  }
+
+  public List<ProcessPath> getProcessPaths() {
+    return processPaths;
+  }
+
+  public Map<ProcessPath, Integer> getMinCycleTimes() {
+    return configurations.stream()
+        .collect(toMap(ProcessPathConfiguration::getProcessPath, ProcessPathConfiguration::getMinCycleTime));
+  }
+
+  /**
+   * Builds the pending backlog the same way as {@link WavesCalculator} does.
+   */
+  public PendingBacklog getPendingBacklog() {
+    final var readyToWave = backlogs.stream()
+        .filter(backlog -> backlog.getProcessName() == WAVING)
+        .collect(groupingBy(
+            UnitsByProcessPathAndProcess::getProcessPath,
+            mapping(backlog -> new AvailableBacklog(EXECUTION_DATE, backlog.getDateOut(), (double) backlog.getUnits()), toList())
+        ));
+
+    final var forecasted = forecast.stream()
+        .collect(groupingBy(
+            ForecastedUnitsByProcessPath::getProcessPath,
+            mapping(backlog -> new AvailableBacklog(backlog.getDateIn(), backlog.getDateOut(), (double) backlog.getTotal()), toList())
+        ));
+
+    return new PendingBacklog(readyToWave, forecasted);
+  }
+
+  /**
+   * Current backlogs by process and process path, without the ready to wave backlog.
+   */
+  public Map<ProcessName, Map<ProcessPath, Map<Instant, Long>>> getCurrentBacklogs() {
+    return backlogs.stream()
+        .filter(backlog -> backlog.getProcessName() != WAVING)
+        .collect(groupingBy(
+            UnitsByProcessPathAndProcess::getProcessName,
+            groupingBy(
+                UnitsByProcessPathAndProcess::getProcessPath,
+                toMap(UnitsByProcessPathAndProcess::getDateOut, backlog -> (long) backlog.getUnits(), Long::sum)
+            )
+        ));
+  }
+
+}